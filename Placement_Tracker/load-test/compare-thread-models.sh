@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Runs the same load twice against a freshly started application: once on the platform-thread Tomcat pool,
+# once with spring.threads.virtual.enabled=true. Uses the inmemory profile with a simulated per-call MongoDB
+# latency, so no database is needed and requests block the way they do in production.
+#
+#   cd Placement_Tracker && ./mvnw -q package -DskipTests && cd load-test && ./compare-thread-models.sh
+#
+# Reports go to target/thread-model-platform.json and target/thread-model-virtual.json.
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-2000}
+LATENCY_MS=${LATENCY_MS:-20}
+WARMUP=${WARMUP:-20s}
+DURATION=${DURATION:-40s}
+PORT=${PORT:-18080}
+# Browsing and search only: login, OTP and uploads are bounded by BCrypt, SMTP and admission control
+MIX=${MIX:-EXPERIENCE_DETAIL:24,BROWSE_DEPARTMENT_YEAR:18,SEARCH_COMPANY:15,LIST_COMPANIES:5,SUBMIT_EXPERIENCE:3,LOGIN:0,SEND_OTP:0,VERIFY_OTP:0,UPLOAD_ATTACHMENT:0,PENDING_MENTORS:0,APPROVE_MENTOR:0,LIST_ALL_EXPERIENCES:0}
+
+JAR=$(ls ../target/Placement_Tracker-*.jar | head -1)
+BASE_URL=http://localhost:$PORT
+APP_PID=
+
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=
+    fi
+}
+trap stop_app EXIT
+
+for mode in platform virtual; do
+    virtual=$([[ $mode == virtual ]] && echo true || echo false)
+    echo "=== $mode threads: $CONCURRENCY connections, ${LATENCY_MS} ms per repository call ==="
+    java -jar "$JAR" --spring.profiles.active=inmemory --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" --inmemory.simulated-latency-ms="$LATENCY_MS" \
+        --spring.mail.host=localhost --spring.mail.port=2525 > "target/thread-model-$mode.log" 2>&1 &
+    APP_PID=$!
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+    mvn -q compile exec:java -Dexec.args="--base-url=$BASE_URL --seed=http --scale=0.01 --concurrency=1 \
+        --warmup=0s --duration=1s --report=target/thread-model-seed.json" > /dev/null
+    mvn -q exec:java -Dexec.args="--base-url=$BASE_URL --seed=none --scale=0.01 --concurrency=$CONCURRENCY \
+        --warmup=$WARMUP --duration=$DURATION --mix=$MIX --report=target/thread-model-$mode.json"
+    stop_app
+done
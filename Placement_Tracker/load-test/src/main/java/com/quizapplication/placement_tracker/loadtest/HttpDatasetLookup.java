@@ -0,0 +1,74 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads back what the traffic mix needs from a running application
+ */
+final class HttpDatasetLookup {
+
+    private HttpDatasetLookup() {
+    }
+
+    static List<SyntheticDataset.DepartmentRef> departments(ApiClient api) throws IOException, InterruptedException {
+        List<SyntheticDataset.DepartmentRef> departments = new ArrayList<>();
+        for (JsonNode department : api.getJson("/api/departments")) {
+            departments.add(new SyntheticDataset.DepartmentRef(department.path("id").asText(), department.path("departmentCode").asText()));
+        }
+        if (departments.isEmpty()) {
+            throw new IllegalStateException("The application has no departments");
+        }
+        return departments;
+    }
+
+    /**
+     * Data for --seed=none: everything is read back from the application
+     */
+    static SeededData existing(ApiClient api, SyntheticDataset dataset) throws IOException, InterruptedException {
+        List<String> experienceIds = new ArrayList<>();
+        for (JsonNode experience : api.getJson("/api/experiences")) {
+            experienceIds.add(experience.path("id").asText());
+        }
+        int[] loginUsers = new int[dataset.userCount()];
+        int count = 0;
+        for (int i = 0; i < dataset.userCount(); i++) {
+            if (!dataset.isPendingMentor(i)) {
+                loginUsers[count++] = i;
+            }
+        }
+        return new SeededData(departments(api), experienceIds, Arrays.copyOf(loginUsers, count),
+                new ConcurrentLinkedQueue<>());
+    }
+
+    /**
+     * Queue the seeded mentors that are still waiting for approval
+     */
+    static int loadPendingMentors(ApiClient api, Queue<String> pendingMentorIds) throws IOException, InterruptedException {
+        int count = 0;
+        for (JsonNode mentor : api.getJson("/api/auth/mentors/pending")) {
+            if (mentor.path("email").asText().startsWith(SyntheticDataset.EMAIL_PREFIX)) {
+                pendingMentorIds.add(mentor.path("id").asText());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static String loginUserId(ApiClient api, SyntheticDataset dataset, int userIndex) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = api.send(api.postJson("/api/auth/login",
+                Map.of("email", dataset.userEmail(userIndex), "password", SyntheticDataset.PASSWORD)));
+        if (response.statusCode() != 200) {
+            throw new IOException("Login as " + dataset.userEmail(userIndex) + " returned " + response.statusCode());
+        }
+        return api.readJson(response.body()).path("user").path("id").asText();
+    }
+}
@@ -0,0 +1,151 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Seeds the synthetic dataset through the public REST API, so it works against any backing store.
+ * Much slower than {@link MongoSeeder}: every registration pays for a BCrypt hash on the server.
+ * Users that already exist (409) are accepted, but experiences are always added, so rerunning
+ * this seeder duplicates them - use --seed=none for repeated runs.
+ */
+final class HttpSeeder {
+
+    private final LoadTestOptions options;
+    private final SyntheticDataset dataset;
+    private final ApiClient api;
+
+    HttpSeeder(LoadTestOptions options, SyntheticDataset dataset, ApiClient api) {
+        this.options = options;
+        this.dataset = dataset;
+        this.api = api;
+    }
+
+    SeededData seed() throws IOException, InterruptedException {
+        List<SyntheticDataset.DepartmentRef> departments = HttpDatasetLookup.departments(api);
+
+        long start = System.nanoTime();
+        AtomicReferenceArray<String> userIds = new AtomicReferenceArray<>(dataset.userCount());
+        parallel("users", dataset.userCount(), i -> {
+            Map<String, Object> user = dataset.user(i, departments);
+            user.remove("createdAt");
+            user.put("password", SyntheticDataset.PASSWORD);
+            HttpResponse<byte[]> response = api.send(api.postJson("/api/auth/register", user));
+            if (response.statusCode() == 409) {
+                return;
+            }
+            expect(response, 201, 200);
+            userIds.set(i, api.readJson(response.body()).path("user").path("id").asText(null));
+        });
+        // Registered mentors start out pending; approve all but the ones meant to stay pending
+        parallel("mentor approvals", dataset.userCount(), i -> {
+            if (dataset.isMentor(i) && !dataset.isPendingMentor(i) && userIds.get(i) != null) {
+                expect(api.send(api.putJson("/api/auth/mentors/" + userIds.get(i) + "/approve", Map.of())), 200);
+            }
+        });
+        int[] loginUsers = loginUsers();
+        progress("users", dataset.userCount(), start);
+
+        start = System.nanoTime();
+        String creatorId = HttpDatasetLookup.loginUserId(api, dataset, loginUsers[0]);
+        parallel("companies", dataset.companyCount(), i -> {
+            Map<String, Object> company = dataset.company(i);
+            company.remove("createdAt");
+            HttpResponse<byte[]> response = api.send(api.postJson("/api/companies?userId=" + creatorId, company));
+            if (response.statusCode() != 409) {
+                expect(response, 201, 200);
+            }
+        });
+        progress("companies", dataset.companyCount(), start);
+
+        start = System.nanoTime();
+        AtomicReferenceArray<String> experienceIds = new AtomicReferenceArray<>(dataset.experienceCount());
+        parallel("experiences", dataset.experienceCount(), i -> {
+            Map<String, Object> experience = dataset.experience(i, departments);
+            experience.remove("submittedAt");
+            HttpResponse<byte[]> response = api.send(api.postJson("/api/experiences", experience));
+            expect(response, 201, 200);
+            experienceIds.set(i, api.readJson(response.body()).path("id").asText());
+        });
+        progress("experiences", dataset.experienceCount(), start);
+
+        List<String> ids = new ArrayList<>(dataset.experienceCount());
+        for (int i = 0; i < experienceIds.length(); i++) {
+            if (experienceIds.get(i) != null) {
+                ids.add(experienceIds.get(i));
+            }
+        }
+        return new SeededData(departments, Collections.unmodifiableList(ids), loginUsers, new ConcurrentLinkedQueue<>());
+    }
+
+    private int[] loginUsers() {
+        int[] indexes = new int[dataset.userCount()];
+        int count = 0;
+        for (int i = 0; i < dataset.userCount(); i++) {
+            if (!dataset.isPendingMentor(i)) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    private void parallel(String what, int count, SeedTask task) throws InterruptedException {
+        Semaphore permits = new Semaphore(options.seedConcurrency());
+        AtomicInteger failures = new AtomicInteger();
+        List<String> firstErrors = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        task.run(index);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        if (firstErrors.size() < 5) {
+                            firstErrors.add(e.getMessage());
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            System.out.printf("  %,d of %,d %s failed, e.g. %s%n", failures.get(), count, what, firstErrors);
+        }
+        if (failures.get() > count / 100) {
+            throw new IllegalStateException("Too many failures while seeding " + what);
+        }
+    }
+
+    private static void expect(HttpResponse<byte[]> response, int... statuses) throws IOException {
+        for (int status : statuses) {
+            if (response.statusCode() == status) {
+                return;
+            }
+        }
+        throw new IOException(response.request().method() + " " + response.uri().getPath() + " returned "
+                + response.statusCode() + ": " + new String(response.body(), 0, Math.min(200, response.body().length)));
+    }
+
+    private static void progress(String what, int count, long startNanos) {
+        System.out.printf("Seeded %,d %s in %.1f s%n", count, what, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    @FunctionalInterface
+    private interface SeedTask {
+        void run(int index) throws Exception;
+    }
+}
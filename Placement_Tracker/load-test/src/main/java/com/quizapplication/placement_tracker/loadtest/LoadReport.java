@@ -0,0 +1,103 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-scenario throughput, latency percentiles and error rate, printed as a table and written as JSON
+ */
+final class LoadReport {
+
+    private final LoadTestOptions options;
+    private final Map<Scenario, ScenarioStats> stats;
+
+    LoadReport(LoadTestOptions options, Map<Scenario, ScenarioStats> stats) {
+        this.options = options;
+        this.stats = stats;
+    }
+
+    void write(ApiClient api) throws IOException {
+        double seconds = options.duration().toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        System.out.printf("%n%-22s %9s %9s %9s %9s %9s %9s %8s%n",
+                "scenario", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().takeHistogram();
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors();
+            total.add(histogram);
+            totalErrors += errors;
+            rows.add(row(entry.getKey().name(), histogram, errors, seconds, entry.getValue().statuses()));
+            print(entry.getKey().name(), histogram, errors, seconds);
+        }
+        print("TOTAL", total, totalErrors, seconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("baseUrl", options.baseUrl().toString());
+        report.put("seed", options.seed().name().toLowerCase());
+        report.put("scale", options.scale());
+        report.put("concurrency", options.concurrency());
+        report.put("targetRatePerSecond", options.ratePerSecond());
+        report.put("durationSeconds", seconds);
+        report.put("mix", options.mix());
+        report.put("scenarios", rows);
+        report.put("total", row("TOTAL", total, totalErrors, seconds, Map.of()));
+
+        Path file = options.report();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, api.mapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(report));
+        System.out.println("\nReport written to " + file.toAbsolutePath());
+    }
+
+    private static Map<String, Object> row(String name, Histogram histogram, long errors, double seconds,
+                                           Map<Integer, Long> statuses) {
+        long count = histogram.getTotalCount();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("scenario", name);
+        row.put("requests", count);
+        row.put("throughputPerSecond", round(count / seconds));
+        row.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        row.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        row.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        row.put("maxMs", millis(histogram.getMaxValue()));
+        row.put("errors", errors);
+        row.put("errorRate", count == 0 ? 0 : round((double) errors / count));
+        if (!statuses.isEmpty()) {
+            row.put("statuses", statuses);
+        }
+        return row;
+    }
+
+    private static void print(String name, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        System.out.printf("%-22s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n", name, count, count / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()),
+                count == 0 ? 0.0 : 100.0 * errors / count);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
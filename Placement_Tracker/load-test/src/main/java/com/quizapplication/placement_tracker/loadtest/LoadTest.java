@@ -0,0 +1,47 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.util.Map;
+
+/**
+ * Entry point: seed the synthetic dataset, run the placement-season traffic mix, report.
+ * See load-test/README.md for how to run it against a local application.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        SyntheticDataset dataset = new SyntheticDataset(options.randomSeed(), options.scale());
+        ApiClient api = new ApiClient(options.baseUrl());
+        System.out.printf("Dataset: %,d experiences, %,d users, %,d companies (seed %d)%n",
+                dataset.experienceCount(), dataset.userCount(), dataset.companyCount(), options.randomSeed());
+
+        SeededData seeded = switch (options.seed()) {
+            case MONGO -> new MongoSeeder(options, dataset).seed();
+            case HTTP -> new HttpSeeder(options, dataset, api).seed();
+            case NONE -> HttpDatasetLookup.existing(api, dataset);
+        };
+        if (seeded.experienceIds().isEmpty()) {
+            throw new IllegalStateException("No interview experiences available to read");
+        }
+        int pending = HttpDatasetLookup.loadPendingMentors(api, seeded.pendingMentorIds());
+        System.out.printf("%,d experiences and %,d pending mentor approvals available%n", seeded.experienceIds().size(), pending);
+
+        System.out.printf("Running %d virtual users (%s), warmup %d s, measuring %d s%n", options.concurrency(),
+                options.ratePerSecond() > 0 ? options.ratePerSecond() + " req/s" : "closed loop",
+                options.warmup().toSeconds(), options.duration().toSeconds());
+        Map<Scenario, ScenarioStats> stats = new TrafficRunner(options, new TrafficContext(api, dataset, seeded)).run();
+        new LoadReport(options, stats).write(api);
+    }
+}
@@ -0,0 +1,107 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, all given as --name=value
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        SeedMode seed,
+        String mongoUri,
+        String mongoDatabase,
+        boolean reset,
+        double scale,
+        long randomSeed,
+        int seedConcurrency,
+        int concurrency,
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        Path report) {
+
+    enum SeedMode {
+        /** Bulk insert straight into MongoDB (fast; the application must have created departments) */
+        MONGO,
+        /** Seed through the REST API, so it works with any backing store */
+        HTTP,
+        /** Reuse whatever is already loaded; seeded users are assumed to exist */
+        NONE
+    }
+
+    static final String USAGE = """
+            Usage: LoadTest [--name=value ...]
+              --base-url=http://localhost:8080     application under test
+              --seed=mongo|http|none               how to load the synthetic dataset (default mongo)
+              --mongo-uri=mongodb://localhost:27017
+              --mongo-database=placement_tracker_db
+              --reset=true                         remove previously seeded data first (mongo seeding only)
+              --scale=1.0                          dataset scale; 1.0 = 100k experiences, 20k users, 1k companies
+              --random-seed=2025                   generator seed; same seed, same dataset and request sequence
+              --seed-concurrency=32                parallel requests while seeding over HTTP
+              --concurrency=64                     concurrent virtual users
+              --rate=0                             total requests/s (open model); 0 = closed loop, no think time
+              --warmup=30s --duration=120s         warmup is run but not reported
+              --mix=EXPERIENCE_DETAIL:30,LOGIN:5   override scenario weights (others keep defaults)
+              --report=target/load-test-report.json
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(stripTrailingSlash(values.remove("base-url"), "http://localhost:8080")),
+                SeedMode.valueOf(values.getOrDefault("seed", "mongo").toUpperCase()),
+                values.getOrDefault("mongo-uri", "mongodb://localhost:27017"),
+                values.getOrDefault("mongo-database", "placement_tracker_db"),
+                Boolean.parseBoolean(values.getOrDefault("reset", "false")),
+                Double.parseDouble(values.getOrDefault("scale", "1.0")),
+                Long.parseLong(values.getOrDefault("random-seed", "2025")),
+                Integer.parseInt(values.getOrDefault("seed-concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                duration(values.getOrDefault("warmup", "30s")),
+                duration(values.getOrDefault("duration", "120s")),
+                Scenario.mix(values.get("mix")),
+                Path.of(values.getOrDefault("report", "target/load-test-report.json")));
+
+        values.keySet().removeAll(Set.of("seed", "mongo-uri", "mongo-database", "reset", "scale",
+                "random-seed", "seed-concurrency", "concurrency", "rate", "warmup", "duration", "mix", "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+        }
+        if (options.scale() <= 0 || options.concurrency() <= 0) {
+            throw new IllegalArgumentException("--scale and --concurrency must be positive");
+        }
+        return options;
+    }
+
+    private static String stripTrailingSlash(String value, String fallback) {
+        String url = value != null ? value : fallback;
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v.endsWith("s") ? v.substring(0, v.length() - 1) : v));
+    }
+}
@@ -0,0 +1,162 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk-loads the synthetic dataset straight into MongoDB using unordered insertMany batches,
+ * in the same document shape Spring Data writes (including _class). Ids are derived from the
+ * index, so reruns with the same seed produce the same ids.
+ */
+final class MongoSeeder {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String ENTITY_PACKAGE = "com.quizapplication.placement_tracker.entity.";
+    private static final Date ID_EPOCH = new Date(1_700_000_000_000L);
+
+    private final LoadTestOptions options;
+    private final SyntheticDataset dataset;
+
+    MongoSeeder(LoadTestOptions options, SyntheticDataset dataset) {
+        this.options = options;
+        this.dataset = dataset;
+    }
+
+    SeededData seed() {
+        try (MongoClient client = MongoClients.create(options.mongoUri())) {
+            MongoDatabase db = client.getDatabase(options.mongoDatabase());
+            List<SyntheticDataset.DepartmentRef> departments = new ArrayList<>();
+            for (Document department : db.getCollection("departments").find()) {
+                departments.add(new SyntheticDataset.DepartmentRef(
+                        department.getObjectId("_id").toHexString(), department.getString("departmentCode")));
+            }
+            if (departments.isEmpty()) {
+                throw new IllegalStateException("No departments in " + options.mongoDatabase()
+                        + " - start the application once so it creates them, then seed again");
+            }
+
+            MongoCollection<Document> experiences = db.getCollection("interview_experiences");
+            MongoCollection<Document> users = db.getCollection("users");
+            MongoCollection<Document> companies = db.getCollection("companies");
+            if (options.reset()) {
+                Pattern seededEmail = Pattern.compile("^" + Pattern.quote(SyntheticDataset.EMAIL_PREFIX));
+                experiences.deleteMany(Filters.eq("seededBy", "load-test"));
+                companies.deleteMany(Filters.eq("seededBy", "load-test"));
+                users.deleteMany(Filters.regex("email", seededEmail));
+                db.getCollection("mentors").deleteMany(Filters.regex("email", seededEmail));
+            }
+
+            long start = System.nanoTime();
+            long[] experiencesByCompany = new long[dataset.companyCount()];
+            List<String> experienceIds = new ArrayList<>(dataset.experienceCount());
+            List<Document> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < dataset.experienceCount(); i++) {
+                String id = id(1, i);
+                int company = dataset.companyOfExperience(i);
+                Document document = document(id, "InterviewExperience", dataset.experience(i, departments));
+                document.append("companyId", id(3, company));
+                experienceIds.add(id);
+                experiencesByCompany[company]++;
+                addToBatch(experiences, batch, document);
+            }
+            flush(experiences, batch);
+            progress("experiences", dataset.experienceCount(), start);
+
+            start = System.nanoTime();
+            int[] loginUsers = new int[dataset.userCount()];
+            int loginCount = 0;
+            for (int i = 0; i < dataset.userCount(); i++) {
+                Document document = document(id(2, i), "User", dataset.user(i, departments));
+                boolean pending = dataset.isPendingMentor(i);
+                document.append("password", SyntheticDataset.PASSWORD_HASH)
+                        .append("isApproved", !pending)
+                        .append("registrationStatus", pending ? "REGISTERED" : "VERIFIED")
+                        .append("isVerified", !pending)
+                        .append("isActive", true)
+                        .append("adminApprovalToken", pending ? "lt-approval-" + i : null);
+                if (!pending) {
+                    loginUsers[loginCount++] = i;
+                }
+                addToBatch(users, batch, document);
+            }
+            flush(users, batch);
+            progress("users", dataset.userCount(), start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < dataset.companyCount(); i++) {
+                Document document = document(id(3, i), "Company", dataset.company(i));
+                document.append("experienceCount", experiencesByCompany[i]);
+                addToBatch(companies, batch, document);
+            }
+            flush(companies, batch);
+            progress("companies", dataset.companyCount(), start);
+
+            return new SeededData(departments, experienceIds, Arrays.copyOf(loginUsers, loginCount),
+                    new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    private static Document document(String id, String entity, Map<String, Object> fields) {
+        Document document = new Document("_id", new ObjectId(id));
+        fields.forEach((key, value) -> {
+            if (value != null) {
+                document.append(key, value instanceof LocalDateTime time ? toDate(time) : value);
+            }
+        });
+        // Marks seeded documents so --reset can remove them; Spring Data ignores unknown fields
+        document.append("seededBy", "load-test");
+        return document.append("_class", ENTITY_PACKAGE + entity);
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        // Spring Data converts LocalDateTime using the JVM default zone; do the same
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Deterministic ObjectId: a fixed timestamp plus the collection number and index as counter
+     */
+    private static String id(int collection, int index) {
+        return new ObjectId(ID_EPOCH, collection << 21 | index).toHexString();
+    }
+
+    private static void addToBatch(MongoCollection<Document> collection, List<Document> batch, Document document) {
+        batch.add(document);
+        if (batch.size() == BATCH_SIZE) {
+            flush(collection, batch);
+        }
+    }
+
+    private static void flush(MongoCollection<Document> collection, List<Document> batch) {
+        if (!batch.isEmpty()) {
+            try {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                throw new IllegalStateException("Seeding " + collection.getNamespace() + " failed (" + e.getMessage()
+                        + ") - if the dataset is already loaded, use --seed=none or --reset=true", e);
+            }
+            batch.clear();
+        }
+    }
+
+    private static void progress(String what, int count, long startNanos) {
+        System.out.printf("Seeded %,d %s in %.1f s%n", count, what, (System.nanoTime() - startNanos) / 1e9);
+    }
+}
@@ -0,0 +1,143 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Request types in the placement-season traffic mix. Default weights model the peak weeks:
+ * mostly students browsing and searching experiences, a steady stream of logins and OTP
+ * verification from new registrations, occasional uploads and submissions, and admins working
+ * through the mentor approval queue.
+ */
+enum Scenario {
+
+    EXPERIENCE_DETAIL(24, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().get("/api/experiences/" + context.randomExperienceId(random));
+        }
+    },
+    BROWSE_DEPARTMENT_YEAR(18, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            SyntheticDataset.DepartmentRef department = context.randomDepartment(random);
+            return context.api().get("/api/experiences/department/" + department.id() + "/year/" + (2021 + random.nextInt(5)));
+        }
+    },
+    SEARCH_COMPANY(15, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            String company = context.dataset().popularCompany(random);
+            // Users type a prefix more often than the full name
+            String query = random.nextBoolean() ? company : company.substring(0, Math.min(company.length(), 3 + random.nextInt(4)));
+            return context.api().get("/api/experiences/search/company?companyName=" + TrafficContext.encode(query));
+        }
+    },
+    LIST_COMPANIES(5, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().get("/api/companies");
+        }
+    },
+    LIST_ALL_EXPERIENCES(1, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().get("/api/experiences");
+        }
+    },
+    LOGIN(10, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().postJson("/api/auth/login", Map.of(
+                    "email", context.randomLoginEmail(random),
+                    "password", SyntheticDataset.PASSWORD));
+        }
+    },
+    SEND_OTP(5, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().postJson("/api/auth/send-otp", Map.of("email", context.randomOtpEmail(random)));
+        }
+    },
+    VERIFY_OTP(5, Set.of(200, 400)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            // The real code only arrives by email, so this exercises the store lookup and the rejection path
+            return context.api().postJson("/api/auth/verify-otp", Map.of(
+                    "email", context.randomOtpEmail(random),
+                    "otp", String.valueOf(100000 + random.nextInt(900000))));
+        }
+    },
+    UPLOAD_ATTACHMENT(3, Set.of(200, 503)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.uploadRequest(random);
+        }
+    },
+    SUBMIT_EXPERIENCE(3, Set.of(200, 201)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().postJson("/api/experiences", context.newExperience());
+        }
+    },
+    PENDING_MENTORS(2, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            return context.api().get("/api/auth/mentors/pending");
+        }
+    },
+    APPROVE_MENTOR(1, Set.of(200)) {
+        @Override
+        HttpRequest request(TrafficContext context, SplittableRandom random) {
+            String mentorId = context.seeded().pendingMentorIds().poll();
+            // Once the approval queue is empty, admins just keep looking at it
+            return mentorId != null
+                    ? context.api().putJson("/api/auth/mentors/" + mentorId + "/approve", Map.of())
+                    : null;
+        }
+    };
+
+    private final int defaultWeight;
+    private final Set<Integer> expectedStatuses;
+
+    Scenario(int defaultWeight, Set<Integer> expectedStatuses) {
+        this.defaultWeight = defaultWeight;
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    /**
+     * The request to send, or null if the scenario has nothing left to do
+     */
+    abstract HttpRequest request(TrafficContext context, SplittableRandom random);
+
+    boolean isExpected(int status) {
+        return expectedStatuses.contains(status);
+    }
+
+    /**
+     * Default weights with overrides such as "EXPERIENCE_DETAIL:30,LOGIN:0"
+     */
+    static Map<Scenario, Integer> mix(String overrides) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : values()) {
+            weights.put(scenario, scenario.defaultWeight);
+        }
+        if (overrides != null && !overrides.isBlank()) {
+            for (String entry : overrides.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected SCENARIO:weight in --mix, got " + entry);
+                }
+                weights.put(Scenario.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix leaves no scenario with a positive weight");
+        }
+        return weights;
+    }
+}
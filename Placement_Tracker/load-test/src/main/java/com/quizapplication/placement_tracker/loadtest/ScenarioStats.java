@@ -0,0 +1,48 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (microseconds, 3 significant digits) and outcome counts for one scenario.
+ * Safe to record into from any number of threads.
+ */
+final class ScenarioStats {
+
+    /** Status recorded for requests that failed without a response (connect errors, timeouts) */
+    static final int NO_RESPONSE = -1;
+
+    private final Recorder latency = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status, boolean expected) {
+        latency.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (!expected) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Latencies recorded since the previous call
+     */
+    Histogram takeHistogram() {
+        return latency.getIntervalHistogram();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
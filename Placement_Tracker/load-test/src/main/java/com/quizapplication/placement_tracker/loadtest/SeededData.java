@@ -0,0 +1,17 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * What the traffic mix needs to know about the loaded dataset
+ *
+ * @param experienceIds      ids of seeded interview experiences, for detail requests
+ * @param loginUserIndexes   dataset indexes of users that can log in (students and approved mentors)
+ * @param pendingMentorIds   mentors awaiting approval; each approval consumes one
+ */
+record SeededData(List<SyntheticDataset.DepartmentRef> departments,
+                  List<String> experienceIds,
+                  int[] loginUserIndexes,
+                  Queue<String> pendingMentorIds) {
+}
@@ -0,0 +1,286 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator for the load-test dataset: at scale 1.0, 100k interview experiences,
+ * 20k users and 1k companies. Every record is derived only from (seed, kind, index), so records can
+ * be generated in any order or in parallel and the Mongo and HTTP seeders produce identical data.
+ * Company popularity follows a Zipf distribution (a few mass recruiters, a long tail) and free-text
+ * fields follow log-normal lengths around what students actually write.
+ */
+final class SyntheticDataset {
+
+    static final String PASSWORD = "LoadTest@2025";
+    // BCrypt (cost 10) of PASSWORD, so seeding straight into Mongo does not pay for 20k hashes
+    static final String PASSWORD_HASH = "$2a$10$S0Z/e6AcuNNtNIFSCDscteN/YyNcMoiJZ8gorNqsPYKIfp8otb1te";
+    static final String EMAIL_PREFIX = "lt.";
+    static final String EMAIL_DOMAIN = "@gct.ac.in";
+
+    private static final int EXPERIENCES = 100_000;
+    private static final int USERS = 20_000;
+    private static final int COMPANIES = 1_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    private static final String[] ANCHOR_COMPANIES = {"Zoho", "TCS", "Infosys", "Accenture", "Cognizant", "Wipro",
+            "HCL", "Capgemini", "Amazon", "Microsoft", "Bosch", "L&T", "Ashok Leyland", "Caterpillar",
+            "Texas Instruments", "Qualcomm", "PayPal", "Freshworks", "Kissflow", "Chargebee"};
+    private static final String[] COMPANY_PREFIXES = {"Nova", "Apex", "Blue", "Kovai", "Vertex", "Quantum", "Bright",
+            "Indus", "Lotus", "Summit", "Cobalt", "Delta", "Orbit", "Pioneer", "Vega", "Zenith", "Coral", "Maple",
+            "Nila", "Sapphire", "Crest", "Harbor", "Falcon", "Meridian", "Tidal"};
+    private static final String[] COMPANY_SUFFIXES = {"Systems", "Technologies", "Labs", "Analytics", "Software",
+            "Automation", "Engineering", "Motors", "Networks", "Semiconductors", "Infotech", "Solutions",
+            "Robotics", "Digital", "Biotech", "Energy", "Controls", "Cloud", "Dynamics", "Works"};
+    private static final String[] INDUSTRIES = {"IT Services", "Product", "Core - Mechanical", "Core - Electrical",
+            "Semiconductors", "Automotive", "Fintech", "Biotech", "Construction", "Consulting"};
+    private static final String[] CITIES = {"Chennai", "Bengaluru", "Coimbatore", "Hyderabad", "Pune", "Mumbai",
+            "Noida", "Kochi", "Madurai", "Trichy"};
+    private static final String[] FIRST_NAMES = {"Aarthi", "Arun", "Bala", "Deepa", "Dinesh", "Divya", "Gokul",
+            "Harini", "Hari", "Janani", "Karthik", "Keerthana", "Lakshmi", "Manoj", "Meena", "Naveen", "Nithya",
+            "Pradeep", "Priya", "Rahul", "Ramya", "Sanjay", "Sandhya", "Saravanan", "Sneha", "Suresh", "Swathi",
+            "Vignesh", "Vishnu", "Yamini"};
+    private static final String[] LAST_NAMES = {"Kumar", "Raj", "Krishnan", "Subramanian", "Natarajan",
+            "Ramasamy", "Palanisamy", "Murugan", "Selvam", "Shankar", "Venkatesh", "Iyer", "Pillai", "Anand"};
+    private static final String[] POSITIONS = {"Software Engineer", "Graduate Engineer Trainee", "Associate Engineer",
+            "Systems Engineer", "Design Engineer", "Data Analyst", "Member Technical Staff", "Quality Engineer",
+            "Production Engineer", "Site Engineer"};
+    private static final String[] ROUND_NAMES = {"Online Aptitude Test", "Coding Round", "Technical Interview 1",
+            "Technical Interview 2", "Group Discussion", "Managerial Round", "HR Interview"};
+    private static final String[] WORDS = ("the a an and or but we I they was were is are to of in on for with "
+            + "about from after before during then first second final round interview interviewer panel question "
+            + "questions asked array arrays string strings linked list tree graph dynamic programming recursion "
+            + "sorting searching binary search hash map stack queue heap complexity time space optimal brute force "
+            + "approach explain explained project projects internship resume OOPS inheritance polymorphism "
+            + "DBMS normalization SQL joins indexes operating systems deadlock paging scheduling networks TCP "
+            + "HTTP DNS aptitude quantitative verbal reasoning puzzles logical mock test practice LeetCode "
+            + "GeeksforGeeks HackerRank InterviewBit CGPA backlog strengths weaknesses relocate shift bond "
+            + "manager HR friendly calm nervous confident clear prepare preparation revise revised basics "
+            + "fundamentals thermodynamics fluid mechanics machine design manufacturing circuits embedded "
+            + "microcontroller signals control systems surveying structures concrete AutoCAD MATLAB Python Java "
+            + "C++ JavaScript React Spring cloud AWS testing debugging whiteboard pseudo code dry run edge cases "
+            + "follow up optimise trade-offs communication team leadership situation challenge learned").split(" ");
+
+    private final long seed;
+    private final int experienceCount;
+    private final int userCount;
+    private final int companyCount;
+    private final String[] companyNames;
+    private final double[] companyCumulativeWeights;
+
+    SyntheticDataset(long seed, double scale) {
+        this.seed = seed;
+        this.experienceCount = Math.max(1, (int) Math.round(EXPERIENCES * scale));
+        this.userCount = Math.max(1, (int) Math.round(USERS * scale));
+        this.companyCount = Math.max(ANCHOR_COMPANIES.length, (int) Math.round(COMPANIES * scale));
+        this.companyNames = new String[companyCount];
+        this.companyCumulativeWeights = new double[companyCount];
+        double total = 0;
+        for (int i = 0; i < companyCount; i++) {
+            companyNames[i] = companyNameFor(i);
+            total += 1.0 / Math.pow(i + 1, 1.07);
+            companyCumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < companyCount; i++) {
+            companyCumulativeWeights[i] /= total;
+        }
+    }
+
+    int experienceCount() {
+        return experienceCount;
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    int companyCount() {
+        return companyCount;
+    }
+
+    String companyName(int index) {
+        return companyNames[index];
+    }
+
+    /**
+     * Company of the given experience; index 0 is the most popular recruiter
+     */
+    int companyOfExperience(int index) {
+        return sampleCompany(random(Kind.EXPERIENCE_COMPANY, index));
+    }
+
+    /**
+     * A company drawn with the same popularity skew as the experiences, e.g. for search traffic
+     */
+    String popularCompany(SplittableRandom random) {
+        return companyNames[sampleCompany(random)];
+    }
+
+    Map<String, Object> company(int index) {
+        SplittableRandom random = random(Kind.COMPANY, index);
+        Map<String, Object> company = new LinkedHashMap<>();
+        company.put("companyName", companyNames[index]);
+        company.put("description", sentences(random, 220));
+        company.put("industry", pick(random, INDUSTRIES));
+        company.put("website", "https://www." + companyNames[index].toLowerCase().replaceAll("[^a-z0-9]", "") + ".example.com");
+        company.put("headquarters", pick(random, CITIES));
+        company.put("createdAt", EPOCH.minusDays(random.nextInt(2000)));
+        return company;
+    }
+
+    Map<String, Object> experience(int index, List<DepartmentRef> departments) {
+        SplittableRandom random = random(Kind.EXPERIENCE, index);
+        DepartmentRef department = departments.get(random.nextInt(departments.size()));
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        int rounds = 2 + random.nextInt(4);
+        boolean willingToMentor = random.nextInt(4) == 0;
+        boolean hasBond = random.nextInt(6) == 0;
+
+        Map<String, Object> experience = new LinkedHashMap<>();
+        experience.put("studentName", name);
+        experience.put("rollNumber", (1917 + random.nextInt(8)) + department.code() + String.format("%03d", random.nextInt(180)));
+        experience.put("department", department.code());
+        experience.put("personalEmail", name.toLowerCase().replace(' ', '.') + index + "@gmail.com");
+        experience.put("contactNumber", "9" + (100000000L + random.nextLong(899999999L)));
+        experience.put("companyName", companyNames[companyOfExperience(index)]);
+        experience.put("position", pick(random, POSITIONS));
+        // Recent seasons dominate: the service has grown every year
+        experience.put("yearOfPlacement", 2025 - (int) Math.floor(Math.abs(random.nextGaussian()) * 2.2) % 7);
+        experience.put("departmentId", department.id());
+        experience.put("salary", random.nextInt(3) == 0
+                ? (15000 + 5000 * random.nextInt(6)) + " (Intern Stipend) + " + (4 + random.nextInt(12)) + " LPA (FTE)"
+                : (3 + random.nextInt(25)) + "." + random.nextInt(10) + " LPA");
+        experience.put("internOffered", random.nextBoolean());
+        experience.put("hasBond", hasBond);
+        experience.put("bondDetails", hasBond ? (1 + random.nextInt(3)) + " year service agreement" : null);
+        experience.put("totalRounds", rounds);
+        experience.put("roundsJson", roundsJson(random, rounds));
+        experience.put("roundsDescription", sentences(random, 400));
+        experience.put("questionsAsked", sentences(random, 600));
+        experience.put("problemsSolved", sentences(random, 250));
+        experience.put("inPersonInterviewTips", sentences(random, 250));
+        experience.put("crackingStrategy", sentences(random, 350));
+        experience.put("preparationDetails", sentences(random, 400));
+        experience.put("resources", sentences(random, 150));
+        experience.put("overallExperience", sentences(random, 1000));
+        experience.put("areasToPrepareFinal", sentences(random, 150));
+        experience.put("suggestedResources", sentences(random, 150));
+        int outcome = random.nextInt(10);
+        experience.put("finalResult", outcome < 7 ? "SELECTED" : outcome < 9 ? "REJECTED" : "PENDING");
+        experience.put("willingToMentor", willingToMentor);
+        experience.put("contactEmail", willingToMentor ? experience.get("personalEmail") : null);
+        experience.put("contactPhone", willingToMentor ? experience.get("contactNumber") : null);
+        experience.put("linkedinProfile", willingToMentor ? "https://www.linkedin.com/in/lt-" + index : null);
+        // Spread submissions over the past six years, newest first by index
+        experience.put("submittedAt", EPOCH.minusMinutes((long) index * 30 + random.nextInt(30)));
+        return experience;
+    }
+
+    Map<String, Object> user(int index, List<DepartmentRef> departments) {
+        SplittableRandom random = random(Kind.USER, index);
+        Map<String, Object> user = new LinkedHashMap<>();
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        DepartmentRef department = departments.get(random.nextInt(departments.size()));
+        boolean mentor = isMentor(index);
+        user.put("email", userEmail(index));
+        user.put("fullName", name);
+        user.put("role", mentor ? "MENTOR" : "STUDENT");
+        user.put("departmentId", department.id());
+        user.put("rollNumber", mentor ? null : (2021 + random.nextInt(4)) + department.code() + String.format("%03d", random.nextInt(180)));
+        user.put("yearOfStudy", mentor ? null : 1 + random.nextInt(4));
+        user.put("graduationYear", mentor ? 2015 + random.nextInt(10) : 2025 + random.nextInt(4));
+        user.put("phoneNumber", "8" + (100000000L + random.nextLong(899999999L)));
+        user.put("linkedinProfile", mentor || random.nextBoolean() ? "https://www.linkedin.com/in/lt-user-" + index : null);
+        user.put("placedCompany", mentor ? popularCompany(random) : null);
+        user.put("placedPosition", mentor ? pick(random, POSITIONS) : null);
+        user.put("placementYear", mentor ? 2016 + random.nextInt(10) : null);
+        user.put("location", mentor ? pick(random, CITIES) : null);
+        user.put("contactVisibility", random.nextInt(5) == 0 ? "ADMIN_ONLY" : "PUBLIC");
+        user.put("createdAt", EPOCH.minusHours(index * 2L));
+        return user;
+    }
+
+    String userEmail(int index) {
+        return EMAIL_PREFIX + "user" + index + EMAIL_DOMAIN;
+    }
+
+    /**
+     * About 15% of users are mentors
+     */
+    boolean isMentor(int index) {
+        return random(Kind.USER_ROLE, index).nextInt(100) < 15;
+    }
+
+    /**
+     * About a third of mentors are still waiting for admin approval
+     */
+    boolean isPendingMentor(int index) {
+        return isMentor(index) && random(Kind.USER_ROLE, index).nextInt(100) < 5;
+    }
+
+    private int sampleCompany(SplittableRandom random) {
+        int found = Arrays.binarySearch(companyCumulativeWeights, random.nextDouble());
+        return Math.min(found >= 0 ? found : -found - 1, companyCount - 1);
+    }
+
+    private String companyNameFor(int index) {
+        if (index < ANCHOR_COMPANIES.length) {
+            return ANCHOR_COMPANIES[index];
+        }
+        SplittableRandom random = random(Kind.COMPANY_NAME, index);
+        // Prefix x suffix gives 500 combinations; the index keeps names unique beyond that
+        return pick(random, COMPANY_PREFIXES) + " " + pick(random, COMPANY_SUFFIXES) + " " + index;
+    }
+
+    private String roundsJson(SplittableRandom random, int rounds) {
+        StringBuilder json = new StringBuilder("[");
+        for (int round = 1; round <= rounds; round++) {
+            if (round > 1) {
+                json.append(',');
+            }
+            json.append("{\"roundNumber\":").append(round)
+                    .append(",\"roundName\":\"").append(ROUND_NAMES[Math.min(round - 1 + random.nextInt(2), ROUND_NAMES.length - 1)])
+                    .append("\",\"description\":\"").append(sentences(random, 120)).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Text with a log-normal length around the given mean number of characters
+     */
+    private static String sentences(SplittableRandom random, int meanLength) {
+        double sigma = 0.6;
+        double mu = Math.log(meanLength) - sigma * sigma / 2;
+        int target = (int) Math.min(meanLength * 6L, Math.max(20, Math.exp(mu + sigma * random.nextGaussian())));
+        StringBuilder text = new StringBuilder(target + 64);
+        while (text.length() < target) {
+            int words = 8 + random.nextInt(14);
+            String first = pick(random, WORDS);
+            text.append(Character.toUpperCase(first.charAt(0))).append(first, 1, first.length());
+            for (int w = 1; w < words; w++) {
+                text.append(' ').append(pick(random, WORDS));
+            }
+            text.append(". ");
+        }
+        return text.toString().trim();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private SplittableRandom random(Kind kind, int index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + kind.ordinal() * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private enum Kind {
+        EXPERIENCE, EXPERIENCE_COMPANY, USER, USER_ROLE, COMPANY, COMPANY_NAME
+    }
+
+    record DepartmentRef(String id, String code) {
+    }
+}
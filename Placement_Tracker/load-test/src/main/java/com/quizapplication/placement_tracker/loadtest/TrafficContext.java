@@ -0,0 +1,116 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Shared, thread-safe state the scenarios draw their requests from
+ */
+final class TrafficContext {
+
+    private static final String BOUNDARY = "----placement-tracker-load-test";
+
+    private final ApiClient api;
+    private final SyntheticDataset dataset;
+    private final SeededData seeded;
+    private final byte[] uploadBody;
+    private final AtomicInteger submitted = new AtomicInteger();
+
+    TrafficContext(ApiClient api, SyntheticDataset dataset, SeededData seeded) {
+        this.api = api;
+        this.dataset = dataset;
+        this.seeded = seeded;
+        this.uploadBody = multipartZip();
+    }
+
+    ApiClient api() {
+        return api;
+    }
+
+    SyntheticDataset dataset() {
+        return dataset;
+    }
+
+    SeededData seeded() {
+        return seeded;
+    }
+
+    String randomExperienceId(SplittableRandom random) {
+        return seeded.experienceIds().get(random.nextInt(seeded.experienceIds().size()));
+    }
+
+    SyntheticDataset.DepartmentRef randomDepartment(SplittableRandom random) {
+        return seeded.departments().get(random.nextInt(seeded.departments().size()));
+    }
+
+    String randomLoginEmail(SplittableRandom random) {
+        int[] users = seeded.loginUserIndexes();
+        return dataset.userEmail(users[random.nextInt(users.length)]);
+    }
+
+    String randomOtpEmail(SplittableRandom random) {
+        // New registrations: addresses beyond the seeded users
+        return SyntheticDataset.EMAIL_PREFIX + "new" + random.nextInt(dataset.userCount()) + SyntheticDataset.EMAIL_DOMAIN;
+    }
+
+    /**
+     * A new experience that does not collide with the seeded ones
+     */
+    Map<String, Object> newExperience() {
+        Map<String, Object> experience = dataset.experience(dataset.experienceCount() + submitted.getAndIncrement(), seeded.departments());
+        experience.remove("submittedAt");
+        return experience;
+    }
+
+    HttpRequest uploadRequest(SplittableRandom random) {
+        return api.request("/api/files/upload")
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .header("X-User-Id", randomLoginEmail(random))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBody))
+                .build();
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A ~250 KB study-material archive wrapped in a multipart body, built once and reused
+     */
+    private static byte[] multipartZip() {
+        try {
+            ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+            SplittableRandom random = new SplittableRandom(7);
+            try (ZipOutputStream zip = new ZipOutputStream(zipBytes)) {
+                for (int file = 0; file < 4; file++) {
+                    zip.putNextEntry(new ZipEntry("notes/topic-" + file + ".txt"));
+                    byte[] content = new byte[96 * 1024];
+                    for (int i = 0; i < content.length; i++) {
+                        // Loosely compressible text, similar to scanned notes exported as text
+                        content[i] = (byte) (random.nextInt(4) == 0 ? ' ' : 'a' + random.nextInt(26));
+                    }
+                    zip.write(content);
+                    zip.closeEntry();
+                }
+            }
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.writeBytes(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"study-material.zip\"\r\n"
+                    + "Content-Type: application/zip\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            body.writeBytes(zipBytes.toByteArray());
+            body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+            return body.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
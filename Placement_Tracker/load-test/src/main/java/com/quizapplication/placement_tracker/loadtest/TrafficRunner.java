@@ -0,0 +1,111 @@
+package com.quizapplication.placement_tracker.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the weighted scenario mix with a fixed number of virtual users.
+ * In the closed model each user sends its next request as soon as the previous one completes.
+ * With --rate every user follows a fixed schedule and latency is measured from the scheduled
+ * start, so a stalled server shows up in the tail instead of silently lowering the request rate
+ * (coordinated omission).
+ */
+final class TrafficRunner {
+
+    private final LoadTestOptions options;
+    private final TrafficContext context;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+
+    TrafficRunner(LoadTestOptions options, TrafficContext context) {
+        this.options = options;
+        this.context = context;
+        this.scenarios = options.mix().keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += options.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        // Populated up front so the map is only read concurrently; PENDING_MENTORS is also the
+        // fallback once the approval queue runs dry, even if it is not in the mix itself
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new ScenarioStats());
+        }
+    }
+
+    /**
+     * Runs warmup plus measurement and returns the per-scenario statistics of the measured part
+     */
+    Map<Scenario, ScenarioStats> run() {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long intervalNanos = options.ratePerSecond() > 0
+                ? (long) (options.concurrency() * 1e9 / options.ratePerSecond())
+                : 0;
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.concurrency(); user++) {
+                long firstStart = start + (intervalNanos > 0 ? intervalNanos * user / options.concurrency() : 0);
+                SplittableRandom random = new SplittableRandom(options.randomSeed() * 1_000_003L + user);
+                users.execute(() -> virtualUser(random, firstStart, intervalNanos, measureFrom, end));
+            }
+        }
+        return stats;
+    }
+
+    private void virtualUser(SplittableRandom random, long firstStart, long intervalNanos, long measureFrom, long end) {
+        long intended = firstStart;
+        while (true) {
+            long now = System.nanoTime();
+            if (intervalNanos > 0 && intended > now) {
+                LockSupport.parkNanos(intended - now);
+                now = System.nanoTime();
+            }
+            long scheduledStart = intervalNanos > 0 ? intended : now;
+            if (scheduledStart >= end) {
+                return;
+            }
+            Scenario scenario = pick(random);
+            HttpRequest request = scenario.request(context, random);
+            if (request == null) {
+                scenario = Scenario.PENDING_MENTORS;
+                request = scenario.request(context, random);
+            }
+
+            int status;
+            try {
+                status = context.api().sendDiscarding(request);
+            } catch (IOException e) {
+                status = ScenarioStats.NO_RESPONSE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finished = System.nanoTime();
+
+            if (scheduledStart >= measureFrom) {
+                stats.get(scenario).record(finished - scheduledStart, status, scenario.isExpected(status));
+            }
+            intended += intervalNanos;
+        }
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+}
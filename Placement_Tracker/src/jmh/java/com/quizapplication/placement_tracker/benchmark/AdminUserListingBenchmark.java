@@ -0,0 +1,57 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.PageDTO;
+import com.quizapplication.placement_tracker.dto.UserDTO;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.service.AdminService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin user table: the full listing the dashboard used to download, against one filtered page
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdminUserListingBenchmark {
+
+    @Param({"10000"})
+    private int users;
+
+    private AdminService adminService;
+
+    @Setup
+    public void setUp() {
+        adminService = InMemoryFixtures.adminService(BenchmarkData.users(users));
+    }
+
+    @Benchmark
+    public List<UserDTO> allUsers() {
+        return adminService.getAllUsers();
+    }
+
+    @Benchmark
+    public PageDTO<UserDTO> pendingMentorsPage() {
+        return adminService.searchUsers(UserRole.MENTOR, null, false, null, null, "createdAt", "desc", 0, 20);
+    }
+
+    @Benchmark
+    public PageDTO<UserDTO> prefixSearchPage() {
+        return adminService.searchUsers(null, "dept-3", null, true, "user 12", "fullName", "asc", 0, 20);
+    }
+}
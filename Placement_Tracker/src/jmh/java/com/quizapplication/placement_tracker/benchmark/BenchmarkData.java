@@ -0,0 +1,231 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.DepartmentGroup;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures sized and shaped like production documents: a fixed seed, realistic
+ * free-text lengths, and a skewed company distribution so group-by results are uneven.
+ */
+final class BenchmarkData {
+
+    static final String[] DEPARTMENT_CODES = {"CSE", "IT", "ECE", "EEE", "EIE", "MECH", "PROD", "CIVIL", "IBT"};
+    static final String[] COMPANIES = {"Zoho", "TCS", "Infosys", "Accenture", "Cognizant", "Wipro", "Amazon",
+            "Microsoft", "Bosch", "L&T", "Ashok Leyland", "Caterpillar", "Texas Instruments", "Qualcomm",
+            "PayPal", "Freshworks", "Kissflow", "Chargebee", "HCL", "Capgemini"};
+
+    // Interview topics; each experience mentions a handful, a few far more often than the rest
+    static final String[] TOPICS = {"arrays", "strings", "linked list", "binary tree", "graph bfs", "dfs",
+            "dynamic programming", "knapsack", "sliding window", "two pointers", "hashing", "heap", "trie",
+            "sql joins", "normalization", "indexing", "transactions", "deadlock", "paging", "scheduling", "semaphores",
+            "oops inheritance", "polymorphism", "java collections", "multithreading", "rest api", "system design",
+            "load balancer", "caching", "sharding", "puzzles", "aptitude", "probability", "resume projects",
+            "internship", "react", "spring boot", "docker", "kubernetes", "networking tcp", "dns", "http",
+            "embedded c", "microcontrollers", "verilog", "signals", "thermodynamics", "cad", "surveying", "pcr"};
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 6, 1, 10, 0);
+    private static final String LOREM = "Focus on data structures, arrays and strings first, then practise two or three "
+            + "medium problems a day. The panel asked about projects in depth and expected clear trade-offs. ";
+
+    private BenchmarkData() {
+    }
+
+    static List<Department> departments() {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENT_CODES.length; i++) {
+            Department department = new Department("dept-" + i, DEPARTMENT_CODES[i] + " Department", "Department of " + DEPARTMENT_CODES[i]);
+            department.setDepartmentCode(DEPARTMENT_CODES[i]);
+            department.setDepartmentGroup(DepartmentGroup.values()[i % DepartmentGroup.values().length]);
+            departments.add(department);
+        }
+        return departments;
+    }
+
+    static List<InterviewExperience> interviewExperiences(int count) {
+        Random random = new Random(42);
+        List<InterviewExperience> experiences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            InterviewExperience experience = new InterviewExperience();
+            int department = random.nextInt(DEPARTMENT_CODES.length);
+            experience.setId("exp-" + i);
+            experience.setStudentName("Student " + i);
+            experience.setRollNumber("71772" + (100000 + i));
+            experience.setDepartment(DEPARTMENT_CODES[department]);
+            experience.setDepartmentId("dept-" + department);
+            experience.setPersonalEmail("student" + i + "@gct.ac.in");
+            experience.setContactNumber("98" + (40000000 + i));
+            experience.setCompanyName(company(random));
+            experience.setPosition(random.nextBoolean() ? "Software Engineer" : "Graduate Engineer Trainee");
+            experience.setYearOfPlacement(2019 + random.nextInt(7));
+            experience.setSalary((4 + random.nextInt(20)) + " LPA");
+            experience.setInternOffered(random.nextBoolean());
+            experience.setHasBond(random.nextInt(4) == 0);
+            experience.setTotalRounds(2 + random.nextInt(4));
+            experience.setRoundsJson("[{\"round\":1,\"type\":\"Aptitude\"},{\"round\":2,\"type\":\"Technical\"},{\"round\":3,\"type\":\"HR\"}]");
+            experience.setQuestionsAsked(text(random, 2));
+            experience.setCrackingStrategy(text(random, 3));
+            experience.setPreparationDetails(text(random, 2));
+            experience.setOverallExperience(text(random, 4));
+            experience.setFinalResult("SELECTED");
+            experience.setWillingToMentor(random.nextInt(3) == 0);
+            experience.setSubmittedAt(BASE_TIME.minusHours(i));
+            if (random.nextInt(4) == 0) {
+                String fileName = UUID.nameUUIDFromBytes(("file-" + i).getBytes()) + ".zip";
+                experience.setAttachmentFileName("notes.zip");
+                experience.setAttachmentUrl("/api/files/download/" + fileName);
+                experience.setAttachmentSize(250_000L + random.nextInt(5_000_000));
+                experience.setAttachmentStatus(AttachmentStatus.OK);
+            }
+            experiences.add(experience);
+        }
+        return experiences;
+    }
+
+    static List<PlacementExperience> placementExperiences(int count) {
+        Random random = new Random(7);
+        List<PlacementExperience> experiences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlacementExperience experience = new PlacementExperience();
+            experience.setId("placement-" + i);
+            experience.setStudentName("Student " + i);
+            experience.setDepartment(DEPARTMENT_CODES[random.nextInt(DEPARTMENT_CODES.length)]);
+            experience.setCompanyName(company(random));
+            experience.setCompanyType(random.nextBoolean() ? "IT" : "Core");
+            // Roughly one in twenty older records has no placement year
+            experience.setPlacementYear(random.nextInt(20) == 0 ? null : 2019 + random.nextInt(7));
+            experience.setSalary((4 + random.nextInt(20)) + " LPA");
+            experience.setOverallExperience(text(random, 3));
+            experience.setFinalResult("SELECTED");
+            experience.setSubmittedAt(BASE_TIME.minusHours(i));
+            experiences.add(experience);
+        }
+        return experiences;
+    }
+
+    static List<User> users(int count) {
+        Random random = new Random(11);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId("user-" + i);
+            user.setEmail("user" + i + "@gct.ac.in");
+            user.setFullName("User " + i);
+            user.setRole(random.nextInt(5) == 0 ? UserRole.MENTOR : UserRole.STUDENT);
+            user.setDepartmentId("dept-" + random.nextInt(DEPARTMENT_CODES.length));
+            user.setRollNumber("71772" + (200000 + i));
+            user.setYearOfStudy(1 + random.nextInt(4));
+            user.setGraduationYear(2020 + random.nextInt(8));
+            user.setPhoneNumber("97" + (50000000 + i));
+            user.setLinkedinProfile("https://www.linkedin.com/in/user-" + i);
+            if (user.getRole() == UserRole.MENTOR) {
+                user.setPlacedCompany(company(random));
+                user.setPlacedPosition("Software Engineer");
+                user.setPlacementYear(2019 + random.nextInt(7));
+                user.setIsApproved(random.nextBoolean());
+            }
+            user.setCreatedAt(BASE_TIME.minusDays(i % 900));
+            user.setLastLogin(BASE_TIME.minusMinutes(i));
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     * Directory entries whose emails match the authors of {@link #interviewExperiences(int)} with the same index
+     */
+    static List<MentorDirectoryEntry> mentorDirectoryEntries(int count) {
+        Random random = new Random(23);
+        List<MentorDirectoryEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MentorDirectoryEntry entry = new MentorDirectoryEntry();
+            entry.setEmail("student" + i + "@gct.ac.in");
+            entry.setFullName("Mentor " + i);
+            entry.setPhoneNumber("96" + (60000000 + i));
+            entry.setPlacedCompany(company(random));
+            entry.setPlacedPosition("Software Engineer");
+            entry.setPlacementYear(2019 + random.nextInt(7));
+            entry.getDepartmentIds().add("dept-" + random.nextInt(DEPARTMENT_CODES.length));
+            entry.getSources().add(random.nextBoolean() ? MentorDirectoryEntry.SOURCE_MENTOR : MentorDirectoryEntry.SOURCE_EXPERIENCE);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * {@link #interviewExperiences(int)} with questions and problems drawn from {@link #TOPICS} instead of one
+     * shared paragraph, so that text similarity has something to tell apart
+     */
+    static List<InterviewExperience> interviewExperiencesWithTopics(int count) {
+        Random random = new Random(31);
+        List<InterviewExperience> experiences = interviewExperiences(count);
+        for (InterviewExperience experience : experiences) {
+            experience.setQuestionsAsked(topics(random, 4 + random.nextInt(6)));
+            experience.setProblemsSolved(topics(random, 2 + random.nextInt(4)));
+            experience.setRoundsDescription("Aptitude round, then technical interviews on " + topics(random, 2) + ", then HR.");
+            experience.setAreasToPrepareFinal(topics(random, 3));
+        }
+        return experiences;
+    }
+
+    /**
+     * {@link #interviewExperiences(int)} with numbered questionsAsked lists: questions about {@link #TOPICS}, each
+     * in one of several phrasings, plus a long tail of one-off questions
+     */
+    static List<InterviewExperience> interviewExperiencesWithQuestions(int count) {
+        Random random = new Random(37);
+        List<InterviewExperience> experiences = interviewExperiences(count);
+        for (InterviewExperience experience : experiences) {
+            StringBuilder questions = new StringBuilder();
+            int asked = 3 + random.nextInt(6);
+            for (int i = 1; i <= asked; i++) {
+                String topic = topics(random, 1);
+                String question = switch (random.nextInt(8)) {
+                    case 0 -> "Explain " + topic + ".";
+                    case 1 -> "Can you explain " + topic + " in detail?";
+                    case 2 -> "What is " + topic + " and where is it used?";
+                    case 3 -> "What are " + topic + " used for?";
+                    case 4 -> "Write code for a problem on " + topic + ".";
+                    case 5 -> "Coding question on " + topic;
+                    case 6 -> "Difference between " + topic + " and " + topics(random, 1) + "?";
+                    default -> "Design a " + COMPANIES[random.nextInt(COMPANIES.length)].toLowerCase() + " feature using "
+                            + topic + " for " + random.nextInt(100_000) + " users with " + Long.toString(random.nextLong(), 36) + "?";
+                };
+                questions.append(i).append(". ").append(question).append('\n');
+            }
+            experience.setQuestionsAsked(questions.toString());
+        }
+        return experiences;
+    }
+
+    private static String topics(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double skewed = random.nextDouble() * random.nextDouble();
+            text.append(i == 0 ? "" : ", ").append(TOPICS[(int) (skewed * TOPICS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static String company(Random random) {
+        // Squaring the uniform value skews towards the first (mass recruiter) companies
+        double skewed = random.nextDouble() * random.nextDouble();
+        return COMPANIES[(int) (skewed * COMPANIES.length)];
+    }
+
+    private static String text(Random random, int sentences) {
+        int repeat = 1 + random.nextInt(sentences);
+        return LOREM.repeat(repeat);
+    }
+}
@@ -0,0 +1,98 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.DashboardStatsDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryCompanyRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin dashboard totals: the full lists the dashboard used to fetch and count, against the maintained
+ * counters, and the cost of the reconciliation that corrects them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardStatsBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private UserRepository userRepository;
+    private InterviewExperienceRepository experienceRepository;
+    private CompanyRepository companyRepository;
+    private DashboardStatsService dashboardStatsService;
+
+    @Setup
+    public void setUp() {
+        MappingMongoConverter converter = InMemoryFixtures.converter();
+        DepartmentRepository departmentRepository = new InMemoryDepartmentRepository(converter);
+        departmentRepository.saveAll(BenchmarkData.departments());
+        userRepository = new InMemoryUserRepository(converter);
+        userRepository.saveAll(BenchmarkData.users(rows));
+        experienceRepository = new InMemoryInterviewExperienceRepository(converter);
+        experienceRepository.saveAll(BenchmarkData.interviewExperiences(rows));
+        companyRepository = new InMemoryCompanyRepository(converter);
+        dashboardStatsService = InMemoryFixtures.dashboardStatsService(userRepository, experienceRepository,
+                companyRepository, departmentRepository);
+        dashboardStatsService.reconcile();
+    }
+
+    @Benchmark
+    public Map<String, Long> fullLists() {
+        Map<UserRole, Long> byRole = new EnumMap<>(UserRole.class);
+        long pending = 0;
+        for (User user : userRepository.findAll()) {
+            byRole.merge(user.getRole(), 1L, Long::sum);
+            if (user.getRole() == UserRole.MENTOR && Boolean.FALSE.equals(user.getIsApproved())) {
+                pending++;
+            }
+        }
+        Map<String, Long> totals = new HashMap<>();
+        for (InterviewExperience experience : experienceRepository.findAll()) {
+            totals.merge(experience.getDepartmentId(), 1L, Long::sum);
+        }
+        byRole.forEach((role, count) -> totals.put(role.name(), count));
+        totals.put("pendingMentors", pending);
+        totals.put("companies", (long) companyRepository.findAll().size());
+        return totals;
+    }
+
+    @Benchmark
+    public DashboardStatsDTO counters() {
+        return dashboardStatsService.getStats();
+    }
+
+    @Benchmark
+    public long reconcile() {
+        return dashboardStatsService.reconcile();
+    }
+}
@@ -0,0 +1,72 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.dto.UserDTO;
+import com.quizapplication.placement_tracker.service.AuthService;
+import com.quizapplication.placement_tracker.service.InterviewExperienceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion in InterviewExperienceService and AuthService. convertToDTO is private, so it is
+ * driven through the single-item and list read paths; both include the per-row department lookup and,
+ * for experiences, signing of the attachment download URL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private InterviewExperienceService interviewExperienceService;
+    private AuthService authService;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        interviewExperienceService = ServiceFixtures.interviewExperienceService(BenchmarkData.interviewExperiences(rows));
+        authService = ServiceFixtures.authService(BenchmarkData.users(rows));
+    }
+
+    @Benchmark
+    public InterviewExperienceDTO interviewExperienceById() {
+        return interviewExperienceService.getExperienceById("exp-" + nextIndex());
+    }
+
+    @Benchmark
+    public List<InterviewExperienceDTO> allInterviewExperiences() {
+        return interviewExperienceService.getAllExperiences();
+    }
+
+    @Benchmark
+    public UserDTO userById() {
+        return authService.getUserById("user-" + nextIndex());
+    }
+
+    @Benchmark
+    public List<UserDTO> allMentors() {
+        return authService.getAllMentors();
+    }
+
+    private int nextIndex() {
+        cursor = cursor + 1 == rows ? 0 : cursor + 1;
+        return cursor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of InterviewExperienceDTO lists, as written by the list endpoints.
+ * The mapper is built with the same builder Spring MVC uses, so modules and date handling match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private List<InterviewExperienceDTO> experiences;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, InterviewExperienceDTO.class));
+        experiences = ServiceFixtures.interviewExperienceService(BenchmarkData.interviewExperiences(rows)).getAllExperiences();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(experiences);
+    }
+}
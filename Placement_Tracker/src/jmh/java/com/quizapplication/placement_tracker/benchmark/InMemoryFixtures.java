@@ -0,0 +1,83 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.config.InMemoryRepositoryConfig;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryAdminRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryCompanyRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDashboardCountersRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorSyncTaskRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryQuestionRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import com.quizapplication.placement_tracker.service.AdminService;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
+import com.quizapplication.placement_tracker.service.MentorSyncService;
+import com.quizapplication.placement_tracker.service.QuestionBankService;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+
+/**
+ * Wires services on the repositories of the "inmemory" profile, for benchmarks whose cost lies in the
+ * queries and writes themselves; services measured on {@link RepositoryStubs} are in {@link ServiceFixtures}
+ */
+final class InMemoryFixtures {
+
+    private InMemoryFixtures() {
+    }
+
+    /**
+     * Converter for the repositories of the "inmemory" profile, configured as the application does
+     */
+    static MappingMongoConverter converter() {
+        InMemoryRepositoryConfig config = new InMemoryRepositoryConfig();
+        MongoCustomConversions conversions = config.mongoCustomConversions();
+        return config.mappingMongoConverter(config.mongoMappingContext(conversions), conversions);
+    }
+
+    static DepartmentRepository departmentRepository(MappingMongoConverter converter) {
+        DepartmentRepository departmentRepository = new InMemoryDepartmentRepository(converter);
+        departmentRepository.saveAll(BenchmarkData.departments());
+        return departmentRepository;
+    }
+
+    static DashboardStatsService dashboardStatsService(UserRepository userRepository,
+                                                       InterviewExperienceRepository experienceRepository,
+                                                       CompanyRepository companyRepository,
+                                                       DepartmentRepository departmentRepository) {
+        return new DashboardStatsService(new InMemoryDashboardCountersRepository(converter()), userRepository,
+                experienceRepository, companyRepository, departmentRepository);
+    }
+
+    static QuestionBankService questionBankService(List<InterviewExperience> experiences) {
+        MappingMongoConverter converter = converter();
+        InterviewExperienceRepository experienceRepository = new InMemoryInterviewExperienceRepository(converter);
+        experienceRepository.saveAll(experiences);
+        return new QuestionBankService(experienceRepository, new InMemoryQuestionRepository(converter), 100);
+    }
+
+    static AdminService adminService(List<User> users) {
+        MappingMongoConverter converter = converter();
+        UserRepository userRepository = new InMemoryUserRepository(converter);
+        userRepository.saveAll(users);
+        DepartmentRepository departmentRepository = departmentRepository(converter);
+        MentorRepository mentorRepository = new InMemoryMentorRepository(converter);
+        MentorSyncService mentorSyncService = new MentorSyncService(new InMemoryMentorSyncTaskRepository(converter),
+                userRepository, mentorRepository, departmentRepository, 100, 300);
+        return new AdminService(new InMemoryAdminRepository(converter), mentorRepository, departmentRepository,
+                userRepository, new BCryptPasswordEncoder(),
+                dashboardStatsService(userRepository, new InMemoryInterviewExperienceRepository(converter),
+                        new InMemoryCompanyRepository(converter), departmentRepository),
+                mentorSyncService, 100);
+    }
+}
@@ -0,0 +1,57 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.MentorMatchDTO;
+import com.quizapplication.placement_tracker.service.MentorMatchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MentorMatchService.match against a built index: a mass recruiter, a rarer company, and no company at all
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MentorMatchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int mentors;
+
+    private MentorMatchService service;
+
+    @Setup
+    public void setUp() {
+        service = ServiceFixtures.mentorMatchService(BenchmarkData.mentorDirectoryEntries(mentors),
+                BenchmarkData.interviewExperiences(mentors * 2));
+        service.refresh();
+    }
+
+    @Benchmark
+    public List<MentorMatchDTO> commonCompany() {
+        return service.match("Zoho", "dept-0", 10);
+    }
+
+    @Benchmark
+    public List<MentorMatchDTO> rareCompany() {
+        return service.match("Capgemini", "dept-2", 10);
+    }
+
+    @Benchmark
+    public List<MentorMatchDTO> departmentOnly() {
+        return service.match(null, "dept-4", 10);
+    }
+}
@@ -0,0 +1,71 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.service.EmailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * EmailService OTP store under contention: issuing threads store new OTPs while verifying threads check
+ * the most recently issued code for the same addresses. A small address pool concentrates the contention
+ * on a few keys, as happens when students retry registration at the start of a placement season.
+ * Mail sending is not configured, so the benchmark covers OTP generation and the store only.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtpStoreBenchmark {
+
+    @Param({"64", "4096"})
+    private int addresses;
+
+    private EmailService emailService;
+    private String[] emails;
+    private AtomicReferenceArray<String> issued;
+
+    @Setup
+    public void setUp() {
+        emailService = ServiceFixtures.emailService();
+        emails = new String[addresses];
+        issued = new AtomicReferenceArray<>(addresses);
+        for (int i = 0; i < addresses; i++) {
+            emails[i] = "student" + i + "@gct.ac.in";
+            issued.set(i, emailService.sendOTP(emails[i]));
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public String issue() {
+        int slot = ThreadLocalRandom.current().nextInt(addresses);
+        String otp = emailService.sendOTP(emails[slot]);
+        issued.set(slot, otp);
+        return otp;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(6)
+    public boolean verify() {
+        int slot = ThreadLocalRandom.current().nextInt(addresses);
+        return emailService.verifyOTP(emails[slot], issued.get(slot));
+    }
+}
@@ -0,0 +1,49 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt verification as done on every login, at the cost configured in application.properties
+ * (app.security.bcrypt-strength). A wrong password costs the same as a correct one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Placement@2025";
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = ServiceFixtures.configuredPasswordEncoder();
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchesCorrectPassword() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean matchesWrongPassword() {
+        return encoder.matches("placement@2025", hash);
+    }
+}
@@ -0,0 +1,182 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH result file against the committed baseline and fails (exit code 1) when a scenario got slower
+ * or allocates more than the tolerance allows. Run by the perf-gate Maven profile after {@link PerfGateBenchmark}.
+ * <p>
+ * Allocation (gc.alloc.rate.norm, bytes/op) is nearly deterministic and portable between machines, so its
+ * tolerance is tight. Time depends on the machine the baseline was recorded on; refresh the baseline on the
+ * machine that runs the gate with {@code -Dperf.gate.update=true} and commit it.
+ */
+public final class PerfGate {
+
+    // Allocation changes below this are noise from JIT and GC bookkeeping, whatever the percentage
+    private static final double ALLOCATION_SLACK_BYTES = 1024;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private PerfGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path results = Path.of(required(options, "results"));
+        Path baseline = Path.of(required(options, "baseline"));
+        double timeTolerance = Double.parseDouble(options.getOrDefault("time-tolerance", "0.25"));
+        double allocationTolerance = Double.parseDouble(options.getOrDefault("allocation-tolerance", "0.10"));
+
+        Map<String, Measurement> current = readResults(results);
+        if (Boolean.parseBoolean(options.getOrDefault("update", "false"))) {
+            writeBaseline(baseline, current);
+            System.out.println("Perf gate baseline updated: " + baseline + " (" + current.size() + " scenarios)");
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            fail("No baseline at " + baseline + "; record one with -Dperf.gate.update=true");
+        }
+
+        Map<String, Measurement> expected = readBaseline(baseline);
+        List<String> failures = new ArrayList<>();
+        List<String> improvements = new ArrayList<>();
+        System.out.printf("%n%-40s %14s %14s %8s %14s %14s %8s%n",
+                "scenario", "baseline", "current", "time", "baseline B/op", "current B/op", "alloc");
+        for (Map.Entry<String, Measurement> entry : expected.entrySet()) {
+            String scenario = entry.getKey();
+            Measurement before = entry.getValue();
+            Measurement after = current.get(scenario);
+            if (after == null) {
+                failures.add(scenario + ": in the baseline but not measured (renamed or removed? update the baseline)");
+                continue;
+            }
+            if (!before.timeUnit().equals(after.timeUnit())) {
+                failures.add(scenario + ": time unit changed from " + before.timeUnit() + " to " + after.timeUnit());
+                continue;
+            }
+            double timeChange = after.time() / before.time() - 1;
+            double allocationChange = before.allocation() == 0 ? 0 : after.allocation() / before.allocation() - 1;
+            boolean slower = timeChange > timeTolerance;
+            boolean allocatesMore = allocationChange > allocationTolerance
+                    && after.allocation() - before.allocation() > ALLOCATION_SLACK_BYTES;
+            System.out.printf("%-40s %11.1f %-2s %11.1f %-2s %+7.1f%% %14.0f %14.0f %+7.1f%%%s%n",
+                    scenario, before.time(), shortUnit(before.timeUnit()), after.time(), shortUnit(after.timeUnit()),
+                    timeChange * 100, before.allocation(), after.allocation(), allocationChange * 100,
+                    slower || allocatesMore ? "  REGRESSION" : "");
+            if (slower) {
+                failures.add(String.format("%s: %.1f%% slower (limit %.0f%%)", scenario, timeChange * 100, timeTolerance * 100));
+            }
+            if (allocatesMore) {
+                failures.add(String.format("%s: allocates %.1f%% more per operation (limit %.0f%%)",
+                        scenario, allocationChange * 100, allocationTolerance * 100));
+            }
+            if (timeChange < -timeTolerance || allocationChange < -allocationTolerance) {
+                improvements.add(scenario);
+            }
+        }
+        for (String scenario : current.keySet()) {
+            if (!expected.containsKey(scenario)) {
+                failures.add(scenario + ": no baseline (record one with -Dperf.gate.update=true)");
+            }
+        }
+        System.out.println();
+
+        if (!improvements.isEmpty()) {
+            System.out.println("Better than the baseline beyond tolerance: " + String.join(", ", improvements)
+                    + ". Consider refreshing the baseline (-Dperf.gate.update=true) so the gain is protected.");
+        }
+        if (!failures.isEmpty()) {
+            fail("Performance regression gate failed:\n  " + String.join("\n  ", failures));
+        }
+        System.out.println("Performance regression gate passed (" + expected.size() + " scenarios)");
+    }
+
+    private static Map<String, Measurement> readResults(Path results) throws IOException {
+        if (!Files.exists(results)) {
+            fail("No JMH results at " + results);
+        }
+        Map<String, Measurement> measurements = new TreeMap<>();
+        for (JsonNode run : MAPPER.readTree(results.toFile())) {
+            String benchmark = run.path("benchmark").asText();
+            StringBuilder scenario = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            run.path("params").properties().forEach(param ->
+                    scenario.append('[').append(param.getKey()).append('=').append(param.getValue().asText()).append(']'));
+
+            JsonNode allocation = null;
+            for (Map.Entry<String, JsonNode> metric : run.path("secondaryMetrics").properties()) {
+                if (metric.getKey().endsWith("gc.alloc.rate.norm")) {
+                    allocation = metric.getValue();
+                }
+            }
+            if (allocation == null) {
+                fail(scenario + " has no gc.alloc.rate.norm metric; run JMH with -prof gc");
+            }
+            JsonNode primary = run.path("primaryMetric");
+            measurements.put(scenario.toString(), new Measurement(primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), allocation.path("score").asDouble()));
+        }
+        return measurements;
+    }
+
+    private static Map<String, Measurement> readBaseline(Path baseline) throws IOException {
+        Map<String, Measurement> measurements = new TreeMap<>();
+        MAPPER.readTree(baseline.toFile()).path("scenarios").properties().forEach(scenario -> measurements.put(
+                scenario.getKey(), MAPPER.convertValue(scenario.getValue(), Measurement.class)));
+        return measurements;
+    }
+
+    private static void writeBaseline(Path baseline, Map<String, Measurement> measurements) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode recordedWith = root.putObject("recordedWith");
+        recordedWith.put("date", LocalDate.now().toString());
+        recordedWith.put("jdk", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        recordedWith.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        recordedWith.put("cpus", Runtime.getRuntime().availableProcessors());
+        Map<String, Measurement> rounded = new TreeMap<>();
+        measurements.forEach((scenario, measurement) -> rounded.put(scenario, new Measurement(
+                Math.round(measurement.time() * 10) / 10.0, measurement.timeUnit(), Math.round(measurement.allocation()))));
+        root.set("scenarios", MAPPER.valueToTree(rounded));
+        Files.createDirectories(baseline.toAbsolutePath().getParent());
+        MAPPER.writeValue(baseline.toFile(), root);
+    }
+
+    private static String shortUnit(String unit) {
+        return unit.replace("/op", "");
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing --" + name + "=...");
+        }
+        return value;
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+
+    record Measurement(double time, String timeUnit, double allocation) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.AuthResponseDTO;
+import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.dto.LoginDTO;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryCompanyRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorSyncTaskRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryPlacementExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import com.quizapplication.placement_tracker.service.AuthService;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import com.quizapplication.placement_tracker.service.EmailService;
+import com.quizapplication.placement_tracker.service.InterviewExperienceService;
+import com.quizapplication.placement_tracker.service.MentorSyncService;
+import com.quizapplication.placement_tracker.service.NotificationQueue;
+import com.quizapplication.placement_tracker.service.PlacementExperienceService;
+import com.quizapplication.placement_tracker.service.SimilarExperienceService;
+import com.quizapplication.placement_tracker.service.ZipIntegrityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fixed scenarios checked by the perf-gate profile against perf/baseline.json (see {@link PerfGate}).
+ * Unlike the other benchmarks these run on the repositories of the "inmemory" profile: every repository call
+ * maps documents as it would against MongoDB, so an extra per-row lookup shows up in bytes/op, not just in time.
+ * Inputs rotate through a fixed cycle so allocation per operation is stable from run to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PerfGateBenchmark {
+
+    static final int EXPERIENCES = 10_000;
+    static final int PLACEMENTS = 5_000;
+    static final int LOGIN_USERS = 64;
+
+    private static final String PASSWORD = "Placement@2025";
+    private static final String[] SEARCH_TERMS = {"zoho", "TCS", "info", "Amazon", "micro", "ashok", "Fresh", "cap"};
+    private static final int[] YEARS = {2021, 2022, 2023, 2024, 2025};
+
+    private InterviewExperienceService interviewExperienceService;
+    private PlacementExperienceService placementExperienceService;
+    private ZipIntegrityService zipIntegrityService;
+    private AuthService authService;
+    private LoginDTO[] logins;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        MappingMongoConverter converter = InMemoryFixtures.converter();
+        DepartmentRepository departmentRepository = new InMemoryDepartmentRepository(converter);
+        departmentRepository.saveAll(BenchmarkData.departments());
+
+        InterviewExperienceRepository experienceRepository = new InMemoryInterviewExperienceRepository(converter);
+        experienceRepository.saveAll(BenchmarkData.interviewExperiences(EXPERIENCES));
+        PlacementExperienceRepository placementRepository = new InMemoryPlacementExperienceRepository(converter);
+        placementRepository.saveAll(BenchmarkData.placementExperiences(PLACEMENTS));
+
+        zipIntegrityService = new ZipIntegrityService(experienceRepository, placementRepository, 1, 1);
+        DownloadUrlSigner signer = new DownloadUrlSigner("benchmark-signing-key", 168, 60);
+        CompanyRepository companyRepository = new InMemoryCompanyRepository(converter);
+        UserRepository userRepository = new InMemoryUserRepository(converter);
+        DashboardStatsService dashboardStatsService = InMemoryFixtures.dashboardStatsService(userRepository,
+                experienceRepository, companyRepository, departmentRepository);
+        interviewExperienceService = new InterviewExperienceService(experienceRepository, departmentRepository,
+                companyRepository, signer, zipIntegrityService,
+                new SimilarExperienceService(experienceRepository, 20), dashboardStatsService);
+        placementExperienceService = new PlacementExperienceService();
+        ReflectionTestUtils.setField(placementExperienceService, "repository", placementRepository);
+
+        BCryptPasswordEncoder passwordEncoder = ServiceFixtures.configuredPasswordEncoder();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<User> users = BenchmarkData.users(LOGIN_USERS);
+        users.forEach(user -> {
+            user.setPassword(passwordHash);
+            user.setIsApproved(true);
+        });
+        userRepository.saveAll(users);
+        EmailService emailService = ServiceFixtures.emailService();
+        MentorSyncService mentorSyncService = new MentorSyncService(new InMemoryMentorSyncTaskRepository(converter),
+                userRepository, new InMemoryMentorRepository(converter), departmentRepository, 100, 300);
+        authService = new AuthService(userRepository, departmentRepository, mentorSyncService,
+                passwordEncoder, emailService, new NotificationQueue(emailService, 16), dashboardStatsService);
+        logins = users.stream().map(user -> {
+            LoginDTO login = new LoginDTO();
+            login.setEmail(user.getEmail());
+            login.setPassword(PASSWORD);
+            return login;
+        }).toArray(LoginDTO[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        zipIntegrityService.shutdown();
+    }
+
+    /**
+     * Browsing one department's experiences for one year, the most common listing
+     */
+    @Benchmark
+    public List<InterviewExperienceDTO> experienceListing() {
+        int step = next();
+        String departmentId = "dept-" + step % BenchmarkData.DEPARTMENT_CODES.length;
+        return interviewExperienceService.getExperiencesByDepartmentAndYear(departmentId, YEARS[step % YEARS.length]);
+    }
+
+    @Benchmark
+    public List<InterviewExperienceDTO> companySearch() {
+        return interviewExperienceService.searchByCompany(SEARCH_TERMS[next() % SEARCH_TERMS.length]);
+    }
+
+    @Benchmark
+    public Map<String, Map<Integer, List<PlacementExperience>>> groupedPlacementView() {
+        return placementExperienceService.getExperiencesGroupedByCompanyAndYear();
+    }
+
+    @Benchmark
+    public AuthResponseDTO login() {
+        return authService.login(logins[next() % logins.length]);
+    }
+
+    /**
+     * Converts every stored experience, i.e. 10k documents per operation
+     */
+    @Benchmark
+    public List<InterviewExperienceDTO> dtoConversion10k() {
+        return interviewExperienceService.getAllExperiences();
+    }
+
+    private int next() {
+        // Department and year counts are coprime, so the cycle covers every combination
+        cursor = cursor == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.service.PlacementExperienceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlacementExperienceService.getExperiencesGroupedByCompanyAndYear over the whole collection
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementGroupingBenchmark {
+
+    @Param({"1000", "5000"})
+    private int rows;
+
+    private PlacementExperienceService service;
+
+    @Setup
+    public void setUp() {
+        service = ServiceFixtures.placementExperienceService(BenchmarkData.placementExperiences(rows));
+    }
+
+    @Benchmark
+    public Map<String, Map<Integer, List<PlacementExperience>>> groupedByCompanyAndYear() {
+        return service.getExperiencesGroupedByCompanyAndYear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.QuestionDTO;
+import com.quizapplication.placement_tracker.service.QuestionBankService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QuestionBankService: a full rebuild (split, cluster, write) and a "most asked at company" query
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBankBenchmark {
+
+    @Param({"1000", "10000"})
+    private int experiences;
+
+    private QuestionBankService service;
+    private int company;
+
+    @Setup
+    public void setUp() {
+        service = InMemoryFixtures.questionBankService(BenchmarkData.interviewExperiencesWithQuestions(experiences));
+        service.rebuild();
+    }
+
+    @Benchmark
+    public void rebuild() {
+        service.rebuild();
+    }
+
+    @Benchmark
+    public List<QuestionDTO> topQuestions() {
+        company = (company + 1) % BenchmarkData.COMPANIES.length;
+        return service.getTopQuestions(BenchmarkData.COMPANIES[company], null, 20);
+    }
+}
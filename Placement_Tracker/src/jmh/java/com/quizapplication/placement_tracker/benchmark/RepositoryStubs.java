@@ -0,0 +1,67 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Map-backed stand-ins for the Spring Data repositories, so benchmarks measure the service code
+ * rather than MongoDB round trips. findById / findAll / count / existsById are served from the
+ * given rows; any other repository method must be supplied as a query, otherwise it throws.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <R, T> Builder<R, T> of(Class<R> repositoryType, Function<T, String> idOf) {
+        return new Builder<>(repositoryType, idOf);
+    }
+
+    static final class Builder<R, T> {
+        private final Class<R> repositoryType;
+        private final Function<T, String> idOf;
+        private final Map<String, T> rows = new LinkedHashMap<>();
+        private final Map<String, Function<Object[], Object>> queries = new LinkedHashMap<>();
+
+        private Builder(Class<R> repositoryType, Function<T, String> idOf) {
+            this.repositoryType = repositoryType;
+            this.idOf = idOf;
+        }
+
+        Builder<R, T> rows(Iterable<T> entities) {
+            entities.forEach(entity -> rows.put(idOf.apply(entity), entity));
+            return this;
+        }
+
+        Builder<R, T> query(String methodName, Function<Object[], Object> answer) {
+            queries.put(methodName, answer);
+            return this;
+        }
+
+        R build() {
+            Object stub = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                    (proxy, method, args) -> {
+                        Function<Object[], Object> query = queries.get(method.getName());
+                        if (query != null) {
+                            return query.apply(args);
+                        }
+                        return switch (method.getName()) {
+                            case "findById" -> Optional.ofNullable(rows.get((String) args[0]));
+                            case "existsById" -> rows.containsKey((String) args[0]);
+                            case "findAll" -> new ArrayList<>(rows.values());
+                            case "count" -> (long) rows.size();
+                            case "toString" -> "stub " + repositoryType.getSimpleName();
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> throw new UnsupportedOperationException(
+                                    repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                        };
+                    });
+            return repositoryType.cast(stub);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.DashboardCounters;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.entity.MentorSyncTask;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DashboardCountersRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.MentorDirectoryRepository;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import com.quizapplication.placement_tracker.repository.MentorSyncTaskRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.service.AuthService;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import com.quizapplication.placement_tracker.service.EmailService;
+import com.quizapplication.placement_tracker.service.InterviewExperienceService;
+import com.quizapplication.placement_tracker.service.MentorMatchService;
+import com.quizapplication.placement_tracker.service.MentorSyncService;
+import com.quizapplication.placement_tracker.service.NotificationQueue;
+import com.quizapplication.placement_tracker.service.PlacementExperienceService;
+import com.quizapplication.placement_tracker.service.SimilarExperienceService;
+import com.quizapplication.placement_tracker.service.ZipIntegrityService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wires the services under test by hand, the same way Spring would, but on top of {@link RepositoryStubs};
+ * services measured on the in-memory repositories are in {@link InMemoryFixtures}
+ */
+final class ServiceFixtures {
+
+    private ServiceFixtures() {
+    }
+
+    static DepartmentRepository departmentRepository() {
+        return RepositoryStubs.of(DepartmentRepository.class, Department::getId)
+                .rows(BenchmarkData.departments())
+                .build();
+    }
+
+    static InterviewExperienceService interviewExperienceService(List<InterviewExperience> experiences) {
+        InterviewExperienceRepository experienceRepository =
+                RepositoryStubs.of(InterviewExperienceRepository.class, InterviewExperience::getId)
+                        .rows(experiences)
+                        .build();
+        PlacementExperienceRepository placementRepository = placementExperienceRepository(List.of());
+        DownloadUrlSigner signer = new DownloadUrlSigner("benchmark-signing-key", 168, 60);
+        ZipIntegrityService zipIntegrityService = new ZipIntegrityService(experienceRepository, placementRepository, 1, 1);
+        CompanyRepository companyRepository = RepositoryStubs.of(CompanyRepository.class, Company::getId).build();
+        DepartmentRepository departmentRepository = departmentRepository();
+        return new InterviewExperienceService(experienceRepository, departmentRepository, companyRepository, signer,
+                zipIntegrityService, new SimilarExperienceService(experienceRepository, 20),
+                dashboardStatsService(RepositoryStubs.of(UserRepository.class, User::getId).build(), experienceRepository,
+                        companyRepository, departmentRepository));
+    }
+
+    static PlacementExperienceService placementExperienceService(List<PlacementExperience> experiences) {
+        PlacementExperienceService service = new PlacementExperienceService();
+        ReflectionTestUtils.setField(service, "repository", placementExperienceRepository(experiences));
+        return service;
+    }
+
+    static AuthService authService(List<User> users) {
+        UserRepository userRepository = RepositoryStubs.of(UserRepository.class, User::getId)
+                .rows(users)
+                .query("findByRole", args -> users.stream().filter(user -> user.getRole() == args[0]).toList())
+                .build();
+        MentorRepository mentorRepository = RepositoryStubs.of(MentorRepository.class, Mentor::getId).build();
+        MentorSyncTaskRepository outbox = RepositoryStubs.of(MentorSyncTaskRepository.class, MentorSyncTask::getUserId).build();
+        DepartmentRepository departmentRepository = departmentRepository();
+        MentorSyncService mentorSyncService = new MentorSyncService(outbox, userRepository, mentorRepository,
+                departmentRepository, 100, 300);
+        EmailService emailService = emailService();
+        CompanyRepository companyRepository = RepositoryStubs.of(CompanyRepository.class, Company::getId).build();
+        InterviewExperienceRepository experienceRepository =
+                RepositoryStubs.of(InterviewExperienceRepository.class, InterviewExperience::getId).build();
+        return new AuthService(userRepository, departmentRepository, mentorSyncService,
+                new BCryptPasswordEncoder(), emailService, new NotificationQueue(emailService, 16),
+                dashboardStatsService(userRepository, experienceRepository, companyRepository, departmentRepository));
+    }
+
+    static MentorMatchService mentorMatchService(List<MentorDirectoryEntry> entries, List<InterviewExperience> experiences) {
+        MentorDirectoryRepository directoryRepository = RepositoryStubs.of(MentorDirectoryRepository.class, MentorDirectoryEntry::getEmail)
+                .query("findDirectory", args -> {
+                    Pageable pageable = (Pageable) args[3];
+                    int from = (int) Math.min(pageable.getOffset(), entries.size());
+                    int to = Math.min(from + pageable.getPageSize(), entries.size());
+                    return PageableExecutionUtils.getPage(entries.subList(from, to), pageable, entries::size);
+                })
+                .build();
+        List<InterviewExperience> willing = experiences.stream()
+                .filter(experience -> Boolean.TRUE.equals(experience.getWillingToMentor()))
+                .toList();
+        InterviewExperienceRepository experienceRepository =
+                RepositoryStubs.of(InterviewExperienceRepository.class, InterviewExperience::getId)
+                        .query("streamMentorAuthors", args -> willing.stream())
+                        .build();
+        return new MentorMatchService(directoryRepository, experienceRepository, departmentRepository(), 50);
+    }
+
+    static SimilarExperienceService similarExperienceService(List<InterviewExperience> experiences) {
+        Map<String, InterviewExperience> byId = new HashMap<>();
+        experiences.forEach(experience -> byId.put(experience.getId(), experience));
+        InterviewExperienceRepository experienceRepository =
+                RepositoryStubs.of(InterviewExperienceRepository.class, InterviewExperience::getId)
+                        .rows(experiences)
+                        .query("streamInterviewText", args -> experiences.stream())
+                        .query("findAllById", args -> {
+                            List<InterviewExperience> found = new ArrayList<>();
+                            ((Iterable<?>) args[0]).forEach(id -> found.add(byId.get(id)));
+                            return found;
+                        })
+                        .build();
+        return new SimilarExperienceService(experienceRepository, 20);
+    }
+
+    /**
+     * Counters on a stub whose increments are dropped; the dashboard itself is measured in {@link InMemoryFixtures}
+     */
+    private static DashboardStatsService dashboardStatsService(UserRepository userRepository,
+                                                               InterviewExperienceRepository experienceRepository,
+                                                               CompanyRepository companyRepository,
+                                                               DepartmentRepository departmentRepository) {
+        DashboardCountersRepository countersRepository =
+                RepositoryStubs.of(DashboardCountersRepository.class, DashboardCounters::getId)
+                        .query("increment", args -> null)
+                        .build();
+        return new DashboardStatsService(countersRepository, userRepository, experienceRepository, companyRepository,
+                departmentRepository);
+    }
+
+    static EmailService emailService() {
+        EmailService emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "gctEmailDomain", "gct.ac.in");
+        return emailService;
+    }
+
+    /**
+     * BCrypt at the cost configured in application.properties (app.security.bcrypt-strength)
+     */
+    static BCryptPasswordEncoder configuredPasswordEncoder() {
+        try {
+            String strength = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"))
+                    .getProperty("app.security.bcrypt-strength", "10");
+            return new BCryptPasswordEncoder(Integer.parseInt(strength.trim()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PlacementExperienceRepository placementExperienceRepository(List<PlacementExperience> experiences) {
+        List<PlacementExperience> newestFirst = experiences.stream()
+                .sorted(Comparator.comparing(PlacementExperience::getSubmittedAt).reversed())
+                .toList();
+        return RepositoryStubs.of(PlacementExperienceRepository.class, PlacementExperience::getId)
+                .rows(experiences)
+                .query("findAllByOrderBySubmittedAtDesc", args -> newestFirst)
+                .build();
+    }
+}
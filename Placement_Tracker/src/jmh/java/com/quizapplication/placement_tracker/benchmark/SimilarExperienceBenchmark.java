@@ -0,0 +1,57 @@
+package com.quizapplication.placement_tracker.benchmark;
+
+import com.quizapplication.placement_tracker.dto.SimilarExperienceDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.service.SimilarExperienceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimilarExperienceService: a nearest-neighbour query, and the incremental update done on every experience write
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimilarExperienceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int experiences;
+
+    private SimilarExperienceService service;
+    private InterviewExperience edited;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        List<InterviewExperience> rows = BenchmarkData.interviewExperiencesWithTopics(experiences);
+        service = ServiceFixtures.similarExperienceService(rows);
+        service.rebuild();
+        edited = rows.get(rows.size() / 2);
+    }
+
+    @Benchmark
+    public List<SimilarExperienceDTO> similar() {
+        query = (query + 1) % experiences;
+        return service.findSimilar("exp-" + query, 5);
+    }
+
+    @Benchmark
+    public void reindexOnUpdate() {
+        service.indexExperience(edited);
+    }
+}
@@ -0,0 +1,46 @@
+package com.quizapplication.placement_tracker.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many password hashes run at once. Virtual threads are not time-sliced, so a burst of logins
+ * hashing on every carrier thread would stall all other requests until the hashes finish; over the limit,
+ * callers park until a hash completes. Waiting time shows up in the "bcrypt" request spans.
+ */
+class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        permits.acquireUninterruptibly();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,116 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * One-off migration from the embedded ID arrays (Company.interviewExperienceIds, Department.interviewExperienceIds
+ * and Department.userIds) to counters: links experiences to their company by name, recounts from the indexed
+ * back-references and drops the arrays. Runs when a legacy document is found, or on every start with
+ * {@code migration.recount-counters=true} to repair drifted counters.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+public class CounterMigration implements CommandLineRunner {
+
+    private static final String LEGACY_EXPERIENCE_IDS = "interviewExperienceIds";
+    private static final String LEGACY_USER_IDS = "userIds";
+
+    private final MongoOperations mongoOperations;
+    private final InterviewExperienceRepository experienceRepository;
+    private final boolean forceRecount;
+
+    public CounterMigration(MongoOperations mongoOperations,
+                            InterviewExperienceRepository experienceRepository,
+                            @Value("${migration.recount-counters:false}") boolean forceRecount) {
+        this.mongoOperations = mongoOperations;
+        this.experienceRepository = experienceRepository;
+        this.forceRecount = forceRecount;
+    }
+
+    @Override
+    public void run(String... args) {
+        boolean legacy = mongoOperations.exists(Query.query(Criteria.where(LEGACY_EXPERIENCE_IDS).exists(true)), Company.class)
+                || mongoOperations.exists(Query.query(new Criteria().orOperator(
+                        Criteria.where(LEGACY_EXPERIENCE_IDS).exists(true),
+                        Criteria.where(LEGACY_USER_IDS).exists(true))), Department.class);
+        if (!legacy && !forceRecount) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Company> companies = mongoOperations.find(idsAnd("companyName"), Company.class);
+        long linked = 0;
+        for (Company company : companies) {
+            linked += experienceRepository.assignCompany("^" + Pattern.quote(company.getCompanyName()) + "$", company.getId());
+        }
+
+        Map<String, Long> experiencesByCompany = countBy(InterviewExperience.class, "companyId");
+        Map<String, Long> experiencesByDepartment = countBy(InterviewExperience.class, "departmentId");
+        Map<String, Long> usersByDepartment = countBy(User.class, "departmentId");
+
+        BulkOperations companyUpdates = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Company.class);
+        for (Company company : companies) {
+            companyUpdates.updateOne(Query.query(Criteria.where("id").is(company.getId())), new Update()
+                    .set("experienceCount", experiencesByCompany.getOrDefault(company.getId(), 0L))
+                    .unset(LEGACY_EXPERIENCE_IDS));
+        }
+        List<Department> departments = mongoOperations.find(idsAnd(), Department.class);
+        BulkOperations departmentUpdates = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Department.class);
+        for (Department department : departments) {
+            departmentUpdates.updateOne(Query.query(Criteria.where("id").is(department.getId())), new Update()
+                    .set("experienceCount", experiencesByDepartment.getOrDefault(department.getId(), 0L))
+                    .set("userCount", usersByDepartment.getOrDefault(department.getId(), 0L))
+                    .unset(LEGACY_EXPERIENCE_IDS)
+                    .unset(LEGACY_USER_IDS));
+        }
+        if (!companies.isEmpty()) {
+            companyUpdates.execute();
+        }
+        if (!departments.isEmpty()) {
+            departmentUpdates.execute();
+        }
+
+        log.info("Counter migration: {} companies, {} departments recounted, {} experiences linked to a company in {} ms",
+                companies.size(), departments.size(), linked, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Query idsAnd(String... fields) {
+        Query query = new Query();
+        query.fields().include("id").include(fields);
+        return query;
+    }
+
+    // Grouped server-side over the indexed back-reference; documents without one are not counted
+    private Map<String, Long> countBy(Class<?> type, String field) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(field).ne(null)),
+                Aggregation.group(field).count().as("count"));
+        Map<String, Long> counts = new HashMap<>();
+        for (Document row : mongoOperations.aggregate(aggregation, type, Document.class)) {
+            counts.put(row.get("_id").toString(), ((Number) row.get("count")).longValue());
+        }
+        return counts;
+    }
+}
@@ -8,6 +8,7 @@ import com.quizapplication.placement_tracker.entity.UserRole;
 import com.quizapplication.placement_tracker.repository.AdminRepository;
 import com.quizapplication.placement_tracker.repository.DepartmentRepository;
 import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -19,15 +20,18 @@ public class DataInitializer implements CommandLineRunner {
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardStatsService dashboardStatsService;
 
     public DataInitializer(DepartmentRepository departmentRepository, 
                           AdminRepository adminRepository,
                           UserRepository userRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          DashboardStatsService dashboardStatsService) {
         this.departmentRepository = departmentRepository;
         this.adminRepository = adminRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
     @Override
@@ -117,6 +121,7 @@ public class DataInitializer implements CommandLineRunner {
         adminUser.setIsActive(true);
         adminUser.setIsApproved(true);
         userRepository.save(adminUser);
+        dashboardStatsService.userCreated(adminUser);
         System.out.println("========================================");
         System.out.println("  ADMIN USER ACCOUNT CREATED");
         System.out.println("  Email: harshavardhinin6@gmail.com");
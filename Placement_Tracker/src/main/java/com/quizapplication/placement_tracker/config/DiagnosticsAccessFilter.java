@@ -0,0 +1,52 @@
+package com.quizapplication.placement_tracker.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the admin diagnostics endpoints (flight recordings expose method names, arguments and heap
+ * contents). Requests must carry the configured token in X-Diagnostics-Token; with no token configured
+ * the endpoints answer 404 as if they did not exist.
+ */
+public class DiagnosticsAccessFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Diagnostics-Token";
+
+    private final byte[] token;
+
+    public DiagnosticsAccessFilter(String token) {
+        this.token = token != null && !token.isBlank() ? token.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (token == null) {
+            reject(response, HttpServletResponse.SC_NOT_FOUND, "Not found");
+            return;
+        }
+        String presented = request.getHeader(TOKEN_HEADER);
+        // Constant-time comparison, so the token cannot be guessed byte by byte from response times
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "Missing or invalid diagnostics token");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,20 @@
+package com.quizapplication.placement_tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DiagnosticsConfig {
+
+    @Bean
+    public FilterRegistrationBean<DiagnosticsAccessFilter> diagnosticsAccessFilter(
+            @Value("${diagnostics.token:}") String token) {
+        FilterRegistrationBean<DiagnosticsAccessFilter> registration =
+                new FilterRegistrationBean<>(new DiagnosticsAccessFilter(token));
+        registration.addUrlPatterns("/api/admin/diagnostics/*");
+        registration.setName("diagnosticsAccessFilter");
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FileDownloadConfig {
+
+    @Bean
+    public FilterRegistrationBean<SignedDownloadFilter> signedDownloadFilter(DownloadUrlSigner signer) {
+        FilterRegistrationBean<SignedDownloadFilter> registration =
+                new FilterRegistrationBean<>(new SignedDownloadFilter(signer));
+        registration.addUrlPatterns(DownloadUrlSigner.SIGNED_PATH_PREFIX + "*",
+                DownloadUrlSigner.ATTACHMENT_PATH_PREFIX + "*");
+        registration.setName("signedDownloadFilter");
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.UploadAdmissionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FileUploadConfig {
+
+    @Bean
+    public FilterRegistrationBean<UploadAdmissionFilter> uploadAdmissionFilter(
+            UploadAdmissionService admissionService,
+            @Value("${file.upload.retry-after-seconds:5}") long retryAfterSeconds) {
+        FilterRegistrationBean<UploadAdmissionFilter> registration =
+                new FilterRegistrationBean<>(new UploadAdmissionFilter(admissionService, retryAfterSeconds));
+        registration.addUrlPatterns("/api/files/upload");
+        registration.setName("uploadAdmissionFilter");
+        return registration;
+    }
+}
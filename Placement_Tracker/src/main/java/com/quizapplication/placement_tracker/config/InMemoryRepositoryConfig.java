@@ -0,0 +1,78 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.monitoring.RepositoryInvocationContext;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMongoRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+/**
+ * "inmemory" profile: the repositories in repository.inmemory replace the MongoDB-backed ones and no
+ * connection is made (the Mongo auto-configuration is excluded in application-inmemory.properties).
+ * The mapping converter is the same one Spring Boot would configure, so entities are stored and
+ * read back exactly as MongoDB would see them.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryRepositoryConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of());
+    }
+
+    @Bean
+    public MongoMappingContext mongoMappingContext(MongoCustomConversions conversions) {
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        return context;
+    }
+
+    @Bean
+    public MappingMongoConverter mappingMongoConverter(MongoMappingContext context, MongoCustomConversions conversions) {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    /**
+     * Same repository call tracking as the MongoDB repositories get in MongoMetricsConfig. With
+     * inmemory.simulated-latency-ms every call also waits that long, standing in for the round trip to
+     * MongoDB so thread-model load tests see requests that block rather than spin.
+     */
+    @Bean
+    public static BeanPostProcessor inMemoryRepositoryInvocationTracking(
+            @Value("${inmemory.simulated-latency-ms:0}") long simulatedLatencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof InMemoryMongoRepository<?>)) {
+                    return bean;
+                }
+                Class<?> repositoryInterface = AopProxyUtils.ultimateTargetClass(bean).getInterfaces()[0];
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setInterfaces(repositoryInterface);
+                proxyFactory.addAdvice(RepositoryInvocationContext.interceptor(repositoryInterface));
+                if (simulatedLatencyMillis > 0) {
+                    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                        Thread.sleep(simulatedLatencyMillis);
+                        return invocation.proceed();
+                    });
+                }
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
+import com.quizapplication.placement_tracker.service.MentorMatchService;
+import com.quizapplication.placement_tracker.service.MentorSyncService;
+import com.quizapplication.placement_tracker.service.QuestionBankService;
+import com.quizapplication.placement_tracker.service.SimilarExperienceService;
+import com.quizapplication.placement_tracker.service.UploadAdmissionService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application meters beyond the built-in HTTP request metrics. Meters read the existing
+ * counters lazily at scrape time, so nothing is added to the request path.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder uploadAdmissionMetrics(UploadAdmissionService admissionService) {
+        return registry -> {
+            Gauge.builder("uploads.in.flight", admissionService, UploadAdmissionService::getInFlight)
+                    .description("Uploads currently being received")
+                    .register(registry);
+            Gauge.builder("uploads.queued", admissionService, UploadAdmissionService::getQueued)
+                    .description("Uploads waiting for a free upload slot")
+                    .register(registry);
+            FunctionCounter.builder("uploads.accepted", admissionService, UploadAdmissionService::getAcceptedCount)
+                    .register(registry);
+            FunctionCounter.builder("uploads.completed", admissionService, UploadAdmissionService::getCompletedCount)
+                    .register(registry);
+            FunctionCounter.builder("uploads.failed", admissionService, UploadAdmissionService::getFailedCount)
+                    .register(registry);
+            FunctionCounter.builder("uploads.received", admissionService, UploadAdmissionService::getBytesUploaded)
+                    .baseUnit("bytes")
+                    .register(registry);
+            for (UploadAdmissionService.RejectionReason reason : UploadAdmissionService.RejectionReason.values()) {
+                FunctionCounter.builder("uploads.rejected", admissionService, service -> service.getRejectedCount(reason))
+                        .tag("reason", reason.name())
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder mentorSyncMetrics(MentorSyncService mentorSyncService) {
+        return registry -> {
+            Gauge.builder("mentor.sync.pending", mentorSyncService, MentorSyncService::getPending)
+                    .description("Users waiting in the mentor projection outbox")
+                    .register(registry);
+            Gauge.builder("mentor.sync.lag", mentorSyncService, MentorSyncService::getLagSeconds)
+                    .description("Age of the oldest outbox entry")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("mentor.sync.applied", mentorSyncService, MentorSyncService::getAppliedCount)
+                    .register(registry);
+            FunctionCounter.builder("mentor.sync.removed", mentorSyncService, MentorSyncService::getRemovedCount)
+                    .description("Projections removed for users that are no longer approved mentors")
+                    .register(registry);
+            FunctionCounter.builder("mentor.sync.failed", mentorSyncService, MentorSyncService::getFailedCount)
+                    .register(registry);
+            FunctionCounter.builder("mentor.sync.drift", mentorSyncService, MentorSyncService::getDriftedCount)
+                    .description("Stale or missing projections found by reconciliation")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder mentorMatchMetrics(MentorMatchService mentorMatchService) {
+        return registry -> {
+            Gauge.builder("mentor.match.index.size", mentorMatchService, MentorMatchService::getIndexSize)
+                    .description("Mentors in the in-memory match index")
+                    .register(registry);
+            Gauge.builder("mentor.match.index.age", mentorMatchService, MentorMatchService::getIndexAgeSeconds)
+                    .description("Time since the match index was rebuilt")
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder similarExperienceMetrics(SimilarExperienceService similarExperienceService) {
+        return registry -> {
+            Gauge.builder("experience.similar.index.size", similarExperienceService, SimilarExperienceService::getIndexSize)
+                    .description("Experiences in the in-memory similarity index")
+                    .register(registry);
+            Gauge.builder("experience.similar.index.terms", similarExperienceService, SimilarExperienceService::getVocabularySize)
+                    .description("Distinct terms in the similarity index")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder questionBankMetrics(QuestionBankService questionBankService) {
+        return registry -> {
+            Gauge.builder("questions.bank.size", questionBankService, QuestionBankService::getSize)
+                    .description("Question documents written by the last question bank rebuild")
+                    .register(registry);
+            Gauge.builder("questions.bank.age", questionBankService, QuestionBankService::getAgeSeconds)
+                    .description("Time since the question bank was rebuilt")
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder dashboardStatsMetrics(DashboardStatsService dashboardStatsService) {
+        return registry -> FunctionCounter.builder("admin.dashboard.drift", dashboardStatsService,
+                        DashboardStatsService::getDriftedCount)
+                .description("Counter corrections made by reconciliation")
+                .register(registry);
+    }
+}
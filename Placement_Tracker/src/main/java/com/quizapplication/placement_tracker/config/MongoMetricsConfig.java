@@ -0,0 +1,46 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.monitoring.MongoCommandMetrics;
+import com.quizapplication.placement_tracker.monitoring.QueryPlanSampler;
+import com.quizapplication.placement_tracker.monitoring.RepositoryInvocationContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactoryBean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class MongoMetricsConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MongoCommandMetrics commandMetrics,
+                                                                           ObjectProvider<QueryPlanSampler> queryPlanSampler) {
+        return settings -> {
+            settings.addCommandListener(commandMetrics);
+            // Only present with mongo.explain.enabled=true
+            queryPlanSampler.ifAvailable(settings::addCommandListener);
+        };
+    }
+
+    /**
+     * Tags each repository call so slow commands can be traced back to the method that issued them
+     */
+    @Bean
+    public static BeanPostProcessor repositoryInvocationTracking() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Reactive repository methods return before any command runs, so there is nothing to time on this thread
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                        && !(bean instanceof ReactiveMongoRepositoryFactoryBean<?, ?, ?>)) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    RepositoryInvocationContext.interceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
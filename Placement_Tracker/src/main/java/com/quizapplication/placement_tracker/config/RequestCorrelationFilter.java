@@ -0,0 +1,93 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.monitoring.RequestTrace;
+import com.quizapplication.placement_tracker.monitoring.RequestTraceRecorder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every API request a correlation ID: the caller's X-Request-Id if it is a sensible token, otherwise
+ * a new one. The ID is echoed in the response, put in the logging MDC for the request's duration and used
+ * to key the request's {@link RequestTrace}, which is handed to the recorder when the request completes.
+ */
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    // Caller-supplied IDs end up in logs; refuse anything that could forge or break a log line
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    private final RequestTraceRecorder recorder;
+
+    public RequestCorrelationFilter(RequestTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = newRequestId();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(RequestTrace.REQUEST_ID_MDC_KEY, requestId);
+        RequestTrace trace = RequestTrace.begin(requestId, request.getMethod(), request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming and other async responses: the request ends when the async work completes
+                trace.detach();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        MDC.put(RequestTrace.REQUEST_ID_MDC_KEY, trace.getRequestId());
+                        try {
+                            complete(trace, request, response);
+                        } finally {
+                            MDC.remove(RequestTrace.REQUEST_ID_MDC_KEY);
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                complete(trace, request, response);
+            }
+            MDC.remove(RequestTrace.REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    private void complete(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        trace.end(route != null ? route.toString() : request.getRequestURI(), response.getStatus());
+        recorder.record(trace);
+    }
+
+    private static String newRequestId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x", random.nextLong());
+    }
+}
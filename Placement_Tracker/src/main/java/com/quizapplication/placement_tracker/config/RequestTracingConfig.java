@@ -0,0 +1,22 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.monitoring.RequestTraceRecorder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RequestTracingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestCorrelationFilter> requestCorrelationFilter(RequestTraceRecorder recorder) {
+        FilterRegistrationBean<RequestCorrelationFilter> registration =
+                new FilterRegistrationBean<>(new RequestCorrelationFilter(recorder));
+        registration.addUrlPatterns("/api/*");
+        registration.setName("requestCorrelationFilter");
+        // First, so rejections by the upload, download and diagnostics filters are correlated too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
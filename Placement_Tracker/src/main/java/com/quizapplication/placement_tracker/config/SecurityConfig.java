@@ -1,5 +1,7 @@
 package com.quizapplication.placement_tracker.config;
 
+import com.quizapplication.placement_tracker.monitoring.TracingPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,8 +10,30 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * BCrypt log rounds; each increment doubles the cost of every login and registration
+     */
+    @Value("${app.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Hashes allowed to run at once in virtual-thread mode; 0 means half the available processors
+     */
+    @Value("${app.security.max-concurrent-hashes:0}")
+    private int maxConcurrentHashes;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        PasswordEncoder encoder = new BCryptPasswordEncoder(bcryptStrength);
+        if (virtualThreads) {
+            int permits = maxConcurrentHashes > 0
+                    ? maxConcurrentHashes
+                    : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            encoder = new BoundedPasswordEncoder(encoder, permits);
+        }
+        return new TracingPasswordEncoder(encoder);
     }
 }
@@ -0,0 +1,72 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+/**
+ * Rejects download requests without a valid, unexpired signature before they reach the dispatcher
+ * servlet, on both the signed path and the stored attachment path. Only the HMAC is checked here -
+ * no database or session access.
+ */
+public class SignedDownloadFilter extends OncePerRequestFilter {
+
+    private final DownloadUrlSigner signer;
+    // Decoded like the controller's @PathVariable, so both check the same file name
+    private final UrlPathHelper pathHelper = new UrlPathHelper();
+
+    public SignedDownloadFilter(DownloadUrlSigner signer) {
+        this.signer = signer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = pathHelper.getPathWithinApplication(request);
+        String prefix = path.startsWith(DownloadUrlSigner.ATTACHMENT_PATH_PREFIX)
+                ? DownloadUrlSigner.ATTACHMENT_PATH_PREFIX
+                : DownloadUrlSigner.SIGNED_PATH_PREFIX;
+        String fileName = path.startsWith(prefix) ? path.substring(prefix.length()) : "";
+
+        if (fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") || fileName.contains("..")) {
+            reject(request, response, prefix, HttpServletResponse.SC_BAD_REQUEST, "Invalid file name");
+            return;
+        }
+
+        long expires;
+        try {
+            expires = Long.parseLong(request.getParameter("expires"));
+        } catch (NumberFormatException e) {
+            reject(request, response, prefix, HttpServletResponse.SC_FORBIDDEN, "Missing or invalid download signature");
+            return;
+        }
+
+        if (!signer.isValid(fileName, expires, request.getParameter("signature"))) {
+            reject(request, response, prefix, HttpServletResponse.SC_FORBIDDEN, "Download link is invalid or has expired");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String prefix, int status,
+                        String message) throws IOException {
+        // Report rejections under the route template rather than as an unmapped request
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.setPathPattern(prefix + "{filename}"));
+        response.setStatus(status);
+        // Never let the proxy cache a rejection for a URL that may become valid (e.g. clock skew)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
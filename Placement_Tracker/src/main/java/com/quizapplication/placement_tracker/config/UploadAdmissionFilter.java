@@ -0,0 +1,82 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.UploadAdmissionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs before the multipart body is parsed, so rejected uploads are answered with a fast
+ * 503 + Retry-After instead of tying up a request thread while the body streams to disk.
+ * The per-user limit (off unless file.upload.max-per-user is set) is keyed by client address, never by
+ * anything the client asserts about itself.
+ * Behind a reverse proxy the address is taken from X-Forwarded-For by Tomcat's RemoteIpValve, and only
+ * when the proxy matches server.tomcat.remoteip.internal-proxies; otherwise every upload arrives from
+ * the proxy's address and shares one key.
+ */
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String UPLOAD_ROUTE = "/api/files/upload";
+
+    private final UploadAdmissionService admissionService;
+    private final long retryAfterSeconds;
+
+    public UploadAdmissionFilter(UploadAdmissionService admissionService, long retryAfterSeconds) {
+        this.admissionService = admissionService;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        UploadAdmissionService.Admission admission;
+        try {
+            admission = admissionService.admit(request.getRemoteAddr(), request.getContentLengthLong());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(request, response, "Upload interrupted");
+            return;
+        }
+
+        if (!admission.isAdmitted()) {
+            reject(request, response, switch (admission.rejection()) {
+                case LOW_DISK_SPACE -> "Uploads are temporarily unavailable, please try again later";
+                case PER_USER_LIMIT -> "You already have an upload in progress, please wait for it to finish";
+                default -> "The server is busy processing other uploads, please try again shortly";
+            });
+            return;
+        }
+
+        boolean success = false;
+        try {
+            chain.doFilter(request, response);
+            success = response.getStatus() < 400;
+        } finally {
+            admission.ticket().release(success, request.getContentLengthLong());
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String message) throws IOException {
+        // Report rejections under the upload route rather than as an unmapped request
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.setPathPattern(UPLOAD_ROUTE));
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // The body has not been read; ask the client to drop the connection rather than drain it
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -1,7 +1,9 @@
 package com.quizapplication.placement_tracker.controller;
 
 import com.quizapplication.placement_tracker.dto.*;
+import com.quizapplication.placement_tracker.entity.UserRole;
 import com.quizapplication.placement_tracker.service.AdminService;
+import com.quizapplication.placement_tracker.service.DashboardStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,9 +22,11 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final DashboardStatsService dashboardStatsService;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, DashboardStatsService dashboardStatsService) {
         this.adminService = adminService;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
     @PostMapping("/login")
@@ -150,6 +154,15 @@ public class AdminController {
         return ResponseEntity.ok(mentors);
     }
 
+    @GetMapping("/dashboard/stats")
+    @Operation(summary = "Dashboard stats",
+            description = "Users by role, pending mentors, experiences, companies and per-department totals, "
+                    + "read from counters maintained on every write")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved stats")
+    public ResponseEntity<DashboardStatsDTO> getDashboardStats() {
+        return ResponseEntity.ok(dashboardStatsService.getStats());
+    }
+
     // User Management APIs (for managing students)
     @GetMapping("/users")
     @Operation(summary = "Get all users", description = "Retrieve list of all users (students)")
@@ -159,6 +172,24 @@ public class AdminController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/users/search")
+    @Operation(summary = "Search users",
+            description = "One page of users, filtered and sorted by the database; unset filters are not applied")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page")
+    public ResponseEntity<PageDTO<UserDTO>> searchUsers(
+            @Parameter(description = "Role") @RequestParam(required = false) UserRole role,
+            @Parameter(description = "Department ID") @RequestParam(required = false) String departmentId,
+            @Parameter(description = "Approval flag") @RequestParam(required = false) Boolean approved,
+            @Parameter(description = "Active flag") @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Name or email prefix (case-insensitive)") @RequestParam(required = false) String search,
+            @Parameter(description = "Sort property: fullName, email, role or createdAt") @RequestParam(defaultValue = "fullName") String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminService.searchUsers(role, departmentId, approved, active, search, sort, direction,
+                page, size));
+    }
+
     @GetMapping("/users/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve user details by ID")
     @ApiResponses(value = {
@@ -196,6 +196,26 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/mentors/batch/approve")
+    @Operation(summary = "Approve mentors in bulk", description = "Approve up to 500 pending mentors in one call; approval emails are queued (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Outcome per mentor ID: APPROVED, ALREADY_APPROVED, NOT_FOUND or NOT_A_MENTOR"),
+            @ApiResponse(responseCode = "400", description = "No IDs or more than 500")
+    })
+    public ResponseEntity<List<MentorDecisionDTO>> approveMentors(@Valid @RequestBody MentorBatchDecisionDTO batch) {
+        return ResponseEntity.ok(authService.approveMentors(batch.getMentorIds()));
+    }
+
+    @PostMapping("/mentors/batch/reject")
+    @Operation(summary = "Reject mentors in bulk", description = "Reject and remove up to 500 mentors in one call; rejection emails are queued (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Outcome per mentor ID: REJECTED, NOT_FOUND or NOT_A_MENTOR"),
+            @ApiResponse(responseCode = "400", description = "No IDs or more than 500")
+    })
+    public ResponseEntity<List<MentorDecisionDTO>> rejectMentors(@Valid @RequestBody MentorBatchDecisionDTO batch) {
+        return ResponseEntity.ok(authService.rejectMentors(batch.getMentorIds()));
+    }
+
     @GetMapping("/mentors/department/{departmentId}")
     @Operation(summary = "Get mentors by department", description = "Retrieve mentors for a specific department")
     @ApiResponses(value = {
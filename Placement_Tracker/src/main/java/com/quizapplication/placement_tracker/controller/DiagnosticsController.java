@@ -0,0 +1,142 @@
+package com.quizapplication.placement_tracker.controller;
+
+import com.quizapplication.placement_tracker.config.DiagnosticsAccessFilter;
+import com.quizapplication.placement_tracker.dto.QueryPlanDTO;
+import com.quizapplication.placement_tracker.dto.RecordingDTO;
+import com.quizapplication.placement_tracker.dto.RequestTraceDTO;
+import com.quizapplication.placement_tracker.dto.StartRecordingDTO;
+import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import com.quizapplication.placement_tracker.monitoring.QueryPlanSampler;
+import com.quizapplication.placement_tracker.monitoring.RequestTraceRecorder;
+import com.quizapplication.placement_tracker.service.FlightRecorderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@Tag(name = "Admin Diagnostics", description = "Flight recordings, query plans and request traces; requires the "
+        + DiagnosticsAccessFilter.TOKEN_HEADER + " header")
+public class DiagnosticsController {
+
+    private final FlightRecorderService flightRecorderService;
+    private final ObjectProvider<QueryPlanSampler> queryPlanSampler;
+    private final RequestTraceRecorder requestTraceRecorder;
+
+    public DiagnosticsController(FlightRecorderService flightRecorderService,
+                                 ObjectProvider<QueryPlanSampler> queryPlanSampler,
+                                 RequestTraceRecorder requestTraceRecorder) {
+        this.flightRecorderService = flightRecorderService;
+        this.queryPlanSampler = queryPlanSampler;
+        this.requestTraceRecorder = requestTraceRecorder;
+    }
+
+    @PostMapping("/jfr")
+    @Operation(summary = "Start recording", description = "Start a JFR recording from the default or profile settings")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Recording started"),
+            @ApiResponse(responseCode = "403", description = "Missing or invalid diagnostics token")
+    })
+    public ResponseEntity<RecordingDTO> startRecording(@Valid @RequestBody(required = false) StartRecordingDTO request) {
+        RecordingDTO recording = flightRecorderService.start(request != null ? request : new StartRecordingDTO());
+        return new ResponseEntity<>(recording, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/jfr")
+    @Operation(summary = "List recordings", description = "Recordings started through this API that have not been downloaded or discarded")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved recordings")
+    public ResponseEntity<List<RecordingDTO>> getRecordings() {
+        return ResponseEntity.ok(flightRecorderService.getRecordings());
+    }
+
+    @PostMapping("/jfr/{id}/stop")
+    @Operation(summary = "Stop and download recording",
+            description = "Stop the recording and stream the .jfr file; open it with JDK Mission Control or 'jfr print'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording file"),
+            @ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    public ResponseEntity<StreamingResponseBody> stopRecording(
+            @Parameter(description = "Recording ID") @PathVariable long id) throws IOException {
+        FlightRecorderService.RecordingFile file = flightRecorderService.stop(id);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file.path(), out);
+            } finally {
+                Files.deleteIfExists(file.path());
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file.path()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString())
+                .body(body);
+    }
+
+    @DeleteMapping("/jfr/{id}")
+    @Operation(summary = "Discard recording", description = "Stop the recording and throw its data away")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Recording discarded"),
+            @ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    public ResponseEntity<Void> discardRecording(@Parameter(description = "Recording ID") @PathVariable long id) {
+        flightRecorderService.discard(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/query-plans")
+    @Operation(summary = "Sampled query plans",
+            description = "Winning plan per repository method and filter shape, collection scans and inefficient plans first, "
+                    + "with a suggested index. Requires mongo.explain.enabled=true")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved query plans"),
+            @ApiResponse(responseCode = "404", description = "Query plan sampling is disabled")
+    })
+    public ResponseEntity<List<QueryPlanDTO>> getQueryPlans() {
+        QueryPlanSampler sampler = queryPlanSampler.getIfAvailable();
+        if (sampler == null) {
+            throw new ResourceNotFoundException("Query plan sampling is disabled (mongo.explain.enabled=false)");
+        }
+        return ResponseEntity.ok(sampler.getPlans());
+    }
+
+    @GetMapping("/requests")
+    @Operation(summary = "Sampled request traces",
+            description = "Recent per-request breakdowns (repository, bcrypt, email, file), newest first. "
+                    + "Slow requests are always kept, others are sampled")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved request traces")
+    public ResponseEntity<List<RequestTraceDTO>> getRequestTraces(
+            @Parameter(description = "Only this route template, e.g. /api/auth/register") @RequestParam(required = false) String route,
+            @Parameter(description = "Only requests at least this slow") @RequestParam(defaultValue = "0") long minDurationMs,
+            @Parameter(description = "Maximum number of traces") @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(requestTraceRecorder.getTraces(route, minDurationMs, limit));
+    }
+
+    @GetMapping("/requests/{requestId}")
+    @Operation(summary = "Request trace by ID", description = "Breakdown of one request by its X-Request-Id, if it was kept")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request trace found"),
+            @ApiResponse(responseCode = "404", description = "Request was not sampled or has been evicted")
+    })
+    public ResponseEntity<RequestTraceDTO> getRequestTrace(
+            @Parameter(description = "X-Request-Id") @PathVariable String requestId) {
+        return ResponseEntity.ok(requestTraceRecorder.getTrace(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("No trace kept for request: " + requestId)));
+    }
+}
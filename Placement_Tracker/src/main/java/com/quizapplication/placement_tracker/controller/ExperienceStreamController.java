@@ -0,0 +1,126 @@
+package com.quizapplication.placement_tracker.controller;
+
+import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.service.ExperienceStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only mirror of the experience browse and search endpoints, served from the reactive driver.
+ * The request thread is released while MongoDB works. With Accept: application/x-ndjson results are written
+ * one JSON document per line as they arrive, at the pace the client reads them; otherwise they are collected
+ * into a JSON array as on the blocking endpoints. Single-item lookups are JSON only.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@Tag(name = "Experience Streaming", description = "Non-blocking, streamable reads of interview and placement experiences")
+public class ExperienceStreamController {
+
+    private final ExperienceStreamService streamService;
+
+    public ExperienceStreamController(ExperienceStreamService streamService) {
+        this.streamService = streamService;
+    }
+
+    @GetMapping("/experiences")
+    @Operation(summary = "Stream all interview experiences", description = "Non-blocking equivalent of GET /api/experiences")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    public Flux<InterviewExperienceDTO> getAllExperiences() {
+        return streamService.getAllExperiences();
+    }
+
+    @GetMapping(value = "/experiences/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get experience by ID", description = "Non-blocking equivalent of GET /api/experiences/{id}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Experience found"),
+            @ApiResponse(responseCode = "404", description = "Experience not found")
+    })
+    public Mono<InterviewExperienceDTO> getExperienceById(
+            @Parameter(description = "Experience ID") @PathVariable String id) {
+        return streamService.getExperienceById(id);
+    }
+
+    @GetMapping("/experiences/department/{departmentId}")
+    @Operation(summary = "Stream experiences by department", description = "Non-blocking equivalent of GET /api/experiences/department/{departmentId}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    public Flux<InterviewExperienceDTO> getExperiencesByDepartment(
+            @Parameter(description = "Department ID") @PathVariable String departmentId) {
+        return streamService.getExperiencesByDepartment(departmentId);
+    }
+
+    @GetMapping("/experiences/search/company")
+    @Operation(summary = "Stream search by company name", description = "Non-blocking equivalent of GET /api/experiences/search/company")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    public Flux<InterviewExperienceDTO> searchByCompany(
+            @Parameter(description = "Company name") @RequestParam String companyName) {
+        return streamService.searchByCompany(companyName);
+    }
+
+    @GetMapping("/experiences/year/{year}")
+    @Operation(summary = "Stream experiences by year", description = "Non-blocking equivalent of GET /api/experiences/year/{year}")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    public Flux<InterviewExperienceDTO> getExperiencesByYear(
+            @Parameter(description = "Placement year") @PathVariable Integer year) {
+        return streamService.getExperiencesByYear(year);
+    }
+
+    @GetMapping("/experiences/mentors")
+    @Operation(summary = "Stream available mentors", description = "Non-blocking equivalent of GET /api/experiences/mentors")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of mentors")
+    public Flux<InterviewExperienceDTO> getMentorsAvailable() {
+        return streamService.getMentorsAvailable();
+    }
+
+    @GetMapping("/experiences/department/{departmentId}/year/{year}")
+    @Operation(summary = "Stream experiences by department and year", description = "Non-blocking equivalent of GET /api/experiences/department/{departmentId}/year/{year}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    public Flux<InterviewExperienceDTO> getExperiencesByDepartmentAndYear(
+            @Parameter(description = "Department ID") @PathVariable String departmentId,
+            @Parameter(description = "Placement year") @PathVariable Integer year) {
+        return streamService.getExperiencesByDepartmentAndYear(departmentId, year);
+    }
+
+    @GetMapping("/placement-experiences")
+    @Operation(summary = "Stream all placement experiences", description = "Non-blocking equivalent of GET /api/placement-experiences, newest first")
+    public Flux<PlacementExperience> getAllPlacementExperiences() {
+        return streamService.getAllPlacementExperiences();
+    }
+
+    @GetMapping(value = "/placement-experiences/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get placement experience by ID", description = "Non-blocking equivalent of GET /api/placement-experiences/{id}")
+    public Mono<PlacementExperience> getPlacementExperienceById(@PathVariable String id) {
+        return streamService.getPlacementExperienceById(id);
+    }
+
+    @GetMapping("/placement-experiences/search/company")
+    @Operation(summary = "Stream placement experiences by company", description = "Non-blocking equivalent of GET /api/placement-experiences/search/company")
+    public Flux<PlacementExperience> searchPlacementsByCompany(@RequestParam String name) {
+        return streamService.searchPlacementsByCompany(name);
+    }
+
+    @GetMapping("/placement-experiences/search/department")
+    @Operation(summary = "Stream placement experiences by department", description = "Non-blocking equivalent of GET /api/placement-experiences/search/department")
+    public Flux<PlacementExperience> searchPlacementsByDepartment(@RequestParam String name) {
+        return streamService.searchPlacementsByDepartment(name);
+    }
+
+    @GetMapping("/placement-experiences/filter/result")
+    @Operation(summary = "Stream placement experiences by result", description = "Non-blocking equivalent of GET /api/placement-experiences/filter/result")
+    public Flux<PlacementExperience> filterPlacementsByResult(@RequestParam String result) {
+        return streamService.getPlacementsByResult(result);
+    }
+}
@@ -1,10 +1,17 @@
 package com.quizapplication.placement_tracker.controller;
 
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
+import com.quizapplication.placement_tracker.monitoring.RequestTrace;
+import com.quizapplication.placement_tracker.monitoring.jfr.FileUploadEvent;
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import com.quizapplication.placement_tracker.service.UploadAdmissionService;
+import com.quizapplication.placement_tracker.service.ZipIntegrityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -18,6 +25,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -30,9 +39,21 @@ public class FileUploadController {
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    private final DownloadUrlSigner downloadUrlSigner;
+    private final UploadAdmissionService uploadAdmissionService;
+    private final ZipIntegrityService zipIntegrityService;
+
+    public FileUploadController(DownloadUrlSigner downloadUrlSigner, UploadAdmissionService uploadAdmissionService,
+                                ZipIntegrityService zipIntegrityService) {
+        this.downloadUrlSigner = downloadUrlSigner;
+        this.uploadAdmissionService = uploadAdmissionService;
+        this.zipIntegrityService = zipIntegrityService;
+    }
+
     @PostMapping("/upload")
     @Operation(summary = "Upload resource file", description = "Upload a ZIP file containing study materials")
     public ResponseEntity<Map<String, Object>> uploadFile(@RequestParam("file") MultipartFile file) {
+        FileUploadEvent event = new FileUploadEvent();
         try {
             if (file.isEmpty()) {
                 return ResponseEntity.badRequest()
@@ -66,14 +87,25 @@ public class FileUploadController {
             Path filePath = uploadPath.resolve(uniqueFilename);
 
             // Save file
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            try (RequestTrace.Scope ignored = RequestTrace.span(RequestTrace.FILE_IO, "store upload")) {
+                Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            event.stored(uniqueFilename, file.getSize());
 
-            // Return file information
+            // Archive integrity is checked in the background; the experience picks up the result
+            zipIntegrityService.submit(uniqueFilename);
+
+            // Return file information; fileUrl is an expiring signed link, ownerToken lets the uploader sign new ones
+            DownloadUrlSigner.SignedUrl signedUrl = downloadUrlSigner.sign(uniqueFilename);
             Map<String, Object> response = new HashMap<>();
             response.put("fileName", originalFilename);
-            response.put("fileUrl", "/api/files/download/" + uniqueFilename);
+            response.put("fileUrl", signedUrl.url());
             response.put("fileSize", file.getSize());
             response.put("uniqueFileName", uniqueFilename);
+            response.put("attachmentStatus", AttachmentStatus.PENDING);
+            response.put("signedUrl", signedUrl.url());
+            response.put("signedUrlExpiresAt", signedUrl.expiresAt().toString());
+            response.put("ownerToken", downloadUrlSigner.ownerToken(uniqueFilename));
 
             return ResponseEntity.ok(response);
 
@@ -83,33 +115,68 @@ public class FileUploadController {
         }
     }
 
+    @GetMapping("/status/{filename:.+}")
+    @Operation(summary = "Get attachment integrity status", description = "PENDING, OK or REJECTED result of the background ZIP check")
+    public ResponseEntity<Map<String, Object>> getAttachmentStatus(@PathVariable String filename) {
+        AttachmentStatus status = zipIntegrityService.statusFor(DownloadUrlSigner.ATTACHMENT_PATH_PREFIX + filename);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("fileName", filename, "attachmentStatus", status));
+    }
+
+    @GetMapping("/upload/metrics")
+    @Operation(summary = "Upload metrics", description = "Upload throughput, in-flight/queued counts and admission rejections")
+    public ResponseEntity<Map<String, Object>> getUploadMetrics() {
+        return ResponseEntity.ok(uploadAdmissionService.getMetrics());
+    }
+
     @GetMapping("/download/{filename:.+}")
-    @Operation(summary = "Download resource file", description = "Download a previously uploaded resource file")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
-        try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+    @Operation(summary = "Download resource file", description = "Download a file by its stored attachment URL; needs the same expires and signature parameters as a signed URL, checked by SignedDownloadFilter")
+    public ResponseEntity<Resource> downloadFile(@PathVariable String filename, @RequestParam long expires) {
+        return downloadSignedFile(filename, expires);
+    }
 
-            if (resource.exists() && resource.isReadable()) {
-                // Get original filename from the stored mapping if available
-                // For now, just return the file with its current name
-                String contentType = Files.probeContentType(filePath);
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
+    @GetMapping("/sign/{filename:.+}")
+    @Operation(summary = "Get signed download URL", description = "Create an expiring, cacheable download URL for an uploaded file. Needs the owner token returned by the upload; other readers get signed links on the experiences that reference the file")
+    public ResponseEntity<Map<String, Object>> signDownloadUrl(@PathVariable String filename,
+                                                               @RequestParam(required = false) String ownerToken) {
+        if (!downloadUrlSigner.isOwner(filename, ownerToken)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Only the uploader of a file can sign links for it"));
+        }
+        Path filePath = resolveInUploadDir(filename);
+        if (filePath == null || !Files.isRegularFile(filePath)) {
+            return ResponseEntity.notFound().build();
+        }
 
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, 
-                                "attachment; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
+        DownloadUrlSigner.SignedUrl signedUrl = downloadUrlSigner.sign(filename);
+        Map<String, Object> response = new HashMap<>();
+        response.put("url", signedUrl.url());
+        response.put("expiresAt", signedUrl.expiresAt().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/signed/{filename:.+}")
+    @Operation(summary = "Download via signed URL", description = "Download a file through a signed URL; the signature is checked by SignedDownloadFilter")
+    public ResponseEntity<Resource> downloadSignedFile(@PathVariable String filename, @RequestParam long expires) {
+        try {
+            Path filePath = resolveInUploadDir(filename);
+            if (filePath == null || !Files.isRegularFile(filePath)) {
                 return ResponseEntity.notFound().build();
             }
+
+            // Stored files are never rewritten (UUID names), so the response can be cached until the link expires
+            long maxAge = Math.max(0, expires - Instant.now().getEpochSecond());
+            Resource resource = new UrlResource(filePath.toUri());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePublic().immutable())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + resource.getFilename() + "\"")
+                    .body(resource);
         } catch (MalformedURLException e) {
             return ResponseEntity.badRequest().build();
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
@@ -120,7 +187,9 @@ public class FileUploadController {
             Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
             
             if (Files.exists(filePath)) {
-                Files.delete(filePath);
+                try (RequestTrace.Scope ignored = RequestTrace.span(RequestTrace.FILE_IO, "delete file")) {
+                    Files.delete(filePath);
+                }
                 return ResponseEntity.ok(Map.of("message", "File deleted successfully"));
             } else {
                 return ResponseEntity.notFound().build();
@@ -130,4 +199,10 @@ public class FileUploadController {
                     .body(Map.of("error", "Failed to delete file: " + e.getMessage()));
         }
     }
+
+    private Path resolveInUploadDir(String filename) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = root.resolve(filename).normalize();
+        return filePath.startsWith(root) ? filePath : null;
+    }
 }
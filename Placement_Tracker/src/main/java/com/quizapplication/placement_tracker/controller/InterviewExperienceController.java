@@ -1,7 +1,9 @@
 package com.quizapplication.placement_tracker.controller;
 
 import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.dto.SimilarExperienceDTO;
 import com.quizapplication.placement_tracker.service.InterviewExperienceService;
+import com.quizapplication.placement_tracker.service.SimilarExperienceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,9 +22,12 @@ import java.util.List;
 public class InterviewExperienceController {
 
     private final InterviewExperienceService experienceService;
+    private final SimilarExperienceService similarExperienceService;
 
-    public InterviewExperienceController(InterviewExperienceService experienceService) {
+    public InterviewExperienceController(InterviewExperienceService experienceService,
+                                         SimilarExperienceService similarExperienceService) {
         this.experienceService = experienceService;
+        this.similarExperienceService = similarExperienceService;
     }
 
     @PostMapping
@@ -57,6 +62,19 @@ public class InterviewExperienceController {
         return ResponseEntity.ok(experience);
     }
 
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "Get similar experiences",
+            description = "Experiences whose questions, problems, rounds and areas to prepare are most alike (TF-IDF cosine similarity)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Similar experiences, most similar first"),
+            @ApiResponse(responseCode = "404", description = "Experience not found")
+    })
+    public ResponseEntity<List<SimilarExperienceDTO>> getSimilarExperiences(
+            @Parameter(description = "Experience ID") @PathVariable String id,
+            @Parameter(description = "Number of experiences to return") @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(similarExperienceService.findSimilar(id, limit));
+    }
+
     @GetMapping("/department/{departmentId}")
     @Operation(summary = "Get experiences by department", description = "Retrieve all interview experiences for a specific department")
     @ApiResponses(value = {
@@ -0,0 +1,57 @@
+package com.quizapplication.placement_tracker.controller;
+
+import com.quizapplication.placement_tracker.dto.MentorDirectoryEntryDTO;
+import com.quizapplication.placement_tracker.dto.MentorMatchDTO;
+import com.quizapplication.placement_tracker.dto.PageDTO;
+import com.quizapplication.placement_tracker.service.MentorDirectoryService;
+import com.quizapplication.placement_tracker.service.MentorMatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/mentors")
+@Tag(name = "Mentor Directory", description = "APIs for finding mentors")
+public class MentorDirectoryController {
+
+    private final MentorDirectoryService mentorDirectoryService;
+    private final MentorMatchService mentorMatchService;
+
+    public MentorDirectoryController(MentorDirectoryService mentorDirectoryService, MentorMatchService mentorMatchService) {
+        this.mentorDirectoryService = mentorDirectoryService;
+        this.mentorMatchService = mentorMatchService;
+    }
+
+    @GetMapping("/directory")
+    @Operation(summary = "Mentor directory",
+            description = "Mentors and willing-to-mentor experience authors, merged by email, ordered by name")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page")
+    public ResponseEntity<PageDTO<MentorDirectoryEntryDTO>> getDirectory(
+            @Parameter(description = "Company name fragment (case-insensitive)") @RequestParam(required = false) String company,
+            @Parameter(description = "Department ID") @RequestParam(required = false) String departmentId,
+            @Parameter(description = "Placement year") @RequestParam(required = false) Integer year,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(mentorDirectoryService.getDirectory(company, departmentId, year, page, size));
+    }
+
+    @GetMapping("/match")
+    @Operation(summary = "Recommended mentors",
+            description = "Best mentors for a target company and the student's department, ranked on company, "
+                    + "department group, placement recency and experiences written")
+    @ApiResponse(responseCode = "200", description = "Mentors, best first")
+    public ResponseEntity<List<MentorMatchDTO>> match(
+            @Parameter(description = "Target company") @RequestParam(required = false) String company,
+            @Parameter(description = "Student's department ID") @RequestParam(required = false) String departmentId,
+            @Parameter(description = "Number of mentors to return") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(mentorMatchService.match(company, departmentId, limit));
+    }
+}
@@ -1,11 +1,17 @@
 package com.quizapplication.placement_tracker.controller;
 
+import com.quizapplication.placement_tracker.dto.PlacementImportResultDTO;
 import com.quizapplication.placement_tracker.entity.PlacementExperience;
 import com.quizapplication.placement_tracker.service.PlacementExperienceService;
+import com.quizapplication.placement_tracker.service.PlacementImportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,6 +21,9 @@ public class PlacementExperienceController {
     @Autowired
     private PlacementExperienceService service;
 
+    @Autowired
+    private PlacementImportService importService;
+
     @GetMapping
     public List<PlacementExperience> getAllExperiences() {
         return service.getAllExperiences();
@@ -32,6 +41,15 @@ public class PlacementExperienceController {
         return service.createExperience(experience);
     }
 
+    // Raw request body rather than multipart, so large files stream past the multipart size limit
+    @PostMapping(value = "/import", consumes = {PlacementImportService.CSV, PlacementImportService.XLSX})
+    // A malformed file is answered 400 by GlobalExceptionHandler (InvalidImportException)
+    public ResponseEntity<PlacementImportResultDTO> importExperiences(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        boolean xlsx = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf(PlacementImportService.XLSX));
+        return ResponseEntity.ok(xlsx ? importService.importXlsx(body) : importService.importCsv(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PlacementExperience> updateExperience(
             @PathVariable String id,
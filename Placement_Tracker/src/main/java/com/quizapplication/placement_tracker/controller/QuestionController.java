@@ -0,0 +1,39 @@
+package com.quizapplication.placement_tracker.controller;
+
+import com.quizapplication.placement_tracker.dto.QuestionDTO;
+import com.quizapplication.placement_tracker.service.QuestionBankService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/questions")
+@Tag(name = "Question Bank", description = "Interview questions collected from shared experiences")
+public class QuestionController {
+
+    private final QuestionBankService questionBankService;
+
+    public QuestionController(QuestionBankService questionBankService) {
+        this.questionBankService = questionBankService;
+    }
+
+    @GetMapping("/top")
+    @Operation(summary = "Most asked questions at a company",
+            description = "Questions from the experiences at the company, with near-duplicate phrasings grouped, "
+                    + "most asked first")
+    @ApiResponse(responseCode = "200", description = "Questions, most asked first")
+    public ResponseEntity<List<QuestionDTO>> getTopQuestions(
+            @Parameter(description = "Company name", required = true) @RequestParam String company,
+            @Parameter(description = "Only count experiences from this placement year") @RequestParam(required = false) Integer year,
+            @Parameter(description = "Number of questions to return") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(questionBankService.getTopQuestions(company, year, limit));
+    }
+}
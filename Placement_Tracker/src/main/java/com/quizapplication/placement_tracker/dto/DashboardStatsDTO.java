@@ -0,0 +1,112 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Admin dashboard totals, maintained as counters")
+public class DashboardStatsDTO {
+
+    @Schema(description = "Registered users of any role", example = "412")
+    private long totalUsers;
+
+    @Schema(description = "Users with the STUDENT role", example = "340")
+    private long students;
+
+    @Schema(description = "Users with the MENTOR role, approved or not", example = "70")
+    private long mentors;
+
+    @Schema(description = "Users with the ADMIN role", example = "2")
+    private long admins;
+
+    @Schema(description = "Mentors waiting for approval", example = "6")
+    private long pendingMentors;
+
+    @Schema(description = "Interview experiences", example = "958")
+    private long experiences;
+
+    @Schema(description = "Companies", example = "121")
+    private long companies;
+
+    @Schema(description = "Users and experiences per department")
+    private List<DepartmentStatsDTO> departments;
+
+    @Schema(description = "When the counters were last recounted from the collections")
+    private LocalDateTime reconciledAt;
+
+    public DashboardStatsDTO() {
+    }
+
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+
+    public void setTotalUsers(long totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+
+    public long getStudents() {
+        return students;
+    }
+
+    public void setStudents(long students) {
+        this.students = students;
+    }
+
+    public long getMentors() {
+        return mentors;
+    }
+
+    public void setMentors(long mentors) {
+        this.mentors = mentors;
+    }
+
+    public long getAdmins() {
+        return admins;
+    }
+
+    public void setAdmins(long admins) {
+        this.admins = admins;
+    }
+
+    public long getPendingMentors() {
+        return pendingMentors;
+    }
+
+    public void setPendingMentors(long pendingMentors) {
+        this.pendingMentors = pendingMentors;
+    }
+
+    public long getExperiences() {
+        return experiences;
+    }
+
+    public void setExperiences(long experiences) {
+        this.experiences = experiences;
+    }
+
+    public long getCompanies() {
+        return companies;
+    }
+
+    public void setCompanies(long companies) {
+        this.companies = companies;
+    }
+
+    public List<DepartmentStatsDTO> getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(List<DepartmentStatsDTO> departments) {
+        this.departments = departments;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
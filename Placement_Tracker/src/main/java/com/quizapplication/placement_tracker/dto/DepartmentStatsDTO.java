@@ -0,0 +1,65 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Users and experiences in one department")
+public class DepartmentStatsDTO {
+
+    @Schema(description = "Department ID", example = "6ad600628e068b4b5e9ce20e")
+    private String departmentId;
+
+    @Schema(description = "Department name", example = "Computer Science and Engineering")
+    private String departmentName;
+
+    @Schema(description = "Department code", example = "CSE")
+    private String departmentCode;
+
+    @Schema(description = "Users in the department", example = "96")
+    private long users;
+
+    @Schema(description = "Interview experiences from the department", example = "240")
+    private long experiences;
+
+    public DepartmentStatsDTO() {
+    }
+
+    public String getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(String departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public String getDepartmentName() {
+        return departmentName;
+    }
+
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+
+    public String getDepartmentCode() {
+        return departmentCode;
+    }
+
+    public void setDepartmentCode(String departmentCode) {
+        this.departmentCode = departmentCode;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public void setUsers(long users) {
+        this.users = users;
+    }
+
+    public long getExperiences() {
+        return experiences;
+    }
+
+    public void setExperiences(long experiences) {
+        this.experiences = experiences;
+    }
+}
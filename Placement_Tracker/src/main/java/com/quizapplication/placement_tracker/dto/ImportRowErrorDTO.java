@@ -0,0 +1,49 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A spreadsheet row that was not imported")
+public class ImportRowErrorDTO {
+
+    @Schema(description = "Row number in the file (the header is row 1)", example = "42")
+    private int row;
+
+    @Schema(description = "Column at fault, if the error is about one cell", example = "companyName")
+    private String column;
+
+    @Schema(description = "What is wrong with the row", example = "Unknown company 'Gogle'")
+    private String message;
+
+    public ImportRowErrorDTO() {
+    }
+
+    public ImportRowErrorDTO(int row, String column, String message) {
+        this.row = row;
+        this.column = column;
+        this.message = message;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public void setColumn(String column) {
+        this.column = column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
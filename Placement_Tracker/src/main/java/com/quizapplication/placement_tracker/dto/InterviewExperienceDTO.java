@@ -1,5 +1,6 @@
 package com.quizapplication.placement_tracker.dto;
 
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
@@ -127,6 +128,13 @@ public class InterviewExperienceDTO {
     @Schema(description = "Attachment file size in bytes (alias)", example = "1048576")
     private Long attachmentSize;
 
+    @Schema(description = "Expiring signed download URL for the attachment", accessMode = Schema.AccessMode.READ_ONLY,
+            example = "/api/files/signed/3f1c...zip?expires=1767225600&signature=...")
+    private String attachmentDownloadUrl;
+
+    @Schema(description = "Integrity check status of the attachment", accessMode = Schema.AccessMode.READ_ONLY, example = "OK")
+    private AttachmentStatus attachmentStatus;
+
     // Constructors
     public InterviewExperienceDTO() {
     }
@@ -453,4 +461,20 @@ public class InterviewExperienceDTO {
             this.resourceFileSize = attachmentSize;
         }
     }
+
+    public String getAttachmentDownloadUrl() {
+        return attachmentDownloadUrl;
+    }
+
+    public void setAttachmentDownloadUrl(String attachmentDownloadUrl) {
+        this.attachmentDownloadUrl = attachmentDownloadUrl;
+    }
+
+    public AttachmentStatus getAttachmentStatus() {
+        return attachmentStatus;
+    }
+
+    public void setAttachmentStatus(AttachmentStatus attachmentStatus) {
+        this.attachmentStatus = attachmentStatus;
+    }
 }
@@ -0,0 +1,24 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Mentors to approve or reject in one call")
+public class MentorBatchDecisionDTO {
+
+    @NotEmpty(message = "At least one mentor ID is required")
+    @Size(max = 500, message = "At most 500 mentors per batch")
+    @Schema(description = "User IDs of the mentors", example = "[\"6ad600628e068b4b5e9ce20e\", \"6ad600628e068b4b5e9ce20f\"]")
+    private List<String> mentorIds;
+
+    public List<String> getMentorIds() {
+        return mentorIds;
+    }
+
+    public void setMentorIds(List<String> mentorIds) {
+        this.mentorIds = mentorIds;
+    }
+}
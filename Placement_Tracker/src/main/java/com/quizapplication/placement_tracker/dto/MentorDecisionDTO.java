@@ -0,0 +1,55 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a batch approval or rejection for one mentor")
+public class MentorDecisionDTO {
+
+    public static final String APPROVED = "APPROVED";
+    public static final String REJECTED = "REJECTED";
+    public static final String ALREADY_APPROVED = "ALREADY_APPROVED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String NOT_A_MENTOR = "NOT_A_MENTOR";
+
+    @Schema(description = "User ID of the mentor", example = "6ad600628e068b4b5e9ce20e")
+    private String mentorId;
+
+    @Schema(description = "APPROVED, REJECTED, ALREADY_APPROVED, NOT_FOUND or NOT_A_MENTOR", example = "APPROVED")
+    private String outcome;
+
+    @Schema(description = "Mentor's email, when the user exists", example = "mentor@example.com")
+    private String email;
+
+    public MentorDecisionDTO() {
+    }
+
+    public MentorDecisionDTO(String mentorId, String outcome, String email) {
+        this.mentorId = mentorId;
+        this.outcome = outcome;
+        this.email = email;
+    }
+
+    public String getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(String mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
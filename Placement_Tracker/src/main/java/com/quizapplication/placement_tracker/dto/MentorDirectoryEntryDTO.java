@@ -0,0 +1,109 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Set;
+
+@Schema(description = "A mentor in the directory, merged from mentor records and willing-to-mentor experiences")
+public class MentorDirectoryEntryDTO {
+
+    @Schema(description = "Contact email (lower-cased); identifies the entry", example = "asha.r@example.com")
+    private String email;
+
+    @Schema(description = "Full name", example = "Asha R")
+    private String fullName;
+
+    @Schema(description = "Phone number", example = "9876543210")
+    private String phoneNumber;
+
+    @Schema(description = "LinkedIn profile URL")
+    private String linkedinProfile;
+
+    @Schema(description = "Company the mentor was placed at", example = "Google")
+    private String placedCompany;
+
+    @Schema(description = "Position at the company", example = "Software Engineer")
+    private String placedPosition;
+
+    @Schema(description = "Year of placement", example = "2024")
+    private Integer placementYear;
+
+    @Schema(description = "Departments the mentor belongs to")
+    private List<DepartmentDTO> departments;
+
+    @Schema(description = "Where the entry came from: MENTOR and/or EXPERIENCE", example = "[\"MENTOR\", \"EXPERIENCE\"]")
+    private Set<String> sources;
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getLinkedinProfile() {
+        return linkedinProfile;
+    }
+
+    public void setLinkedinProfile(String linkedinProfile) {
+        this.linkedinProfile = linkedinProfile;
+    }
+
+    public String getPlacedCompany() {
+        return placedCompany;
+    }
+
+    public void setPlacedCompany(String placedCompany) {
+        this.placedCompany = placedCompany;
+    }
+
+    public String getPlacedPosition() {
+        return placedPosition;
+    }
+
+    public void setPlacedPosition(String placedPosition) {
+        this.placedPosition = placedPosition;
+    }
+
+    public Integer getPlacementYear() {
+        return placementYear;
+    }
+
+    public void setPlacementYear(Integer placementYear) {
+        this.placementYear = placementYear;
+    }
+
+    public List<DepartmentDTO> getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(List<DepartmentDTO> departments) {
+        this.departments = departments;
+    }
+
+    public Set<String> getSources() {
+        return sources;
+    }
+
+    public void setSources(Set<String> sources) {
+        this.sources = sources;
+    }
+}
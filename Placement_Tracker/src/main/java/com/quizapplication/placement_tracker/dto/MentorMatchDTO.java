@@ -0,0 +1,51 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A recommended mentor with its relevance score")
+public class MentorMatchDTO {
+
+    @Schema(description = "The mentor, as listed in the mentor directory")
+    private MentorDirectoryEntryDTO mentor;
+
+    @Schema(description = "Relevance from 0 to 1; higher is better", example = "0.87")
+    private double score;
+
+    @Schema(description = "Why the mentor was recommended", example = "[\"Placed at Google\", \"Same department\", \"Placed in 2024\"]")
+    private List<String> reasons;
+
+    public MentorMatchDTO() {
+    }
+
+    public MentorMatchDTO(MentorDirectoryEntryDTO mentor, double score, List<String> reasons) {
+        this.mentor = mentor;
+        this.score = score;
+        this.reasons = reasons;
+    }
+
+    public MentorDirectoryEntryDTO getMentor() {
+        return mentor;
+    }
+
+    public void setMentor(MentorDirectoryEntryDTO mentor) {
+        this.mentor = mentor;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getReasons() {
+        return reasons;
+    }
+
+    public void setReasons(List<String> reasons) {
+        this.reasons = reasons;
+    }
+}
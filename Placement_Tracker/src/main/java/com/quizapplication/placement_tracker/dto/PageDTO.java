@@ -0,0 +1,75 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of a server-side paginated listing")
+public class PageDTO<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> content;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Number of items across all pages", example = "137")
+    private long totalElements;
+
+    @Schema(description = "Number of pages", example = "7")
+    private int totalPages;
+
+    public PageDTO() {
+    }
+
+    public PageDTO(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+}
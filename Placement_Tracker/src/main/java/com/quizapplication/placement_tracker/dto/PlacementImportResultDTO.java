@@ -0,0 +1,98 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk placement experience import")
+public class PlacementImportResultDTO {
+
+    @Schema(description = "Data rows read, not counting the header and blank rows", example = "5000")
+    private int totalRows;
+
+    @Schema(description = "Rows stored as placement experiences", example = "4987")
+    private int imported;
+
+    @Schema(description = "Rows rejected by validation or by the database", example = "13")
+    private int failed;
+
+    @Schema(description = "Per-row errors, in file order")
+    private List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+    @Schema(description = "Whether more errors occurred than are listed")
+    private boolean errorsTruncated;
+
+    @Schema(description = "Whether the file had more rows than import.max-rows; the rest were not read")
+    private boolean rowLimitReached;
+
+    @Schema(description = "Header columns that do not map to a placement experience field")
+    private List<String> ignoredColumns = new ArrayList<>();
+
+    @Schema(description = "Wall-clock time of the import in milliseconds", example = "1830")
+    private long durationMs;
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public boolean isRowLimitReached() {
+        return rowLimitReached;
+    }
+
+    public void setRowLimitReached(boolean rowLimitReached) {
+        this.rowLimitReached = rowLimitReached;
+    }
+
+    public List<String> getIgnoredColumns() {
+        return ignoredColumns;
+    }
+
+    public void setIgnoredColumns(List<String> ignoredColumns) {
+        this.ignoredColumns = ignoredColumns;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,133 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Winning plan of a sampled repository query")
+public class QueryPlanDTO {
+
+    @Schema(description = "Repository method that issued the query", example = "UserRepository.findByRoleAndIsApproved")
+    private String repositoryMethod;
+
+    @Schema(description = "Collection queried", example = "users")
+    private String collection;
+
+    @Schema(description = "Filter with literal values replaced by ?", example = "{role: ?, isApproved: ?}")
+    private String filterShape;
+
+    @Schema(description = "Stages of the winning plan, leaf first", example = "IXSCAN(role_1_isApproved_1) > FETCH")
+    private String winningPlan;
+
+    @Schema(description = "Whether the winning plan scans the whole collection")
+    private boolean collectionScan;
+
+    @Schema(description = "Documents examined by the explained execution")
+    private long docsExamined;
+
+    @Schema(description = "Index keys examined by the explained execution")
+    private long keysExamined;
+
+    @Schema(description = "Documents returned by the explained execution")
+    private long returned;
+
+    @Schema(description = "COLLSCAN or EXAMINED_TOO_MANY when the plan needs attention")
+    private String alert;
+
+    @Schema(description = "Index that would serve the query, with notes for conditions no index can serve", example = "db.users.createIndex({role: 1, isApproved: 1})")
+    private String suggestedIndex;
+
+    @Schema(description = "When the query was last explained")
+    private Instant explainedAt;
+
+    public QueryPlanDTO() {
+    }
+
+    public String getRepositoryMethod() {
+        return repositoryMethod;
+    }
+
+    public void setRepositoryMethod(String repositoryMethod) {
+        this.repositoryMethod = repositoryMethod;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public String getFilterShape() {
+        return filterShape;
+    }
+
+    public void setFilterShape(String filterShape) {
+        this.filterShape = filterShape;
+    }
+
+    public String getWinningPlan() {
+        return winningPlan;
+    }
+
+    public void setWinningPlan(String winningPlan) {
+        this.winningPlan = winningPlan;
+    }
+
+    public boolean isCollectionScan() {
+        return collectionScan;
+    }
+
+    public void setCollectionScan(boolean collectionScan) {
+        this.collectionScan = collectionScan;
+    }
+
+    public long getDocsExamined() {
+        return docsExamined;
+    }
+
+    public void setDocsExamined(long docsExamined) {
+        this.docsExamined = docsExamined;
+    }
+
+    public long getKeysExamined() {
+        return keysExamined;
+    }
+
+    public void setKeysExamined(long keysExamined) {
+        this.keysExamined = keysExamined;
+    }
+
+    public long getReturned() {
+        return returned;
+    }
+
+    public void setReturned(long returned) {
+        this.returned = returned;
+    }
+
+    public String getAlert() {
+        return alert;
+    }
+
+    public void setAlert(String alert) {
+        this.alert = alert;
+    }
+
+    public String getSuggestedIndex() {
+        return suggestedIndex;
+    }
+
+    public void setSuggestedIndex(String suggestedIndex) {
+        this.suggestedIndex = suggestedIndex;
+    }
+
+    public Instant getExplainedAt() {
+        return explainedAt;
+    }
+
+    public void setExplainedAt(Instant explainedAt) {
+        this.explainedAt = explainedAt;
+    }
+}
@@ -0,0 +1,79 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "A question from the question bank, with how often it was asked at a company")
+public class QuestionDTO {
+
+    @Schema(description = "Most common phrasing of the question", example = "Reverse a linked list")
+    private String text;
+
+    @Schema(description = "Other phrasings of the same question", example = "[\"How do you reverse a singly linked list?\"]")
+    private List<String> variants;
+
+    @Schema(description = "Company name", example = "Amazon")
+    private String companyName;
+
+    @Schema(description = "Experiences at the company that mention the question (in the given year, if one was requested)", example = "12")
+    private int count;
+
+    @Schema(description = "Experiences per placement year", example = "{\"2024\": 7, \"2025\": 5}")
+    private Map<String, Integer> countsByYear;
+
+    @Schema(description = "Experiences at any company that mention the question", example = "40")
+    private int totalCount;
+
+    public QuestionDTO() {
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public List<String> getVariants() {
+        return variants;
+    }
+
+    public void setVariants(List<String> variants) {
+        this.variants = variants;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Map<String, Integer> getCountsByYear() {
+        return countsByYear;
+    }
+
+    public void setCountsByYear(Map<String, Integer> countsByYear) {
+        this.countsByYear = countsByYear;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+}
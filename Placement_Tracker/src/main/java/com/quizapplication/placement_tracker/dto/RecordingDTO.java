@@ -0,0 +1,89 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "A Java Flight Recorder recording started through the diagnostics API")
+public class RecordingDTO {
+
+    @Schema(description = "Recording ID, used to stop or discard it", example = "3")
+    private long id;
+
+    @Schema(description = "Recording name", example = "slow-dashboard")
+    private String name;
+
+    @Schema(description = "NEW, DELAYED, RUNNING, STOPPED or CLOSED", example = "RUNNING")
+    private String state;
+
+    @Schema(description = "JDK settings the recording started from", example = "profile")
+    private String settings;
+
+    @Schema(description = "Start time")
+    private Instant startTime;
+
+    @Schema(description = "Seconds after which the recording stops by itself", example = "300")
+    private Long durationSeconds;
+
+    @Schema(description = "Size of the data recorded so far, in bytes")
+    private long size;
+
+    public RecordingDTO() {
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,54 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One timed piece of work within a request")
+public class RequestSpanDTO {
+
+    @Schema(description = "repository, bcrypt, email or file", example = "repository")
+    private String category;
+
+    @Schema(description = "What was timed, e.g. the repository method", example = "UserRepository.existsByEmail")
+    private String name;
+
+    @Schema(description = "Start, in milliseconds after the request started", example = "1.42")
+    private double offsetMs;
+
+    @Schema(description = "Duration in milliseconds", example = "3.08")
+    private double durationMs;
+
+    public RequestSpanDTO() {
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getOffsetMs() {
+        return offsetMs;
+    }
+
+    public void setOffsetMs(double offsetMs) {
+        this.offsetMs = offsetMs;
+    }
+
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+}
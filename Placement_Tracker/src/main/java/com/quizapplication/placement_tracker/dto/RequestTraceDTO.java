@@ -0,0 +1,135 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Per-request time breakdown sampled by the request tracer")
+public class RequestTraceDTO {
+
+    @Schema(description = "X-Request-Id of the request", example = "5f1c2a9be0d34c77")
+    private String requestId;
+
+    @Schema(description = "HTTP method", example = "POST")
+    private String method;
+
+    @Schema(description = "Request path", example = "/api/auth/register")
+    private String path;
+
+    @Schema(description = "Matched route template", example = "/api/auth/register")
+    private String route;
+
+    @Schema(description = "Response status", example = "201")
+    private int status;
+
+    @Schema(description = "When the request started")
+    private Instant startTime;
+
+    @Schema(description = "Total request time in milliseconds", example = "312.4")
+    private double durationMs;
+
+    @Schema(description = "Milliseconds spent per category (repository, bcrypt, email, file)")
+    private Map<String, Double> timeByCategoryMs;
+
+    @Schema(description = "Number of spans per category")
+    private Map<String, Integer> callsByCategory;
+
+    @Schema(description = "Individual spans in start order")
+    private List<RequestSpanDTO> spans;
+
+    @Schema(description = "Spans left out of the list once the per-request limit was reached; still counted in the totals")
+    private int droppedSpans;
+
+    public RequestTraceDTO() {
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public Map<String, Double> getTimeByCategoryMs() {
+        return timeByCategoryMs;
+    }
+
+    public void setTimeByCategoryMs(Map<String, Double> timeByCategoryMs) {
+        this.timeByCategoryMs = timeByCategoryMs;
+    }
+
+    public Map<String, Integer> getCallsByCategory() {
+        return callsByCategory;
+    }
+
+    public void setCallsByCategory(Map<String, Integer> callsByCategory) {
+        this.callsByCategory = callsByCategory;
+    }
+
+    public List<RequestSpanDTO> getSpans() {
+        return spans;
+    }
+
+    public void setSpans(List<RequestSpanDTO> spans) {
+        this.spans = spans;
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public void setDroppedSpans(int droppedSpans) {
+        this.droppedSpans = droppedSpans;
+    }
+}
@@ -0,0 +1,97 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "An interview experience similar to the one being viewed")
+public class SimilarExperienceDTO {
+
+    @Schema(description = "Experience ID", example = "6ad600628e068b4b5e9ce20e")
+    private String id;
+
+    @Schema(description = "Student name", example = "Priya K")
+    private String studentName;
+
+    @Schema(description = "Company name", example = "Zoho")
+    private String companyName;
+
+    @Schema(description = "Position", example = "Member Technical Staff")
+    private String position;
+
+    @Schema(description = "Year of placement", example = "2024")
+    private Integer yearOfPlacement;
+
+    @Schema(description = "Final result", example = "Selected")
+    private String finalResult;
+
+    @Schema(description = "Cosine similarity of the interview text, 0 to 1", example = "0.42")
+    private double score;
+
+    @Schema(description = "Most significant words both experiences mention", example = "[\"dp\", \"knapsack\", \"joins\"]")
+    private List<String> sharedTerms;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+    }
+
+    public Integer getYearOfPlacement() {
+        return yearOfPlacement;
+    }
+
+    public void setYearOfPlacement(Integer yearOfPlacement) {
+        this.yearOfPlacement = yearOfPlacement;
+    }
+
+    public String getFinalResult() {
+        return finalResult;
+    }
+
+    public void setFinalResult(String finalResult) {
+        this.finalResult = finalResult;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getSharedTerms() {
+        return sharedTerms;
+    }
+
+    public void setSharedTerms(List<String> sharedTerms) {
+        this.sharedTerms = sharedTerms;
+    }
+}
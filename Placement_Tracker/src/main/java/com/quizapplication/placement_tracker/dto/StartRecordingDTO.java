@@ -0,0 +1,77 @@
+package com.quizapplication.placement_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.Map;
+
+@Schema(description = "Options for starting a Java Flight Recorder recording")
+public class StartRecordingDTO {
+
+    @Pattern(regexp = "[A-Za-z0-9._-]{1,64}", message = "Name may only contain letters, digits, '.', '_' and '-'")
+    @Schema(description = "Recording name, also used for the downloaded file", example = "slow-dashboard")
+    private String name;
+
+    @Schema(description = "JDK settings to start from: default (~1% overhead) or profile (more detail, ~2%)",
+            example = "profile", defaultValue = "default")
+    private String settings = "default";
+
+    @Min(value = 1, message = "Duration must be at least 1 second")
+    @Schema(description = "Stop automatically after this many seconds; capped at diagnostics.jfr.max-duration-minutes",
+            example = "300")
+    private Long durationSeconds;
+
+    @Min(value = 1, message = "Max size must be at least 1 MB")
+    @Max(value = 1024, message = "Max size must be at most 1024 MB")
+    @Schema(description = "Oldest data is discarded once the recording exceeds this size (MB)", example = "100")
+    private Integer maxSizeMb;
+
+    @Schema(description = "Individual event settings overriding the chosen settings",
+            example = "{\"jdk.ObjectAllocationSample#throttle\": \"300/s\", \"placementtracker.EmailSend#threshold\": \"100 ms\"}")
+    private Map<String, String> overrides;
+
+    public StartRecordingDTO() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public Integer getMaxSizeMb() {
+        return maxSizeMb;
+    }
+
+    public void setMaxSizeMb(Integer maxSizeMb) {
+        this.maxSizeMb = maxSizeMb;
+    }
+
+    public Map<String, String> getOverrides() {
+        return overrides;
+    }
+
+    public void setOverrides(Map<String, String> overrides) {
+        this.overrides = overrides;
+    }
+}
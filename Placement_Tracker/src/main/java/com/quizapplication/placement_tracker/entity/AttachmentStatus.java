@@ -0,0 +1,7 @@
+package com.quizapplication.placement_tracker.entity;
+
+public enum AttachmentStatus {
+    PENDING,    // Uploaded, integrity check not finished yet
+    OK,         // Archive read completely, CRCs and limits verified
+    REJECTED    // Corrupt archive or exceeds entry/expansion limits
+}
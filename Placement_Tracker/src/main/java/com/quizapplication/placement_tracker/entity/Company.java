@@ -4,7 +4,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Document(collection = "companies")
 public class Company {
@@ -25,7 +24,8 @@ public class Company {
 
     private String headquarters;
 
-    private List<String> interviewExperienceIds;
+    // Maintained with $inc as experiences are linked and unlinked (InterviewExperience.companyId)
+    private long experienceCount;
 
     private LocalDateTime createdAt;
 
@@ -95,12 +95,12 @@ public class Company {
         this.headquarters = headquarters;
     }
 
-    public List<String> getInterviewExperienceIds() {
-        return interviewExperienceIds;
+    public long getExperienceCount() {
+        return experienceCount;
     }
 
-    public void setInterviewExperienceIds(List<String> interviewExperienceIds) {
-        this.interviewExperienceIds = interviewExperienceIds;
+    public void setExperienceCount(long experienceCount) {
+        this.experienceCount = experienceCount;
     }
 
     public LocalDateTime getCreatedAt() {
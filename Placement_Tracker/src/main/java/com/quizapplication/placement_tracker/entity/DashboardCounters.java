@@ -0,0 +1,65 @@
+package com.quizapplication.placement_tracker.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The admin dashboard totals as one document, kept current with $inc on every write that changes them and
+ * recounted periodically by {@link com.quizapplication.placement_tracker.service.DashboardStatsService}
+ */
+@Document(collection = "dashboard_counters")
+public class DashboardCounters {
+
+    public static final String GLOBAL_ID = "global";
+
+    public static final String STUDENTS = "students";
+    public static final String MENTORS = "mentors";
+    public static final String ADMINS = "admins";
+    public static final String PENDING_MENTORS = "pendingMentors";
+    public static final String EXPERIENCES = "experiences";
+    public static final String COMPANIES = "companies";
+
+    @Id
+    private String id;
+
+    // Counter name -> value, so an increment is a single $inc on counts.<name>
+    private Map<String, Long> counts = new LinkedHashMap<>();
+
+    // Last recount from the collections
+    private LocalDateTime reconciledAt;
+
+    public DashboardCounters() {
+    }
+
+    public long get(String counter) {
+        return counts.getOrDefault(counter, 0L);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Long> counts) {
+        this.counts = counts;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -5,8 +5,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
-import java.util.List;
-
 @Document(collection = "departments")
 public class Department {
 
@@ -23,11 +21,12 @@ public class Department {
 
     private DepartmentGroup departmentGroup;
 
+    // Maintained with $inc on create/delete; the members are found through their indexed departmentId
     @JsonIgnore
-    private List<String> interviewExperienceIds;
+    private long experienceCount;
 
     @JsonIgnore
-    private List<String> userIds;
+    private long userCount;
 
     public Department() {
     }
@@ -78,19 +77,19 @@ public class Department {
         this.departmentGroup = departmentGroup;
     }
 
-    public List<String> getInterviewExperienceIds() {
-        return interviewExperienceIds;
+    public long getExperienceCount() {
+        return experienceCount;
     }
 
-    public void setInterviewExperienceIds(List<String> interviewExperienceIds) {
-        this.interviewExperienceIds = interviewExperienceIds;
+    public void setExperienceCount(long experienceCount) {
+        this.experienceCount = experienceCount;
     }
 
-    public List<String> getUserIds() {
-        return userIds;
+    public long getUserCount() {
+        return userCount;
     }
 
-    public void setUserIds(List<String> userIds) {
-        this.userIds = userIds;
+    public void setUserCount(long userCount) {
+        this.userCount = userCount;
     }
 }
@@ -2,6 +2,7 @@ package com.quizapplication.placement_tracker.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -25,6 +26,7 @@ public class InterviewExperience {
     private String companyName;
 
     @JsonIgnore
+    @Indexed
     private String companyId;
 
     @JsonIgnore
@@ -35,6 +37,7 @@ public class InterviewExperience {
     private Integer yearOfPlacement;
 
     @JsonIgnore
+    @Indexed
     private String departmentId;
     
     private String salary;
@@ -91,6 +94,8 @@ public class InterviewExperience {
     private Long resourceFileSize;
     private Long attachmentSize; // alias for resourceFileSize
 
+    private AttachmentStatus attachmentStatus;
+
     // Constructors
     public InterviewExperience() {
         if (submittedAt == null) {
@@ -413,6 +418,14 @@ public class InterviewExperience {
         }
     }
 
+    public AttachmentStatus getAttachmentStatus() {
+        return attachmentStatus;
+    }
+
+    public void setAttachmentStatus(AttachmentStatus attachmentStatus) {
+        this.attachmentStatus = attachmentStatus;
+    }
+
     public String getCompanyId() {
         return companyId;
     }
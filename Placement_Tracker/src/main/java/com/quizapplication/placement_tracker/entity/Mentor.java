@@ -37,6 +37,10 @@ public class Mentor {
 
     private Boolean isActive = true;
 
+    // Set on mentors projected from a mentor user account; null for mentors an admin added directly
+    @Indexed
+    private String userId;
+
     // Constructors
     public Mentor() {
         if (createdAt == null) {
@@ -147,4 +151,12 @@ public class Mentor {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
 }
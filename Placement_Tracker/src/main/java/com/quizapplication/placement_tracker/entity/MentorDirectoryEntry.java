@@ -0,0 +1,99 @@
+package com.quizapplication.placement_tracker.entity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One person in the mentor directory, merged by email from the mentors collection (admin-created mentors and
+ * approved mentor users) and from experiences whose author is willing to mentor. Not stored; produced by
+ * {@link com.quizapplication.placement_tracker.repository.MentorDirectoryRepository}.
+ */
+public class MentorDirectoryEntry {
+
+    public static final String SOURCE_MENTOR = "MENTOR";
+    public static final String SOURCE_EXPERIENCE = "EXPERIENCE";
+
+    private String email;
+    private String fullName;
+    private String phoneNumber;
+    private String linkedinProfile;
+    private String placedCompany;
+    private String placedPosition;
+    private Integer placementYear;
+    private List<String> departmentIds = new ArrayList<>();
+    private Set<String> sources = new LinkedHashSet<>();
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getLinkedinProfile() {
+        return linkedinProfile;
+    }
+
+    public void setLinkedinProfile(String linkedinProfile) {
+        this.linkedinProfile = linkedinProfile;
+    }
+
+    public String getPlacedCompany() {
+        return placedCompany;
+    }
+
+    public void setPlacedCompany(String placedCompany) {
+        this.placedCompany = placedCompany;
+    }
+
+    public String getPlacedPosition() {
+        return placedPosition;
+    }
+
+    public void setPlacedPosition(String placedPosition) {
+        this.placedPosition = placedPosition;
+    }
+
+    public Integer getPlacementYear() {
+        return placementYear;
+    }
+
+    public void setPlacementYear(Integer placementYear) {
+        this.placementYear = placementYear;
+    }
+
+    public List<String> getDepartmentIds() {
+        return departmentIds;
+    }
+
+    public void setDepartmentIds(List<String> departmentIds) {
+        this.departmentIds = departmentIds;
+    }
+
+    public Set<String> getSources() {
+        return sources;
+    }
+
+    public void setSources(Set<String> sources) {
+        this.sources = sources;
+    }
+}
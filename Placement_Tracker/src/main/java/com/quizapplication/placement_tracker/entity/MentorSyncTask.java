@@ -0,0 +1,78 @@
+package com.quizapplication.placement_tracker.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry asking for a user's mentor projection to be (re)applied. Keyed by user id, so repeated
+ * changes to one user collapse into a single pending task; the projection is rebuilt from the user as it
+ * is when the task runs.
+ */
+@Document(collection = "mentor_sync_outbox")
+public class MentorSyncTask {
+
+    @Id
+    private String userId;
+
+    @Indexed
+    private LocalDateTime enqueuedAt;
+
+    @Indexed
+    private LocalDateTime nextAttemptAt;
+
+    private int attempts;
+
+    private String lastError;
+
+    public MentorSyncTask() {
+    }
+
+    public MentorSyncTask(String userId, LocalDateTime enqueuedAt) {
+        this.userId = userId;
+        this.enqueuedAt = enqueuedAt;
+        this.nextAttemptAt = enqueuedAt;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public void setEnqueuedAt(LocalDateTime enqueuedAt) {
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
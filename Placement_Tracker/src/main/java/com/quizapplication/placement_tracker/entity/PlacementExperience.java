@@ -1,6 +1,7 @@
 package com.quizapplication.placement_tracker.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
@@ -58,6 +59,11 @@ public class PlacementExperience {
     
     private Long attachmentSize; // File size in bytes
 
+    private AttachmentStatus attachmentStatus; // Result of the async ZIP integrity check
+
+    @Transient
+    private String attachmentDownloadUrl; // Expiring signed link, filled in per response and never stored
+
     // ============ STATUS ============
     private String finalResult; // SELECTED, REJECTED, PENDING
 
@@ -272,4 +278,20 @@ public class PlacementExperience {
     public void setAttachmentSize(Long attachmentSize) {
         this.attachmentSize = attachmentSize;
     }
+
+    public AttachmentStatus getAttachmentStatus() {
+        return attachmentStatus;
+    }
+
+    public void setAttachmentStatus(AttachmentStatus attachmentStatus) {
+        this.attachmentStatus = attachmentStatus;
+    }
+
+    public String getAttachmentDownloadUrl() {
+        return attachmentDownloadUrl;
+    }
+
+    public void setAttachmentDownloadUrl(String attachmentDownloadUrl) {
+        this.attachmentDownloadUrl = attachmentDownloadUrl;
+    }
 }
@@ -0,0 +1,123 @@
+package com.quizapplication.placement_tracker.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One question from the question bank as asked at one company: a cluster of near-duplicate phrasings
+ * taken from the experiences' questionsAsked, with how many experiences at that company mention it.
+ * The collection is rebuilt by {@link com.quizapplication.placement_tracker.service.QuestionBankService}.
+ */
+@Document(collection = "questions")
+@CompoundIndex(name = "company_count", def = "{ 'companyKey': 1, 'count': -1 }")
+public class Question {
+
+    // Cluster key and company key, so a rebuild overwrites the same question in place
+    @Id
+    private String id;
+
+    // The most common phrasing in the cluster
+    private String text;
+
+    private List<String> variants = new ArrayList<>();
+
+    // Lower-cased company name without legal suffixes
+    private String companyKey;
+
+    private String companyName;
+
+    // Experiences at this company that mention the question
+    private int count;
+
+    // Placement year -> experiences that year; keys are strings, as MongoDB field names must be
+    private Map<String, Integer> countsByYear = new LinkedHashMap<>();
+
+    // Experiences at any company that mention the question
+    private int totalCount;
+
+    @Indexed
+    private LocalDateTime builtAt;
+
+    public Question() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public List<String> getVariants() {
+        return variants;
+    }
+
+    public void setVariants(List<String> variants) {
+        this.variants = variants;
+    }
+
+    public String getCompanyKey() {
+        return companyKey;
+    }
+
+    public void setCompanyKey(String companyKey) {
+        this.companyKey = companyKey;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Map<String, Integer> getCountsByYear() {
+        return countsByYear;
+    }
+
+    public void setCountsByYear(Map<String, Integer> countsByYear) {
+        this.countsByYear = countsByYear;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public void setBuiltAt(LocalDateTime builtAt) {
+        this.builtAt = builtAt;
+    }
+}
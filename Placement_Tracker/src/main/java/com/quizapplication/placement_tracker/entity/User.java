@@ -2,10 +2,24 @@ package com.quizapplication.placement_tracker.entity;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import java.time.LocalDateTime;
 
 @Document(collection = "users")
+// Admin user listing: case-insensitive, like the queries in UserQueryRepositoryImpl, so name/email prefixes
+// and name sorts are index ranges
+@CompoundIndexes({
+        @CompoundIndex(name = "role_department_name", def = "{ 'role': 1, 'departmentId': 1, 'fullName': 1 }",
+                collation = "{ 'locale': 'en', 'strength': 2 }"),
+        @CompoundIndex(name = "department_name", def = "{ 'departmentId': 1, 'fullName': 1 }",
+                collation = "{ 'locale': 'en', 'strength': 2 }"),
+        @CompoundIndex(name = "role_approval_created", def = "{ 'role': 1, 'isApproved': 1, 'createdAt': -1 }",
+                collation = "{ 'locale': 'en', 'strength': 2 }"),
+        @CompoundIndex(name = "name_ci", def = "{ 'fullName': 1 }", collation = "{ 'locale': 'en', 'strength': 2 }"),
+        @CompoundIndex(name = "email_ci", def = "{ 'email': 1 }", collation = "{ 'locale': 'en', 'strength': 2 }")
+})
 public class User {
 
     @Id
@@ -20,6 +34,7 @@ public class User {
 
     private UserRole role;
 
+    @Indexed
     private String departmentId;
 
     private String rollNumber;
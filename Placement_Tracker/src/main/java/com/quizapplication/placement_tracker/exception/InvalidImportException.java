@@ -0,0 +1,7 @@
+package com.quizapplication.placement_tracker.exception;
+
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,178 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Mongo command per collection and command name, and records documents returned and
+ * bytes sent/received. Commands slower than mongo.slow-query.threshold-ms are logged with the
+ * repository method that issued them and the sanitized filter shape.
+ */
+@Component
+@Slf4j
+public class MongoCommandMetrics implements CommandListener {
+
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+
+    // Commands in flight, keyed by the driver's request id; completion events do not carry the collection
+    private final Map<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Meters>> meters = new ConcurrentHashMap<>();
+
+    public MongoCommandMetrics(MeterRegistry registry,
+                               @Value("${mongo.slow-query.threshold-ms:100}") long slowThresholdMillis) {
+        this.registry = registry;
+        this.slowThresholdNanos = slowThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String commandName = event.getCommandName();
+        // The command document is only valid during this callback, so capture everything needed now
+        Started started = new Started(
+                collectionOf(commandName, command),
+                commandName,
+                RepositoryInvocationContext.current(),
+                slowThresholdNanos != Long.MAX_VALUE ? MongoFilterSanitizer.filterShape(commandName, command) : null);
+        inFlight.put(event.getRequestId(), started);
+        metersFor(started).sent.record(sizeOf(command));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        BsonDocument response = event.getResponse();
+        int documents = documentsIn(response);
+        Meters commandMeters = metersFor(started);
+        commandMeters.success.record(nanos, TimeUnit.NANOSECONDS);
+        commandMeters.received.record(sizeOf(response));
+        commandMeters.documents.record(documents);
+        if (nanos >= slowThresholdNanos) {
+            logSlow(started, nanos, "returned " + documents + " document(s)");
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        metersFor(started).failure.record(nanos, TimeUnit.NANOSECONDS);
+        if (nanos >= slowThresholdNanos) {
+            logSlow(started, nanos, "failed: " + event.getThrowable().getMessage());
+        }
+    }
+
+    private void logSlow(Started started, long nanos, String outcome) {
+        log.warn("Slow Mongo command: {}.{} took {} ms and {} [repository: {}, filter: {}]",
+                started.collection(), started.commandName(), TimeUnit.NANOSECONDS.toMillis(nanos), outcome,
+                started.repositoryMethod() != null ? started.repositoryMethod() : "n/a",
+                started.filterShape() != null ? started.filterShape() : "n/a");
+    }
+
+    private Meters metersFor(Started started) {
+        return meters.computeIfAbsent(started.collection(), collection -> new ConcurrentHashMap<>())
+                .computeIfAbsent(started.commandName(), commandName -> new Meters(registry, started.collection(), commandName));
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : "none";
+    }
+
+    /**
+     * Documents returned by a query batch, or affected by a write
+     */
+    private static int documentsIn(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            if (batch == null) {
+                batch = cursor.asDocument().get("nextBatch");
+            }
+            return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().intValue() : 0;
+    }
+
+    /**
+     * Encoded size of a document. Documents read off the wire expose their length prefix directly;
+     * others (e.g. inserts with document sequences) are encoded to measure them.
+     */
+    private static int sizeOf(BsonDocument document) {
+        if (document instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = document.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binaryReader) {
+                return binaryReader.getBsonInput().readInt32();
+            }
+        }
+        return new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+
+    private record Started(String collection, String commandName, String repositoryMethod, String filterShape) {
+    }
+
+    private static final class Meters {
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary documents;
+        private final DistributionSummary sent;
+        private final DistributionSummary received;
+
+        private Meters(MeterRegistry registry, String collection, String commandName) {
+            success = timer(registry, collection, commandName, "success");
+            failure = timer(registry, collection, commandName, "failure");
+            documents = DistributionSummary.builder("mongo.command.documents")
+                    .description("Documents returned or affected per command")
+                    .tags("collection", collection, "command", commandName)
+                    .register(registry);
+            sent = bytes(registry, collection, commandName, "sent");
+            received = bytes(registry, collection, commandName, "received");
+        }
+
+        private static Timer timer(MeterRegistry registry, String collection, String commandName, String status) {
+            return Timer.builder("mongo.commands")
+                    .description("Mongo command latency")
+                    .tags("collection", collection, "command", commandName, "status", status)
+                    .register(registry);
+        }
+
+        private static DistributionSummary bytes(MeterRegistry registry, String collection, String commandName, String direction) {
+            return DistributionSummary.builder("mongo.command.size")
+                    .description("Encoded size of Mongo commands and replies")
+                    .baseUnit("bytes")
+                    .tags("collection", collection, "command", commandName, "direction", direction)
+                    .register(registry);
+        }
+    }
+}
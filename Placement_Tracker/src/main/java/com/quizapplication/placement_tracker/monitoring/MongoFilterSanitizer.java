@@ -0,0 +1,82 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+
+/**
+ * Reduces a Mongo command to the shape of its filter: field names and operators are kept,
+ * every literal value becomes "?". Safe to log - no emails, OTPs or tokens survive - and
+ * identical queries with different arguments produce the same string.
+ */
+final class MongoFilterSanitizer {
+
+    private static final int MAX_LENGTH = 512;
+
+    private MongoFilterSanitizer() {
+    }
+
+    /**
+     * Filter shape of a command, or null if the command has no filter
+     */
+    static String filterShape(String commandName, BsonDocument command) {
+        BsonValue filter = switch (commandName) {
+            case "find" -> command.get("filter");
+            case "count", "distinct", "findAndModify" -> command.get("query");
+            case "aggregate" -> command.get("pipeline");
+            case "update" -> firstStatementField(command, "updates", "q");
+            case "delete" -> firstStatementField(command, "deletes", "q");
+            default -> null;
+        };
+        if (filter == null) {
+            return null;
+        }
+        StringBuilder shape = new StringBuilder(64);
+        append(shape, filter, true);
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) + "..." : shape.toString();
+    }
+
+    private static BsonValue firstStatementField(BsonDocument command, String statementsKey, String field) {
+        BsonValue statements = command.get(statementsKey);
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue first = statements.asArray().get(0);
+        return first.isDocument() ? first.asDocument().get(field) : null;
+    }
+
+    private static void append(StringBuilder shape, BsonValue value, boolean structural) {
+        if (value.isDocument()) {
+            shape.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    shape.append(", ");
+                }
+                first = false;
+                shape.append(entry.getKey()).append(": ");
+                append(shape, entry.getValue(), isLogicalOperator(entry.getKey()));
+            }
+            shape.append('}');
+        } else if (value.isArray() && structural) {
+            // $and/$or/$nor clauses and pipeline stages keep their structure; value lists ($in) do not
+            BsonArray array = value.asArray();
+            shape.append('[');
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    shape.append(", ");
+                }
+                append(shape, array.get(i), true);
+            }
+            shape.append(']');
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private static boolean isLogicalOperator(String key) {
+        return "$and".equals(key) || "$or".equals(key) || "$nor".equals(key);
+    }
+}
@@ -0,0 +1,215 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads explain("executionStats") output and proposes indexes for the filters behind bad plans.
+ * Index suggestions follow the equality-sort-range rule: equality fields first, then the sort,
+ * then range conditions.
+ */
+final class QueryPlanAnalyzer {
+
+    private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in");
+
+    private QueryPlanAnalyzer() {
+    }
+
+    record PlanSummary(String winningPlan, boolean collectionScan, long docsExamined, long keysExamined, long returned) {
+    }
+
+    /**
+     * The filter a read command applies, or null if it has none. Aggregations count only when they start with $match.
+     */
+    static BsonDocument filterOf(String commandName, BsonDocument command) {
+        BsonValue filter = switch (commandName) {
+            case "find" -> command.get("filter");
+            case "count", "distinct" -> command.get("query");
+            case "aggregate" -> firstStage(command, "$match");
+            default -> null;
+        };
+        return filter != null && filter.isDocument() ? filter.asDocument() : null;
+    }
+
+    static BsonDocument sortOf(String commandName, BsonDocument command) {
+        BsonValue sort = switch (commandName) {
+            case "find" -> command.get("sort");
+            case "aggregate" -> firstStage(command, "$sort");
+            default -> null;
+        };
+        return sort != null && sort.isDocument() ? sort.asDocument() : null;
+    }
+
+    static PlanSummary summarize(BsonDocument explain) {
+        BsonDocument source = explain;
+        // Aggregations that are not fully pushed down report the query plan under their first ($cursor) stage
+        if (!explain.containsKey("queryPlanner") && explain.get("stages") instanceof BsonArray stages
+                && !stages.isEmpty() && stages.get(0).isDocument()) {
+            source = document(stages.get(0).asDocument(), "$cursor");
+        }
+        BsonDocument winningPlan = document(document(source, "queryPlanner"), "winningPlan");
+        if (winningPlan.containsKey("queryPlan")) {
+            // Slot-based engine (MongoDB 7+) nests the classic plan tree
+            winningPlan = document(winningPlan, "queryPlan");
+        }
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+
+        BsonDocument stats = document(source, "executionStats");
+        return new PlanSummary(
+                stages.isEmpty() ? "unknown" : String.join(" > ", stages),
+                stages.stream().anyMatch(stage -> stage.startsWith("COLLSCAN")),
+                number(stats, "totalDocsExamined"),
+                number(stats, "totalKeysExamined"),
+                number(stats, "nReturned"));
+    }
+
+    /**
+     * An index that would serve the filter and sort, as a createIndex call, plus notes for the
+     * conditions no index can serve
+     */
+    static String suggestIndex(String collection, BsonDocument filter, BsonDocument sort) {
+        Map<String, Integer> equality = new LinkedHashMap<>();
+        Map<String, Integer> range = new LinkedHashMap<>();
+        List<String> notes = new ArrayList<>();
+        classify(filter, equality, range, notes);
+
+        Map<String, Integer> keys = new LinkedHashMap<>(equality);
+        if (sort != null) {
+            for (Map.Entry<String, BsonValue> field : sort.entrySet()) {
+                int direction = field.getValue().isNumber() && field.getValue().asNumber().intValue() < 0 ? -1 : 1;
+                keys.putIfAbsent(field.getKey(), direction);
+            }
+        }
+        range.forEach(keys::putIfAbsent);
+
+        StringBuilder suggestion = new StringBuilder();
+        if (!keys.isEmpty()) {
+            suggestion.append("db.").append(collection).append(".createIndex({");
+            boolean first = true;
+            for (Map.Entry<String, Integer> key : keys.entrySet()) {
+                suggestion.append(first ? "" : ", ").append(key.getKey()).append(": ").append(key.getValue());
+                first = false;
+            }
+            suggestion.append("})");
+        }
+        for (String note : notes) {
+            suggestion.append(suggestion.isEmpty() ? "" : "; ").append(note);
+        }
+        return suggestion.isEmpty() ? null : suggestion.toString();
+    }
+
+    private static void classify(BsonDocument filter, Map<String, Integer> equality, Map<String, Integer> range,
+                                 List<String> notes) {
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            String field = entry.getKey();
+            BsonValue value = entry.getValue();
+            if ("$and".equals(field) && value.isArray()) {
+                for (BsonValue clause : value.asArray()) {
+                    if (clause.isDocument()) {
+                        classify(clause.asDocument(), equality, range, notes);
+                    }
+                }
+            } else if ("$or".equals(field)) {
+                notes.add("each $or clause needs an index of its own");
+            } else if (field.startsWith("$")) {
+                notes.add(field + " cannot use a regular index");
+            } else if (value.isRegularExpression()) {
+                regex(field, value.asRegularExpression().getPattern(), value.asRegularExpression().getOptions(), range, notes);
+            } else if (value.isDocument() && isOperatorDocument(value.asDocument())) {
+                BsonDocument operators = value.asDocument();
+                if (operators.containsKey("$regex")) {
+                    BsonValue pattern = operators.get("$regex");
+                    String options = operators.containsKey("$options") ? operators.getString("$options").getValue()
+                            : pattern.isRegularExpression() ? pattern.asRegularExpression().getOptions() : "";
+                    regex(field, pattern.isString() ? pattern.asString().getValue()
+                            : pattern.asRegularExpression().getPattern(), options, range, notes);
+                } else if (EQUALITY_OPERATORS.containsAll(operators.keySet())) {
+                    equality.putIfAbsent(field, 1);
+                } else {
+                    range.putIfAbsent(field, 1);
+                }
+            } else {
+                equality.putIfAbsent(field, 1);
+            }
+        }
+    }
+
+    private static void regex(String field, String pattern, String options, Map<String, Integer> range, List<String> notes) {
+        if (pattern.startsWith("^") && !options.contains("i")) {
+            // A case-sensitive prefix match scans a bounded index range
+            range.putIfAbsent(field, 1);
+        } else {
+            notes.add("no index can bound an unanchored or case-insensitive regex on " + field
+                    + "; query a normalized (e.g. lowercase) copy of it by prefix, or use a text index");
+        }
+    }
+
+    private static boolean isOperatorDocument(BsonDocument document) {
+        return !document.isEmpty() && document.getFirstKey().startsWith("$");
+    }
+
+    private static void collectStages(BsonDocument node, List<String> stages) {
+        if (node.get("inputStage") instanceof BsonDocument input) {
+            collectStages(input, stages);
+        }
+        if (node.get("inputStages") instanceof BsonArray inputs) {
+            for (BsonValue input : inputs) {
+                if (input.isDocument()) {
+                    collectStages(input.asDocument(), stages);
+                }
+            }
+        }
+        if (node.get("outerStage") instanceof BsonDocument outer) {
+            collectStages(outer, stages);
+        }
+        if (node.get("innerStage") instanceof BsonDocument inner) {
+            collectStages(inner, stages);
+        }
+        if (node.get("stage") instanceof BsonValue stage && stage.isString()) {
+            String name = stage.asString().getValue();
+            stages.add(node.get("indexName") instanceof BsonValue index && index.isString()
+                    ? name + "(" + index.asString().getValue() + ")"
+                    : name);
+        }
+    }
+
+    /**
+     * A leading pipeline stage; only a leading $match, and a $sort right after it, can use an index
+     */
+    private static BsonValue firstStage(BsonDocument command, String stageName) {
+        if (!(command.get("pipeline") instanceof BsonArray pipeline)) {
+            return null;
+        }
+        int candidates = "$sort".equals(stageName) ? 2 : 1;
+        for (int i = 0; i < Math.min(candidates, pipeline.size()); i++) {
+            if (!pipeline.get(i).isDocument()) {
+                return null;
+            }
+            BsonDocument stage = pipeline.get(i).asDocument();
+            if (stage.containsKey(stageName)) {
+                return stage.get(stageName);
+            }
+            if (!stage.containsKey("$match")) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static BsonDocument document(BsonDocument parent, String key) {
+        return parent.get(key) instanceof BsonDocument child ? child : new BsonDocument();
+    }
+
+    private static long number(BsonDocument document, String key) {
+        BsonValue value = document.get(key);
+        return value != null && value.isNumber() ? value.asNumber().longValue() : 0;
+    }
+}
@@ -0,0 +1,197 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.quizapplication.placement_tracker.dto.QueryPlanDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in (mongo.explain.enabled) COLLSCAN detector for staging. Filtered reads issued through a repository
+ * are explained with executionStats on a background thread: every distinct repository method and filter
+ * shape the first time it runs, then a sample of later executions at most once per interval. The winning
+ * plan is kept per method and shape; collection scans and plans examining far more documents than they
+ * return are counted (mongo.query.plan.alerts) and logged with a suggested index.
+ * <p>
+ * Each explain executes the query again, so this is meant for staging, not production.
+ */
+@Component
+@ConditionalOnProperty(name = "mongo.explain.enabled", havingValue = "true")
+@Slf4j
+public class QueryPlanSampler implements CommandListener {
+
+    private static final Set<String> EXPLAINABLE = Set.of("find", "count", "distinct", "aggregate");
+    // Session, transaction and routing fields the driver adds; explain takes the bare command
+    private static final Set<String> DRIVER_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction",
+            "apiVersion", "apiStrict", "apiDeprecationErrors", "readConcern");
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final MeterRegistry registry;
+    private final double sampleRate;
+    private final long intervalNanos;
+    private final double examinedRatioThreshold;
+    private final long minDocsExamined;
+    private final ThreadPoolExecutor explainer;
+
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final Map<String, QueryPlanDTO> plans = new ConcurrentHashMap<>();
+
+    public QueryPlanSampler(ObjectProvider<MongoClient> mongoClient, MeterRegistry registry,
+                            @Value("${mongo.explain.sample-rate:0.05}") double sampleRate,
+                            @Value("${mongo.explain.min-interval-seconds:600}") long minIntervalSeconds,
+                            @Value("${mongo.explain.examined-ratio-threshold:100}") double examinedRatioThreshold,
+                            @Value("${mongo.explain.min-docs-examined:1000}") long minDocsExamined) {
+        this.mongoClient = mongoClient;
+        this.registry = registry;
+        this.sampleRate = sampleRate;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(minIntervalSeconds);
+        this.examinedRatioThreshold = examinedRatioThreshold;
+        this.minDocsExamined = minDocsExamined;
+        this.explainer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(32),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mongo-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String repositoryMethod = RepositoryInvocationContext.current();
+        String commandName = event.getCommandName();
+        if (repositoryMethod == null || !EXPLAINABLE.contains(commandName)) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        BsonDocument filter = QueryPlanAnalyzer.filterOf(commandName, command);
+        if (filter == null || filter.isEmpty()) {
+            // Unfiltered reads (findAll, count) scan the collection on purpose
+            return;
+        }
+        String filterShape = MongoFilterSanitizer.filterShape(commandName, command);
+        String key = repositoryMethod + " " + filterShape;
+        if (!claim(key)) {
+            return;
+        }
+
+        // The command document is only valid during this callback, so explain a copy
+        BsonDocument explainable = new BsonDocument();
+        command.clone().forEach((field, value) -> {
+            if (!field.startsWith("$") && !DRIVER_FIELDS.contains(field)) {
+                explainable.put(field, value);
+            }
+        });
+        String database = event.getDatabaseName();
+        try {
+            explainer.execute(() -> explain(key, repositoryMethod, filterShape, database, commandName, explainable));
+        } catch (RejectedExecutionException e) {
+            lastExplained.remove(key);
+        }
+    }
+
+    /**
+     * Latest plan per repository method and filter shape, alerts first
+     */
+    public List<QueryPlanDTO> getPlans() {
+        return plans.values().stream()
+                .sorted(Comparator.comparing((QueryPlanDTO plan) -> plan.getAlert() == null)
+                        .thenComparing(QueryPlanDTO::getRepositoryMethod)
+                        .thenComparing(QueryPlanDTO::getFilterShape))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+
+    private boolean claim(String key) {
+        long now = System.nanoTime();
+        Long last = lastExplained.get(key);
+        if (last == null) {
+            return lastExplained.putIfAbsent(key, now) == null;
+        }
+        if (now - last < intervalNanos || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        return lastExplained.replace(key, last, now);
+    }
+
+    private void explain(String key, String repositoryMethod, String filterShape, String database, String commandName,
+                         BsonDocument command) {
+        String collection = command.get(commandName).isString() ? command.getString(commandName).getValue() : "none";
+        QueryPlanAnalyzer.PlanSummary summary;
+        try {
+            BsonDocument result = mongoClient.getObject().getDatabase(database).runCommand(
+                    new BsonDocument("explain", command).append("verbosity", new BsonString("executionStats")),
+                    BsonDocument.class);
+            summary = QueryPlanAnalyzer.summarize(result);
+        } catch (RuntimeException e) {
+            log.warn("Could not explain {} on {}: {}", repositoryMethod, collection, e.getMessage());
+            return;
+        }
+        Counter.builder("mongo.query.plans.explained")
+                .description("Repository queries explained by the query plan sampler")
+                .tag("method", repositoryMethod)
+                .register(registry)
+                .increment();
+
+        String alert = null;
+        if (summary.collectionScan()) {
+            alert = "COLLSCAN";
+        } else if (summary.docsExamined() >= minDocsExamined
+                && summary.docsExamined() > examinedRatioThreshold * Math.max(1, summary.returned())) {
+            alert = "EXAMINED_TOO_MANY";
+        }
+
+        QueryPlanDTO plan = new QueryPlanDTO();
+        plan.setRepositoryMethod(repositoryMethod);
+        plan.setCollection(collection);
+        plan.setFilterShape(filterShape);
+        plan.setWinningPlan(summary.winningPlan());
+        plan.setCollectionScan(summary.collectionScan());
+        plan.setDocsExamined(summary.docsExamined());
+        plan.setKeysExamined(summary.keysExamined());
+        plan.setReturned(summary.returned());
+        plan.setAlert(alert);
+        plan.setExplainedAt(Instant.now());
+        if (alert != null) {
+            plan.setSuggestedIndex(QueryPlanAnalyzer.suggestIndex(collection,
+                    QueryPlanAnalyzer.filterOf(commandName, command), QueryPlanAnalyzer.sortOf(commandName, command)));
+            Counter.builder("mongo.query.plan.alerts")
+                    .description("Explained repository queries with a collection scan or a poor examined/returned ratio")
+                    .tags("method", repositoryMethod, "collection", collection, "reason", alert)
+                    .register(registry)
+                    .increment();
+            log.warn("Query plan alert {}: {} on {} {} ran {} and examined {} document(s) / {} key(s) to return {}. Suggested: {}",
+                    alert, repositoryMethod, collection, filterShape, summary.winningPlan(), summary.docsExamined(),
+                    summary.keysExamined(), summary.returned(),
+                    plan.getSuggestedIndex() != null ? plan.getSuggestedIndex() : "n/a");
+        } else {
+            log.debug("Query plan for {} {}: {}", repositoryMethod, filterShape, summary.winningPlan());
+        }
+        plans.put(key, plan);
+    }
+}
@@ -0,0 +1,64 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which repository method the current thread is executing, e.g. "UserRepository.findByEmail",
+ * so lower layers such as the Mongo command listener can attribute their work to it. Outermost calls
+ * are also timed as "repository" spans of the current {@link RequestTrace}.
+ * The synchronous Mongo driver publishes command events on the calling thread, which makes a
+ * thread-local sufficient.
+ */
+public final class RepositoryInvocationContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryInvocationContext() {
+    }
+
+    /**
+     * The repository method running on this thread, or null outside repository calls
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Interceptor added to every repository proxy. Method labels are computed once per method.
+     */
+    public static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+        return new Interceptor(repositoryInterface.getSimpleName());
+    }
+
+    private static final class Interceptor implements MethodInterceptor {
+        private final String repositoryName;
+        private final Map<Method, String> labels = new ConcurrentHashMap<>();
+
+        private Interceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String label = labels.computeIfAbsent(invocation.getMethod(), method -> repositoryName + "." + method.getName());
+            String outer = CURRENT.get();
+            CURRENT.set(label);
+            // Only the outermost call is a span; nested calls are part of its time
+            try (RequestTrace.Scope ignored = outer == null ? RequestTrace.span(RequestTrace.REPOSITORY, label) : null) {
+                return invocation.proceed();
+            } finally {
+                // Repositories may call each other (e.g. default methods); restore the outer label
+                if (outer == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(outer);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import org.slf4j.MDC;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process spans for one HTTP request: where its time went across repository calls, password hashing,
+ * email and file I/O. A trace is bound to the request thread by {@link #begin}; {@link #span} is a no-op
+ * on threads without one (schedulers, background workers, benchmarks).
+ */
+public final class RequestTrace {
+
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    public static final String REPOSITORY = "repository";
+    public static final String PASSWORD_HASH = "bcrypt";
+    public static final String EMAIL = "email";
+    public static final String FILE_IO = "file";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP = () -> {
+    };
+    // Totals stay exact past this; only the individual spans are dropped
+    private static final int MAX_SPANS = 200;
+
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<Span> spans = new ArrayList<>();
+    private final Map<String, Total> totals = new LinkedHashMap<>();
+    private int droppedSpans;
+    private String route;
+    private int status;
+    private long durationNanos;
+
+    private RequestTrace(String requestId, String method, String path) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+    }
+
+    public static RequestTrace begin(String requestId, String method, String path) {
+        RequestTrace trace = new RequestTrace(requestId, method, path);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Times the enclosed work against the current request, if any. Use with try-with-resources.
+     */
+    public static Scope span(String category, String name) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return NOOP;
+        }
+        long start = System.nanoTime();
+        return () -> trace.record(category, name, start, System.nanoTime());
+    }
+
+    /**
+     * Wraps a task handed to another thread so its log lines carry the submitting request's MDC
+     * (request ID). Spans are not carried over: background work is not part of the request's latency.
+     */
+    public static Runnable propagate(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null || context.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(context);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+
+    public void end(String route, int status) {
+        this.durationNanos = System.nanoTime() - startNanos;
+        this.route = route;
+        this.status = status;
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Unbinds the trace from this thread while the request carries on asynchronously; {@link #end} is
+     * then called from whichever thread completes it
+     */
+    public void detach() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    private void record(String category, String name, long start, long end) {
+        Total total = totals.computeIfAbsent(category, key -> new Total());
+        total.count++;
+        total.nanos += end - start;
+        if (spans.size() < MAX_SPANS) {
+            spans.add(new Span(category, name, start - startNanos, end - start));
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    public Map<String, Total> getTotals() {
+        return Collections.unmodifiableMap(totals);
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    /**
+     * Closes a span without a checked exception
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public record Span(String category, String name, long offsetNanos, long durationNanos) {
+    }
+
+    public static final class Total {
+        private int count;
+        private long nanos;
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
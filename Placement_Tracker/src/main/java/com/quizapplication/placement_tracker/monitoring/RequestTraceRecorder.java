@@ -0,0 +1,135 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import com.quizapplication.placement_tracker.dto.RequestSpanDTO;
+import com.quizapplication.placement_tracker.dto.RequestTraceDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Publishes finished request traces. Requests slower than tracing.log-threshold-ms are logged at INFO with
+ * their breakdown (every request at DEBUG); with structured logging (logging.structured.format.console) the
+ * per-category times are separate fields. Slow requests, plus a sample of the rest, are kept in a fixed-size
+ * ring buffer for the admin diagnostics API.
+ */
+@Component
+@Slf4j
+public class RequestTraceRecorder {
+
+    private final long logThresholdNanos;
+    private final double sampleRate;
+    private final AtomicReferenceArray<RequestTraceDTO> buffer;
+    private final AtomicLong written = new AtomicLong();
+
+    public RequestTraceRecorder(@Value("${tracing.log-threshold-ms:500}") long logThresholdMillis,
+                                @Value("${tracing.buffer.capacity:256}") int capacity,
+                                @Value("${tracing.buffer.sample-rate:0.1}") double sampleRate) {
+        this.logThresholdNanos = TimeUnit.MILLISECONDS.toNanos(logThresholdMillis);
+        this.sampleRate = sampleRate;
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    public void record(RequestTrace trace) {
+        boolean slow = trace.getDurationNanos() >= logThresholdNanos;
+        Level level = slow ? Level.INFO : Level.DEBUG;
+        if (log.isEnabledForLevel(level)) {
+            log(trace, level);
+        }
+        if (slow || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            buffer.set((int) (written.getAndIncrement() % buffer.length()), toDTO(trace));
+        }
+    }
+
+    /**
+     * Buffered traces, newest first
+     */
+    public List<RequestTraceDTO> getTraces(String route, long minDurationMs, int limit) {
+        List<RequestTraceDTO> traces = new ArrayList<>();
+        long newest = written.get() - 1;
+        for (long i = newest; i >= 0 && i > newest - buffer.length() && traces.size() < limit; i--) {
+            RequestTraceDTO trace = buffer.get((int) (i % buffer.length()));
+            if (trace != null && trace.getDurationMs() >= minDurationMs
+                    && (route == null || route.equals(trace.getRoute()))) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    public Optional<RequestTraceDTO> getTrace(String requestId) {
+        for (int i = 0; i < buffer.length(); i++) {
+            RequestTraceDTO trace = buffer.get(i);
+            if (trace != null && trace.getRequestId().equals(requestId)) {
+                return Optional.of(trace);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void log(RequestTrace trace, Level level) {
+        StringBuilder breakdown = new StringBuilder();
+        LoggingEventBuilder event = log.atLevel(level)
+                .addKeyValue("method", trace.getMethod())
+                .addKeyValue("route", trace.getRoute())
+                .addKeyValue("status", trace.getStatus())
+                .addKeyValue("durationMs", millis(trace.getDurationNanos()));
+        for (Map.Entry<String, RequestTrace.Total> total : trace.getTotals().entrySet()) {
+            double categoryMillis = millis(total.getValue().getNanos());
+            event = event.addKeyValue(total.getKey() + "Ms", categoryMillis)
+                    .addKeyValue(total.getKey() + "Calls", total.getValue().getCount());
+            breakdown.append(breakdown.isEmpty() ? "" : ", ")
+                    .append(total.getKey()).append(' ').append(categoryMillis).append(" ms (")
+                    .append(total.getValue().getCount()).append(')');
+        }
+        event.log("{} {} {} in {} ms: {}", trace.getMethod(), trace.getRoute(), trace.getStatus(),
+                millis(trace.getDurationNanos()), breakdown.isEmpty() ? "no spans" : breakdown);
+    }
+
+    private static RequestTraceDTO toDTO(RequestTrace trace) {
+        RequestTraceDTO dto = new RequestTraceDTO();
+        dto.setRequestId(trace.getRequestId());
+        dto.setMethod(trace.getMethod());
+        dto.setPath(trace.getPath());
+        dto.setRoute(trace.getRoute());
+        dto.setStatus(trace.getStatus());
+        dto.setStartTime(trace.getStartTime());
+        dto.setDurationMs(millis(trace.getDurationNanos()));
+        Map<String, Double> time = new LinkedHashMap<>();
+        Map<String, Integer> calls = new LinkedHashMap<>();
+        trace.getTotals().forEach((category, total) -> {
+            time.put(category, millis(total.getNanos()));
+            calls.put(category, total.getCount());
+        });
+        dto.setTimeByCategoryMs(time);
+        dto.setCallsByCategory(calls);
+        List<RequestSpanDTO> spans = new ArrayList<>(trace.getSpans().size());
+        for (RequestTrace.Span span : trace.getSpans()) {
+            RequestSpanDTO spanDTO = new RequestSpanDTO();
+            spanDTO.setCategory(span.category());
+            spanDTO.setName(span.name());
+            spanDTO.setOffsetMs(millis(span.offsetNanos()));
+            spanDTO.setDurationMs(millis(span.durationNanos()));
+            spans.add(spanDTO);
+        }
+        dto.setSpans(spans);
+        dto.setDroppedSpans(trace.getDroppedSpans());
+        return dto;
+    }
+
+    // Milliseconds rounded to 0.01 ms
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
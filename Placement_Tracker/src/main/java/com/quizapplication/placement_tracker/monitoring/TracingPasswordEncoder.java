@@ -0,0 +1,34 @@
+package com.quizapplication.placement_tracker.monitoring;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Times password hashing and verification as "bcrypt" spans of the current request
+ */
+public class TracingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public TracingPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        try (RequestTrace.Scope ignored = RequestTrace.span(RequestTrace.PASSWORD_HASH, "encode")) {
+            return delegate.encode(rawPassword);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try (RequestTrace.Scope ignored = RequestTrace.span(RequestTrace.PASSWORD_HASH, "matches")) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,46 @@
+package com.quizapplication.placement_tracker.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One SMTP send. Failed sends are recorded too, since a slow or unreachable mail server shows up here first.
+ */
+@Name("placementtracker.EmailSend")
+@Label("Email Send")
+@Category({"Placement Tracker", "Service"})
+@StackTrace(false)
+public class EmailSendEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    @Description("Which notification was sent, e.g. otp or mentor-approval")
+    public String kind;
+
+    @Label("Recipients")
+    public int recipients;
+
+    @Label("Body Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bodySize;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    public EmailSendEvent(String kind) {
+        this.kind = kind;
+        begin();
+    }
+
+    public void sent(int recipientCount, String body, boolean success) {
+        if (shouldCommit()) {
+            recipients = recipientCount;
+            bodySize = body != null ? body.length() : 0;
+            succeeded = success;
+            commit();
+        }
+    }
+}
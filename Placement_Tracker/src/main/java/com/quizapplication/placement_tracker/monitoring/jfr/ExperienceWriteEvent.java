@@ -0,0 +1,59 @@
+package com.quizapplication.placement_tracker.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An interview or placement experience created or updated, from validation to the saved document
+ */
+@Name("placementtracker.ExperienceWrite")
+@Label("Experience Write")
+@Category({"Placement Tracker", "Service"})
+@StackTrace(false)
+public class ExperienceWriteEvent extends jdk.jfr.Event {
+
+    @Label("Experience Type")
+    @Description("interview or placement")
+    public String experienceType;
+
+    @Label("Operation")
+    @Description("create or update")
+    public String operation;
+
+    @Label("Experience Id")
+    public String experienceId;
+
+    @Label("Company")
+    public String companyName;
+
+    @Label("Rounds JSON Size")
+    @DataAmount(DataAmount.BYTES)
+    public long roundsJsonSize;
+
+    @Label("Attachment Size")
+    @DataAmount(DataAmount.BYTES)
+    public long attachmentSize;
+
+    public ExperienceWriteEvent(String experienceType, String operation) {
+        this.experienceType = experienceType;
+        this.operation = operation;
+        begin();
+    }
+
+    /**
+     * Commits the event for the saved experience, if recording is on and it passed the duration threshold
+     */
+    public void saved(String id, String company, String roundsJson, Long attachment) {
+        if (shouldCommit()) {
+            experienceId = id;
+            companyName = company;
+            roundsJsonSize = roundsJson != null ? roundsJson.length() : 0;
+            attachmentSize = attachment != null ? attachment : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.quizapplication.placement_tracker.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An uploaded attachment validated and copied into the upload directory. Receiving the multipart body
+ * happens before the controller runs and is not part of the duration.
+ */
+@Name("placementtracker.FileUpload")
+@Label("File Upload")
+@Category({"Placement Tracker", "Service"})
+@StackTrace(false)
+public class FileUploadEvent extends jdk.jfr.Event {
+
+    @Label("Stored File Name")
+    public String fileName;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long size;
+
+    public FileUploadEvent() {
+        begin();
+    }
+
+    public void stored(String storedName, long bytes) {
+        if (shouldCommit()) {
+            fileName = storedName;
+            size = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.quizapplication.placement_tracker.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A mentor approved or rejected, including the notification email and the mentors collection sync. A batch
+ * decision is one event carrying the number of mentors it decided, and no mentor id.
+ */
+@Name("placementtracker.MentorApproval")
+@Label("Mentor Approval")
+@Category({"Placement Tracker", "Service"})
+@StackTrace(false)
+public class MentorApprovalEvent extends jdk.jfr.Event {
+
+    @Label("Decision")
+    @Description("APPROVED or REJECTED")
+    public String decision;
+
+    @Label("Channel")
+    @Description("admin (API), batch (admin API, many ids) or email (link in the admin notification)")
+    public String channel;
+
+    @Label("Mentor Id")
+    public String mentorId;
+
+    @Label("Mentors")
+    @Description("Number of mentors decided")
+    public int mentorCount;
+
+    public MentorApprovalEvent(String decision, String channel) {
+        this.decision = decision;
+        this.channel = channel;
+        begin();
+    }
+
+    public void completed(String id) {
+        if (shouldCommit()) {
+            mentorId = id;
+            mentorCount = 1;
+            commit();
+        }
+    }
+
+    public void completedBatch(int count) {
+        if (shouldCommit()) {
+            mentorCount = count;
+            commit();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.quizapplication.placement_tracker.repository;
 
 import com.quizapplication.placement_tracker.entity.Company;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,20 @@ public interface CompanyRepository extends MongoRepository<Company, String> {
     boolean existsByCompanyNameIgnoreCase(String companyName);
     List<Company> findByCompanyNameContainingIgnoreCase(String companyName);
     List<Company> findByIndustryIgnoreCase(String industry);
+
+    // Atomic counter update; the experiences themselves point back through InterviewExperience.companyId
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'experienceCount': ?1 } }")
+    long incrementExperienceCount(String id, long delta);
+
+    // Overwrites the counter with a recount
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'experienceCount': ?1 } }")
+    long setExperienceCount(String id, long experienceCount);
+
+    // Edits only the descriptive fields, so a concurrent $inc of the counter is never written back over
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'companyName': ?1, 'description': ?2, 'industry': ?3, 'website': ?4, 'logoUrl': ?5, 'headquarters': ?6 } }")
+    long updateDetails(String id, String companyName, String description, String industry, String website,
+                       String logoUrl, String headquarters);
 }
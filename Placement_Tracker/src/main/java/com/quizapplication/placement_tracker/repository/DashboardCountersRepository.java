@@ -0,0 +1,9 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.DashboardCounters;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DashboardCountersRepository extends MongoRepository<DashboardCounters, String>, DashboardCountersUpdates {
+}
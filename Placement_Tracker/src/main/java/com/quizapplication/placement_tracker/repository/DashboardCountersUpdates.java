@@ -0,0 +1,14 @@
+package com.quizapplication.placement_tracker.repository;
+
+import java.util.Map;
+
+/**
+ * Counter increments, mixed into {@link DashboardCountersRepository}
+ */
+public interface DashboardCountersUpdates {
+
+    /**
+     * Adds every delta to its counter in one atomic update, creating the document if it does not exist yet
+     */
+    void increment(String id, Map<String, Long> deltas);
+}
@@ -0,0 +1,31 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.DashboardCounters;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+
+class DashboardCountersUpdatesImpl implements DashboardCountersUpdates {
+
+    private final MongoOperations mongoOperations;
+
+    DashboardCountersUpdatesImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public void increment(String id, Map<String, Long> deltas) {
+        Update update = new Update();
+        deltas.forEach((counter, delta) -> {
+            if (delta != 0) {
+                update.inc("counts." + counter, delta);
+            }
+        });
+        if (!update.getUpdateObject().isEmpty()) {
+            mongoOperations.upsert(Query.query(Criteria.where("id").is(id)), update, DashboardCounters.class);
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.quizapplication.placement_tracker.repository;
 import com.quizapplication.placement_tracker.entity.Department;
 import com.quizapplication.placement_tracker.entity.DepartmentGroup;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -15,5 +18,41 @@ public interface DepartmentRepository extends MongoRepository<Department, String
     boolean existsByDepartmentName(String departmentName);
     boolean existsByDepartmentCode(String departmentCode);
     List<Department> findByDepartmentGroup(DepartmentGroup departmentGroup);
+
+    // Atomic counter updates; members point back through their indexed departmentId
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'experienceCount': ?1 } }")
+    long incrementExperienceCount(String id, long delta);
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'userCount': ?1 } }")
+    long incrementUserCount(String id, long delta);
+
+    // Overwrites both counters with a recount
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'experienceCount': ?1, 'userCount': ?2 } }")
+    long setCounts(String id, long experienceCount, long userCount);
+
+    // Edits only the descriptive fields, so a concurrent $inc of the counters is never written back over
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'departmentName': ?1, 'departmentCode': ?2, 'description': ?3, 'departmentGroup': ?4 } }")
+    long updateDetails(String id, String departmentName, String departmentCode, String description,
+                       DepartmentGroup departmentGroup);
+
+    /**
+     * Moves one user between department counters; either side may be null (user created, deleted or
+     * without a department)
+     */
+    default void moveUserCount(String fromDepartmentId, String toDepartmentId) {
+        if (Objects.equals(fromDepartmentId, toDepartmentId)) {
+            return;
+        }
+        if (fromDepartmentId != null) {
+            incrementUserCount(fromDepartmentId, -1);
+        }
+        if (toDepartmentId != null) {
+            incrementUserCount(toDepartmentId, 1);
+        }
+    }
 }
 
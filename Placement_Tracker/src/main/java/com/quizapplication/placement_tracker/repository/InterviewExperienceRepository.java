@@ -1,17 +1,52 @@
 package com.quizapplication.placement_tracker.repository;
 
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
 import com.quizapplication.placement_tracker.entity.InterviewExperience;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface InterviewExperienceRepository extends MongoRepository<InterviewExperience, String> {
     List<InterviewExperience> findByDepartmentId(String departmentId);
+    long countByDepartmentId(String departmentId);
+    long countByCompanyId(String companyId);
     List<InterviewExperience> findByCompanyNameContainingIgnoreCase(String companyName);
     List<InterviewExperience> findByYearOfPlacement(Integer year);
     List<InterviewExperience> findByWillingToMentor(Boolean willingToMentor);
     List<InterviewExperience> findByDepartmentIdAndYearOfPlacement(String departmentId, Integer year);
-}
 
+    // Cursor-backed stream of attachment references only; callers must close it
+    @Query(value = "{ '$or': [ { 'attachmentUrl': { '$ne': null } }, { 'resourceFileUrl': { '$ne': null } } ] }",
+           fields = "{ 'attachmentUrl': 1, 'resourceFileUrl': 1 }")
+    Stream<InterviewExperience> streamAttachmentReferences();
+
+    // Cursor-backed stream of the interview text the similar-experiences index reads; callers must close it
+    @Query(value = "{}", fields = "{ 'questionsAsked': 1, 'problemsSolved': 1, 'roundsDescription': 1, 'areasToPrepareFinal': 1 }")
+    Stream<InterviewExperience> streamInterviewText();
+
+    // Cursor-backed stream of what the question bank reads; callers must close it
+    @Query(value = "{ 'questionsAsked': { '$ne': null } }", fields = "{ 'companyName': 1, 'yearOfPlacement': 1, 'questionsAsked': 1 }")
+    Stream<InterviewExperience> streamQuestionsAsked();
+
+    // Cursor-backed stream of who wrote the willing-to-mentor experiences, for the mentor match index; callers must close it
+    @Query(value = "{ 'willingToMentor': true }", fields = "{ 'contactEmail': 1, 'personalEmail': 1, 'companyName': 1 }")
+    Stream<InterviewExperience> streamMentorAuthors();
+
+    @Query("{ '$or': [ { 'attachmentUrl': ?0 }, { 'resourceFileUrl': ?0 } ] }")
+    @Update("{ '$set': { 'attachmentStatus': ?1 } }")
+    long updateAttachmentStatusByUrl(String attachmentUrl, AttachmentStatus status);
+
+    // Links experiences submitted before their company existed; the pattern is an anchored, quoted company name
+    @Query("{ 'companyId': null, 'companyName': { '$regex': ?0, '$options': 'i' } }")
+    @Update("{ '$set': { 'companyId': ?1 } }")
+    long assignCompany(String companyNamePattern, String companyId);
+
+    @Query("{ 'companyId': ?0 }")
+    @Update("{ '$unset': { 'companyId': '' } }")
+    long unassignCompany(String companyId);
+}
@@ -0,0 +1,16 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.Mentor;
+
+import java.util.List;
+
+/**
+ * Batch writes for mentor approval, mixed into {@link MentorRepository}
+ */
+public interface MentorBulkRepository {
+
+    /**
+     * Replaces the mentor with the same email, or inserts it, for the whole list in one unordered bulk write
+     */
+    void upsertAllByEmail(List<Mentor> mentors);
+}
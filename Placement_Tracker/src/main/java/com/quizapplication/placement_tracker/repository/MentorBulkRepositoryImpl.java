@@ -0,0 +1,32 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.Mentor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+class MentorBulkRepositoryImpl implements MentorBulkRepository {
+
+    private final MongoOperations mongoOperations;
+
+    MentorBulkRepositoryImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public void upsertAllByEmail(List<Mentor> mentors) {
+        if (mentors.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Mentor.class);
+        for (Mentor mentor : mentors) {
+            bulk.replaceOne(Query.query(Criteria.where("email").is(mentor.getEmail())), mentor,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
@@ -0,0 +1,18 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Read side of the mentor directory. Approved mentor users reach it through the mentors collection, which
+ * {@link com.quizapplication.placement_tracker.service.MentorSyncService} keeps up to date.
+ */
+public interface MentorDirectoryRepository {
+
+    /**
+     * Entries merged by (case-insensitive) email, ordered by name then email. Null filters are not applied;
+     * the company filter is a case-insensitive substring match.
+     */
+    Page<MentorDirectoryEntry> findDirectory(String company, String departmentId, Integer year, Pageable pageable);
+}
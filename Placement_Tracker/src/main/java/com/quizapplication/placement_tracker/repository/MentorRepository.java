@@ -5,12 +5,17 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MentorRepository extends MongoRepository<Mentor, String> {
+public interface MentorRepository extends MongoRepository<Mentor, String>, MentorBulkRepository {
     Optional<Mentor> findByEmail(String email);
+    List<Mentor> findByEmailIn(Collection<String> emails);
+    List<Mentor> findByUserIdIn(Collection<String> userIds);
+    long deleteByUserIdIn(Collection<String> userIds);
+    long deleteByEmailInAndUserIdIsNull(Collection<String> emails);
     boolean existsByEmail(String email);
     List<Mentor> findByPlacedCompanyContainingIgnoreCase(String companyName);
     
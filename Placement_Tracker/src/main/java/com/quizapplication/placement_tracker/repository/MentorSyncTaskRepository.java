@@ -0,0 +1,25 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.MentorSyncTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MentorSyncTaskRepository extends MongoRepository<MentorSyncTask, String> {
+    List<MentorSyncTask> findByNextAttemptAtLessThanEqualOrderByEnqueuedAtAsc(LocalDateTime now, Limit limit);
+    Optional<MentorSyncTask> findFirstByOrderByEnqueuedAtAsc();
+
+    // Only removes the task if the user was not changed (re-enqueued) while it was being applied
+    long deleteByUserIdAndEnqueuedAt(String userId, LocalDateTime enqueuedAt);
+
+    @Query("{ '_id': ?0, 'enqueuedAt': ?1 }")
+    @Update("{ '$inc': { 'attempts': 1 }, '$set': { 'nextAttemptAt': ?2, 'lastError': ?3 } }")
+    long recordFailure(String userId, LocalDateTime enqueuedAt, LocalDateTime nextAttemptAt, String error);
+}
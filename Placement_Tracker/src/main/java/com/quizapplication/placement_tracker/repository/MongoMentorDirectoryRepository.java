@@ -0,0 +1,138 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * One aggregation over mentors, with the willing-to-mentor experiences pulled in by $unionWith. Each branch
+ * is filtered before it is reshaped, so the experiences' departmentId index applies; rows are then merged by
+ * lower-cased email with the mentors record winning, and a $facet returns the page and the total together.
+ */
+@Repository
+@Profile("!inmemory")
+public class MongoMentorDirectoryRepository implements MentorDirectoryRepository {
+
+    private final MongoOperations mongoOperations;
+
+    public MongoMentorDirectoryRepository(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public Page<MentorDirectoryEntry> findDirectory(String company, String departmentId, Integer year, Pageable pageable) {
+        Document mentorFilter = new Document("isActive", true);
+        Document experienceFilter = new Document("willingToMentor", true);
+        if (company != null) {
+            Document contains = new Document("$regex", Pattern.quote(company)).append("$options", "i");
+            mentorFilter.append("placedCompany", contains);
+            experienceFilter.append("companyName", contains);
+        }
+        if (departmentId != null) {
+            mentorFilter.append("departmentIds", departmentId);
+            experienceFilter.append("departmentId", departmentId);
+        }
+        if (year != null) {
+            mentorFilter.append("placementYear", year);
+            experienceFilter.append("yearOfPlacement", year);
+        }
+
+        Document mentorRow = new Document("_id", 0)
+                .append("email", new Document("$toLower", "$email"))
+                .append("fullName", 1)
+                .append("phoneNumber", 1)
+                .append("linkedinProfile", 1)
+                .append("placedCompany", 1)
+                .append("placedPosition", 1)
+                .append("placementYear", 1)
+                .append("departmentIds", new Document("$ifNull", List.of("$departmentIds", List.of())))
+                .append("source", new Document("$literal", MentorDirectoryEntry.SOURCE_MENTOR))
+                .append("rank", new Document("$literal", 0));
+        Document experienceRow = new Document("_id", 0)
+                .append("email", new Document("$toLower", new Document("$ifNull", List.of("$contactEmail", "$personalEmail"))))
+                .append("fullName", "$studentName")
+                .append("phoneNumber", new Document("$ifNull", List.of("$contactPhone", "$contactNumber")))
+                .append("linkedinProfile", 1)
+                .append("placedCompany", "$companyName")
+                .append("placedPosition", "$position")
+                .append("placementYear", "$yearOfPlacement")
+                .append("departmentIds", new Document("$cond", List.of(
+                        new Document("$ifNull", List.of("$departmentId", false)), List.of("$departmentId"), List.of())))
+                .append("source", new Document("$literal", MentorDirectoryEntry.SOURCE_EXPERIENCE))
+                .append("rank", new Document("$literal", 1));
+
+        Document merged = new Document("_id", "$email")
+                .append("fullName", new Document("$first", "$fullName"))
+                .append("phoneNumber", new Document("$first", "$phoneNumber"))
+                .append("linkedinProfile", new Document("$first", "$linkedinProfile"))
+                .append("placedCompany", new Document("$first", "$placedCompany"))
+                .append("placedPosition", new Document("$first", "$placedPosition"))
+                .append("placementYear", new Document("$first", "$placementYear"))
+                .append("departmentIds", new Document("$push", "$departmentIds"))
+                .append("sources", new Document("$addToSet", "$source"));
+        Document flattenDepartments = new Document("$reduce", new Document("input", "$departmentIds")
+                .append("initialValue", List.of())
+                .append("in", new Document("$setUnion", List.of("$$value", "$$this"))));
+
+        List<AggregationOperation> pipeline = List.of(
+                stage("$match", mentorFilter),
+                stage("$project", mentorRow),
+                stage("$unionWith", new Document("coll", "interview_experiences").append("pipeline", List.of(
+                        new Document("$match", experienceFilter),
+                        new Document("$project", experienceRow)))),
+                stage("$match", new Document("email", new Document("$ne", null))),
+                stage("$sort", new Document("email", 1).append("rank", 1)),
+                stage("$group", merged),
+                stage("$set", new Document("departmentIds", flattenDepartments)),
+                stage("$sort", new Document("fullName", 1).append("_id", 1)),
+                stage("$facet", new Document("total", List.of(new Document("$count", "count")))
+                        .append("entries", List.of(
+                                new Document("$skip", pageable.getOffset()),
+                                new Document("$limit", pageable.getPageSize())))));
+        Aggregation aggregation = Aggregation.newAggregation(pipeline)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        Document result = mongoOperations.aggregate(aggregation, "mentors", Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+        List<Document> totals = result.getList("total", Document.class);
+        long total = totals.isEmpty() ? 0 : ((Number) totals.get(0).get("count")).longValue();
+        List<MentorDirectoryEntry> entries = result.getList("entries", Document.class).stream()
+                .map(MongoMentorDirectoryRepository::toEntry)
+                .toList();
+        return new PageImpl<>(entries, pageable, total);
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+        Document stage = new Document(operator, body);
+        return context -> stage;
+    }
+
+    private static MentorDirectoryEntry toEntry(Document row) {
+        MentorDirectoryEntry entry = new MentorDirectoryEntry();
+        entry.setEmail(row.getString("_id"));
+        entry.setFullName(row.getString("fullName"));
+        entry.setPhoneNumber(row.getString("phoneNumber"));
+        entry.setLinkedinProfile(row.getString("linkedinProfile"));
+        entry.setPlacedCompany(row.getString("placedCompany"));
+        entry.setPlacedPosition(row.getString("placedPosition"));
+        entry.setPlacementYear(row.getInteger("placementYear"));
+        entry.setDepartmentIds(new ArrayList<>(row.getList("departmentIds", String.class, List.of())));
+        entry.setSources(new LinkedHashSet<>(row.getList("sources", String.class, List.of())));
+        return entry;
+    }
+}
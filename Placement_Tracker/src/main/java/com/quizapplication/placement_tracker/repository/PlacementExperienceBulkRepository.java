@@ -0,0 +1,21 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+
+import java.util.List;
+
+/**
+ * Batch writes for bulk imports, mixed into {@link PlacementExperienceRepository}
+ */
+public interface PlacementExperienceBulkRepository {
+
+    /**
+     * Inserts the batch without stopping at the first failure (unordered bulk write).
+     *
+     * @return the documents that were not inserted, by their index in {@code experiences}
+     */
+    List<BulkInsertFailure> insertUnordered(List<PlacementExperience> experiences);
+
+    record BulkInsertFailure(int index, String message) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PlacementExperienceBulkRepositoryImpl implements PlacementExperienceBulkRepository {
+
+    private final MongoOperations mongoOperations;
+
+    PlacementExperienceBulkRepositoryImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public List<BulkInsertFailure> insertUnordered(List<PlacementExperience> experiences) {
+        if (experiences.isEmpty()) {
+            return List.of();
+        }
+        try {
+            mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, PlacementExperience.class)
+                    .insert(experiences)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException e) {
+            List<BulkInsertFailure> failures = new ArrayList<>(e.getErrors().size());
+            for (BulkWriteError error : e.getErrors()) {
+                failures.add(new BulkInsertFailure(error.getIndex(), error.getMessage()));
+            }
+            return failures;
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.quizapplication.placement_tracker.repository;
 
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
 import com.quizapplication.placement_tracker.entity.PlacementExperience;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlacementExperienceRepository extends MongoRepository<PlacementExperience, String> {
+public interface PlacementExperienceRepository extends MongoRepository<PlacementExperience, String>,
+        PlacementExperienceBulkRepository {
     List<PlacementExperience> findByCompanyNameContainingIgnoreCase(String companyName);
     List<PlacementExperience> findByDepartmentContainingIgnoreCase(String department);
     List<PlacementExperience> findByFinalResult(String finalResult);
     List<PlacementExperience> findByAcademicYear(String academicYear);
     List<PlacementExperience> findAllByOrderBySubmittedAtDesc();
+
+    // Cursor-backed stream of attachment references only; callers must close it
+    @Query(value = "{ 'attachmentUrl': { '$ne': null } }", fields = "{ 'attachmentUrl': 1 }")
+    Stream<PlacementExperience> streamAttachmentReferences();
+
+    @Query("{ 'attachmentUrl': ?0 }")
+    @Update("{ '$set': { 'attachmentStatus': ?1 } }")
+    long updateAttachmentStatusByUrl(String attachmentUrl, AttachmentStatus status);
 }
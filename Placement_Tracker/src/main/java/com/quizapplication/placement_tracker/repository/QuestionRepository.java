@@ -0,0 +1,18 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.Question;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface QuestionRepository extends MongoRepository<Question, String> {
+    List<Question> findByCompanyKeyOrderByCountDesc(String companyKey, Limit limit);
+    List<Question> findByCompanyKey(String companyKey);
+
+    // Questions a rebuild did not write again
+    long deleteByBuiltAtBefore(LocalDateTime builtAt);
+}
@@ -0,0 +1,21 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.Department;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Department name lookups for the streaming browse API.
+ */
+public interface ReactiveDepartmentRepository extends Repository<Department, String> {
+
+    @Query(value = "{}", fields = "{ 'departmentName': 1 }")
+    Flux<Department> findAllNames();
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'departmentName': 1 }")
+    Mono<Department> findNameById(String id);
+
+    Mono<Boolean> existsById(String id);
+}
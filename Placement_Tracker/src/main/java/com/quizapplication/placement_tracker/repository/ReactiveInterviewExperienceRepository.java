@@ -0,0 +1,20 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only view of interview experiences on the reactive driver, for the streaming browse API.
+ * Writes go through {@link InterviewExperienceRepository}.
+ */
+public interface ReactiveInterviewExperienceRepository extends Repository<InterviewExperience, String> {
+    Flux<InterviewExperience> findAllBy();
+    Mono<InterviewExperience> findById(String id);
+    Flux<InterviewExperience> findByDepartmentId(String departmentId);
+    Flux<InterviewExperience> findByCompanyNameContainingIgnoreCase(String companyName);
+    Flux<InterviewExperience> findByYearOfPlacement(Integer year);
+    Flux<InterviewExperience> findByWillingToMentor(Boolean willingToMentor);
+    Flux<InterviewExperience> findByDepartmentIdAndYearOfPlacement(String departmentId, Integer year);
+}
@@ -0,0 +1,18 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only view of placement experiences on the reactive driver, for the streaming browse API.
+ * Writes go through {@link PlacementExperienceRepository}.
+ */
+public interface ReactivePlacementExperienceRepository extends Repository<PlacementExperience, String> {
+    Flux<PlacementExperience> findAllByOrderBySubmittedAtDesc();
+    Mono<PlacementExperience> findById(String id);
+    Flux<PlacementExperience> findByCompanyNameContainingIgnoreCase(String companyName);
+    Flux<PlacementExperience> findByDepartmentContainingIgnoreCase(String department);
+    Flux<PlacementExperience> findByFinalResult(String finalResult);
+}
@@ -0,0 +1,19 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Admin user listing, mixed into {@link UserRepository}
+ */
+public interface UserQueryRepository {
+
+    /**
+     * One page of users matching every non-null filter. The search is a case-insensitive prefix of the full
+     * name or the email, and string sorts ignore case. Only the fields the admin listing shows are loaded.
+     */
+    Page<User> findUsers(UserRole role, String departmentId, Boolean approved, Boolean active, String search,
+                         Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs with the case-insensitive collation of the users indexes, so the prefix search is an index range
+ * rather than a regex scan, and the total is a countDocuments with the same filter and collation.
+ */
+class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    // Must match the collation of the compound indexes on User
+    private static final Collation CASE_INSENSITIVE = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+    // Sorts after every other character under the ICU root collation, which makes it an upper bound for prefixes
+    private static final String PREFIX_END = "\uffff";
+
+    private final MongoOperations mongoOperations;
+
+    UserQueryRepositoryImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public Page<User> findUsers(UserRole role, String departmentId, Boolean approved, Boolean active, String search,
+                                Pageable pageable) {
+        List<Criteria> filters = new ArrayList<>();
+        if (role != null) {
+            filters.add(Criteria.where("role").is(role));
+        }
+        if (departmentId != null) {
+            filters.add(Criteria.where("departmentId").is(departmentId));
+        }
+        if (approved != null) {
+            filters.add(Criteria.where("isApproved").is(approved));
+        }
+        if (active != null) {
+            filters.add(Criteria.where("isActive").is(active));
+        }
+        if (search != null) {
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("fullName").gte(search).lt(search + PREFIX_END),
+                    Criteria.where("email").gte(search).lt(search + PREFIX_END)));
+        }
+        Query filter = new Query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters))
+                .collation(CASE_INSENSITIVE);
+
+        Query page = Query.of(filter).with(pageable).collation(CASE_INSENSITIVE);
+        page.fields().include("fullName", "email", "phoneNumber", "role", "departmentId", "isActive", "isApproved",
+                "createdAt");
+        List<User> users = mongoOperations.find(page, User.class);
+        return PageableExecutionUtils.getPage(users, pageable, () -> mongoOperations.count(filter, User.class));
+    }
+}
@@ -3,14 +3,18 @@ package com.quizapplication.placement_tracker.repository;
 import com.quizapplication.placement_tracker.entity.User;
 import com.quizapplication.placement_tracker.entity.UserRole;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserQueryRepository {
     Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
     boolean existsByEmail(String email);
     List<User> findByRole(UserRole role);
     List<User> findByDepartmentId(String departmentId);
@@ -19,4 +23,14 @@ public interface UserRepository extends MongoRepository<User, String> {
     List<User> findByRoleAndIsApproved(UserRole role, Boolean isApproved);
     List<User> findByRoleAndDepartmentIdAndIsApproved(UserRole role, String departmentId, Boolean isApproved);
     Optional<User> findByApprovalToken(String approvalToken);
+
+    // Covered by the role_approval_created index; used to recount the dashboard counters
+    long countByRole(UserRole role);
+    long countByRoleAndIsApproved(UserRole role, Boolean isApproved);
+    long countByDepartmentId(String departmentId);
+
+    // Batch approval in a single update; same fields as AuthService.approveMentor
+    @Query("{ '_id': { '$in': ?0 }, 'role': 'MENTOR' }")
+    @Update("{ '$set': { 'isApproved': true, 'isVerified': true, 'registrationStatus': 'VERIFIED' }, '$unset': { 'tempPassword': '', 'adminApprovalToken': '' } }")
+    long approveMentors(Collection<String> ids);
 }
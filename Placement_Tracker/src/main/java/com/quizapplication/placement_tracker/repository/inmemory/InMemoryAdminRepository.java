@@ -0,0 +1,33 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Admin;
+import com.quizapplication.placement_tracker.repository.AdminRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryAdminRepository extends InMemoryMongoRepository<Admin> implements AdminRepository {
+
+    public InMemoryAdminRepository(MongoConverter converter) {
+        super(Admin.class, converter);
+    }
+
+    @Override
+    public Optional<Admin> findByUsername(String username) {
+        return findOne(is("username", username));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return exists(is("username", username));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return exists(is("email", email));
+    }
+}
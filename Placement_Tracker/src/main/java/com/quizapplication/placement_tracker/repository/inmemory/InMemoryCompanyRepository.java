@@ -0,0 +1,62 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryCompanyRepository extends InMemoryMongoRepository<Company> implements CompanyRepository {
+
+    public InMemoryCompanyRepository(MongoConverter converter) {
+        super(Company.class, converter);
+    }
+
+    @Override
+    public Optional<Company> findByCompanyNameIgnoreCase(String companyName) {
+        return findOne(isIgnoreCase("companyName", companyName));
+    }
+
+    @Override
+    public boolean existsByCompanyNameIgnoreCase(String companyName) {
+        return exists(isIgnoreCase("companyName", companyName));
+    }
+
+    @Override
+    public List<Company> findByCompanyNameContainingIgnoreCase(String companyName) {
+        return findAll(containsIgnoreCase("companyName", companyName));
+    }
+
+    @Override
+    public List<Company> findByIndustryIgnoreCase(String industry) {
+        return findAll(isIgnoreCase("industry", industry));
+    }
+
+    @Override
+    public long incrementExperienceCount(String id, long delta) {
+        return updateAll(is("id", id), company -> company.setExperienceCount(company.getExperienceCount() + delta));
+    }
+
+    @Override
+    public long setExperienceCount(String id, long experienceCount) {
+        return updateAll(is("id", id), company -> company.setExperienceCount(experienceCount));
+    }
+
+    @Override
+    public long updateDetails(String id, String companyName, String description, String industry, String website,
+                              String logoUrl, String headquarters) {
+        return updateAll(is("id", id), company -> {
+            company.setCompanyName(companyName);
+            company.setDescription(description);
+            company.setIndustry(industry);
+            company.setWebsite(website);
+            company.setLogoUrl(logoUrl);
+            company.setHeadquarters(headquarters);
+        });
+    }
+}
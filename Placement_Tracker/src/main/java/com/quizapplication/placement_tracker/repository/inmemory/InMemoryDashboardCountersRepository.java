@@ -0,0 +1,32 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.DashboardCounters;
+import com.quizapplication.placement_tracker.repository.DashboardCountersRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryDashboardCountersRepository extends InMemoryMongoRepository<DashboardCounters>
+        implements DashboardCountersRepository {
+
+    public InMemoryDashboardCountersRepository(MongoConverter converter) {
+        super(DashboardCounters.class, converter);
+    }
+
+    // Synchronized so the insert of a missing document cannot race another increment (an upsert in MongoDB)
+    @Override
+    public synchronized void increment(String id, Map<String, Long> deltas) {
+        long updated = updateAll(is("id", id), counters -> deltas.forEach(
+                (counter, delta) -> counters.getCounts().merge(counter, delta, Long::sum)));
+        if (updated == 0 && !existsById(id)) {
+            DashboardCounters counters = new DashboardCounters();
+            counters.setId(id);
+            counters.getCounts().putAll(deltas);
+            save(counters);
+        }
+    }
+}
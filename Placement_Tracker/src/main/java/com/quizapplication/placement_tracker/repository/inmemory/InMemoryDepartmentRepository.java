@@ -0,0 +1,74 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.DepartmentGroup;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryDepartmentRepository extends InMemoryMongoRepository<Department> implements DepartmentRepository {
+
+    public InMemoryDepartmentRepository(MongoConverter converter) {
+        super(Department.class, converter);
+    }
+
+    @Override
+    public Optional<Department> findByDepartmentName(String departmentName) {
+        return findOne(is("departmentName", departmentName));
+    }
+
+    @Override
+    public Optional<Department> findByDepartmentCode(String departmentCode) {
+        return findOne(is("departmentCode", departmentCode));
+    }
+
+    @Override
+    public boolean existsByDepartmentName(String departmentName) {
+        return exists(is("departmentName", departmentName));
+    }
+
+    @Override
+    public boolean existsByDepartmentCode(String departmentCode) {
+        return exists(is("departmentCode", departmentCode));
+    }
+
+    @Override
+    public List<Department> findByDepartmentGroup(DepartmentGroup departmentGroup) {
+        return findAll(is("departmentGroup", departmentGroup));
+    }
+
+    @Override
+    public long incrementExperienceCount(String id, long delta) {
+        return updateAll(is("id", id), department -> department.setExperienceCount(department.getExperienceCount() + delta));
+    }
+
+    @Override
+    public long incrementUserCount(String id, long delta) {
+        return updateAll(is("id", id), department -> department.setUserCount(department.getUserCount() + delta));
+    }
+
+    @Override
+    public long setCounts(String id, long experienceCount, long userCount) {
+        return updateAll(is("id", id), department -> {
+            department.setExperienceCount(experienceCount);
+            department.setUserCount(userCount);
+        });
+    }
+
+    @Override
+    public long updateDetails(String id, String departmentName, String departmentCode, String description,
+                              DepartmentGroup departmentGroup) {
+        return updateAll(is("id", id), department -> {
+            department.setDepartmentName(departmentName);
+            department.setDepartmentCode(departmentCode);
+            department.setDescription(description);
+            department.setDepartmentGroup(departmentGroup);
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryInterviewExperienceRepository extends InMemoryMongoRepository<InterviewExperience>
+        implements InterviewExperienceRepository {
+
+    public InMemoryInterviewExperienceRepository(MongoConverter converter) {
+        super(InterviewExperience.class, converter);
+    }
+
+    @Override
+    public List<InterviewExperience> findByDepartmentId(String departmentId) {
+        return findAll(is("departmentId", departmentId));
+    }
+
+    @Override
+    public long countByDepartmentId(String departmentId) {
+        return count(is("departmentId", departmentId));
+    }
+
+    @Override
+    public long countByCompanyId(String companyId) {
+        return count(is("companyId", companyId));
+    }
+
+    @Override
+    public List<InterviewExperience> findByCompanyNameContainingIgnoreCase(String companyName) {
+        return findAll(containsIgnoreCase("companyName", companyName));
+    }
+
+    @Override
+    public List<InterviewExperience> findByYearOfPlacement(Integer year) {
+        return findAll(is("yearOfPlacement", year));
+    }
+
+    @Override
+    public List<InterviewExperience> findByWillingToMentor(Boolean willingToMentor) {
+        return findAll(is("willingToMentor", willingToMentor));
+    }
+
+    @Override
+    public List<InterviewExperience> findByDepartmentIdAndYearOfPlacement(String departmentId, Integer year) {
+        return findAll(is("departmentId", departmentId).and(is("yearOfPlacement", year)));
+    }
+
+    @Override
+    public Stream<InterviewExperience> streamAttachmentReferences() {
+        return stream(isNotNull("attachmentUrl").or(isNotNull("resourceFileUrl")), "attachmentUrl", "resourceFileUrl");
+    }
+
+    @Override
+    public Stream<InterviewExperience> streamInterviewText() {
+        return stream(document -> true, "questionsAsked", "problemsSolved", "roundsDescription", "areasToPrepareFinal");
+    }
+
+    @Override
+    public Stream<InterviewExperience> streamQuestionsAsked() {
+        return stream(isNotNull("questionsAsked"), "companyName", "yearOfPlacement", "questionsAsked");
+    }
+
+    @Override
+    public Stream<InterviewExperience> streamMentorAuthors() {
+        return stream(is("willingToMentor", true), "contactEmail", "personalEmail", "companyName");
+    }
+
+    @Override
+    public long updateAttachmentStatusByUrl(String attachmentUrl, AttachmentStatus status) {
+        return updateAll(is("attachmentUrl", attachmentUrl).or(is("resourceFileUrl", attachmentUrl)),
+                experience -> experience.setAttachmentStatus(status));
+    }
+
+    @Override
+    public long assignCompany(String companyNamePattern, String companyId) {
+        Pattern pattern = Pattern.compile(companyNamePattern, Pattern.CASE_INSENSITIVE);
+        return updateAll(is("companyId", null).and(document -> document.get("companyName") instanceof String name
+                        && pattern.matcher(name).find()),
+                experience -> experience.setCompanyId(companyId));
+    }
+
+    @Override
+    public long unassignCompany(String companyId) {
+        return updateAll(is("companyId", companyId), experience -> experience.setCompanyId(null));
+    }
+}
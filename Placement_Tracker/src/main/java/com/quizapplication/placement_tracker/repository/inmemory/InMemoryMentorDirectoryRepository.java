@@ -0,0 +1,110 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.MentorDirectoryRepository;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Same merge as the MongoDB aggregation, done over the in-memory mentor and experience repositories
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryMentorDirectoryRepository implements MentorDirectoryRepository {
+
+    private static final Comparator<MentorDirectoryEntry> BY_NAME = Comparator
+            .comparing(MentorDirectoryEntry::getFullName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(MentorDirectoryEntry::getEmail);
+
+    private final MentorRepository mentorRepository;
+    private final InterviewExperienceRepository experienceRepository;
+
+    public InMemoryMentorDirectoryRepository(MentorRepository mentorRepository,
+                                             InterviewExperienceRepository experienceRepository) {
+        this.mentorRepository = mentorRepository;
+        this.experienceRepository = experienceRepository;
+    }
+
+    @Override
+    public Page<MentorDirectoryEntry> findDirectory(String company, String departmentId, Integer year, Pageable pageable) {
+        // Mentors first, so their record wins when an email appears in both
+        Map<String, MentorDirectoryEntry> byEmail = new LinkedHashMap<>();
+        for (Mentor mentor : mentorRepository.findByIsActiveTrue()) {
+            if (matches(mentor.getPlacedCompany(), company)
+                    && (departmentId == null || mentor.getDepartmentIds() != null && mentor.getDepartmentIds().contains(departmentId))
+                    && (year == null || year.equals(mentor.getPlacementYear()))) {
+                merge(byEmail, mentor.getEmail(), mentor.getFullName(), mentor.getPhoneNumber(), mentor.getLinkedinProfile(),
+                        mentor.getPlacedCompany(), mentor.getPlacedPosition(), mentor.getPlacementYear(),
+                        mentor.getDepartmentIds() != null ? mentor.getDepartmentIds() : List.of(),
+                        MentorDirectoryEntry.SOURCE_MENTOR);
+            }
+        }
+        for (InterviewExperience experience : experienceRepository.findByWillingToMentor(true)) {
+            if (matches(experience.getCompanyName(), company)
+                    && (departmentId == null || departmentId.equals(experience.getDepartmentId()))
+                    && (year == null || year.equals(experience.getYearOfPlacement()))) {
+                merge(byEmail, firstNonNull(experience.getContactEmail(), experience.getPersonalEmail()),
+                        experience.getStudentName(),
+                        firstNonNull(experience.getContactPhone(), experience.getContactNumber()),
+                        experience.getLinkedinProfile(), experience.getCompanyName(), experience.getPosition(),
+                        experience.getYearOfPlacement(),
+                        experience.getDepartmentId() != null ? List.of(experience.getDepartmentId()) : List.of(),
+                        MentorDirectoryEntry.SOURCE_EXPERIENCE);
+            }
+        }
+
+        List<MentorDirectoryEntry> entries = new ArrayList<>(byEmail.values());
+        entries.sort(BY_NAME);
+        int from = (int) Math.min(pageable.getOffset(), entries.size());
+        int to = Math.min(from + pageable.getPageSize(), entries.size());
+        return new PageImpl<>(new ArrayList<>(entries.subList(from, to)), pageable, entries.size());
+    }
+
+    private static void merge(Map<String, MentorDirectoryEntry> byEmail, String email, String fullName, String phoneNumber,
+                              String linkedinProfile, String placedCompany, String placedPosition, Integer placementYear,
+                              List<String> departmentIds, String source) {
+        if (email == null) {
+            return;
+        }
+        MentorDirectoryEntry entry = byEmail.computeIfAbsent(email.toLowerCase(Locale.ROOT), key -> {
+            MentorDirectoryEntry created = new MentorDirectoryEntry();
+            created.setEmail(key);
+            created.setFullName(fullName);
+            created.setPhoneNumber(phoneNumber);
+            created.setLinkedinProfile(linkedinProfile);
+            created.setPlacedCompany(placedCompany);
+            created.setPlacedPosition(placedPosition);
+            created.setPlacementYear(placementYear);
+            return created;
+        });
+        for (String departmentId : departmentIds) {
+            if (!entry.getDepartmentIds().contains(departmentId)) {
+                entry.getDepartmentIds().add(departmentId);
+            }
+        }
+        entry.getSources().add(source);
+    }
+
+    // $ifNull semantics: either value may be null
+    private static String firstNonNull(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static boolean matches(String value, String fragment) {
+        return fragment == null || value != null && InMemoryMongoRepository.containsText(value, fragment);
+    }
+}
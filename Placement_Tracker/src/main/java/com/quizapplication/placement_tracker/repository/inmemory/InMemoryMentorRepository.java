@@ -0,0 +1,73 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryMentorRepository extends InMemoryMongoRepository<Mentor> implements MentorRepository {
+
+    public InMemoryMentorRepository(MongoConverter converter) {
+        super(Mentor.class, converter);
+    }
+
+    @Override
+    public Optional<Mentor> findByEmail(String email) {
+        return findOne(is("email", email));
+    }
+
+    @Override
+    public List<Mentor> findByEmailIn(Collection<String> emails) {
+        return findAll(in("email", emails));
+    }
+
+    @Override
+    public List<Mentor> findByUserIdIn(Collection<String> userIds) {
+        return findAll(in("userId", userIds));
+    }
+
+    @Override
+    public long deleteByUserIdIn(Collection<String> userIds) {
+        return deleteAll(in("userId", userIds));
+    }
+
+    @Override
+    public long deleteByEmailInAndUserIdIsNull(Collection<String> emails) {
+        return deleteAll(in("email", emails).and(isNotNull("userId").negate()));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return exists(is("email", email));
+    }
+
+    @Override
+    public List<Mentor> findByPlacedCompanyContainingIgnoreCase(String companyName) {
+        return findAll(containsIgnoreCase("placedCompany", companyName));
+    }
+
+    @Override
+    public List<Mentor> findByDepartmentId(String departmentId) {
+        return findAll(is("departmentIds", departmentId));
+    }
+
+    @Override
+    public List<Mentor> findByIsActiveTrue() {
+        return findAll(is("isActive", true));
+    }
+
+    @Override
+    public void upsertAllByEmail(List<Mentor> mentors) {
+        for (Mentor mentor : mentors) {
+            findByEmail(mentor.getEmail()).ifPresent(existing -> mentor.setId(existing.getId()));
+            save(mentor);
+        }
+    }
+}
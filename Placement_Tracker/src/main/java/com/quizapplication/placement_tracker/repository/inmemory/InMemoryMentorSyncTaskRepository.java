@@ -0,0 +1,50 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.MentorSyncTask;
+import com.quizapplication.placement_tracker.repository.MentorSyncTaskRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryMentorSyncTaskRepository extends InMemoryMongoRepository<MentorSyncTask>
+        implements MentorSyncTaskRepository {
+
+    private static final Sort BY_ENQUEUED_AT = Sort.by("enqueuedAt");
+
+    public InMemoryMentorSyncTaskRepository(MongoConverter converter) {
+        super(MentorSyncTask.class, converter);
+    }
+
+    @Override
+    public List<MentorSyncTask> findByNextAttemptAtLessThanEqualOrderByEnqueuedAtAsc(LocalDateTime now, Limit limit) {
+        List<MentorSyncTask> due = findAll(lessThanEqual("nextAttemptAt", now), BY_ENQUEUED_AT);
+        return limit.isLimited() ? due.stream().limit(limit.max()).toList() : due;
+    }
+
+    @Override
+    public Optional<MentorSyncTask> findFirstByOrderByEnqueuedAtAsc() {
+        return findAll(document -> true, BY_ENQUEUED_AT).stream().findFirst();
+    }
+
+    @Override
+    public long deleteByUserIdAndEnqueuedAt(String userId, LocalDateTime enqueuedAt) {
+        return deleteAll(is("userId", userId).and(is("enqueuedAt", enqueuedAt)));
+    }
+
+    @Override
+    public long recordFailure(String userId, LocalDateTime enqueuedAt, LocalDateTime nextAttemptAt, String error) {
+        return updateAll(is("userId", userId).and(is("enqueuedAt", enqueuedAt)), task -> {
+            task.setAttempts(task.getAttempts() + 1);
+            task.setNextAttemptAt(nextAttemptAt);
+            task.setLastError(error);
+        });
+    }
+}
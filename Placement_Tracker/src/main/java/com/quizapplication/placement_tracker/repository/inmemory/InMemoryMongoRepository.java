@@ -0,0 +1,606 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Map-backed {@link MongoRepository} used by the "inmemory" profile.
+ * Entities are stored as the BSON documents MongoDB would hold, written and read with the regular mapping
+ * converter. Queries therefore see stored field values (not getter logic), every read returns a fresh copy,
+ * and unique indexes declared with {@code @Indexed(unique = true)} are enforced. Reads are lock-free;
+ * writes to one repository are serialized. Results come back in insertion order unless sorted.
+ * Query by example is not supported.
+ */
+public abstract class InMemoryMongoRepository<T> implements MongoRepository<T, String> {
+
+    private static final String ID_FIELD = "_id";
+    private static final Object NULL_KEY = new Object();
+
+    private final Class<T> type;
+    private final MongoConverter converter;
+    private final MongoPersistentEntity<?> persistentEntity;
+
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    // Insertion order, which is what a collection scan returns in MongoDB
+    private final ConcurrentNavigableMap<Long, Entry> records = new ConcurrentSkipListMap<>();
+    // Unique field -> indexed value -> id
+    private final Map<String, UniqueIndex> uniqueIndexes = new HashMap<>();
+    // A lock rather than a monitor: virtual threads waiting for it unmount instead of pinning their carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long nextSequence;
+
+    protected InMemoryMongoRepository(Class<T> type, MongoConverter converter) {
+        this.type = type;
+        this.converter = converter;
+        this.persistentEntity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        for (MongoPersistentProperty property : persistentEntity) {
+            Indexed indexed = property.findAnnotation(Indexed.class);
+            if (indexed != null && indexed.unique()) {
+                uniqueIndexes.put(property.getFieldName(), new UniqueIndex(indexed.sparse()));
+            }
+        }
+    }
+
+    // ---- query building blocks for derived query methods ----
+
+    /**
+     * Equality as MongoDB evaluates it: missing fields equal null, arrays match any element, numbers by value
+     */
+    protected Predicate<Document> is(String property, Object value) {
+        return new Equals(fieldName(property), converter.convertToMongoType(value));
+    }
+
+    /**
+     * {@code IgnoreCase} on a derived query, i.e. an anchored case-insensitive regex
+     */
+    protected Predicate<Document> isIgnoreCase(String property, String value) {
+        String field = fieldName(property);
+        return document -> value != null
+                && anyValue(document.get(field), stored -> stored instanceof String text && text.equalsIgnoreCase(value));
+    }
+
+    /**
+     * {@code ContainingIgnoreCase} on a derived query: the argument is matched literally, not as a pattern
+     */
+    protected Predicate<Document> containsIgnoreCase(String property, String fragment) {
+        String field = fieldName(property);
+        return document -> fragment != null
+                && anyValue(document.get(field), stored -> stored instanceof String text && containsText(text, fragment));
+    }
+
+    /**
+     * Case-insensitive prefix, what a range query under a strength-2 collation matches
+     */
+    protected Predicate<Document> startsWithIgnoreCase(String property, String prefix) {
+        String field = fieldName(property);
+        return document -> document.get(field) instanceof String text && text.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * {@code { field: { $in: values } }}, equality against any of the values
+     */
+    protected Predicate<Document> in(String property, Collection<?> values) {
+        List<Predicate<Document>> equalities = values.stream().map(value -> is(property, value)).toList();
+        return document -> equalities.stream().anyMatch(equality -> equality.test(document));
+    }
+
+    /**
+     * {@code { field: { $ne: null } }}
+     */
+    protected Predicate<Document> isNotNull(String property) {
+        String field = fieldName(property);
+        return document -> document.get(field) != null;
+    }
+
+    /**
+     * {@code { field: { $lte: value } }}; like MongoDB, only values of the same type compare
+     */
+    protected Predicate<Document> lessThanEqual(String property, Object value) {
+        String field = fieldName(property);
+        Object bound = converter.convertToMongoType(value);
+        return document -> {
+            Object stored = document.get(field);
+            return stored != null && typeOrder(stored) == typeOrder(bound) && compareValues(stored, bound, false) <= 0;
+        };
+    }
+
+    /**
+     * {@code { field: { $lt: value } }}
+     */
+    protected Predicate<Document> lessThan(String property, Object value) {
+        String field = fieldName(property);
+        Object bound = converter.convertToMongoType(value);
+        return document -> {
+            Object stored = document.get(field);
+            return stored != null && typeOrder(stored) == typeOrder(bound) && compareValues(stored, bound, false) < 0;
+        };
+    }
+
+    protected List<T> findAll(Predicate<Document> filter) {
+        return findAll(filter, Sort.unsorted());
+    }
+
+    protected List<T> findAll(Predicate<Document> filter, Sort sort) {
+        return findAll(filter, sort, Limit.unlimited());
+    }
+
+    /**
+     * Only the documents within the limit are read back into entities
+     */
+    protected List<T> findAll(Predicate<Document> filter, Sort sort, Limit limit) {
+        Stream<Entry> matches = records.values().stream().filter(entry -> filter.test(entry.document()));
+        if (sort.isSorted()) {
+            matches = matches.sorted(comparator(sort));
+        }
+        if (limit.isLimited()) {
+            matches = matches.limit(limit.max());
+        }
+        return matches.map(this::read).toList();
+    }
+
+    /**
+     * Single-result query; like Spring Data, more than one match is an error rather than "pick one"
+     */
+    protected Optional<T> findOne(Predicate<Document> filter) {
+        if (filter instanceof Equals equals && uniqueIndexes.containsKey(equals.field())) {
+            String id = uniqueIndexes.get(equals.field()).ids().get(indexKey(equals.value()));
+            return Optional.ofNullable(id).map(byId::get).map(this::read);
+        }
+        Entry found = null;
+        for (Entry entry : records.values()) {
+            if (filter.test(entry.document())) {
+                if (found != null) {
+                    throw new IncorrectResultSizeDataAccessException("Query returned non unique result", 1);
+                }
+                found = entry;
+            }
+        }
+        return Optional.ofNullable(found).map(this::read);
+    }
+
+    protected boolean exists(Predicate<Document> filter) {
+        if (filter instanceof Equals equals && uniqueIndexes.containsKey(equals.field())) {
+            return uniqueIndexes.get(equals.field()).ids().containsKey(indexKey(equals.value()));
+        }
+        return records.values().stream().anyMatch(entry -> filter.test(entry.document()));
+    }
+
+    /**
+     * {@code countDocuments} with a filter
+     */
+    protected long count(Predicate<Document> filter) {
+        return records.values().stream().filter(entry -> filter.test(entry.document())).count();
+    }
+
+    /**
+     * Lazily evaluated, like a cursor; only the given properties (and the id) are populated
+     */
+    protected Stream<T> stream(Predicate<Document> filter, String... properties) {
+        List<String> fields = Stream.of(properties).map(this::fieldName).toList();
+        return records.values().stream()
+                .filter(entry -> filter.test(entry.document()))
+                .map(entry -> {
+                    Document projection = new Document(ID_FIELD, entry.id());
+                    fields.stream().filter(entry.document()::containsKey)
+                            .forEach(field -> projection.put(field, entry.document().get(field)));
+                    return converter.read(type, projection);
+                });
+    }
+
+    /**
+     * Applies the change to every match, like an {@code @Update} method; returns the number of documents modified
+     */
+    protected long updateAll(Predicate<Document> filter, Consumer<T> change) {
+        long modified = 0;
+        writeLock.lock();
+        try {
+            for (Entry entry : records.values()) {
+                if (filter.test(entry.document())) {
+                    T updated = read(entry);
+                    change.accept(updated);
+                    if (!write(updated, false).equals(entry.document())) {
+                        modified++;
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return modified;
+    }
+
+    /**
+     * Deletes every match, like a derived {@code deleteBy} method; returns the number of documents removed
+     */
+    protected long deleteAll(Predicate<Document> filter) {
+        long removed = 0;
+        writeLock.lock();
+        try {
+            for (Entry entry : records.values()) {
+                if (filter.test(entry.document())) {
+                    byId.remove(entry.id());
+                    records.remove(entry.sequence());
+                    unindex(entry);
+                    removed++;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return removed;
+    }
+
+    // ---- MongoRepository ----
+
+    @Override
+    public <S extends T> S save(S entity) {
+        write(entity, false);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        write(entity, true);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(byId.get(Objects.requireNonNull(id, "The given id must not be null")))
+                .map(this::read);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return byId.containsKey(Objects.requireNonNull(id, "The given id must not be null"));
+    }
+
+    @Override
+    public List<T> findAll() {
+        return records.values().stream().map(this::read).toList();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return findAll(document -> true, sort);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> all = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    @Override
+    public long count() {
+        return byId.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        writeLock.lock();
+        try {
+            Entry removed = byId.remove(Objects.requireNonNull(id, "The given id must not be null"));
+            if (removed != null) {
+                records.remove(removed.sequence());
+                unindex(removed);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+        if (id != null) {
+            deleteById(id.toString());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            byId.clear();
+            records.clear();
+            uniqueIndexes.values().forEach(index -> index.ids().clear());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleUnsupported();
+    }
+
+    // ---- storage ----
+
+    /**
+     * Stores the entity, assigning an ObjectId-style id when it has none; returns the stored document
+     */
+    private Document write(T entity, boolean insertOnly) {
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        MongoPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        Object currentId = accessor.getProperty(idProperty);
+        String id = currentId != null ? currentId.toString() : new ObjectId().toHexString();
+
+        Document document = new Document();
+        converter.write(entity, document);
+        document.put(ID_FIELD, id);
+
+        writeLock.lock();
+        try {
+            Entry existing = byId.get(id);
+            if (existing != null && insertOnly) {
+                throw duplicateKey(ID_FIELD, id);
+            }
+            uniqueIndexes.forEach((field, index) -> {
+                String owner = index.ids().get(indexKey(document.get(field)));
+                if (owner != null && !owner.equals(id) && (document.get(field) != null || !index.sparse())) {
+                    throw duplicateKey(field, document.get(field));
+                }
+            });
+            Entry entry = new Entry(existing != null ? existing.sequence() : nextSequence++, id, document);
+            if (existing != null) {
+                unindex(existing);
+            }
+            uniqueIndexes.forEach((field, index) -> {
+                if (document.get(field) != null || !index.sparse()) {
+                    index.ids().put(indexKey(document.get(field)), id);
+                }
+            });
+            byId.put(id, entry);
+            records.put(entry.sequence(), entry);
+        } finally {
+            writeLock.unlock();
+        }
+        if (currentId == null) {
+            accessor.setProperty(idProperty, id);
+        }
+        return document;
+    }
+
+    private void unindex(Entry entry) {
+        uniqueIndexes.forEach((field, index) -> index.ids().remove(indexKey(entry.document().get(field)), entry.id()));
+    }
+
+    private T read(Entry entry) {
+        return converter.read(type, entry.document());
+    }
+
+    /**
+     * Resolves a property path the way the Mongo query creator does, so unknown properties fail the same way. A
+     * property the type only exposes through accessors is not persisted; like the query mapper, it is looked up
+     * under its own name and so matches nothing.
+     */
+    private String fieldName(String property) {
+        PropertyPath.from(property, type);
+        try {
+            MongoPersistentProperty leaf = converter.getMappingContext()
+                    .getPersistentPropertyPath(property, type)
+                    .getLeafProperty();
+            return leaf.isIdProperty() ? ID_FIELD : leaf.getFieldName();
+        } catch (InvalidPersistentPropertyPath e) {
+            return property;
+        }
+    }
+
+    private Comparator<Entry> comparator(Sort sort) {
+        Comparator<Entry> comparator = null;
+        for (Sort.Order order : sort) {
+            String field = fieldName(order.getProperty());
+            Comparator<Entry> next = (left, right) -> compareValues(
+                    left.document().get(field), right.document().get(field), order.isIgnoreCase());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private DuplicateKeyException duplicateKey(String field, Object value) {
+        return new DuplicateKeyException("E11000 duplicate key error collection: "
+                + persistentEntity.getCollection() + " index: " + field + " dup key: { " + field + ": " + value + " }");
+    }
+
+    private static UnsupportedOperationException queryByExampleUnsupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory repositories");
+    }
+
+    private static Object indexKey(Object value) {
+        return value == null ? NULL_KEY : value;
+    }
+
+    private static boolean anyValue(Object stored, Predicate<Object> test) {
+        if (stored instanceof Collection<?> values) {
+            return values.stream().anyMatch(test) || test.test(stored);
+        }
+        return test.test(stored);
+    }
+
+    private static boolean valuesEqual(Object stored, Object expected) {
+        if (stored instanceof Number left && expected instanceof Number right) {
+            return Double.compare(left.doubleValue(), right.doubleValue()) == 0;
+        }
+        return Objects.equals(stored, expected);
+    }
+
+    static boolean containsText(String text, String fragment) {
+        int last = text.length() - fragment.length();
+        for (int start = 0; start <= last; start++) {
+            if (text.regionMatches(true, start, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * MongoDB sort order: null/missing lowest, then numbers, strings, documents, arrays, ObjectIds, booleans, dates
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(Object left, Object right, boolean ignoreCase) {
+        int byType = Integer.compare(typeOrder(left), typeOrder(right));
+        if (byType != 0 || left == null) {
+            return byType;
+        }
+        if (left instanceof Number a && right instanceof Number b) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        if (left instanceof String a && right instanceof String b) {
+            return ignoreCase ? a.compareToIgnoreCase(b) : a.compareTo(b);
+        }
+        if (left instanceof Comparable comparable && left.getClass() == right.getClass()) {
+            return comparable.compareTo(right);
+        }
+        return 0;
+    }
+
+    private static int typeOrder(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return 1;
+        }
+        if (value instanceof String) {
+            return 2;
+        }
+        if (value instanceof Map) {
+            return 3;
+        }
+        if (value instanceof Collection) {
+            return 4;
+        }
+        if (value instanceof ObjectId) {
+            return 5;
+        }
+        if (value instanceof Boolean) {
+            return 6;
+        }
+        if (value instanceof Date) {
+            return 7;
+        }
+        return 8;
+    }
+
+    private record Entry(long sequence, String id, Document document) {
+    }
+
+    private record UniqueIndex(boolean sparse, Map<Object, String> ids) {
+        UniqueIndex(boolean sparse) {
+            this(sparse, new ConcurrentHashMap<>());
+        }
+    }
+
+    private record Equals(String field, Object value) implements Predicate<Document> {
+        @Override
+        public boolean test(Document document) {
+            return anyValue(document.get(field), stored -> valuesEqual(stored, value));
+        }
+    }
+}
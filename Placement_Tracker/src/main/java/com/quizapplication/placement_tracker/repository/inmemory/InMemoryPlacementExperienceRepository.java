@@ -0,0 +1,72 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryPlacementExperienceRepository extends InMemoryMongoRepository<PlacementExperience>
+        implements PlacementExperienceRepository {
+
+    public InMemoryPlacementExperienceRepository(MongoConverter converter) {
+        super(PlacementExperience.class, converter);
+    }
+
+    @Override
+    public List<PlacementExperience> findByCompanyNameContainingIgnoreCase(String companyName) {
+        return findAll(containsIgnoreCase("companyName", companyName));
+    }
+
+    @Override
+    public List<PlacementExperience> findByDepartmentContainingIgnoreCase(String department) {
+        return findAll(containsIgnoreCase("department", department));
+    }
+
+    @Override
+    public List<PlacementExperience> findByFinalResult(String finalResult) {
+        return findAll(is("finalResult", finalResult));
+    }
+
+    @Override
+    public List<PlacementExperience> findByAcademicYear(String academicYear) {
+        return findAll(is("academicYear", academicYear));
+    }
+
+    @Override
+    public List<PlacementExperience> findAllByOrderBySubmittedAtDesc() {
+        return findAll(Sort.by(Sort.Direction.DESC, "submittedAt"));
+    }
+
+    @Override
+    public Stream<PlacementExperience> streamAttachmentReferences() {
+        return stream(isNotNull("attachmentUrl"), "attachmentUrl");
+    }
+
+    @Override
+    public long updateAttachmentStatusByUrl(String attachmentUrl, AttachmentStatus status) {
+        return updateAll(is("attachmentUrl", attachmentUrl), experience -> experience.setAttachmentStatus(status));
+    }
+
+    @Override
+    public List<BulkInsertFailure> insertUnordered(List<PlacementExperience> experiences) {
+        List<BulkInsertFailure> failures = new ArrayList<>();
+        for (int i = 0; i < experiences.size(); i++) {
+            try {
+                insert(experiences.get(i));
+            } catch (DuplicateKeyException e) {
+                failures.add(new BulkInsertFailure(i, e.getMessage()));
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,38 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Question;
+import com.quizapplication.placement_tracker.repository.QuestionRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryQuestionRepository extends InMemoryMongoRepository<Question> implements QuestionRepository {
+
+    private static final Sort BY_COUNT = Sort.by(Sort.Direction.DESC, "count");
+
+    public InMemoryQuestionRepository(MongoConverter converter) {
+        super(Question.class, converter);
+    }
+
+    @Override
+    public List<Question> findByCompanyKeyOrderByCountDesc(String companyKey, Limit limit) {
+        return findAll(is("companyKey", companyKey), BY_COUNT, limit);
+    }
+
+    @Override
+    public List<Question> findByCompanyKey(String companyKey) {
+        return findAll(is("companyKey", companyKey));
+    }
+
+    @Override
+    public long deleteByBuiltAtBefore(LocalDateTime builtAt) {
+        return deleteAll(lessThan("builtAt", builtAt));
+    }
+}
@@ -0,0 +1,38 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.ReactiveDepartmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive view over {@link InMemoryDepartmentRepository}, so both APIs see the same data
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryReactiveDepartmentRepository implements ReactiveDepartmentRepository {
+
+    private final DepartmentRepository delegate;
+
+    public InMemoryReactiveDepartmentRepository(DepartmentRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<Department> findAllNames() {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findAll()));
+    }
+
+    @Override
+    public Mono<Department> findNameById(String id) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findById(id)));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return Mono.fromCallable(() -> delegate.existsById(id));
+    }
+}
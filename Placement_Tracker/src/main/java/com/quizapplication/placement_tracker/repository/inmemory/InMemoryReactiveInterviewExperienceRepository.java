@@ -0,0 +1,58 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.ReactiveInterviewExperienceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive view over {@link InMemoryInterviewExperienceRepository}, so both APIs see the same data
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryReactiveInterviewExperienceRepository implements ReactiveInterviewExperienceRepository {
+
+    private final InterviewExperienceRepository delegate;
+
+    public InMemoryReactiveInterviewExperienceRepository(InterviewExperienceRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<InterviewExperience> findAllBy() {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findAll()));
+    }
+
+    @Override
+    public Mono<InterviewExperience> findById(String id) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findById(id)));
+    }
+
+    @Override
+    public Flux<InterviewExperience> findByDepartmentId(String departmentId) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByDepartmentId(departmentId)));
+    }
+
+    @Override
+    public Flux<InterviewExperience> findByCompanyNameContainingIgnoreCase(String companyName) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByCompanyNameContainingIgnoreCase(companyName)));
+    }
+
+    @Override
+    public Flux<InterviewExperience> findByYearOfPlacement(Integer year) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByYearOfPlacement(year)));
+    }
+
+    @Override
+    public Flux<InterviewExperience> findByWillingToMentor(Boolean willingToMentor) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByWillingToMentor(willingToMentor)));
+    }
+
+    @Override
+    public Flux<InterviewExperience> findByDepartmentIdAndYearOfPlacement(String departmentId, Integer year) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByDepartmentIdAndYearOfPlacement(departmentId, year)));
+    }
+}
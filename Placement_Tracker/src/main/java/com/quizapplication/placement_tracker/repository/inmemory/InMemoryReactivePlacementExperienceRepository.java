@@ -0,0 +1,48 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import com.quizapplication.placement_tracker.repository.ReactivePlacementExperienceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive view over {@link InMemoryPlacementExperienceRepository}, so both APIs see the same data
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryReactivePlacementExperienceRepository implements ReactivePlacementExperienceRepository {
+
+    private final PlacementExperienceRepository delegate;
+
+    public InMemoryReactivePlacementExperienceRepository(PlacementExperienceRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<PlacementExperience> findAllByOrderBySubmittedAtDesc() {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findAllByOrderBySubmittedAtDesc()));
+    }
+
+    @Override
+    public Mono<PlacementExperience> findById(String id) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findById(id)));
+    }
+
+    @Override
+    public Flux<PlacementExperience> findByCompanyNameContainingIgnoreCase(String companyName) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByCompanyNameContainingIgnoreCase(companyName)));
+    }
+
+    @Override
+    public Flux<PlacementExperience> findByDepartmentContainingIgnoreCase(String department) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByDepartmentContainingIgnoreCase(department)));
+    }
+
+    @Override
+    public Flux<PlacementExperience> findByFinalResult(String finalResult) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByFinalResult(finalResult)));
+    }
+}
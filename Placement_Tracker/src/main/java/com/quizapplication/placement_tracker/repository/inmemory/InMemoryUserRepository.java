@@ -0,0 +1,131 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryUserRepository extends InMemoryMongoRepository<User> implements UserRepository {
+
+    public InMemoryUserRepository(MongoConverter converter) {
+        super(User.class, converter);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return findOne(is("email", email));
+    }
+
+    @Override
+    public List<User> findByEmailIn(Collection<String> emails) {
+        return findAll(in("email", emails));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return exists(is("email", email));
+    }
+
+    @Override
+    public List<User> findByRole(UserRole role) {
+        return findAll(is("role", role));
+    }
+
+    @Override
+    public List<User> findByDepartmentId(String departmentId) {
+        return findAll(is("departmentId", departmentId));
+    }
+
+    @Override
+    public List<User> findByRoleAndDepartmentId(UserRole role, String departmentId) {
+        return findAll(is("role", role).and(is("departmentId", departmentId)));
+    }
+
+    @Override
+    public List<User> findByPlacedCompanyContainingIgnoreCase(String companyName) {
+        return findAll(containsIgnoreCase("placedCompany", companyName));
+    }
+
+    @Override
+    public List<User> findByRoleAndIsApproved(UserRole role, Boolean isApproved) {
+        return findAll(is("role", role).and(is("isApproved", isApproved)));
+    }
+
+    @Override
+    public List<User> findByRoleAndDepartmentIdAndIsApproved(UserRole role, String departmentId, Boolean isApproved) {
+        return findAll(is("role", role).and(is("departmentId", departmentId)).and(is("isApproved", isApproved)));
+    }
+
+    @Override
+    public Optional<User> findByApprovalToken(String approvalToken) {
+        return findOne(is("approvalToken", approvalToken));
+    }
+
+    @Override
+    public long countByRole(UserRole role) {
+        return count(is("role", role));
+    }
+
+    @Override
+    public long countByRoleAndIsApproved(UserRole role, Boolean isApproved) {
+        return count(is("role", role).and(is("isApproved", isApproved)));
+    }
+
+    @Override
+    public long countByDepartmentId(String departmentId) {
+        return count(is("departmentId", departmentId));
+    }
+
+    @Override
+    public Page<User> findUsers(UserRole role, String departmentId, Boolean approved, Boolean active, String search,
+                                Pageable pageable) {
+        Predicate<Document> filter = document -> true;
+        if (role != null) {
+            filter = filter.and(is("role", role));
+        }
+        if (departmentId != null) {
+            filter = filter.and(is("departmentId", departmentId));
+        }
+        if (approved != null) {
+            filter = filter.and(is("isApproved", approved));
+        }
+        if (active != null) {
+            filter = filter.and(is("isActive", active));
+        }
+        if (search != null) {
+            filter = filter.and(startsWithIgnoreCase("fullName", search).or(startsWithIgnoreCase("email", search)));
+        }
+        // The collation makes MongoDB's string sorts case-insensitive
+        Sort sort = Sort.by(pageable.getSort().stream().map(Sort.Order::ignoreCase).toList());
+        List<User> upToPage = findAll(filter, sort, Limit.of((int) pageable.getOffset() + pageable.getPageSize()));
+        List<User> users = upToPage.subList((int) Math.min(pageable.getOffset(), upToPage.size()), upToPage.size());
+        Predicate<Document> counted = filter;
+        return PageableExecutionUtils.getPage(users, pageable, () -> count(counted));
+    }
+
+    @Override
+    public long approveMentors(Collection<String> ids) {
+        return updateAll(in("id", ids).and(is("role", UserRole.MENTOR)), user -> {
+            user.setIsApproved(true);
+            user.setIsVerified(true);
+            user.setRegistrationStatus("VERIFIED");
+            user.setTempPassword(null);
+            user.setAdminApprovalToken(null);
+        });
+    }
+}
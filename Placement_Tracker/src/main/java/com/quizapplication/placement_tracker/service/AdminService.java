@@ -5,12 +5,17 @@ import com.quizapplication.placement_tracker.entity.Admin;
 import com.quizapplication.placement_tracker.entity.Department;
 import com.quizapplication.placement_tracker.entity.Mentor;
 import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
 import com.quizapplication.placement_tracker.exception.ResourceAlreadyExistsException;
 import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
 import com.quizapplication.placement_tracker.repository.AdminRepository;
 import com.quizapplication.placement_tracker.repository.DepartmentRepository;
 import com.quizapplication.placement_tracker.repository.MentorRepository;
 import com.quizapplication.placement_tracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,20 +28,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class AdminService {
 
+    /**
+     * Properties the admin user listing can be sorted on
+     */
+    public static final Set<String> USER_SORTS = Set.of("fullName", "email", "role", "createdAt");
+
     private final AdminRepository adminRepository;
     private final MentorRepository mentorRepository;
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardStatsService dashboardStatsService;
+    private final MentorSyncService mentorSyncService;
+    private final int maxUserPageSize;
 
     public AdminService(AdminRepository adminRepository, MentorRepository mentorRepository,
                        DepartmentRepository departmentRepository, UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder, DashboardStatsService dashboardStatsService,
+                       MentorSyncService mentorSyncService,
+                       @Value("${admin.users.max-page-size:100}") int maxUserPageSize) {
         this.adminRepository = adminRepository;
         this.mentorRepository = mentorRepository;
         this.departmentRepository = departmentRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dashboardStatsService = dashboardStatsService;
+        this.mentorSyncService = mentorSyncService;
+        this.maxUserPageSize = maxUserPageSize;
     }
 
     // Admin Login
@@ -207,9 +225,25 @@ public class AdminService {
 
     // User Management Methods
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToUserDTO)
-                .collect(Collectors.toList());
+        return toUserDTOs(userRepository.findAll());
+    }
+
+    /**
+     * One page of users, filtered and sorted by the database. Null or blank filters are not applied; search is
+     * a case-insensitive prefix of the name or email. Sort is one of {@link #USER_SORTS} (default fullName).
+     */
+    public PageDTO<UserDTO> searchUsers(UserRole role, String departmentId, Boolean approved, Boolean active,
+                                        String search, String sort, String direction, int page, int size) {
+        String sortProperty = sort != null && USER_SORTS.contains(sort) ? sort : "fullName";
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // _id last, so equal names do not move between pages
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), maxUserPageSize),
+                Sort.by(sortDirection, sortProperty).and(Sort.by("id")));
+        Page<User> users = userRepository.findUsers(role, blankToNull(departmentId), approved, active,
+                blankToNull(search), pageRequest);
+
+        return new PageDTO<>(toUserDTOs(users.getContent()), pageRequest.getPageNumber(), pageRequest.getPageSize(),
+                users.getTotalElements(), users.getTotalPages());
     }
 
     public UserDTO getUserById(String id) {
@@ -229,6 +263,9 @@ public class AdminService {
             }
         }
 
+        String previousDepartmentId = user.getDepartmentId();
+        UserRole previousRole = user.getRole();
+        Boolean previouslyApproved = user.getIsApproved();
         user.setFullName(updateDTO.getFullName());
         user.setEmail(updateDTO.getEmail());
         user.setPhoneNumber(updateDTO.getPhoneNumber());
@@ -250,6 +287,9 @@ public class AdminService {
         }
 
         User updatedUser = userRepository.save(user);
+        departmentRepository.moveUserCount(previousDepartmentId, updatedUser.getDepartmentId());
+        dashboardStatsService.userChanged(previousRole, previouslyApproved, updatedUser);
+        mentorSyncService.enqueue(updatedUser.getId());
         return convertToUserDTO(updatedUser);
     }
 
@@ -257,6 +297,9 @@ public class AdminService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         userRepository.delete(user);
+        departmentRepository.moveUserCount(user.getDepartmentId(), null);
+        dashboardStatsService.usersDeleted(List.of(user));
+        mentorSyncService.enqueue(user.getId());
     }
 
     public UserDTO toggleUserStatus(String id) {
@@ -264,10 +307,29 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setIsActive(!user.getIsActive());
         User updatedUser = userRepository.save(user);
+        mentorSyncService.enqueue(updatedUser.getId());
         return convertToUserDTO(updatedUser);
     }
 
+    // Department names for all users with one query
+    private List<UserDTO> toUserDTOs(List<User> users) {
+        Map<String, String> departmentNames = new HashMap<>();
+        departmentRepository.findAllById(users.stream()
+                        .map(User::getDepartmentId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .forEach(dept -> departmentNames.put(dept.getId(), dept.getDepartmentName()));
+        return users.stream()
+                .map(user -> convertToUserDTO(user, departmentNames))
+                .collect(Collectors.toList());
+    }
+
     private UserDTO convertToUserDTO(User user) {
+        return toUserDTOs(List.of(user)).get(0);
+    }
+
+    private UserDTO convertToUserDTO(User user, Map<String, String> departmentNames) {
         UserDTO dto = new UserDTO();
         dto.setId(user.getId());
         dto.setFullName(user.getFullName());
@@ -278,15 +340,14 @@ public class AdminService {
         dto.setIsActive(user.getIsActive());
         dto.setIsApproved(user.getIsApproved());
         dto.setCreatedAt(user.getCreatedAt());
-        
-        if (user.getDepartmentId() != null) {
-            departmentRepository.findById(user.getDepartmentId())
-                    .ifPresent(dept -> dto.setDepartmentName(dept.getDepartmentName()));
-        }
-        
+        dto.setDepartmentName(departmentNames.get(user.getDepartmentId()));
         return dto;
     }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     private MentorDTO convertToMentorDTO(Mentor mentor) {
         MentorDTO dto = new MentorDTO();
         dto.setId(mentor.getId());
@@ -0,0 +1,119 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * Deletes uploaded files that no experience references any more.
+ * Files younger than the grace period are always kept, so an upload whose experience
+ * has not been submitted yet is never collected.
+ */
+@Service
+@Slf4j
+public class AttachmentCleanupService {
+
+    private final InterviewExperienceRepository interviewExperienceRepository;
+    private final PlacementExperienceRepository placementExperienceRepository;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${file.cleanup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.cleanup.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    public AttachmentCleanupService(InterviewExperienceRepository interviewExperienceRepository,
+                                    PlacementExperienceRepository placementExperienceRepository) {
+        this.interviewExperienceRepository = interviewExperienceRepository;
+        this.placementExperienceRepository = placementExperienceRepository;
+    }
+
+    @Scheduled(cron = "${file.cleanup.cron:0 30 3 * * *}")
+    public void scheduledCleanup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            removeOrphanedFiles();
+        } catch (Exception e) {
+            // Never delete anything when the reference scan is incomplete
+            log.error("Orphaned attachment cleanup aborted: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Scan both experience collections, then walk the upload directory and delete
+     * unreferenced files older than the grace period. Returns the number of files deleted.
+     */
+    public int removeOrphanedFiles() throws IOException {
+        Path uploadPath = Paths.get(uploadDir);
+        if (!Files.isDirectory(uploadPath)) {
+            return 0;
+        }
+
+        AttachmentReferenceSet references = collectReferences();
+        Instant cutoff = Instant.now().minus(Duration.ofHours(gracePeriodHours));
+
+        int scanned = 0;
+        int deleted = 0;
+        long reclaimedBytes = 0;
+        // DirectoryStream iterates lazily, so the directory listing is never held in memory
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(uploadPath)) {
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                scanned++;
+                if (references.contains(file.getFileName().toString())
+                        || attributes.lastModifiedTime().toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+                try {
+                    if (Files.deleteIfExists(file)) {
+                        deleted++;
+                        reclaimedBytes += attributes.size();
+                    }
+                } catch (IOException e) {
+                    log.warn("Could not delete orphaned attachment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+
+        log.info("Attachment cleanup: {} references, {} files scanned, {} deleted ({} bytes reclaimed)",
+                references.size(), scanned, deleted, reclaimedBytes);
+        return deleted;
+    }
+
+    private AttachmentReferenceSet collectReferences() {
+        AttachmentReferenceSet references = new AttachmentReferenceSet();
+        try (Stream<InterviewExperience> experiences = interviewExperienceRepository.streamAttachmentReferences()) {
+            experiences.forEach(experience -> {
+                references.addUrl(experience.getResourceFileUrl());
+                references.addUrl(experience.getAttachmentUrl());
+            });
+        }
+        try (Stream<PlacementExperience> experiences = placementExperienceRepository.streamAttachmentReferences()) {
+            experiences.forEach(experience -> references.addUrl(experience.getAttachmentUrl()));
+        }
+        return references;
+    }
+}
@@ -0,0 +1,140 @@
+package com.quizapplication.placement_tracker.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compact set of stored upload file names.
+ * Names of the form "{uuid}.zip" (everything FileUploadController writes) are kept as two
+ * longs in open-addressed primitive arrays, so each reference costs ~16 bytes instead of a
+ * String + HashMap node. Anything else falls back to a regular string set.
+ */
+class AttachmentReferenceSet {
+
+    private static final String UUID_SUFFIX = ".zip";
+    private static final int UUID_LENGTH = 36;
+
+    private long[] mostSignificant;
+    private long[] leastSignificant;
+    private boolean[] used;
+    private int size;
+
+    private final Set<String> otherNames = new HashSet<>();
+
+    AttachmentReferenceSet() {
+        allocate(1024);
+    }
+
+    /**
+     * Add the file referenced by a stored attachment URL, e.g. "/api/files/download/{uuid}.zip"
+     */
+    void addUrl(String url) {
+        String fileName = fileNameOf(url);
+        if (fileName != null) {
+            add(fileName);
+        }
+    }
+
+    void add(String fileName) {
+        UUID uuid = parseUuidName(fileName);
+        if (uuid == null) {
+            otherNames.add(fileName);
+            return;
+        }
+        if ((size + 1) * 2 > used.length) {
+            resize();
+        }
+        insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    boolean contains(String fileName) {
+        UUID uuid = parseUuidName(fileName);
+        if (uuid == null) {
+            return otherNames.contains(fileName);
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int mask = used.length - 1;
+        for (int i = slot(msb, lsb, mask); used[i]; i = (i + 1) & mask) {
+            if (mostSignificant[i] == msb && leastSignificant[i] == lsb) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size + otherNames.size();
+    }
+
+    /**
+     * Last path segment of a download URL without any query string, or null for blank input
+     */
+    static String fileNameOf(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String path = url.trim();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.isEmpty() ? null : name;
+    }
+
+    private static UUID parseUuidName(String fileName) {
+        if (fileName.length() != UUID_LENGTH + UUID_SUFFIX.length()
+                || !fileName.regionMatches(true, UUID_LENGTH, UUID_SUFFIX, 0, UUID_SUFFIX.length())) {
+            return null;
+        }
+        String candidate = fileName.substring(0, UUID_LENGTH);
+        try {
+            UUID uuid = UUID.fromString(candidate);
+            // Only treat it as compact if it round-trips, otherwise case/format differences would be lost
+            return uuid.toString().equals(candidate) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void insert(long msb, long lsb) {
+        int mask = used.length - 1;
+        int i = slot(msb, lsb, mask);
+        while (used[i]) {
+            if (mostSignificant[i] == msb && leastSignificant[i] == lsb) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        mostSignificant[i] = msb;
+        leastSignificant[i] = lsb;
+        size++;
+    }
+
+    private void resize() {
+        long[] oldMsb = mostSignificant;
+        long[] oldLsb = leastSignificant;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length * 2);
+        size = 0;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                insert(oldMsb[i], oldLsb[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificant = new long[capacity];
+        leastSignificant = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    private static int slot(long msb, long lsb, int mask) {
+        long h = msb ^ (lsb * 0x9E3779B97F4A7C15L);
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -1,20 +1,23 @@
 package com.quizapplication.placement_tracker.service;
 
 import com.quizapplication.placement_tracker.dto.*;
-import com.quizapplication.placement_tracker.entity.Mentor;
 import com.quizapplication.placement_tracker.entity.User;
 import com.quizapplication.placement_tracker.entity.UserRole;
 import com.quizapplication.placement_tracker.exception.ResourceAlreadyExistsException;
 import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import com.quizapplication.placement_tracker.monitoring.jfr.MentorApprovalEvent;
 import com.quizapplication.placement_tracker.repository.DepartmentRepository;
-import com.quizapplication.placement_tracker.repository.MentorRepository;
 import com.quizapplication.placement_tracker.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,18 +26,23 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
-    private final MentorRepository mentorRepository;
+    private final MentorSyncService mentorSyncService;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final NotificationQueue notificationQueue;
+    private final DashboardStatsService dashboardStatsService;
 
     public AuthService(UserRepository userRepository, DepartmentRepository departmentRepository, 
-                      MentorRepository mentorRepository, PasswordEncoder passwordEncoder, 
-                      EmailService emailService) {
+                      MentorSyncService mentorSyncService, PasswordEncoder passwordEncoder, 
+                      EmailService emailService, NotificationQueue notificationQueue,
+                      DashboardStatsService dashboardStatsService) {
         this.userRepository = userRepository;
         this.departmentRepository = departmentRepository;
-        this.mentorRepository = mentorRepository;
+        this.mentorSyncService = mentorSyncService;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.notificationQueue = notificationQueue;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
     @Transactional
@@ -91,6 +99,8 @@ public class AuthService {
         }
 
         User savedUser = userRepository.save(user);
+        departmentRepository.moveUserCount(null, savedUser.getDepartmentId());
+        dashboardStatsService.userCreated(savedUser);
 
         // Send email notification to admin for mentor registration request with ALL details
         if (registerDTO.getRole() == UserRole.MENTOR) {
@@ -197,6 +207,7 @@ public class AuthService {
      */
     @Transactional
     public UserDTO approveMentor(String mentorId) {
+        MentorApprovalEvent event = new MentorApprovalEvent("APPROVED", "admin");
         User user = userRepository.findById(mentorId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + mentorId));
         
@@ -206,6 +217,7 @@ public class AuthService {
         
         // Get the temp password before approval
         String password = user.getTempPassword();
+        Boolean previouslyApproved = user.getIsApproved();
         
         user.setIsApproved(true);
         user.setIsVerified(true);
@@ -213,9 +225,10 @@ public class AuthService {
         user.setTempPassword(null); // Clear temp password after use
         user.setAdminApprovalToken(null);
         User updatedUser = userRepository.save(user);
+        dashboardStatsService.userChanged(UserRole.MENTOR, previouslyApproved, updatedUser);
         
-        // Sync mentor data to mentors collection
-        syncMentorToMentorsCollection(updatedUser);
+        // Mentors collection is updated asynchronously from the outbox
+        mentorSyncService.enqueue(updatedUser.getId());
         
         // Send approval notification to mentor with credentials
         try {
@@ -224,6 +237,7 @@ public class AuthService {
             System.err.println("Failed to send approval notification: " + e.getMessage());
         }
         
+        event.completed(updatedUser.getId());
         return convertToDTO(updatedUser);
     }
 
@@ -232,6 +246,7 @@ public class AuthService {
      */
     @Transactional
     public void rejectMentor(String mentorId) {
+        MentorApprovalEvent event = new MentorApprovalEvent("REJECTED", "admin");
         User user = userRepository.findById(mentorId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + mentorId));
         
@@ -247,6 +262,83 @@ public class AuthService {
         }
         
         userRepository.delete(user);
+        departmentRepository.moveUserCount(user.getDepartmentId(), null);
+        dashboardStatsService.usersDeleted(List.of(user));
+        mentorSyncService.enqueue(user.getId());
+        event.completed(user.getId());
+    }
+
+    /**
+     * Approve many mentors at once: one read and one bulk update of users, one bulk upsert into mentors.
+     * Approval emails are queued rather than sent inline. Returns an outcome per requested id.
+     */
+    @Transactional
+    public List<MentorDecisionDTO> approveMentors(List<String> mentorIds) {
+        MentorApprovalEvent event = new MentorApprovalEvent("APPROVED", "batch");
+        Map<String, User> users = findUsersById(mentorIds);
+        List<MentorDecisionDTO> outcomes = new ArrayList<>();
+        List<User> approved = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(mentorIds)) {
+            User user = users.get(id);
+            String outcome = decisionBlocker(user);
+            if (outcome == null && Boolean.TRUE.equals(user.getIsApproved())) {
+                outcome = MentorDecisionDTO.ALREADY_APPROVED;
+            }
+            if (outcome == null) {
+                outcome = MentorDecisionDTO.APPROVED;
+                approved.add(user);
+            }
+            outcomes.add(new MentorDecisionDTO(id, outcome, user != null ? user.getEmail() : null));
+        }
+        if (approved.isEmpty()) {
+            event.completedBatch(0);
+            return outcomes;
+        }
+
+        userRepository.approveMentors(approved.stream().map(User::getId).toList());
+        dashboardStatsService.mentorsApproved(approved);
+        mentorSyncService.enqueueAll(approved.stream().map(User::getId).toList());
+        for (User user : approved) {
+            String password = user.getTempPassword();
+            notificationQueue.mentorApproved(user.getEmail(), user.getFullName(),
+                    password != null ? password : "[Use your registered password]");
+        }
+        event.completedBatch(approved.size());
+        return outcomes;
+    }
+
+    /**
+     * Reject (delete) many mentors with a single delete; rejection emails are queued
+     */
+    @Transactional
+    public List<MentorDecisionDTO> rejectMentors(List<String> mentorIds) {
+        MentorApprovalEvent event = new MentorApprovalEvent("REJECTED", "batch");
+        Map<String, User> users = findUsersById(mentorIds);
+        List<MentorDecisionDTO> outcomes = new ArrayList<>();
+        List<User> rejected = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(mentorIds)) {
+            User user = users.get(id);
+            String outcome = decisionBlocker(user);
+            if (outcome == null) {
+                outcome = MentorDecisionDTO.REJECTED;
+                rejected.add(user);
+            }
+            outcomes.add(new MentorDecisionDTO(id, outcome, user != null ? user.getEmail() : null));
+        }
+        if (rejected.isEmpty()) {
+            event.completedBatch(0);
+            return outcomes;
+        }
+
+        userRepository.deleteAllById(rejected.stream().map(User::getId).toList());
+        dashboardStatsService.usersDeleted(rejected);
+        mentorSyncService.enqueueAll(rejected.stream().map(User::getId).toList());
+        for (User user : rejected) {
+            departmentRepository.moveUserCount(user.getDepartmentId(), null);
+            notificationQueue.mentorRejected(user.getEmail(), user.getFullName());
+        }
+        event.completedBatch(rejected.size());
+        return outcomes;
     }
 
     /**
@@ -254,6 +346,7 @@ public class AuthService {
      */
     @Transactional
     public UserDTO approveMentorViaToken(String token) {
+        MentorApprovalEvent event = new MentorApprovalEvent("APPROVED", "email");
         User user = userRepository.findByApprovalToken(token)
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid or expired approval token"));
         
@@ -267,6 +360,7 @@ public class AuthService {
         
         // Get the temp password before approval
         String password = user.getTempPassword();
+        Boolean previouslyApproved = user.getIsApproved();
         
         user.setIsApproved(true);
         user.setIsVerified(true);
@@ -275,9 +369,10 @@ public class AuthService {
         user.setTempPassword(null); // Clear temp password
         user.setAdminApprovalToken(null);
         User updatedUser = userRepository.save(user);
+        dashboardStatsService.userChanged(UserRole.MENTOR, previouslyApproved, updatedUser);
         
-        // Sync mentor data to mentors collection
-        syncMentorToMentorsCollection(updatedUser);
+        // Mentors collection is updated asynchronously from the outbox
+        mentorSyncService.enqueue(updatedUser.getId());
         
         // Send approval notification to mentor with credentials
         try {
@@ -286,6 +381,7 @@ public class AuthService {
             System.err.println("Failed to send approval notification: " + e.getMessage());
         }
         
+        event.completed(updatedUser.getId());
         return convertToDTO(updatedUser);
     }
 
@@ -294,6 +390,7 @@ public class AuthService {
      */
     @Transactional
     public void rejectMentorViaToken(String token) {
+        MentorApprovalEvent event = new MentorApprovalEvent("REJECTED", "email");
         User user = userRepository.findByApprovalToken(token)
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid or expired approval token"));
         
@@ -309,6 +406,10 @@ public class AuthService {
         }
         
         userRepository.delete(user);
+        departmentRepository.moveUserCount(user.getDepartmentId(), null);
+        dashboardStatsService.usersDeleted(List.of(user));
+        mentorSyncService.enqueue(user.getId());
+        event.completed(user.getId());
     }
 
     @Transactional
@@ -336,6 +437,9 @@ public class AuthService {
             throw new IllegalArgumentException("Only students can be converted to mentors");
         }
 
+        String previousDepartmentId = user.getDepartmentId();
+        Boolean previouslyApproved = user.getIsApproved();
+
         // Update user role to MENTOR
         user.setRole(UserRole.MENTOR);
         user.setPlacedCompany(convertDTO.getPlacedCompany());
@@ -361,6 +465,8 @@ public class AuthService {
         }
 
         User updatedUser = userRepository.save(user);
+        departmentRepository.moveUserCount(previousDepartmentId, updatedUser.getDepartmentId());
+        dashboardStatsService.userChanged(UserRole.STUDENT, previouslyApproved, updatedUser);
         return convertToDTO(updatedUser);
     }
 
@@ -371,6 +477,7 @@ public class AuthService {
     public UserDTO updateUserProfile(String id, UpdateProfileDTO updateProfileDTO) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        String previousDepartmentId = user.getDepartmentId();
 
         // Update basic fields
         if (updateProfileDTO.getFullName() != null) {
@@ -415,45 +522,29 @@ public class AuthService {
                 user.setContactVisibility(updateProfileDTO.getContactVisibility());
             }
 
-            // Sync to mentors collection if mentor is approved
-            if (Boolean.TRUE.equals(user.getIsApproved())) {
-                syncMentorToMentorsCollection(user);
-            }
         }
 
         User updatedUser = userRepository.save(user);
+        departmentRepository.moveUserCount(previousDepartmentId, updatedUser.getDepartmentId());
+        // Sync to mentors collection if mentor is approved
+        if (updatedUser.getRole() == UserRole.MENTOR && Boolean.TRUE.equals(updatedUser.getIsApproved())) {
+            mentorSyncService.enqueue(updatedUser.getId());
+        }
         return convertToDTO(updatedUser);
     }
 
-    /**
-     * Sync mentor data to the mentors collection
-     */
-    private void syncMentorToMentorsCollection(User user) {
-        try {
-            Mentor mentor = mentorRepository.findByEmail(user.getEmail())
-                    .orElse(new Mentor());
-            
-            mentor.setFullName(user.getFullName());
-            mentor.setEmail(user.getEmail());
-            mentor.setPhoneNumber(user.getPhoneNumber());
-            mentor.setLinkedinProfile(user.getLinkedinProfile());
-            mentor.setPlacedCompany(user.getPlacedCompany());
-            mentor.setPlacedPosition(user.getPlacedPosition());
-            mentor.setPlacementYear(user.getPlacementYear());
-            mentor.setGraduationYear(user.getGraduationYear());
-            
-            // Set department
-            if (user.getDepartmentId() != null) {
-                departmentRepository.findById(user.getDepartmentId()).ifPresent(dept -> {
-                    mentor.setDepartmentIds(java.util.List.of(dept.getId()));
-                });
-            }
-            
-            mentor.setIsActive(true);
-            mentorRepository.save(mentor);
-        } catch (Exception e) {
-            System.err.println("Failed to sync mentor to mentors collection: " + e.getMessage());
+    // NOT_FOUND or NOT_A_MENTOR when the user cannot be approved or rejected, otherwise null
+    private static String decisionBlocker(User user) {
+        if (user == null) {
+            return MentorDecisionDTO.NOT_FOUND;
         }
+        return user.getRole() != UserRole.MENTOR ? MentorDecisionDTO.NOT_A_MENTOR : null;
+    }
+
+    private Map<String, User> findUsersById(List<String> ids) {
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(new LinkedHashSet<>(ids)).forEach(user -> users.put(user.getId(), user));
+        return users;
     }
 
     private UserDTO convertToDTO(User user) {
@@ -610,15 +701,17 @@ public class AuthService {
         }
 
         // Mark as verified
+        Boolean previouslyApproved = user.getIsApproved();
         user.setIsVerified(true);
         user.setIsApproved(true); // Auto-approve once verified
         user.setRegistrationStatus("VERIFIED");
         user.setVerificationCode(null); // Clear the code
         user.setAdminApprovalToken(null);
         User savedUser = userRepository.save(user);
+        dashboardStatsService.userChanged(UserRole.MENTOR, previouslyApproved, savedUser);
 
         // Sync mentor to mentors collection
-        syncMentorToMentorsCollection(savedUser);
+        mentorSyncService.enqueue(savedUser.getId());
 
         return convertToDTO(savedUser);
     }
@@ -6,11 +6,13 @@ import com.quizapplication.placement_tracker.entity.User;
 import com.quizapplication.placement_tracker.exception.ResourceAlreadyExistsException;
 import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
 import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
 import com.quizapplication.placement_tracker.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,10 +21,16 @@ public class CompanyService {
 
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final InterviewExperienceRepository experienceRepository;
+    private final DashboardStatsService dashboardStatsService;
 
-    public CompanyService(CompanyRepository companyRepository, UserRepository userRepository) {
+    public CompanyService(CompanyRepository companyRepository, UserRepository userRepository,
+                          InterviewExperienceRepository experienceRepository,
+                          DashboardStatsService dashboardStatsService) {
         this.companyRepository = companyRepository;
         this.userRepository = userRepository;
+        this.experienceRepository = experienceRepository;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
     @Transactional
@@ -48,6 +56,15 @@ public class CompanyService {
         company.setCreatedById(createdBy.getId());
 
         Company savedCompany = companyRepository.save(company);
+        dashboardStatsService.companiesChanged(1);
+
+        // Experiences already submitted under this name now belong to the company
+        long linked = experienceRepository.assignCompany(
+                "^" + Pattern.quote(savedCompany.getCompanyName()) + "$", savedCompany.getId());
+        if (linked > 0) {
+            companyRepository.incrementExperienceCount(savedCompany.getId(), linked);
+            savedCompany.setExperienceCount(savedCompany.getExperienceCount() + linked);
+        }
         return convertToDTO(savedCompany);
     }
 
@@ -97,8 +114,11 @@ public class CompanyService {
         if (companyDTO.getLogoUrl() != null) company.setLogoUrl(companyDTO.getLogoUrl());
         if (companyDTO.getHeadquarters() != null) company.setHeadquarters(companyDTO.getHeadquarters());
 
-        Company updatedCompany = companyRepository.save(company);
-        return convertToDTO(updatedCompany);
+        companyRepository.updateDetails(id, company.getCompanyName(), company.getDescription(), company.getIndustry(),
+                company.getWebsite(), company.getLogoUrl(), company.getHeadquarters());
+        // Read back for the current experienceCount rather than the one loaded above
+        return convertToDTO(companyRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + id)));
     }
 
     @Transactional
@@ -107,6 +127,8 @@ public class CompanyService {
             throw new ResourceNotFoundException("Company not found with id: " + id);
         }
         companyRepository.deleteById(id);
+        dashboardStatsService.companiesChanged(-1);
+        experienceRepository.unassignCompany(id);
     }
 
     private CompanyDTO convertToDTO(Company company) {
@@ -120,11 +142,7 @@ public class CompanyService {
         dto.setHeadquarters(company.getHeadquarters());
         dto.setCreatedAt(company.getCreatedAt());
         dto.setCreatedById(company.getCreatedById());
-        if (company.getInterviewExperienceIds() != null) {
-            dto.setExperienceCount(company.getInterviewExperienceIds().size());
-        } else {
-            dto.setExperienceCount(0);
-        }
+        dto.setExperienceCount((int) company.getExperienceCount());
         return dto;
     }
 }
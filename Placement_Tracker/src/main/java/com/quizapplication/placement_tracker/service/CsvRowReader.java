@@ -0,0 +1,110 @@
+package com.quizapplication.placement_tracker.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV: comma separated, fields optionally quoted with "" as an escaped quote, quoted fields may
+ * span lines. Accepts LF or CRLF line endings and a leading UTF-8 byte order mark.
+ */
+class CsvRowReader implements SpreadsheetRowReader {
+
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private final Reader reader;
+    private int rowNumber;
+    private int nextRowNumber = 1;
+    private boolean finished;
+
+    CsvRowReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public List<String> next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean atFieldStart = true;
+        int lines = 1;
+        int c = reader.read();
+        if (c == '\uFEFF' && nextRowNumber == 1) {
+            c = reader.read();
+        }
+        if (c == -1) {
+            finished = true;
+            return null;
+        }
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting in row " + nextRowNumber);
+                }
+                if (c == '"') {
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lines++;
+                    }
+                    append(field, c);
+                }
+            } else if (c == '"' && atFieldStart) {
+                quoted = true;
+                atFieldStart = false;
+            } else if (c == ',') {
+                cells.add(field.toString());
+                field.setLength(0);
+                atFieldStart = true;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                cells.add(field.toString());
+                finished = c == -1;
+                rowNumber = nextRowNumber;
+                nextRowNumber += lines;
+                return cells;
+            } else {
+                append(field, c);
+                atFieldStart = false;
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Field longer than " + MAX_FIELD_LENGTH + " characters in row " + nextRowNumber);
+        }
+        field.append((char) c);
+    }
+}
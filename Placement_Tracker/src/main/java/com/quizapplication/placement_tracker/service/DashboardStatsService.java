@@ -0,0 +1,216 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.DashboardStatsDTO;
+import com.quizapplication.placement_tracker.dto.DepartmentStatsDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.DashboardCounters;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DashboardCountersRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admin dashboard totals. Every service write that adds, removes or changes the role or approval of a user,
+ * experience or company reports it here and the change is applied as one $inc on the dashboard_counters
+ * document; per-department totals are the counters already kept on each department. Reading the stats is
+ * therefore two small reads, whatever the size of the collections.
+ * <p>
+ * The counters, including the ones kept on each company and department, are recounted from the collections at
+ * startup and every reconcile-interval-ms, which also repairs writes made outside the services. A write landing
+ * during a recount can be missed until the next one.
+ */
+@Service
+@Slf4j
+public class DashboardStatsService {
+
+    private final DashboardCountersRepository countersRepository;
+    private final UserRepository userRepository;
+    private final InterviewExperienceRepository experienceRepository;
+    private final CompanyRepository companyRepository;
+    private final DepartmentRepository departmentRepository;
+
+    private final AtomicLong drifted = new AtomicLong();
+
+    public DashboardStatsService(DashboardCountersRepository countersRepository, UserRepository userRepository,
+                                 InterviewExperienceRepository experienceRepository,
+                                 CompanyRepository companyRepository, DepartmentRepository departmentRepository) {
+        this.countersRepository = countersRepository;
+        this.userRepository = userRepository;
+        this.experienceRepository = experienceRepository;
+        this.companyRepository = companyRepository;
+        this.departmentRepository = departmentRepository;
+    }
+
+    public DashboardStatsDTO getStats() {
+        DashboardCounters counters = countersRepository.findById(DashboardCounters.GLOBAL_ID).orElseGet(DashboardCounters::new);
+        DashboardStatsDTO dto = new DashboardStatsDTO();
+        dto.setStudents(counters.get(DashboardCounters.STUDENTS));
+        dto.setMentors(counters.get(DashboardCounters.MENTORS));
+        dto.setAdmins(counters.get(DashboardCounters.ADMINS));
+        dto.setTotalUsers(dto.getStudents() + dto.getMentors() + dto.getAdmins());
+        dto.setPendingMentors(counters.get(DashboardCounters.PENDING_MENTORS));
+        dto.setExperiences(counters.get(DashboardCounters.EXPERIENCES));
+        dto.setCompanies(counters.get(DashboardCounters.COMPANIES));
+        dto.setDepartments(departmentRepository.findAll().stream()
+                .sorted(Comparator.comparing(Department::getDepartmentName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(DashboardStatsService::convertToDTO)
+                .toList());
+        dto.setReconciledAt(counters.getReconciledAt());
+        return dto;
+    }
+
+    public void userCreated(User user) {
+        Map<String, Long> deltas = new HashMap<>();
+        addUser(deltas, user.getRole(), user.getIsApproved(), 1);
+        increment(deltas);
+    }
+
+    /**
+     * The user after a save, with its role and approval before it
+     */
+    public void userChanged(UserRole previousRole, Boolean previouslyApproved, User user) {
+        Map<String, Long> deltas = new HashMap<>();
+        addUser(deltas, previousRole, previouslyApproved, -1);
+        addUser(deltas, user.getRole(), user.getIsApproved(), 1);
+        increment(deltas);
+    }
+
+    public void usersDeleted(Collection<User> users) {
+        Map<String, Long> deltas = new HashMap<>();
+        users.forEach(user -> addUser(deltas, user.getRole(), user.getIsApproved(), -1));
+        increment(deltas);
+    }
+
+    /**
+     * Mentors approved in one batch, as loaded before the approval
+     */
+    public void mentorsApproved(Collection<User> mentors) {
+        Map<String, Long> deltas = new HashMap<>();
+        mentors.forEach(mentor -> {
+            addUser(deltas, mentor.getRole(), mentor.getIsApproved(), -1);
+            addUser(deltas, mentor.getRole(), true, 1);
+        });
+        increment(deltas);
+    }
+
+    public void experiencesChanged(long delta) {
+        increment(Map.of(DashboardCounters.EXPERIENCES, delta));
+    }
+
+    public void companiesChanged(long delta) {
+        increment(Map.of(DashboardCounters.COMPANIES, delta));
+    }
+
+    @Scheduled(fixedDelayString = "${admin.dashboard.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("Dashboard counter reconciliation aborted: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recounts every counter from the collections and overwrites the ones that drifted; returns the total drift
+     */
+    public synchronized long reconcile() {
+        long started = System.nanoTime();
+        DashboardCounters counted = new DashboardCounters();
+        counted.setId(DashboardCounters.GLOBAL_ID);
+        for (UserRole role : UserRole.values()) {
+            counted.getCounts().put(counterFor(role), userRepository.countByRole(role));
+        }
+        counted.getCounts().put(DashboardCounters.PENDING_MENTORS, userRepository.countByRoleAndIsApproved(UserRole.MENTOR, false));
+        counted.getCounts().put(DashboardCounters.EXPERIENCES, experienceRepository.count());
+        counted.getCounts().put(DashboardCounters.COMPANIES, companyRepository.count());
+        counted.setReconciledAt(LocalDateTime.now());
+
+        DashboardCounters current = countersRepository.findById(DashboardCounters.GLOBAL_ID).orElseGet(DashboardCounters::new);
+        long drift = 0;
+        for (String counter : counted.getCounts().keySet()) {
+            drift += Math.abs(counted.get(counter) - current.get(counter));
+        }
+        countersRepository.save(counted);
+
+        for (Company company : companyRepository.findAll()) {
+            long experiences = experienceRepository.countByCompanyId(company.getId());
+            if (experiences != company.getExperienceCount()) {
+                companyRepository.setExperienceCount(company.getId(), experiences);
+                drift += Math.abs(experiences - company.getExperienceCount());
+            }
+        }
+
+        for (Department department : departmentRepository.findAll()) {
+            long experiences = experienceRepository.countByDepartmentId(department.getId());
+            long users = userRepository.countByDepartmentId(department.getId());
+            long departmentDrift = Math.abs(experiences - department.getExperienceCount())
+                    + Math.abs(users - department.getUserCount());
+            if (departmentDrift > 0) {
+                departmentRepository.setCounts(department.getId(), experiences, users);
+                drift += departmentDrift;
+            }
+        }
+
+        drifted.addAndGet(drift);
+        if (drift > 0) {
+            log.info("Dashboard counters reconciled: off by {} in total, recounted in {} ms",
+                    drift, (System.nanoTime() - started) / 1_000_000);
+        }
+        return drift;
+    }
+
+    public long getDriftedCount() {
+        return drifted.get();
+    }
+
+    private void increment(Map<String, Long> deltas) {
+        Map<String, Long> changed = new HashMap<>(deltas);
+        changed.values().removeIf(delta -> delta == 0);
+        if (!changed.isEmpty()) {
+            countersRepository.increment(DashboardCounters.GLOBAL_ID, changed);
+        }
+    }
+
+    // Pending means a mentor with isApproved false, as in AuthService.getPendingMentors
+    private static void addUser(Map<String, Long> deltas, UserRole role, Boolean approved, long sign) {
+        if (role == null) {
+            return;
+        }
+        deltas.merge(counterFor(role), sign, Long::sum);
+        if (role == UserRole.MENTOR && Boolean.FALSE.equals(approved)) {
+            deltas.merge(DashboardCounters.PENDING_MENTORS, sign, Long::sum);
+        }
+    }
+
+    private static String counterFor(UserRole role) {
+        return switch (role) {
+            case STUDENT -> DashboardCounters.STUDENTS;
+            case MENTOR -> DashboardCounters.MENTORS;
+            case ADMIN -> DashboardCounters.ADMINS;
+        };
+    }
+
+    private static DepartmentStatsDTO convertToDTO(Department department) {
+        DepartmentStatsDTO dto = new DepartmentStatsDTO();
+        dto.setDepartmentId(department.getId());
+        dto.setDepartmentName(department.getDepartmentName());
+        dto.setDepartmentCode(department.getDepartmentCode());
+        dto.setUsers(department.getUserCount());
+        dto.setExperiences(department.getExperienceCount());
+        return dto;
+    }
+}
@@ -78,13 +78,14 @@ public class DepartmentService {
             throw new ResourceAlreadyExistsException("Department with name '" + departmentDTO.getDepartmentName() + "' already exists");
         }
 
+        // A targeted $set rather than save(), which would write back the counters as loaded above
+        departmentRepository.updateDetails(id, departmentDTO.getDepartmentName(), departmentDTO.getDepartmentCode(),
+                departmentDTO.getDescription(), departmentDTO.getDepartmentGroup());
         department.setDepartmentName(departmentDTO.getDepartmentName());
         department.setDepartmentCode(departmentDTO.getDepartmentCode());
         department.setDescription(departmentDTO.getDescription());
         department.setDepartmentGroup(departmentDTO.getDepartmentGroup());
-
-        Department updatedDepartment = departmentRepository.save(department);
-        return convertToDTO(updatedDepartment);
+        return convertToDTO(department);
     }
 
     @Transactional
@@ -0,0 +1,137 @@
+package com.quizapplication.placement_tracker.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Creates and verifies expiring download URLs of the form
+ * /api/files/signed/{fileName}?expires={epochSeconds}&signature={hmac}.
+ * Verification needs only the shared key, so it works without any database or session state.
+ * <p>
+ * Experiences store the stable reference /api/files/download/{fileName}, which is not a download link by
+ * itself: that path is served only with a valid signature too. The uploader gets an owner token with the
+ * upload response, which lets them sign fresh links for the file later.
+ */
+@Service
+@Slf4j
+public class DownloadUrlSigner {
+
+    public static final String SIGNED_PATH_PREFIX = "/api/files/signed/";
+    public static final String ATTACHMENT_PATH_PREFIX = "/api/files/download/";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Mac prototype;
+    private final long ttlSeconds;
+    private final long bucketSeconds;
+
+    public DownloadUrlSigner(@Value("${file.download.signing-key:}") String signingKey,
+                             @Value("${file.download.url-ttl-hours:168}") long ttlHours,
+                             @Value("${file.download.expiry-bucket-minutes:60}") long bucketMinutes) {
+        byte[] key;
+        if (signingKey == null || signingKey.isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            log.warn("file.download.signing-key is not set - using a random key, signed URLs will not survive a restart");
+        } else {
+            key = signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise download URL signing", e);
+        }
+        this.ttlSeconds = ttlHours * 3600;
+        this.bucketSeconds = Math.max(60, bucketMinutes * 60);
+    }
+
+    /**
+     * Sign a stored file name. Expiry is rounded up to a bucket boundary so repeated requests
+     * within a bucket get the identical URL, which keeps proxy cache hit rates high.
+     */
+    public SignedUrl sign(String fileName) {
+        long earliest = Instant.now().getEpochSecond() + ttlSeconds;
+        long expires = ((earliest + bucketSeconds - 1) / bucketSeconds) * bucketSeconds;
+        String url = SIGNED_PATH_PREFIX + fileName + "?expires=" + expires + "&signature=" + signature(fileName, expires);
+        return new SignedUrl(url, Instant.ofEpochSecond(expires));
+    }
+
+    /**
+     * Signed URL for a stored attachment URL such as "/api/files/download/{fileName}", or null if there is none
+     */
+    public String signAttachmentUrl(String attachmentUrl) {
+        String fileName = AttachmentReferenceSet.fileNameOf(attachmentUrl);
+        return fileName != null ? sign(fileName).url() : null;
+    }
+
+    /**
+     * Stable reference to store for an uploaded file given either its signed or its stored URL;
+     * any other URL is returned unchanged
+     */
+    public static String attachmentReference(String url) {
+        String fileName = AttachmentReferenceSet.fileNameOf(url);
+        if (fileName == null) {
+            return url;
+        }
+        String path = url.trim();
+        return path.startsWith(SIGNED_PATH_PREFIX) || path.startsWith(ATTACHMENT_PATH_PREFIX)
+                ? ATTACHMENT_PATH_PREFIX + fileName
+                : url;
+    }
+
+    /**
+     * Token handed to the uploader of a file; it never expires and only authorises signing new links for that file
+     */
+    public String ownerToken(String fileName) {
+        // Never collides with a URL signature, whose input always ends in the numeric expiry
+        return hmac(fileName + "\nowner");
+    }
+
+    public boolean isOwner(String fileName, String ownerToken) {
+        if (ownerToken == null) {
+            return false;
+        }
+        byte[] expected = ownerToken(fileName).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, ownerToken.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Check the signature and expiry of a signed download request
+     */
+    public boolean isValid(String fileName, long expires, String signature) {
+        if (signature == null || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = signature(fileName, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String fileName, long expires) {
+        return hmac(fileName + "\n" + expires);
+    }
+
+    private String hmac(String input) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC implementation is not cloneable", e);
+        }
+        byte[] digest = mac.doFinal(input.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    public record SignedUrl(String url, Instant expiresAt) {
+    }
+}
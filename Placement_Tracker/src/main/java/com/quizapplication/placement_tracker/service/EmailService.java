@@ -1,8 +1,13 @@
 package com.quizapplication.placement_tracker.service;
 
+import com.quizapplication.placement_tracker.monitoring.RequestTrace;
+import com.quizapplication.placement_tracker.monitoring.jfr.EmailSendEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -10,6 +15,10 @@ import org.springframework.stereotype.Service;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 @Slf4j
@@ -27,6 +36,15 @@ public class EmailService {
     @Value("${app.base.url:http://localhost:8080}")
     private String baseUrl;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${mail.smtp-threads:4}")
+    private int smtpThreads;
+
+    // Virtual-thread mode only, see sendFromVirtualThread
+    private ExecutorService smtpExecutor;
+
     // Store OTPs with expiry (email -> OTP)
     private final Map<String, OTPData> otpStore = new ConcurrentHashMap<>();
 
@@ -82,7 +100,7 @@ public class EmailService {
                         "If you did not request this, please ignore this email.\n\n" +
                         "Best regards,\n" +
                         "GCT Placement Cell");
-                mailSender.send(message);
+                send("otp", message);
                 return otp; // Return OTP for dev display
             } catch (Exception e) {
                 log.error("Failed to send email: {}", e.getMessage());
@@ -178,7 +196,7 @@ public class EmailService {
                 message.setTo(adminEmail);
                 message.setSubject(subject);
                 message.setText(text);
-                mailSender.send(message);
+                send("mentor-registration", message);
                 log.info("Mentor registration notification with approve link sent to: {}", adminEmail);
             } catch (Exception e) {
                 log.error("Failed to send mentor registration notification: {}", e.getMessage());
@@ -219,7 +237,7 @@ public class EmailService {
                 message.setTo(mentorEmail);
                 message.setSubject(subject);
                 message.setText(text);
-                mailSender.send(message);
+                send("mentor-approval", message);
                 log.info("Mentor approval notification sent to: {}", mentorEmail);
             } catch (Exception e) {
                 log.error("Failed to send mentor approval notification: {}", e.getMessage());
@@ -260,7 +278,7 @@ public class EmailService {
                 message.setTo(mentorEmail);
                 message.setSubject(subject);
                 message.setText(text);
-                mailSender.send(message);
+                send("mentor-rejection", message);
                 log.info("Mentor rejection notification sent to: {}", mentorEmail);
             } catch (Exception e) {
                 log.error("Failed to send mentor rejection notification: {}", e.getMessage());
@@ -328,7 +346,7 @@ public class EmailService {
                 message.setTo(adminEmail);
                 message.setSubject(subject);
                 message.setText(text);
-                mailSender.send(message);
+                send("mentor-registration-request", message);
                 log.info("Mentor registration request sent to admin: {}", adminEmail);
             } catch (Exception e) {
                 log.error("Failed to send mentor registration request to admin: {}", e.getMessage());
@@ -372,7 +390,7 @@ public class EmailService {
                 message.setTo(mentorEmail);
                 message.setSubject(subject);
                 message.setText(text);
-                mailSender.send(message);
+                send("mentor-verification-code", message);
                 log.info("Mentor verification code sent to: {}", mentorEmail);
             } catch (Exception e) {
                 log.error("Failed to send mentor verification code: {}", e.getMessage());
@@ -383,4 +401,58 @@ public class EmailService {
             log.info("DEV MODE - Mentor Verification Code for {}: {}", mentorEmail, verificationCode);
         }
     }
+
+    /**
+     * Sends through the configured mail sender, recording an EmailSendEvent and a request span
+     */
+    private void send(String kind, SimpleMailMessage message) {
+        EmailSendEvent event = new EmailSendEvent(kind);
+        boolean sent = false;
+        try (RequestTrace.Scope ignored = RequestTrace.span(RequestTrace.EMAIL, kind)) {
+            if (smtpExecutor != null && Thread.currentThread().isVirtual()) {
+                sendFromVirtualThread(message);
+            } else {
+                mailSender.send(message);
+            }
+            sent = true;
+        } finally {
+            event.sent(message.getTo() != null ? message.getTo().length : 0, message.getText(), sent);
+        }
+    }
+
+    /**
+     * Jakarta Mail's SMTP transport does its network I/O inside synchronized methods, which would pin the
+     * carrier of a virtual thread for the whole exchange. Virtual callers hand the send to a small platform
+     * pool and park until it completes.
+     */
+    private void sendFromVirtualThread(SimpleMailMessage message) {
+        Future<?> result = smtpExecutor.submit(() -> mailSender.send(message));
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MailSendException("Failed to send email", e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while sending email", e);
+        }
+    }
+
+    @PostConstruct
+    void startSmtpExecutor() {
+        if (virtualThreads && mailSender != null) {
+            smtpExecutor = Executors.newFixedThreadPool(smtpThreads,
+                    Thread.ofPlatform().name("smtp-", 1).daemon(true).factory());
+        }
+    }
+
+    @PreDestroy
+    void stopSmtpExecutor() {
+        if (smtpExecutor != null) {
+            smtpExecutor.shutdown();
+        }
+    }
 }
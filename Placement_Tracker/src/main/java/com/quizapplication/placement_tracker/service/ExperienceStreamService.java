@@ -0,0 +1,114 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import com.quizapplication.placement_tracker.repository.ReactiveDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.ReactiveInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.ReactivePlacementExperienceRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterparts of the browse and search reads in {@link InterviewExperienceService} and
+ * {@link PlacementExperienceService}. Results are produced as the reactive driver delivers them, and only
+ * as fast as the subscriber (ultimately the HTTP client) asks for them.
+ */
+@Service
+public class ExperienceStreamService {
+
+    private final ReactiveInterviewExperienceRepository interviewExperienceRepository;
+    private final ReactivePlacementExperienceRepository placementExperienceRepository;
+    private final ReactiveDepartmentRepository departmentRepository;
+    private final InterviewExperienceService interviewExperienceService;
+    private final PlacementExperienceService placementExperienceService;
+
+    public ExperienceStreamService(ReactiveInterviewExperienceRepository interviewExperienceRepository,
+                                   ReactivePlacementExperienceRepository placementExperienceRepository,
+                                   ReactiveDepartmentRepository departmentRepository,
+                                   InterviewExperienceService interviewExperienceService,
+                                   PlacementExperienceService placementExperienceService) {
+        this.interviewExperienceRepository = interviewExperienceRepository;
+        this.placementExperienceRepository = placementExperienceRepository;
+        this.departmentRepository = departmentRepository;
+        this.interviewExperienceService = interviewExperienceService;
+        this.placementExperienceService = placementExperienceService;
+    }
+
+    public Flux<InterviewExperienceDTO> getAllExperiences() {
+        return withDepartmentNames(interviewExperienceRepository.findAllBy());
+    }
+
+    public Mono<InterviewExperienceDTO> getExperienceById(String id) {
+        return interviewExperienceRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Interview experience not found with id: " + id)))
+                .flatMap(experience -> departmentRepository.findNameById(experience.getDepartmentId())
+                        .map(department -> interviewExperienceService.convertToDTO(experience, department.getDepartmentName()))
+                        .switchIfEmpty(Mono.fromSupplier(() -> interviewExperienceService.convertToDTO(experience, null))));
+    }
+
+    public Flux<InterviewExperienceDTO> getExperiencesByDepartment(String departmentId) {
+        return requireDepartment(departmentId)
+                .thenMany(withDepartmentNames(interviewExperienceRepository.findByDepartmentId(departmentId)));
+    }
+
+    public Flux<InterviewExperienceDTO> searchByCompany(String companyName) {
+        return withDepartmentNames(interviewExperienceRepository.findByCompanyNameContainingIgnoreCase(companyName));
+    }
+
+    public Flux<InterviewExperienceDTO> getExperiencesByYear(Integer year) {
+        return withDepartmentNames(interviewExperienceRepository.findByYearOfPlacement(year));
+    }
+
+    public Flux<InterviewExperienceDTO> getMentorsAvailable() {
+        return withDepartmentNames(interviewExperienceRepository.findByWillingToMentor(true));
+    }
+
+    public Flux<InterviewExperienceDTO> getExperiencesByDepartmentAndYear(String departmentId, Integer year) {
+        return requireDepartment(departmentId)
+                .thenMany(withDepartmentNames(interviewExperienceRepository.findByDepartmentIdAndYearOfPlacement(departmentId, year)));
+    }
+
+    public Flux<PlacementExperience> getAllPlacementExperiences() {
+        return placementExperienceRepository.findAllByOrderBySubmittedAtDesc()
+                .map(placementExperienceService::withDownloadUrl);
+    }
+
+    public Mono<PlacementExperience> getPlacementExperienceById(String id) {
+        return placementExperienceRepository.findById(id)
+                .map(placementExperienceService::withDownloadUrl)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Placement experience not found with id: " + id)));
+    }
+
+    public Flux<PlacementExperience> searchPlacementsByCompany(String companyName) {
+        return placementExperienceRepository.findByCompanyNameContainingIgnoreCase(companyName)
+                .map(placementExperienceService::withDownloadUrl);
+    }
+
+    public Flux<PlacementExperience> searchPlacementsByDepartment(String department) {
+        return placementExperienceRepository.findByDepartmentContainingIgnoreCase(department)
+                .map(placementExperienceService::withDownloadUrl);
+    }
+
+    public Flux<PlacementExperience> getPlacementsByResult(String result) {
+        return placementExperienceRepository.findByFinalResult(result).map(placementExperienceService::withDownloadUrl);
+    }
+
+    private Mono<Void> requireDepartment(String departmentId) {
+        return departmentRepository.existsById(departmentId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResourceNotFoundException("Department not found with id: " + departmentId)));
+    }
+
+    // One query for all department names per request instead of one lookup per experience
+    private Flux<InterviewExperienceDTO> withDepartmentNames(Flux<InterviewExperience> experiences) {
+        return departmentRepository.findAllNames()
+                .collectMap(Department::getId, Department::getDepartmentName)
+                .flatMapMany(names -> experiences.map(experience ->
+                        interviewExperienceService.convertToDTO(experience, names.get(experience.getDepartmentId()))));
+    }
+}
@@ -0,0 +1,183 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.RecordingDTO;
+import com.quizapplication.placement_tracker.dto.StartRecordingDTO;
+import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts and stops Java Flight Recorder recordings on demand. Only recordings started here are visible or
+ * stoppable through the API; -XX:StartFlightRecording and jcmd recordings are left alone.
+ * Every recording has a duration, so one that is never stopped ends by itself.
+ */
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final DateTimeFormatter NAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final int maxRecordings;
+    private final Duration maxDuration;
+    private final Map<Long, ActiveRecording> recordings = new ConcurrentHashMap<>();
+    // Makes the running-count check and the start atomic. Not a monitor: starting reads the settings and
+    // creates the disk repository, I/O that would pin a virtual thread's carrier while holding one
+    private final ReentrantLock startLock = new ReentrantLock();
+
+    public FlightRecorderService(@Value("${diagnostics.jfr.max-recordings:2}") int maxRecordings,
+                                 @Value("${diagnostics.jfr.max-duration-minutes:30}") long maxDurationMinutes) {
+        this.maxRecordings = maxRecordings;
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+    }
+
+    public RecordingDTO start(StartRecordingDTO request) {
+        startLock.lock();
+        try {
+            return startRecording(request);
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    private RecordingDTO startRecording(StartRecordingDTO request) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Java Flight Recorder is not available in this JVM");
+        }
+        long running = recordings.values().stream()
+                .filter(active -> active.recording().getState() == RecordingState.RUNNING)
+                .count();
+        if (running >= maxRecordings) {
+            throw new IllegalStateException("Already running " + running + " recording(s); stop one first");
+        }
+
+        String settingsName = request.getSettings() != null ? request.getSettings().toLowerCase() : "default";
+        if (!SETTINGS.contains(settingsName)) {
+            throw new IllegalArgumentException("Unknown settings '" + request.getSettings() + "', use default or profile");
+        }
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration(settingsName).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JFR settings '" + settingsName + "'", e);
+        }
+        if (request.getOverrides() != null) {
+            settings.putAll(request.getOverrides());
+        }
+
+        Duration duration = request.getDurationSeconds() != null
+                ? Duration.ofSeconds(request.getDurationSeconds())
+                : maxDuration;
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+
+        Recording recording = new Recording(settings);
+        recording.setName(request.getName() != null
+                ? request.getName()
+                : "placement-tracker-" + LocalDateTime.now().format(NAME_TIMESTAMP));
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+        if (request.getMaxSizeMb() != null) {
+            recording.setMaxSize(request.getMaxSizeMb() * 1024L * 1024L);
+        }
+        recording.start();
+        recordings.put(recording.getId(), new ActiveRecording(recording, settingsName));
+        log.info("Started JFR recording {} '{}' with {} settings for {}", recording.getId(), recording.getName(),
+                settingsName, duration);
+        return convertToDTO(recording, settingsName);
+    }
+
+    public List<RecordingDTO> getRecordings() {
+        return recordings.values().stream()
+                .map(active -> convertToDTO(active.recording(), active.settings()))
+                .sorted(Comparator.comparingLong(RecordingDTO::getId))
+                .toList();
+    }
+
+    /**
+     * Stops the recording (if still running) and dumps it to a temporary .jfr file. The recording is
+     * closed afterwards; the caller owns the file and deletes it once it has been sent.
+     */
+    public RecordingFile stop(long id) throws IOException {
+        ActiveRecording active = remove(id);
+        Recording recording = active.recording();
+        try {
+            if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile(recording.getName() + "-", ".jfr");
+            try {
+                recording.dump(file);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            log.info("Stopped JFR recording {} '{}' ({} bytes)", id, recording.getName(), Files.size(file));
+            return new RecordingFile(recording.getName() + ".jfr", file);
+        } finally {
+            recording.close();
+        }
+    }
+
+    /**
+     * Stops and discards the recording without downloading it
+     */
+    public void discard(long id) {
+        remove(id).recording().close();
+        log.info("Discarded JFR recording {}", id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recordings.values().forEach(active -> active.recording().close());
+        recordings.clear();
+    }
+
+    private ActiveRecording remove(long id) {
+        ActiveRecording active = recordings.remove(id);
+        if (active == null) {
+            throw new ResourceNotFoundException("Recording not found with id: " + id);
+        }
+        return active;
+    }
+
+    private RecordingDTO convertToDTO(Recording recording, String settingsName) {
+        RecordingDTO dto = new RecordingDTO();
+        dto.setId(recording.getId());
+        dto.setName(recording.getName());
+        dto.setState(recording.getState().name());
+        dto.setSettings(settingsName);
+        dto.setStartTime(recording.getStartTime());
+        dto.setDurationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : null);
+        dto.setSize(recording.getSize());
+        return dto;
+    }
+
+    public record RecordingFile(String fileName, Path path) {
+    }
+
+    private record ActiveRecording(Recording recording, String settings) {
+    }
+}
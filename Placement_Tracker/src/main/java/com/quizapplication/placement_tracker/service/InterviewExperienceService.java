@@ -1,14 +1,19 @@
 package com.quizapplication.placement_tracker.service;
 
 import com.quizapplication.placement_tracker.dto.InterviewExperienceDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.Department;
 import com.quizapplication.placement_tracker.entity.InterviewExperience;
 import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import com.quizapplication.placement_tracker.monitoring.jfr.ExperienceWriteEvent;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
 import com.quizapplication.placement_tracker.repository.DepartmentRepository;
 import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,15 +22,31 @@ public class InterviewExperienceService {
 
     private final InterviewExperienceRepository experienceRepository;
     private final DepartmentRepository departmentRepository;
+    private final CompanyRepository companyRepository;
+    private final DownloadUrlSigner downloadUrlSigner;
+    private final ZipIntegrityService zipIntegrityService;
+    private final SimilarExperienceService similarExperienceService;
+    private final DashboardStatsService dashboardStatsService;
 
     public InterviewExperienceService(InterviewExperienceRepository experienceRepository,
-                                     DepartmentRepository departmentRepository) {
+                                     DepartmentRepository departmentRepository,
+                                     CompanyRepository companyRepository,
+                                     DownloadUrlSigner downloadUrlSigner,
+                                     ZipIntegrityService zipIntegrityService,
+                                     SimilarExperienceService similarExperienceService,
+                                     DashboardStatsService dashboardStatsService) {
         this.experienceRepository = experienceRepository;
         this.departmentRepository = departmentRepository;
+        this.companyRepository = companyRepository;
+        this.downloadUrlSigner = downloadUrlSigner;
+        this.zipIntegrityService = zipIntegrityService;
+        this.similarExperienceService = similarExperienceService;
+        this.dashboardStatsService = dashboardStatsService;
     }
 
     @Transactional
     public InterviewExperienceDTO createExperience(InterviewExperienceDTO dto) {
+        ExperienceWriteEvent event = new ExperienceWriteEvent("interview", "create");
         // Verify department exists
         departmentRepository.findById(dto.getDepartmentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + dto.getDepartmentId()));
@@ -37,6 +58,7 @@ public class InterviewExperienceService {
         experience.setPersonalEmail(dto.getPersonalEmail());
         experience.setContactNumber(dto.getContactNumber());
         experience.setCompanyName(dto.getCompanyName());
+        experience.setCompanyId(companyIdFor(dto.getCompanyName()));
         experience.setPosition(dto.getPosition());
         experience.setYearOfPlacement(dto.getYearOfPlacement());
         experience.setDepartmentId(dto.getDepartmentId());
@@ -64,10 +86,17 @@ public class InterviewExperienceService {
         
         // Set attachment fields
         experience.setAttachmentFileName(dto.getAttachmentFileName());
-        experience.setAttachmentUrl(dto.getAttachmentUrl());
+        experience.setAttachmentUrl(DownloadUrlSigner.attachmentReference(dto.getAttachmentUrl()));
         experience.setAttachmentSize(dto.getAttachmentSize());
+        experience.setAttachmentStatus(zipIntegrityService.statusFor(experience.getAttachmentUrl()));
 
         InterviewExperience savedExperience = experienceRepository.save(experience);
+        moveCounters(null, null, savedExperience);
+        dashboardStatsService.experiencesChanged(1);
+        similarExperienceService.indexExperience(savedExperience);
+        zipIntegrityService.reconcile(savedExperience.getAttachmentUrl(), savedExperience.getAttachmentStatus());
+        event.saved(savedExperience.getId(), savedExperience.getCompanyName(), savedExperience.getRoundsJson(),
+                savedExperience.getAttachmentSize());
         return convertToDTO(savedExperience);
     }
 
@@ -121,8 +150,12 @@ public class InterviewExperienceService {
 
     @Transactional
     public InterviewExperienceDTO updateExperience(String id, InterviewExperienceDTO dto) {
+        ExperienceWriteEvent event = new ExperienceWriteEvent("interview", "update");
         InterviewExperience experience = experienceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Interview experience not found with id: " + id));
+        String previousAttachmentUrl = experience.getAttachmentUrl();
+        String previousCompanyId = experience.getCompanyId();
+        String previousDepartmentId = experience.getDepartmentId();
 
         // Verify department exists
         departmentRepository.findById(dto.getDepartmentId())
@@ -133,6 +166,9 @@ public class InterviewExperienceService {
         experience.setDepartment(dto.getDepartment());
         experience.setPersonalEmail(dto.getPersonalEmail());
         experience.setContactNumber(dto.getContactNumber());
+        if (!Objects.equals(dto.getCompanyName(), experience.getCompanyName())) {
+            experience.setCompanyId(companyIdFor(dto.getCompanyName()));
+        }
         experience.setCompanyName(dto.getCompanyName());
         experience.setPosition(dto.getPosition());
         experience.setYearOfPlacement(dto.getYearOfPlacement());
@@ -161,22 +197,77 @@ public class InterviewExperienceService {
         
         // Set attachment fields
         experience.setAttachmentFileName(dto.getAttachmentFileName());
-        experience.setAttachmentUrl(dto.getAttachmentUrl());
+        experience.setAttachmentUrl(DownloadUrlSigner.attachmentReference(dto.getAttachmentUrl()));
         experience.setAttachmentSize(dto.getAttachmentSize());
+        if (!Objects.equals(previousAttachmentUrl, experience.getAttachmentUrl()) || experience.getAttachmentStatus() == null) {
+            experience.setAttachmentStatus(zipIntegrityService.statusFor(experience.getAttachmentUrl()));
+        }
 
         InterviewExperience updatedExperience = experienceRepository.save(experience);
+        moveCounters(previousCompanyId, previousDepartmentId, updatedExperience);
+        similarExperienceService.indexExperience(updatedExperience);
+        zipIntegrityService.reconcile(updatedExperience.getAttachmentUrl(), updatedExperience.getAttachmentStatus());
+        event.saved(updatedExperience.getId(), updatedExperience.getCompanyName(), updatedExperience.getRoundsJson(),
+                updatedExperience.getAttachmentSize());
         return convertToDTO(updatedExperience);
     }
 
     @Transactional
     public void deleteExperience(String id) {
-        if (!experienceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Interview experience not found with id: " + id);
-        }
+        InterviewExperience experience = experienceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Interview experience not found with id: " + id));
         experienceRepository.deleteById(id);
+        moveCounters(experience.getCompanyId(), experience.getDepartmentId(), null);
+        dashboardStatsService.experiencesChanged(-1);
+        similarExperienceService.removeExperience(id);
+    }
+
+    private String companyIdFor(String companyName) {
+        if (companyName == null) {
+            return null;
+        }
+        return companyRepository.findByCompanyNameIgnoreCase(companyName)
+                .map(Company::getId)
+                .orElse(null);
+    }
+
+    /**
+     * Keeps Company/Department experienceCount in step with the experience's back-references;
+     * a null experience means it was deleted
+     */
+    private void moveCounters(String previousCompanyId, String previousDepartmentId, InterviewExperience experience) {
+        String companyId = experience != null ? experience.getCompanyId() : null;
+        String departmentId = experience != null ? experience.getDepartmentId() : null;
+        if (!Objects.equals(previousCompanyId, companyId)) {
+            if (previousCompanyId != null) {
+                companyRepository.incrementExperienceCount(previousCompanyId, -1);
+            }
+            if (companyId != null) {
+                companyRepository.incrementExperienceCount(companyId, 1);
+            }
+        }
+        if (!Objects.equals(previousDepartmentId, departmentId)) {
+            if (previousDepartmentId != null) {
+                departmentRepository.incrementExperienceCount(previousDepartmentId, -1);
+            }
+            if (departmentId != null) {
+                departmentRepository.incrementExperienceCount(departmentId, 1);
+            }
+        }
     }
 
     private InterviewExperienceDTO convertToDTO(InterviewExperience experience) {
+        // Fetch department name
+        String departmentName = departmentRepository.findById(experience.getDepartmentId())
+                .map(Department::getDepartmentName)
+                .orElse(null);
+        return convertToDTO(experience, departmentName);
+    }
+
+    /**
+     * Also used by {@link ExperienceStreamService}, which resolves department names itself
+     */
+    InterviewExperienceDTO convertToDTO(InterviewExperience experience, String departmentName) {
         InterviewExperienceDTO dto = new InterviewExperienceDTO();
         dto.setId(experience.getId());
         dto.setStudentName(experience.getStudentName());
@@ -188,10 +279,7 @@ public class InterviewExperienceService {
         dto.setPosition(experience.getPosition());
         dto.setYearOfPlacement(experience.getYearOfPlacement());
         dto.setDepartmentId(experience.getDepartmentId());
-        
-        // Fetch and set department name
-        departmentRepository.findById(experience.getDepartmentId())
-                .ifPresent(dept -> dto.setDepartmentName(dept.getDepartmentName()));
+        dto.setDepartmentName(departmentName);
         
         dto.setSalary(experience.getSalary());
         dto.setInternOffered(experience.getInternOffered());
@@ -220,6 +308,8 @@ public class InterviewExperienceService {
         dto.setAttachmentFileName(experience.getAttachmentFileName());
         dto.setAttachmentUrl(experience.getAttachmentUrl());
         dto.setAttachmentSize(experience.getAttachmentSize());
+        dto.setAttachmentDownloadUrl(downloadUrlSigner.signAttachmentUrl(experience.getAttachmentUrl()));
+        dto.setAttachmentStatus(experience.getAttachmentStatus());
         
         return dto;
     }
@@ -0,0 +1,87 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.DepartmentDTO;
+import com.quizapplication.placement_tracker.dto.MentorDirectoryEntryDTO;
+import com.quizapplication.placement_tracker.dto.PageDTO;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.MentorDirectoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Paginated mentor directory. The merge, filtering and paging happen in the repository; departments are
+ * looked up once per page rather than once per entry.
+ */
+@Service
+public class MentorDirectoryService {
+
+    private final MentorDirectoryRepository directoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final int maxPageSize;
+
+    public MentorDirectoryService(MentorDirectoryRepository directoryRepository, DepartmentRepository departmentRepository,
+                                  @Value("${mentor.directory.max-page-size:100}") int maxPageSize) {
+        this.directoryRepository = directoryRepository;
+        this.departmentRepository = departmentRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public PageDTO<MentorDirectoryEntryDTO> getDirectory(String company, String departmentId, Integer year, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), maxPageSize));
+        Page<MentorDirectoryEntry> entries = directoryRepository.findDirectory(
+                blankToNull(company), blankToNull(departmentId), year, pageRequest);
+
+        return new PageDTO<>(toDTOs(entries.getContent()), pageRequest.getPageNumber(), pageRequest.getPageSize(),
+                entries.getTotalElements(), entries.getTotalPages());
+    }
+
+    /**
+     * Converts entries in order, looking up all their departments with one query
+     */
+    List<MentorDirectoryEntryDTO> toDTOs(List<MentorDirectoryEntry> entries) {
+        Map<String, DepartmentDTO> departments = new HashMap<>();
+        departmentRepository.findAllById(entries.stream()
+                        .flatMap(entry -> entry.getDepartmentIds().stream())
+                        .distinct()
+                        .toList())
+                .forEach(dept -> departments.put(dept.getId(), convertDepartment(dept)));
+        return entries.stream()
+                .map(entry -> convertToDTO(entry, departments))
+                .toList();
+    }
+
+    static MentorDirectoryEntryDTO convertToDTO(MentorDirectoryEntry entry, Map<String, DepartmentDTO> departments) {
+        MentorDirectoryEntryDTO dto = new MentorDirectoryEntryDTO();
+        dto.setEmail(entry.getEmail());
+        dto.setFullName(entry.getFullName());
+        dto.setPhoneNumber(entry.getPhoneNumber());
+        dto.setLinkedinProfile(entry.getLinkedinProfile());
+        dto.setPlacedCompany(entry.getPlacedCompany());
+        dto.setPlacedPosition(entry.getPlacedPosition());
+        dto.setPlacementYear(entry.getPlacementYear());
+        dto.setDepartments(entry.getDepartmentIds().stream()
+                .map(departments::get)
+                .filter(Objects::nonNull)
+                .toList());
+        dto.setSources(entry.getSources());
+        return dto;
+    }
+
+    static DepartmentDTO convertDepartment(Department department) {
+        return new DepartmentDTO(department.getId(), department.getDepartmentName(), department.getDepartmentCode(),
+                department.getDescription(), department.getDepartmentGroup());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
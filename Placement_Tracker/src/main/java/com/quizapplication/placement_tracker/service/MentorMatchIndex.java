@@ -0,0 +1,336 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.DepartmentDTO;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.DepartmentGroup;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the mentor directory laid out for ranking. Candidates are numbered 0..n-1 and the
+ * per-candidate signals live in primitive arrays; postings map a company or a department group to the
+ * candidates it applies to, so a query only scores mentors that can match instead of the whole directory.
+ */
+final class MentorMatchIndex {
+
+    // Score components; a mentor matching on everything scores 1.0
+    static final double COMPANY_WEIGHT = 0.45;
+    static final double AUTHORED_AT_COMPANY_WEIGHT = 0.20;
+    static final double DEPARTMENT_WEIGHT = 0.20;
+    static final double RECENCY_WEIGHT = 0.10;
+    static final double AUTHORSHIP_WEIGHT = 0.05;
+
+    // Share of the department weight for a different department in the same group
+    private static final double SAME_GROUP_FACTOR = 0.6;
+    // The recency score halves every this many years since placement
+    private static final double RECENCY_HALF_LIFE_YEARS = 2.0;
+    // Experiences at the company / in total that earn the full authorship score
+    private static final int AUTHORED_AT_COMPANY_CAP = 2;
+    private static final int AUTHORED_TOTAL_CAP = 3;
+    private static final Set<String> COMPANY_SUFFIXES =
+            Set.of("inc", "ltd", "limited", "pvt", "private", "llc", "llp", "corp", "corporation", "co");
+
+    record Match(MentorDirectoryEntry entry, double score, List<String> reasons) {
+    }
+
+    /**
+     * Candidates with experiences at one company, ids ascending, with the number of experiences each
+     */
+    private record Postings(int[] ids, int[] counts) {
+
+        int countOf(int id) {
+            int at = Arrays.binarySearch(ids, id);
+            return at >= 0 ? counts[at] : 0;
+        }
+    }
+
+    private record Scored(int id, double score) {
+    }
+
+    /**
+     * A request resolved against this index; company and departmentBit are -1 when unknown here
+     */
+    private record Query(String companyName, int company, String departmentId, int departmentBit, DepartmentGroup group) {
+    }
+
+    private final MentorDirectoryEntry[] candidates;
+    // Company and department of each candidate as small integers, so scoring never touches the entry objects
+    private final int[] companies;
+    private final long[] departmentMasks;
+    private final int[] placementYears;
+    private final int[] groupMasks;
+    private final int[] authoredTotals;
+    // Recency plus overall authorship: the part of the score that does not depend on the query
+    private final double[] baseScores;
+    private final Map<String, Integer> companyIds;
+    private final Map<String, Integer> departmentBits;
+    private final int[][] placedAt;
+    private final Map<String, Postings> authoredAt;
+    private final int[][] byGroup;
+    private final Map<String, DepartmentGroup> departmentGroups;
+    private final Map<String, DepartmentDTO> departments;
+    private final LocalDateTime builtAt;
+
+    private MentorMatchIndex(List<MentorDirectoryEntry> entries, List<InterviewExperience> experiences,
+                             List<Department> departmentList, int currentYear) {
+        int n = entries.size();
+        this.candidates = entries.toArray(new MentorDirectoryEntry[0]);
+        this.companies = new int[n];
+        this.departmentMasks = new long[n];
+        this.placementYears = new int[n];
+        this.groupMasks = new int[n];
+        this.authoredTotals = new int[n];
+        this.baseScores = new double[n];
+        this.builtAt = LocalDateTime.now();
+
+        this.departmentGroups = new HashMap<>();
+        this.departments = new HashMap<>();
+        this.departmentBits = new HashMap<>();
+        for (Department department : departmentList) {
+            if (department.getDepartmentGroup() != null) {
+                departmentGroups.put(department.getId(), department.getDepartmentGroup());
+            }
+            departments.put(department.getId(), MentorDirectoryService.convertDepartment(department));
+            // Departments past the 64th are checked against the entry's list instead
+            if (departmentBits.size() < Long.SIZE) {
+                departmentBits.put(department.getId(), departmentBits.size());
+            }
+        }
+
+        Map<String, Integer> idByEmail = new HashMap<>();
+        this.companyIds = new HashMap<>();
+        List<List<Integer>> placed = new ArrayList<>();
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int g = 0; g < DepartmentGroup.values().length; g++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int id = 0; id < n; id++) {
+            MentorDirectoryEntry entry = candidates[id];
+            idByEmail.put(entry.getEmail(), id);
+            String companyKey = companyKey(entry.getPlacedCompany());
+            companies[id] = companyKey != null ? companyIds.computeIfAbsent(companyKey, key -> companyIds.size()) : -1;
+            if (companies[id] >= 0) {
+                if (companies[id] == placed.size()) {
+                    placed.add(new ArrayList<>());
+                }
+                placed.get(companies[id]).add(id);
+            }
+            placementYears[id] = entry.getPlacementYear() != null ? entry.getPlacementYear() : 0;
+            for (String departmentId : entry.getDepartmentIds()) {
+                Integer bit = departmentBits.get(departmentId);
+                if (bit != null) {
+                    departmentMasks[id] |= 1L << bit;
+                }
+                DepartmentGroup group = departmentGroups.get(departmentId);
+                if (group != null && (groupMasks[id] & (1 << group.ordinal())) == 0) {
+                    groupMasks[id] |= 1 << group.ordinal();
+                    groups.get(group.ordinal()).add(id);
+                }
+            }
+        }
+
+        // TreeMap keeps each company's candidate ids ascending for Postings.countOf
+        Map<String, TreeMap<Integer, Integer>> authored = new HashMap<>();
+        for (InterviewExperience experience : experiences) {
+            String email = experience.getContactEmail() != null ? experience.getContactEmail() : experience.getPersonalEmail();
+            Integer id = email != null ? idByEmail.get(email.toLowerCase(Locale.ROOT)) : null;
+            if (id == null) {
+                continue;
+            }
+            authoredTotals[id]++;
+            String key = companyKey(experience.getCompanyName());
+            if (key != null) {
+                authored.computeIfAbsent(key, k -> new TreeMap<>()).merge(id, 1, Integer::sum);
+            }
+        }
+
+        this.placedAt = placed.stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+        this.authoredAt = new HashMap<>(authored.size() * 2);
+        authored.forEach((key, counts) -> authoredAt.put(key, new Postings(
+                counts.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                counts.values().stream().mapToInt(Integer::intValue).toArray())));
+        this.byGroup = groups.stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+
+        for (int id = 0; id < n; id++) {
+            if (placementYears[id] > 0) {
+                int age = Math.max(0, currentYear - placementYears[id]);
+                baseScores[id] += RECENCY_WEIGHT * Math.pow(0.5, age / RECENCY_HALF_LIFE_YEARS);
+            }
+            baseScores[id] += AUTHORSHIP_WEIGHT * Math.min(authoredTotals[id], AUTHORED_TOTAL_CAP) / AUTHORED_TOTAL_CAP;
+        }
+    }
+
+    /**
+     * @param experiences experiences whose authors may be candidates; matched to them by contact (else personal) email
+     */
+    static MentorMatchIndex build(List<MentorDirectoryEntry> entries, List<InterviewExperience> experiences,
+                                  List<Department> departments, int currentYear) {
+        return new MentorMatchIndex(entries, experiences, departments, currentYear);
+    }
+
+    int size() {
+        return candidates.length;
+    }
+
+    LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    Map<String, DepartmentDTO> getDepartments() {
+        return departments;
+    }
+
+    /**
+     * The best {@code limit} candidates for a target company and the student's department, best first. Either
+     * may be null; with neither, candidates are ranked on recency and authorship alone.
+     */
+    List<Match> topK(String company, String departmentId, int limit) {
+        String companyKey = companyKey(company);
+        Query query = new Query(company, companyKey != null ? companyIds.getOrDefault(companyKey, -1) : -1,
+                departmentId, departmentId != null ? departmentBits.getOrDefault(departmentId, -1) : -1,
+                departmentId != null ? departmentGroups.get(departmentId) : null);
+        DepartmentGroup group = query.group();
+        int[] placedHere = query.company() >= 0 ? placedAt[query.company()] : new int[0];
+        Postings authoredHere = companyKey != null ? authoredAt.get(companyKey) : null;
+
+        Comparator<Scored> worstFirst = this::compareWorstFirst;
+        PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, worstFirst);
+        if (companyKey == null && group == null) {
+            for (int id = 0; id < candidates.length; id++) {
+                offer(best, limit, worstFirst, id, score(id, query, 0));
+            }
+        } else {
+            // Authors first, with their counts at hand; anyone reached afterwards wrote nothing on the company
+            BitSet seen = new BitSet(candidates.length);
+            if (authoredHere != null) {
+                int[] ids = authoredHere.ids();
+                for (int i = 0; i < ids.length; i++) {
+                    seen.set(ids[i]);
+                    offer(best, limit, worstFirst, ids[i],
+                            score(ids[i], query, authoredHere.counts()[i]));
+                }
+            }
+            int[][] postings = {placedHere, group != null ? byGroup[group.ordinal()] : new int[0]};
+            for (int[] ids : postings) {
+                for (int id : ids) {
+                    if (!seen.get(id)) {
+                        seen.set(id);
+                        offer(best, limit, worstFirst, id, score(id, query, 0));
+                    }
+                }
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(worstFirst.reversed());
+        List<Match> matches = new ArrayList<>(ranked.size());
+        for (Scored scored : ranked) {
+            matches.add(new Match(candidates[scored.id()], scored.score(),
+                    reasons(scored.id(), query, authoredHere)));
+        }
+        return matches;
+    }
+
+    // Lower score, then older placement, then later email ranks worse
+    private int compareWorstFirst(Scored left, Scored right) {
+        int byScore = Double.compare(left.score(), right.score());
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byYear = Integer.compare(placementYears[left.id()], placementYears[right.id()]);
+        if (byYear != 0) {
+            return byYear;
+        }
+        return candidates[right.id()].getEmail().compareTo(candidates[left.id()].getEmail());
+    }
+
+    private static void offer(PriorityQueue<Scored> best, int limit, Comparator<Scored> worstFirst, int id, double score) {
+        if (best.size() < limit) {
+            best.add(new Scored(id, score));
+        } else if (score >= best.peek().score()) {
+            // Ties on score are rare; only they need the full comparison
+            Scored scored = new Scored(id, score);
+            if (worstFirst.compare(scored, best.peek()) > 0) {
+                best.poll();
+                best.add(scored);
+            }
+        }
+    }
+
+    private double score(int id, Query query, int authoredHere) {
+        double score = baseScores[id];
+        if (query.company() >= 0 && companies[id] == query.company()) {
+            score += COMPANY_WEIGHT;
+        }
+        score += AUTHORED_AT_COMPANY_WEIGHT * Math.min(authoredHere, AUTHORED_AT_COMPANY_CAP) / AUTHORED_AT_COMPANY_CAP;
+        if (inDepartment(id, query)) {
+            score += DEPARTMENT_WEIGHT;
+        } else if (query.group() != null && (groupMasks[id] & (1 << query.group().ordinal())) != 0) {
+            score += DEPARTMENT_WEIGHT * SAME_GROUP_FACTOR;
+        }
+        return score;
+    }
+
+    private boolean inDepartment(int id, Query query) {
+        if (query.departmentBit() >= 0) {
+            return (departmentMasks[id] & (1L << query.departmentBit())) != 0;
+        }
+        return query.departmentId() != null && candidates[id].getDepartmentIds().contains(query.departmentId());
+    }
+
+    private List<String> reasons(int id, Query query, Postings authoredHere) {
+        List<String> reasons = new ArrayList<>(4);
+        if (query.company() >= 0 && companies[id] == query.company()) {
+            reasons.add("Placed at " + candidates[id].getPlacedCompany());
+        }
+        int authored = authoredHere != null ? authoredHere.countOf(id) : 0;
+        if (authored > 0) {
+            reasons.add("Wrote " + authored + (authored == 1 ? " experience" : " experiences") + " on " + query.companyName().trim());
+        }
+        if (inDepartment(id, query)) {
+            reasons.add("Same department");
+        } else if (query.group() != null && (groupMasks[id] & (1 << query.group().ordinal())) != 0) {
+            reasons.add("Same department group (" + query.group() + ")");
+        }
+        if (placementYears[id] > 0) {
+            reasons.add("Placed in " + placementYears[id]);
+        }
+        return reasons;
+    }
+
+    /**
+     * Lower-case words of the name without punctuation or legal suffixes, so "Google Inc." and "google" match
+     */
+    static String companyKey(String company) {
+        if (company == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(company.length());
+        for (String word : company.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}&]+")) {
+            if (!word.isEmpty() && !COMPANY_SUFFIXES.contains(word)) {
+                if (!key.isEmpty()) {
+                    key.append(' ');
+                }
+                key.append(word);
+            }
+        }
+        return key.isEmpty() ? null : key.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.MentorMatchDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.MentorDirectoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ranks mentors for a student's target company and department. Queries are answered from a
+ * {@link MentorMatchIndex} held in memory and rebuilt from the mentor directory and the willing-to-mentor
+ * experiences every {@code mentor.match.refresh-ms}, so a request does no database work.
+ */
+@Service
+@Slf4j
+public class MentorMatchService {
+
+    // Directory entries per page while loading the index
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final MentorDirectoryRepository directoryRepository;
+    private final InterviewExperienceRepository experienceRepository;
+    private final DepartmentRepository departmentRepository;
+    private final int maxResults;
+
+    private volatile MentorMatchIndex index;
+
+    public MentorMatchService(MentorDirectoryRepository directoryRepository,
+                              InterviewExperienceRepository experienceRepository,
+                              DepartmentRepository departmentRepository,
+                              @Value("${mentor.match.max-results:50}") int maxResults) {
+        this.directoryRepository = directoryRepository;
+        this.experienceRepository = experienceRepository;
+        this.departmentRepository = departmentRepository;
+        this.maxResults = maxResults;
+    }
+
+    public List<MentorMatchDTO> match(String company, String departmentId, int limit) {
+        MentorMatchIndex current = currentIndex();
+        List<MentorMatchIndex.Match> matches = current.topK(blankToNull(company), blankToNull(departmentId),
+                Math.min(Math.max(limit, 1), maxResults));
+        return matches.stream()
+                .map(match -> new MentorMatchDTO(
+                        MentorDirectoryService.convertToDTO(match.entry(), current.getDepartments()),
+                        Math.round(match.score() * 1000) / 1000.0,
+                        match.reasons()))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${mentor.match.refresh-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Mentor match index refresh failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the index and swaps it in; queries keep using the previous one until then
+     */
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        List<MentorDirectoryEntry> entries = new ArrayList<>();
+        Page<MentorDirectoryEntry> page;
+        int pageNumber = 0;
+        do {
+            page = directoryRepository.findDirectory(null, null, null, PageRequest.of(pageNumber++, LOAD_PAGE_SIZE));
+            entries.addAll(page.getContent());
+        } while (page.hasNext());
+
+        List<InterviewExperience> authored;
+        try (Stream<InterviewExperience> experiences = experienceRepository.streamMentorAuthors()) {
+            authored = experiences.toList();
+        }
+
+        MentorMatchIndex built = MentorMatchIndex.build(entries, authored, departmentRepository.findAll(),
+                Year.now().getValue());
+        index = built;
+        log.debug("Mentor match index rebuilt: {} mentors in {} ms", built.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public int getIndexSize() {
+        MentorMatchIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Seconds since the index in use was built, zero before the first build
+     */
+    public double getIndexAgeSeconds() {
+        MentorMatchIndex current = index;
+        return current == null ? 0 : Duration.between(current.getBuiltAt(), LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    // Built on first use when a request beats the first scheduled refresh; concurrent first requests build it once
+    private MentorMatchIndex currentIndex() {
+        MentorMatchIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    refresh();
+                }
+            }
+            current = index;
+        }
+        return current;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,340 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.entity.MentorSyncTask;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import com.quizapplication.placement_tracker.repository.MentorSyncTaskRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the mentors collection in step with approved mentor users through an outbox (mentor_sync_outbox).
+ * Writers only record which user changed; a scheduled worker applies the projections in batches, rebuilt
+ * from the user as it is at that moment, so a task can be retried or applied twice without harm. A user
+ * that was deleted, demoted or unapproved has its projection removed. Failed tasks stay queued with an
+ * exponential backoff, and a periodic reconciliation re-enqueues any approved mentor whose projection has
+ * drifted and any projection whose user no longer qualifies (e.g. a crash between the user write and the
+ * outbox write).
+ * <p>
+ * Projections carry the user id. Mentors an admin added directly have none and are never touched here.
+ */
+@Service
+@Slf4j
+public class MentorSyncService {
+
+    // Mentor emails per findByEmailIn during reconciliation
+    private static final int RECONCILE_CHUNK = 500;
+
+    private final MentorSyncTaskRepository outbox;
+    private final UserRepository userRepository;
+    private final MentorRepository mentorRepository;
+    private final DepartmentRepository departmentRepository;
+    private final int batchSize;
+    private final long maxBackoffSeconds;
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong drifted = new AtomicLong();
+    private volatile long pending;
+    private volatile LocalDateTime oldestPending;
+
+    public MentorSyncService(MentorSyncTaskRepository outbox, UserRepository userRepository,
+                             MentorRepository mentorRepository, DepartmentRepository departmentRepository,
+                             @Value("${mentor.sync.batch-size:100}") int batchSize,
+                             @Value("${mentor.sync.max-backoff-seconds:300}") long maxBackoffSeconds) {
+        this.outbox = outbox;
+        this.userRepository = userRepository;
+        this.mentorRepository = mentorRepository;
+        this.departmentRepository = departmentRepository;
+        this.batchSize = batchSize;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    /**
+     * Records that the user's mentor projection must be rebuilt; call after the user has been saved
+     */
+    public void enqueue(String userId) {
+        enqueueAll(List.of(userId));
+    }
+
+    public void enqueueAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outbox.saveAll(userIds.stream().distinct().map(id -> new MentorSyncTask(id, now)).toList());
+        if (oldestPending == null) {
+            oldestPending = now;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mentor.sync.interval-ms:1000}")
+    public void drain() {
+        try {
+            int taken;
+            do {
+                taken = applyBatch();
+            } while (taken == batchSize);
+        } catch (Exception e) {
+            log.warn("Mentor sync pass aborted: {}", e.getMessage());
+        }
+        try {
+            pending = outbox.count();
+            oldestPending = outbox.findFirstByOrderByEnqueuedAtAsc().map(MentorSyncTask::getEnqueuedAt).orElse(null);
+        } catch (Exception e) {
+            log.debug("Could not refresh mentor sync lag: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies up to one batch of due tasks; returns the number of tasks taken
+     */
+    int applyBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MentorSyncTask> tasks = outbox.findByNextAttemptAtLessThanEqualOrderByEnqueuedAtAsc(now, Limit.of(batchSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(tasks.stream().map(MentorSyncTask::getUserId).toList())
+                .forEach(user -> users.put(user.getId(), user));
+
+        List<MentorSyncTask> done = new ArrayList<>(tasks.size());
+        try {
+            apply(tasks.stream().map(MentorSyncTask::getUserId).toList(), users);
+            done.addAll(tasks);
+        } catch (RuntimeException batchFailure) {
+            // Apply one by one so a single bad user does not hold back the rest of the batch
+            for (MentorSyncTask task : tasks) {
+                try {
+                    apply(List.of(task.getUserId()), users);
+                    done.add(task);
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    long backoff = Math.min(maxBackoffSeconds, 1L << Math.min(task.getAttempts(), 20));
+                    outbox.recordFailure(task.getUserId(), task.getEnqueuedAt(), now.plusSeconds(backoff), e.getMessage());
+                    log.warn("Mentor sync for user {} failed (attempt {}), retrying in {}s: {}",
+                            task.getUserId(), task.getAttempts() + 1, backoff, e.getMessage());
+                }
+            }
+        }
+
+        for (MentorSyncTask task : done) {
+            outbox.deleteByUserIdAndEnqueuedAt(task.getUserId(), task.getEnqueuedAt());
+            if (isProjected(users.get(task.getUserId()))) {
+                applied.incrementAndGet();
+            } else {
+                removed.incrementAndGet();
+            }
+        }
+        return tasks.size();
+    }
+
+    @Scheduled(cron = "${mentor.sync.reconcile-cron:0 15 * * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Mentor projection reconciliation aborted: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compares every approved mentor with its projection and enqueues the ones that are missing or stale,
+     * then enqueues the user behind every projection that no longer has an approved mentor user.
+     * Returns the number enqueued.
+     */
+    public int reconcile() {
+        List<User> mentors = userRepository.findByRoleAndIsApproved(UserRole.MENTOR, true);
+        Set<String> stale = new HashSet<>();
+        for (int from = 0; from < mentors.size(); from += RECONCILE_CHUNK) {
+            List<User> chunk = mentors.subList(from, Math.min(from + RECONCILE_CHUNK, mentors.size()));
+            Map<String, Mentor> projections = mentorRepository.findByEmailIn(chunk.stream().map(User::getEmail).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Mentor::getEmail, mentor -> mentor, (first, second) -> first));
+            for (User user : chunk) {
+                Mentor projection = projections.get(user.getEmail());
+                if (projection == null || !matches(user, projection)) {
+                    stale.add(user.getId());
+                }
+            }
+        }
+        int orphans = collectOrphans(mentors, stale);
+        enqueueAll(stale);
+        drifted.addAndGet(stale.size());
+        log.info("Mentor projection reconciliation: {} approved mentors checked, {} enqueued ({} orphaned projections)",
+                mentors.size(), stale.size(), orphans);
+        return stale.size();
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    /**
+     * Age of the oldest queued task, zero when the outbox is empty
+     */
+    public double getLagSeconds() {
+        LocalDateTime oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    public long getRemovedCount() {
+        return removed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getDriftedCount() {
+        return drifted.get();
+    }
+
+    /**
+     * Adds to stale the user of every projection whose user is gone or no longer an approved mentor; an
+     * enqueued user that does not qualify gets its projection removed. Returns the number found.
+     */
+    private int collectOrphans(List<User> approvedMentors, Set<String> stale) {
+        Map<String, User> approvedById = new HashMap<>();
+        approvedMentors.forEach(user -> approvedById.put(user.getId(), user));
+        List<String> unmatchedIds = new ArrayList<>();
+        List<String> legacyEmails = new ArrayList<>();
+        for (Mentor mentor : mentorRepository.findAll()) {
+            if (mentor.getUserId() == null) {
+                legacyEmails.add(mentor.getEmail());
+            } else if (!approvedById.containsKey(mentor.getUserId())
+                    || !Objects.equals(approvedById.get(mentor.getUserId()).getEmail(), mentor.getEmail())) {
+                unmatchedIds.add(mentor.getUserId());
+            }
+        }
+        int before = stale.size();
+        stale.addAll(unmatchedIds);
+        // Projections written before they carried the user id: orphaned if their email belongs to a user
+        // that does not qualify. Ones matching no user cannot be told apart from admin-added mentors.
+        for (int from = 0; from < legacyEmails.size(); from += RECONCILE_CHUNK) {
+            userRepository.findByEmailIn(legacyEmails.subList(from, Math.min(from + RECONCILE_CHUNK, legacyEmails.size())))
+                    .stream()
+                    .filter(user -> !isProjected(user))
+                    .forEach(user -> stale.add(user.getId()));
+        }
+        return stale.size() - before;
+    }
+
+    private void apply(List<String> userIds, Map<String, User> users) {
+        project(userIds.stream().map(users::get).filter(MentorSyncService::isProjected).toList());
+        retire(userIds.stream().filter(id -> !isProjected(users.get(id))).toList(), users);
+    }
+
+    // One query each for departments and existing mentors, one bulk upsert
+    private void project(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Set<String> departmentIds = new HashSet<>();
+        departmentRepository.findAllById(users.stream()
+                        .map(User::getDepartmentId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .forEach(dept -> departmentIds.add(dept.getId()));
+        Map<String, Mentor> existing = mentorRepository.findByEmailIn(users.stream().map(User::getEmail).toList())
+                .stream()
+                .collect(Collectors.toMap(Mentor::getEmail, mentor -> mentor, (first, second) -> first));
+
+        List<Mentor> mentors = new ArrayList<>(users.size());
+        for (User user : users) {
+            Mentor mentor = existing.getOrDefault(user.getEmail(), new Mentor());
+            copyToMentor(user, mentor);
+            if (departmentIds.contains(user.getDepartmentId())) {
+                mentor.setDepartmentIds(List.of(user.getDepartmentId()));
+            }
+            mentors.add(mentor);
+        }
+        mentorRepository.upsertAllByEmail(mentors);
+
+        // A changed email upserts a new projection; drop the one under the old email
+        Map<String, String> emails = new HashMap<>();
+        users.forEach(user -> emails.put(user.getId(), user.getEmail()));
+        List<Mentor> renamed = mentorRepository.findByUserIdIn(emails.keySet()).stream()
+                .filter(mentor -> !Objects.equals(emails.get(mentor.getUserId()), mentor.getEmail()))
+                .toList();
+        if (!renamed.isEmpty()) {
+            mentorRepository.deleteAll(renamed);
+        }
+    }
+
+    // Users that were deleted, demoted or unapproved
+    private void retire(List<String> userIds, Map<String, User> users) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        mentorRepository.deleteByUserIdIn(userIds);
+        // Projections written before they carried the user id can only be found by email
+        List<String> emails = userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(User::getEmail)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!emails.isEmpty()) {
+            mentorRepository.deleteByEmailInAndUserIdIsNull(emails);
+        }
+    }
+
+    private static boolean isProjected(User user) {
+        return user != null && user.getRole() == UserRole.MENTOR && Boolean.TRUE.equals(user.getIsApproved());
+    }
+
+    private static void copyToMentor(User user, Mentor mentor) {
+        mentor.setUserId(user.getId());
+        mentor.setFullName(user.getFullName());
+        mentor.setEmail(user.getEmail());
+        mentor.setPhoneNumber(user.getPhoneNumber());
+        mentor.setLinkedinProfile(user.getLinkedinProfile());
+        mentor.setPlacedCompany(user.getPlacedCompany());
+        mentor.setPlacedPosition(user.getPlacedPosition());
+        mentor.setPlacementYear(user.getPlacementYear());
+        mentor.setGraduationYear(user.getGraduationYear());
+        mentor.setIsActive(!Boolean.FALSE.equals(user.getIsActive()));
+    }
+
+    private static boolean matches(User user, Mentor mentor) {
+        return Objects.equals(user.getId(), mentor.getUserId())
+                && Objects.equals(user.getFullName(), mentor.getFullName())
+                && Objects.equals(user.getPhoneNumber(), mentor.getPhoneNumber())
+                && Objects.equals(user.getLinkedinProfile(), mentor.getLinkedinProfile())
+                && Objects.equals(user.getPlacedCompany(), mentor.getPlacedCompany())
+                && Objects.equals(user.getPlacedPosition(), mentor.getPlacedPosition())
+                && Objects.equals(user.getPlacementYear(), mentor.getPlacementYear())
+                && Objects.equals(user.getGraduationYear(), mentor.getGraduationYear())
+                && Objects.equals(!Boolean.FALSE.equals(user.getIsActive()), mentor.getIsActive())
+                && (user.getDepartmentId() == null
+                        || mentor.getDepartmentIds() != null && mentor.getDepartmentIds().contains(user.getDepartmentId()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.monitoring.RequestTrace;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends notification emails off the request thread, one at a time, so a batch of decisions reaches the SMTP
+ * server as a steady trickle instead of holding the admin's request open. When the queue is full the caller
+ * sends the email itself, so a busy queue slows notifications down rather than dropping them.
+ * <p>
+ * Delivery across a shutdown is best-effort: pending emails get up to 30 seconds to go out, and whatever is
+ * still queued after that, or submitted once shutdown has begun, is dropped. Dropped emails are counted in the log.
+ */
+@Service
+@Slf4j
+public class NotificationQueue {
+
+    private final EmailService emailService;
+    private final ThreadPoolExecutor sender;
+    private final AtomicInteger droppedAfterShutdown = new AtomicInteger();
+
+    public NotificationQueue(EmailService emailService,
+                             @Value("${mail.notifications.queue-capacity:1000}") int queueCapacity) {
+        this.emailService = emailService;
+        this.sender = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-notifications");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    // CallerRunsPolicy would discard the email silently once the executor is shut down
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Notification queue is shut down");
+                    }
+                    runnable.run();
+                });
+    }
+
+    public void mentorApproved(String email, String fullName, String password) {
+        submit("approval", email, () -> emailService.sendMentorApprovalNotification(email, fullName, password));
+    }
+
+    public void mentorRejected(String email, String fullName) {
+        submit("rejection", email, () -> emailService.sendMentorRejectionNotification(email, fullName));
+    }
+
+    /**
+     * Emails waiting to be sent
+     */
+    public int getPending() {
+        return sender.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        sender.shutdown();
+        if (!sender.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("{} notification email(s) dropped, not sent within 30 s of shutdown", sender.shutdownNow().size());
+        }
+    }
+
+    private void submit(String kind, String email, Runnable send) {
+        try {
+            sender.execute(RequestTrace.propagate(() -> {
+                try {
+                    send.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to send {} notification to {}: {}", kind, email, e.getMessage());
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            log.warn("Shutting down, {} notification to {} dropped ({} dropped since shutdown began)",
+                    kind, email, droppedAfterShutdown.incrementAndGet());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.quizapplication.placement_tracker.service;
 
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
 import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.monitoring.jfr.ExperienceWriteEvent;
 import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,21 +16,46 @@ public class PlacementExperienceService {
     @Autowired
     private PlacementExperienceRepository repository;
 
+    @Autowired
+    private ZipIntegrityService zipIntegrityService;
+
+    @Autowired
+    private DownloadUrlSigner downloadUrlSigner;
+
     public List<PlacementExperience> getAllExperiences() {
-        return repository.findAllByOrderBySubmittedAtDesc();
+        return withDownloadUrls(repository.findAllByOrderBySubmittedAtDesc());
     }
 
     public Optional<PlacementExperience> getExperienceById(String id) {
-        return repository.findById(id);
+        return repository.findById(id).map(this::withDownloadUrl);
     }
 
     public PlacementExperience createExperience(PlacementExperience experience) {
-        return repository.save(experience);
+        ExperienceWriteEvent event = new ExperienceWriteEvent("placement", "create");
+        // Attachment status is always decided server-side
+        experience.setAttachmentUrl(DownloadUrlSigner.attachmentReference(experience.getAttachmentUrl()));
+        experience.setAttachmentStatus(zipIntegrityService.statusFor(experience.getAttachmentUrl()));
+        PlacementExperience saved = repository.save(experience);
+        zipIntegrityService.reconcile(saved.getAttachmentUrl(), saved.getAttachmentStatus());
+        event.saved(saved.getId(), saved.getCompanyName(), saved.getRoundsJson(), saved.getAttachmentSize());
+        return withDownloadUrl(saved);
     }
 
     public PlacementExperience updateExperience(String id, PlacementExperience experience) {
+        ExperienceWriteEvent event = new ExperienceWriteEvent("placement", "update");
         experience.setId(id);
-        return repository.save(experience);
+        experience.setAttachmentUrl(DownloadUrlSigner.attachmentReference(experience.getAttachmentUrl()));
+        AttachmentStatus previousStatus = repository.findById(id)
+                .filter(existing -> Objects.equals(existing.getAttachmentUrl(), experience.getAttachmentUrl()))
+                .map(PlacementExperience::getAttachmentStatus)
+                .orElse(null);
+        experience.setAttachmentStatus(previousStatus != null
+                ? previousStatus
+                : zipIntegrityService.statusFor(experience.getAttachmentUrl()));
+        PlacementExperience saved = repository.save(experience);
+        zipIntegrityService.reconcile(saved.getAttachmentUrl(), saved.getAttachmentStatus());
+        event.saved(saved.getId(), saved.getCompanyName(), saved.getRoundsJson(), saved.getAttachmentSize());
+        return withDownloadUrl(saved);
     }
 
     public void deleteExperience(String id) {
@@ -36,20 +63,34 @@ public class PlacementExperienceService {
     }
 
     public List<PlacementExperience> searchByCompany(String companyName) {
-        return repository.findByCompanyNameContainingIgnoreCase(companyName);
+        return withDownloadUrls(repository.findByCompanyNameContainingIgnoreCase(companyName));
     }
 
     public List<PlacementExperience> searchByDepartment(String department) {
-        return repository.findByDepartmentContainingIgnoreCase(department);
+        return withDownloadUrls(repository.findByDepartmentContainingIgnoreCase(department));
     }
 
     public List<PlacementExperience> getByResult(String result) {
-        return repository.findByFinalResult(result);
+        return withDownloadUrls(repository.findByFinalResult(result));
+    }
+
+    /**
+     * Fill in the expiring signed link readers download the attachment through; the stored attachmentUrl is
+     * only a reference and is refused without a signature
+     */
+    public PlacementExperience withDownloadUrl(PlacementExperience experience) {
+        experience.setAttachmentDownloadUrl(downloadUrlSigner.signAttachmentUrl(experience.getAttachmentUrl()));
+        return experience;
+    }
+
+    private List<PlacementExperience> withDownloadUrls(List<PlacementExperience> experiences) {
+        experiences.forEach(this::withDownloadUrl);
+        return experiences;
     }
 
     // Group experiences by company and year
     public Map<String, Map<Integer, List<PlacementExperience>>> getExperiencesGroupedByCompanyAndYear() {
-        List<PlacementExperience> allExperiences = repository.findAllByOrderBySubmittedAtDesc();
+        List<PlacementExperience> allExperiences = withDownloadUrls(repository.findAllByOrderBySubmittedAtDesc());
         
         return allExperiences.stream()
                 .collect(Collectors.groupingBy(
@@ -64,7 +105,7 @@ public class PlacementExperienceService {
 
     // Get experiences for a specific company grouped by year
     public Map<Integer, List<PlacementExperience>> getExperiencesByCompanyGroupedByYear(String companyName) {
-        List<PlacementExperience> companyExperiences = repository.findByCompanyNameContainingIgnoreCase(companyName);
+        List<PlacementExperience> companyExperiences = withDownloadUrls(repository.findByCompanyNameContainingIgnoreCase(companyName));
         
         return companyExperiences.stream()
                 .collect(Collectors.groupingBy(exp -> {
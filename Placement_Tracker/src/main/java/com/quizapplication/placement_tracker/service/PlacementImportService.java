@@ -0,0 +1,349 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapplication.placement_tracker.dto.ImportRowErrorDTO;
+import com.quizapplication.placement_tracker.dto.PlacementImportResultDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.exception.InvalidImportException;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceBulkRepository.BulkInsertFailure;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of historical placement records from CSV or XLSX. Rows are read and validated one at a time;
+ * department and company names are resolved against lookup tables loaded once per import, and valid rows
+ * are written in unordered bulk inserts of import.batch-size, so a rejected row never fails its batch.
+ * Every row that is not stored is reported with its row number; a file that cannot be read as a whole
+ * (malformed, missing required columns, over a size limit) fails with {@link InvalidImportException}.
+ */
+@Service
+@Slf4j
+public class PlacementImportService {
+
+    public static final String CSV = "text/csv";
+    public static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final String STUDENT_NAME = "studentName";
+    private static final String DEPARTMENT = "department";
+    private static final String COMPANY_NAME = "companyName";
+    private static final List<String> REQUIRED = List.of(STUDENT_NAME, DEPARTMENT, COMPANY_NAME);
+    private static final List<String> FIELDS = List.of(STUDENT_NAME, "rollNumber", DEPARTMENT, "personalEmail",
+            "contactNumber", COMPANY_NAME, "companyType", "placementYear", "salary", "internOffered", "hasBond",
+            "bondDetails", "totalRounds", "roundsJson", "overallExperience", "generalTips", "areasToPrepareFinal",
+            "suggestedResources", "finalResult", "academicYear");
+    private static final Set<String> RESULTS = Set.of("SELECTED", "REJECTED", "PENDING");
+
+    private final PlacementExperienceRepository repository;
+    private final DepartmentRepository departmentRepository;
+    private final CompanyRepository companyRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxRows;
+    private final int maxErrors;
+    private final long maxXlsxBytes;
+
+    public PlacementImportService(PlacementExperienceRepository repository, DepartmentRepository departmentRepository,
+                                  CompanyRepository companyRepository, ObjectMapper objectMapper,
+                                  @Value("${import.batch-size:500}") int batchSize,
+                                  @Value("${import.max-rows:100000}") int maxRows,
+                                  @Value("${import.max-errors:1000}") int maxErrors,
+                                  @Value("${import.xlsx.max-size-mb:50}") long maxXlsxSizeMb) {
+        this.repository = repository;
+        this.departmentRepository = departmentRepository;
+        this.companyRepository = companyRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+        this.maxXlsxBytes = maxXlsxSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * Imports UTF-8 CSV as it arrives; nothing is buffered beyond the current batch
+     */
+    public PlacementImportResultDTO importCsv(InputStream input) throws IOException {
+        try (SpreadsheetRowReader reader = new CsvRowReader(input)) {
+            return importRows(reader);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportException(e.getMessage());
+        }
+    }
+
+    /**
+     * Imports the first worksheet of a workbook. XLSX is a zip whose parts are read out of order,
+     * so the upload is spooled to a temporary file first.
+     */
+    public PlacementImportResultDTO importXlsx(InputStream input) throws IOException {
+        Path file = Files.createTempFile("placement-import", ".xlsx");
+        try {
+            spool(input, file);
+            try (SpreadsheetRowReader reader = new XlsxRowReader(file)) {
+                return importRows(reader);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportException(e.getMessage());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private PlacementImportResultDTO importRows(SpreadsheetRowReader reader) throws IOException {
+        long start = System.nanoTime();
+        PlacementImportResultDTO result = new PlacementImportResultDTO();
+
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        String[] columns = mapHeader(header, result);
+        List<String> missing = REQUIRED.stream().filter(field -> !Arrays.asList(columns).contains(field)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required column(s): " + String.join(", ", missing));
+        }
+
+        Map<String, String> departments = departmentLookup();
+        Map<String, String> companies = companyLookup();
+        List<PlacementExperience> batch = new ArrayList<>(batchSize);
+        int[] batchRows = new int[batchSize];
+        List<String> cells;
+        while ((cells = reader.next()) != null) {
+            if (cells.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            if (result.getTotalRows() >= maxRows) {
+                result.setRowLimitReached(true);
+                break;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+            int row = reader.rowNumber();
+            PlacementExperience experience = toExperience(cells, columns, row, departments, companies, result);
+            if (experience == null) {
+                result.setFailed(result.getFailed() + 1);
+                continue;
+            }
+            batchRows[batch.size()] = row;
+            batch.add(experience);
+            if (batch.size() == batchSize) {
+                flush(batch, batchRows, result);
+            }
+        }
+        flush(batch, batchRows, result);
+
+        result.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        log.info("Placement import: {} row(s) read, {} imported, {} failed in {} ms", result.getTotalRows(),
+                result.getImported(), result.getFailed(), result.getDurationMs());
+        return result;
+    }
+
+    private void flush(List<PlacementExperience> batch, int[] batchRows, PlacementImportResultDTO result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BulkInsertFailure> failures = repository.insertUnordered(batch);
+        for (BulkInsertFailure failure : failures) {
+            addError(result, batchRows[failure.index()], null, "Not stored: " + failure.message());
+        }
+        result.setImported(result.getImported() + batch.size() - failures.size());
+        result.setFailed(result.getFailed() + failures.size());
+        batch.clear();
+    }
+
+    // Header cell -> field, matched ignoring case, spaces and punctuation ("Company Name" -> companyName)
+    private String[] mapHeader(List<String> header, PlacementImportResultDTO result) {
+        Map<String, String> byKey = new HashMap<>();
+        FIELDS.forEach(field -> byKey.put(normalize(field), field));
+        String[] columns = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            String field = byKey.remove(normalize(header.get(i)));
+            if (field != null) {
+                columns[i] = field;
+            } else if (!header.get(i).isBlank()) {
+                result.getIgnoredColumns().add(header.get(i).trim());
+            }
+        }
+        return columns;
+    }
+
+    private PlacementExperience toExperience(List<String> cells, String[] columns, int row,
+                                             Map<String, String> departments, Map<String, String> companies,
+                                             PlacementImportResultDTO result) {
+        PlacementExperience experience = new PlacementExperience();
+        Set<String> present = new HashSet<>();
+        boolean valid = true;
+        for (int i = 0; i < columns.length && i < cells.size(); i++) {
+            String value = cells.get(i).trim();
+            if (columns[i] == null || value.isEmpty()) {
+                continue;
+            }
+            present.add(columns[i]);
+            try {
+                apply(experience, columns[i], value, departments, companies);
+            } catch (IllegalArgumentException e) {
+                addError(result, row, columns[i], e.getMessage());
+                valid = false;
+            }
+        }
+        for (String field : REQUIRED) {
+            if (!present.contains(field)) {
+                addError(result, row, field, "Required");
+                valid = false;
+            }
+        }
+        return valid ? experience : null;
+    }
+
+    private void apply(PlacementExperience experience, String field, String value,
+                       Map<String, String> departments, Map<String, String> companies) {
+        switch (field) {
+            case STUDENT_NAME -> experience.setStudentName(value);
+            case "rollNumber" -> experience.setRollNumber(value);
+            case DEPARTMENT -> {
+                String code = departments.get(value.toLowerCase(Locale.ROOT));
+                if (code == null) {
+                    throw new IllegalArgumentException("Unknown department '" + value + "'");
+                }
+                experience.setDepartment(code);
+            }
+            case "personalEmail" -> experience.setPersonalEmail(value);
+            case "contactNumber" -> experience.setContactNumber(value);
+            case COMPANY_NAME -> {
+                String companyName = companies.get(value.toLowerCase(Locale.ROOT));
+                if (companyName == null) {
+                    throw new IllegalArgumentException("Unknown company '" + value + "'");
+                }
+                experience.setCompanyName(companyName);
+            }
+            case "companyType" -> experience.setCompanyType(value);
+            case "placementYear" -> experience.setPlacementYear(wholeNumber(value, 1950, Year.now().getValue() + 1));
+            case "salary" -> experience.setSalary(value);
+            case "internOffered" -> experience.setInternOffered(yesNo(value));
+            case "hasBond" -> experience.setHasBond(yesNo(value));
+            case "bondDetails" -> experience.setBondDetails(value);
+            case "totalRounds" -> experience.setTotalRounds(wholeNumber(value, 0, 50));
+            case "roundsJson" -> experience.setRoundsJson(jsonArray(value));
+            case "overallExperience" -> experience.setOverallExperience(value);
+            case "generalTips" -> experience.setGeneralTips(value);
+            case "areasToPrepareFinal" -> experience.setAreasToPrepareFinal(value);
+            case "suggestedResources" -> experience.setSuggestedResources(value);
+            case "finalResult" -> {
+                String finalResult = value.toUpperCase(Locale.ROOT);
+                if (!RESULTS.contains(finalResult)) {
+                    throw new IllegalArgumentException("Expected SELECTED, REJECTED or PENDING");
+                }
+                experience.setFinalResult(finalResult);
+            }
+            case "academicYear" -> experience.setAcademicYear(value);
+            default -> throw new IllegalStateException("Unmapped import column " + field);
+        }
+    }
+
+    // Department name or code -> code, which is what placement experiences store
+    private Map<String, String> departmentLookup() {
+        Map<String, String> lookup = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            String code = department.getDepartmentCode() != null
+                    ? department.getDepartmentCode() : department.getDepartmentName();
+            if (department.getDepartmentName() != null) {
+                lookup.put(department.getDepartmentName().toLowerCase(Locale.ROOT), code);
+            }
+            if (department.getDepartmentCode() != null) {
+                lookup.put(department.getDepartmentCode().toLowerCase(Locale.ROOT), code);
+            }
+        }
+        return lookup;
+    }
+
+    private Map<String, String> companyLookup() {
+        Map<String, String> lookup = new HashMap<>();
+        for (Company company : companyRepository.findAll()) {
+            if (company.getCompanyName() != null) {
+                lookup.put(company.getCompanyName().toLowerCase(Locale.ROOT), company.getCompanyName());
+            }
+        }
+        return lookup;
+    }
+
+    private void addError(PlacementImportResultDTO result, int row, String column, String message) {
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ImportRowErrorDTO(row, column, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private void spool(InputStream input, Path file) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                written += read;
+                if (written > maxXlsxBytes) {
+                    throw new IllegalArgumentException("Workbook exceeds " + maxXlsxBytes / (1024 * 1024)
+                            + " MB; split it or export it as CSV");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static String normalize(String header) {
+        return header.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    // Spreadsheets store whole numbers as 2024 or 2024.0
+    private static int wholeNumber(String value, int min, int max) {
+        int number;
+        try {
+            number = new BigDecimal(value).intValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Not a whole number: '" + value + "'");
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException("Must be between " + min + " and " + max);
+        }
+        return number;
+    }
+
+    private static Boolean yesNo(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Expected yes or no");
+        };
+    }
+
+    private String jsonArray(String value) {
+        try {
+            if (!objectMapper.readTree(value).isArray()) {
+                throw new IllegalArgumentException("Must be a JSON array of rounds");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not valid JSON");
+        }
+        return value;
+    }
+}
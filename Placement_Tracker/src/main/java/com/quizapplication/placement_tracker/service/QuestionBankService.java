@@ -0,0 +1,160 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.QuestionDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.Question;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the questions collection: every rebuild reads questionsAsked from all experiences, clusters the
+ * questions with {@link QuestionClusterer} and writes one document per question and company. Documents are
+ * overwritten in place and the ones a rebuild did not write are deleted afterwards, so readers never see an
+ * empty bank. "Most asked" queries only read the precomputed documents.
+ */
+@Service
+@Slf4j
+public class QuestionBankService {
+
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final InterviewExperienceRepository experienceRepository;
+    private final QuestionRepository questionRepository;
+    private final int maxResults;
+
+    private volatile int size;
+    private volatile LocalDateTime builtAt;
+
+    public QuestionBankService(InterviewExperienceRepository experienceRepository,
+                               QuestionRepository questionRepository,
+                               @Value("${questions.bank.max-results:100}") int maxResults) {
+        this.experienceRepository = experienceRepository;
+        this.questionRepository = questionRepository;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Most asked questions at the company, optionally counting only one placement year
+     */
+    public List<QuestionDTO> getTopQuestions(String company, Integer year, int limit) {
+        String companyKey = MentorMatchIndex.companyKey(company);
+        if (companyKey == null) {
+            return List.of();
+        }
+        int capped = Math.min(Math.max(limit, 1), maxResults);
+        if (year == null) {
+            return questionRepository.findByCompanyKeyOrderByCountDesc(companyKey, Limit.of(capped)).stream()
+                    .map(question -> convertToDTO(question, question.getCount()))
+                    .toList();
+        }
+        String yearKey = year.toString();
+        return questionRepository.findByCompanyKey(companyKey).stream()
+                .filter(question -> question.getCountsByYear().containsKey(yearKey))
+                .sorted(Comparator.comparing((Question question) -> question.getCountsByYear().get(yearKey)).reversed()
+                        .thenComparing(Question::getCount, Comparator.reverseOrder()))
+                .limit(capped)
+                .map(question -> convertToDTO(question, question.getCountsByYear().get(yearKey)))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${questions.bank.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Question bank rebuild failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        QuestionClusterer clusterer = new QuestionClusterer();
+        try (Stream<InterviewExperience> experiences = experienceRepository.streamQuestionsAsked()) {
+            experiences.forEach(experience -> clusterer.add(
+                    experience.getCompanyName(), experience.getYearOfPlacement(), experience.getQuestionsAsked()));
+        }
+        List<QuestionClusterer.Cluster> clusters = clusterer.clusters();
+
+        // Stored with millisecond precision; an untruncated bound would delete what was just written
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Question> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        int written = 0;
+        for (QuestionClusterer.Cluster cluster : clusters) {
+            for (QuestionClusterer.CompanyCount company : cluster.companies()) {
+                batch.add(toQuestion(cluster, company, now));
+                if (batch.size() == WRITE_BATCH_SIZE) {
+                    written += save(batch);
+                }
+            }
+        }
+        written += save(batch);
+        long removed = questionRepository.deleteByBuiltAtBefore(now);
+
+        size = written;
+        builtAt = now;
+        log.debug("Question bank rebuilt: {} questions in {} clusters, {} documents written, {} removed in {} ms",
+                clusterer.questionCount(), clusters.size(), written, removed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getAgeSeconds() {
+        LocalDateTime current = builtAt;
+        return current == null ? 0 : Duration.between(current, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private int save(List<Question> batch) {
+        int saved = batch.size();
+        if (saved > 0) {
+            questionRepository.saveAll(batch);
+            batch.clear();
+        }
+        return saved;
+    }
+
+    private static Question toQuestion(QuestionClusterer.Cluster cluster, QuestionClusterer.CompanyCount company,
+                                       LocalDateTime builtAt) {
+        Question question = new Question();
+        question.setId(cluster.key() + ":" + company.companyKey());
+        question.setText(cluster.text());
+        question.setVariants(new ArrayList<>(cluster.variants()));
+        question.setCompanyKey(company.companyKey());
+        question.setCompanyName(company.companyName());
+        question.setCount(company.count());
+        Map<String, Integer> countsByYear = new LinkedHashMap<>();
+        new TreeMap<>(company.countsByYear()).forEach((year, count) -> countsByYear.put(year.toString(), count));
+        question.setCountsByYear(countsByYear);
+        question.setTotalCount(cluster.totalCount());
+        question.setBuiltAt(builtAt);
+        return question;
+    }
+
+    private static QuestionDTO convertToDTO(Question question, int count) {
+        QuestionDTO dto = new QuestionDTO();
+        dto.setText(question.getText());
+        dto.setVariants(question.getVariants());
+        dto.setCompanyName(question.getCompanyName());
+        dto.setCount(count);
+        dto.setCountsByYear(question.getCountsByYear());
+        dto.setTotalCount(question.getTotalCount());
+        return dto;
+    }
+}
@@ -0,0 +1,325 @@
+package com.quizapplication.placement_tracker.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the question bank from questionsAsked text: splits it into single questions and groups near-duplicate
+ * phrasings. Phrasings with the same set of words are merged up front; the remaining word sets get a MinHash
+ * signature and are only compared when they share an LSH band, and joined when the exact Jaccard similarity
+ * of their words reaches {@link #SIMILARITY}. Counts are per experience, so a question listed twice in one
+ * experience counts once. One instance per rebuild; not thread-safe.
+ */
+final class QuestionClusterer {
+
+    static final double SIMILARITY = 0.6;
+    // 16 bands of 3 rows: a pair at the threshold becomes a candidate ~98% of the time, a pair at 0.3 ~35%
+    private static final int BANDS = 16;
+    private static final int ROWS = 3;
+    private static final int HASHES = BANDS * ROWS;
+    // Members of an LSH bucket are compared with at most this many others, which keeps very common questions linear
+    private static final int MAX_LEADERS = 16;
+    private static final int MAX_VARIANTS = 5;
+    private static final int MIN_WORDS = 2;
+    private static final int MAX_LENGTH = 300;
+    // After a '?', at a line break, ';' or bullet, before a numbered item, and between sentences
+    private static final Pattern SPLIT = Pattern.compile(
+            "(?<=\\?)\\s+|\\s*[\\r\\n;•]+\\s*|\\s+(?=(?:[Qq]\\s?\\d{1,2}|\\d{1,2})[.):]\\s)|(?<=[.!])\\s+(?=\\p{Lu})");
+    private static final Pattern LEADING_MARKER = Pattern.compile("^(?:(?:[Qq]\\s?\\d{1,2}|\\d{1,2})[.):]|[-*>])\\s*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<Map.Entry<String, Integer>> MOST_USED = Map.Entry.<String, Integer>comparingByValue()
+            .reversed()
+            .thenComparing(entry -> entry.getKey().length())
+            .thenComparing(Map.Entry::getKey);
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(HASHES).toArray();
+
+    record CompanyCount(String companyKey, String companyName, int count, Map<Integer, Integer> countsByYear) {
+    }
+
+    record Cluster(String key, String text, List<String> variants, int totalCount, List<CompanyCount> companies) {
+    }
+
+    private record Occurrence(int shape, int experience, String company, Integer year) {
+    }
+
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    // A shape is a distinct set of words; its phrasings are the original questions with that set
+    private final Map<String, Integer> shapeIds = new HashMap<>();
+    private final List<String> shapeKeys = new ArrayList<>();
+    private final List<int[]> shapeWords = new ArrayList<>();
+    private final List<Map<String, Integer>> shapePhrasings = new ArrayList<>();
+    private final List<Occurrence> occurrences = new ArrayList<>();
+    private int experiences;
+
+    void add(String company, Integer year, String questionsAsked) {
+        int experience = experiences++;
+        for (String question : questions(questionsAsked)) {
+            TreeSet<String> words = new TreeSet<>();
+            for (String token : SimilarExperienceIndex.tokenize(question)) {
+                words.add(stem(token));
+            }
+            if (words.size() < MIN_WORDS) {
+                continue;
+            }
+            String key = String.join(" ", words);
+            Integer shape = shapeIds.get(key);
+            if (shape == null) {
+                shape = shapeKeys.size();
+                shapeIds.put(key, shape);
+                shapeKeys.add(key);
+                int[] ids = new int[words.size()];
+                int i = 0;
+                for (String word : words) {
+                    ids[i++] = wordIds.computeIfAbsent(word, w -> wordIds.size());
+                }
+                Arrays.sort(ids);
+                shapeWords.add(ids);
+                shapePhrasings.add(new HashMap<>());
+            }
+            shapePhrasings.get(shape).merge(question, 1, Integer::sum);
+            occurrences.add(new Occurrence(shape, experience, company, year));
+        }
+    }
+
+    int questionCount() {
+        return occurrences.size();
+    }
+
+    List<Cluster> clusters() {
+        int shapes = shapeKeys.size();
+        int[] parent = new int[shapes];
+        for (int i = 0; i < shapes; i++) {
+            parent[i] = i;
+        }
+        link(parent);
+
+        int[] clusterOf = new int[shapes];
+        List<List<Integer>> members = new ArrayList<>();
+        Map<Integer, Integer> clusterByRoot = new HashMap<>();
+        for (int shape = 0; shape < shapes; shape++) {
+            int cluster = clusterByRoot.computeIfAbsent(find(parent, shape), root -> {
+                members.add(new ArrayList<>());
+                return members.size() - 1;
+            });
+            clusterOf[shape] = cluster;
+            members.get(cluster).add(shape);
+        }
+
+        int[] totals = new int[members.size()];
+        int[] lastExperience = new int[members.size()];
+        Arrays.fill(lastExperience, -1);
+        List<Map<String, Tally>> tallies = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            tallies.add(new LinkedHashMap<>());
+        }
+        for (Occurrence occurrence : occurrences) {
+            int cluster = clusterOf[occurrence.shape()];
+            if (lastExperience[cluster] == occurrence.experience()) {
+                continue;
+            }
+            lastExperience[cluster] = occurrence.experience();
+            totals[cluster]++;
+            String companyKey = MentorMatchIndex.companyKey(occurrence.company());
+            if (companyKey != null) {
+                tallies.get(cluster).computeIfAbsent(companyKey, key -> new Tally()).add(occurrence);
+            }
+        }
+
+        List<Cluster> clusters = new ArrayList<>(members.size());
+        for (int cluster = 0; cluster < members.size(); cluster++) {
+            Map<String, Integer> phrasings = new HashMap<>();
+            String smallestKey = null;
+            for (int shape : members.get(cluster)) {
+                shapePhrasings.get(shape).forEach((phrasing, count) -> phrasings.merge(phrasing, count, Integer::sum));
+                String key = shapeKeys.get(shape);
+                if (smallestKey == null || key.compareTo(smallestKey) < 0) {
+                    smallestKey = key;
+                }
+            }
+            List<String> ranked = rank(phrasings);
+            List<CompanyCount> companies = new ArrayList<>();
+            tallies.get(cluster).forEach((companyKey, tally) -> companies.add(tally.toCount(companyKey)));
+            clusters.add(new Cluster(clusterKey(smallestKey), ranked.get(0), ranked.subList(1, ranked.size()),
+                    totals[cluster], companies));
+        }
+        return clusters;
+    }
+
+    /**
+     * Splits free text into single questions, without list markers and surplus whitespace
+     */
+    static List<String> questions(String text) {
+        List<String> questions = new ArrayList<>();
+        if (text == null) {
+            return questions;
+        }
+        for (String part : SPLIT.split(text)) {
+            String question = WHITESPACE.matcher(LEADING_MARKER.matcher(part.strip()).replaceFirst("")).replaceAll(" ").strip();
+            while (!question.isEmpty() && ".,:".indexOf(question.charAt(question.length() - 1)) >= 0) {
+                question = question.substring(0, question.length() - 1).stripTrailing();
+            }
+            if (!question.isEmpty() && question.length() <= MAX_LENGTH) {
+                questions.add(question);
+            }
+        }
+        return questions;
+    }
+
+    // Union of every pair that shares a band and is similar enough; frequent shapes go first so they lead buckets
+    private void link(int[] parent) {
+        int shapes = parent.length;
+        int[] frequency = new int[shapes];
+        for (Occurrence occurrence : occurrences) {
+            frequency[occurrence.shape()]++;
+        }
+        Integer[] order = new Integer[shapes];
+        for (int i = 0; i < shapes; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer shape) -> frequency[shape]).reversed());
+
+        // Band key -> leaders, with the count in element 0
+        Map<Long, int[]> buckets = new HashMap<>();
+        int[] signature = new int[HASHES];
+        for (int shape : order) {
+            int[] words = shapeWords.get(shape);
+            sign(words, signature);
+            for (int band = 0; band < BANDS; band++) {
+                long key = band;
+                for (int row = 0; row < ROWS; row++) {
+                    key = key * 0x9E3779B97F4A7C15L + signature[band * ROWS + row];
+                }
+                int[] leaders = buckets.get(key);
+                if (leaders == null) {
+                    leaders = new int[MAX_LEADERS + 1];
+                    buckets.put(key, leaders);
+                }
+                boolean joined = false;
+                for (int i = 1; i <= leaders[0] && !joined; i++) {
+                    int leader = leaders[i];
+                    int root = find(parent, shape);
+                    int leaderRoot = find(parent, leader);
+                    if (root == leaderRoot) {
+                        joined = true;
+                    } else if (jaccard(words, shapeWords.get(leader)) >= SIMILARITY) {
+                        parent[root] = leaderRoot;
+                        joined = true;
+                    }
+                }
+                if (!joined && leaders[0] < MAX_LEADERS) {
+                    leaders[++leaders[0]] = shape;
+                }
+            }
+        }
+    }
+
+    private static void sign(int[] words, int[] signature) {
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int word : words) {
+            for (int i = 0; i < HASHES; i++) {
+                int hash = (int) (mix(word * 0x9E3779B97F4A7C15L ^ SEEDS[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+    }
+
+    private static double jaccard(int[] left, int[] right) {
+        if (Math.min(left.length, right.length) < SIMILARITY * Math.max(left.length, right.length)) {
+            return 0;
+        }
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (left.length + right.length - shared);
+    }
+
+    private static int find(int[] parent, int shape) {
+        while (parent[shape] != shape) {
+            parent[shape] = parent[parent[shape]];
+            shape = parent[shape];
+        }
+        return shape;
+    }
+
+    // Most used first, shorter first on ties; phrasings that differ only in case are one, in their most used casing
+    private static List<String> rank(Map<String, Integer> phrasings) {
+        Map<String, Integer> folded = new HashMap<>();
+        Map<String, String> casing = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : phrasings.entrySet()) {
+            String key = entry.getKey().toLowerCase(Locale.ROOT);
+            folded.merge(key, entry.getValue(), Integer::sum);
+            casing.merge(key, entry.getKey(), (current, candidate) -> MOST_USED.compare(
+                    Map.entry(candidate, phrasings.get(candidate)), Map.entry(current, phrasings.get(current))) < 0
+                    ? candidate : current);
+        }
+        return folded.entrySet().stream()
+                .map(entry -> Map.entry(casing.get(entry.getKey()), entry.getValue()))
+                .sorted(MOST_USED)
+                .limit(MAX_VARIANTS + 1)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // Plural and singular ("lists", "list") count as the same word
+    private static String stem(String token) {
+        return token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")
+                ? token.substring(0, token.length() - 1)
+                : token;
+    }
+
+    // Stable across rebuilds as long as the cluster's smallest word set does not change
+    private static String clusterKey(String words) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < words.length(); i++) {
+            hash = (hash ^ words.charAt(i)) * 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static final class Tally {
+        private int count;
+        private final Map<Integer, Integer> countsByYear = new HashMap<>();
+        private final Map<String, Integer> names = new HashMap<>();
+
+        void add(Occurrence occurrence) {
+            count++;
+            if (occurrence.year() != null) {
+                countsByYear.merge(occurrence.year(), 1, Integer::sum);
+            }
+            names.merge(occurrence.company().strip(), 1, Integer::sum);
+        }
+
+        CompanyCount toCount(String companyKey) {
+            String name = names.entrySet().stream().min(MOST_USED).map(Map.Entry::getKey).orElse(companyKey);
+            return new CompanyCount(companyKey, name, count, countsByYear);
+        }
+    }
+}
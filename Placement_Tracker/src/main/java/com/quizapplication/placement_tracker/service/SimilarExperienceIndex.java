@@ -0,0 +1,374 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * TF-IDF vectors of the experiences' interview text, with an inverted index for cosine nearest neighbours.
+ * Documents live in numbered slots: each slot keeps its term ids (ascending) and log-scaled term frequencies
+ * in primitive arrays, and each term keeps the slots that contain it with the same frequencies alongside, so
+ * a query walks only the postings of its own terms. Documents can be added, replaced and removed at any time.
+ * Norms are computed with the IDF of the moment and all recomputed once the collection has grown or shrunk by
+ * a tenth, so scores stay close to exact without renormalising on every write.
+ */
+final class SimilarExperienceIndex {
+
+    // Terms in more than this share of the documents (and more than MIN_SKIPPED_POSTINGS of them) say little
+    // about similarity and are not walked
+    private static final double MAX_QUERY_DOCUMENT_FREQUENCY = 0.5;
+    private static final int MIN_SKIPPED_POSTINGS = 50;
+    private static final int SHARED_TERMS = 5;
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "after", "all", "also", "am", "an", "and", "any", "are", "as", "at", "be", "been", "before",
+            "but", "by", "can", "could", "did", "do", "does", "each", "for", "from", "get", "got", "had", "has", "have",
+            "he", "her", "him", "his", "how", "i", "if", "in", "into", "is", "it", "its", "just", "me", "more", "most",
+            "my", "no", "not", "of", "on", "one", "only", "or", "other", "our", "out", "over", "same", "she", "so",
+            "some", "such", "than", "that", "the", "their", "them", "then", "there", "these", "they", "this", "those",
+            "through", "to", "too", "under", "up", "very", "was", "we", "were", "what", "when", "where", "which",
+            "while", "who", "why", "will", "with", "would", "you", "your");
+
+    record Neighbor(String id, double score, List<String> sharedTerms) {
+    }
+
+    private record Scored(int slot, float score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private String[] terms = new String[1024];
+    private int[][] postingSlots = new int[1024][];
+    private float[][] postingFrequencies = new float[1024][];
+    private int[] postingSizes = new int[1024];
+
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private String[] ids = new String[256];
+    private int[][] documentTerms = new int[256][];
+    private float[][] documentFrequencies = new float[256][];
+    private float[] norms = new float[256];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    // Document count when the norms were last all recomputed
+    private int normalizedAt;
+
+    /**
+     * The text that is indexed: questions, problems, rounds and areas to prepare
+     */
+    static String textOf(InterviewExperience experience) {
+        StringBuilder text = new StringBuilder();
+        for (String field : new String[]{experience.getQuestionsAsked(), experience.getProblemsSolved(),
+                experience.getRoundsDescription(), experience.getAreasToPrepareFinal()}) {
+            if (field != null) {
+                text.append(field).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Adds the document, replacing any earlier version with the same id
+     */
+    void put(String id, String text) {
+        TreeMap<Integer, Integer> counts = new TreeMap<>();
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (String token : tokenize(text)) {
+                counts.merge(termIdFor(token), 1, Integer::sum);
+            }
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            int[] termsOfDocument = new int[counts.size()];
+            float[] frequencies = new float[counts.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> count : counts.entrySet()) {
+                termsOfDocument[i] = count.getKey();
+                frequencies[i] = (float) (1 + Math.log(count.getValue()));
+                addPosting(count.getKey(), slot, frequencies[i]);
+                i++;
+            }
+            ids[slot] = id;
+            documentTerms[slot] = termsOfDocument;
+            documentFrequencies[slot] = frequencies;
+            slotsById.put(id, slot);
+            norms[slot] = norm(slot, slotsById.size());
+            renormalizeIfDrifted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(id);
+            renormalizeIfDrifted();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return slotsById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int vocabularySize() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} documents closest to the indexed document {@code id} by cosine similarity, closest first.
+     * Empty when the document is unknown or shares no informative term with any other.
+     */
+    List<Neighbor> nearest(String id, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer query = slotsById.get(id);
+            if (query == null || norms[query] == 0) {
+                return List.of();
+            }
+            double documents = slotsById.size();
+            int maxPostings = (int) Math.max(MIN_SKIPPED_POSTINGS, documents * MAX_QUERY_DOCUMENT_FREQUENCY);
+            float[] dots = new float[slotCount];
+            int[] touched = new int[64];
+            int touchedCount = 0;
+            int[] queryTerms = documentTerms[query];
+            float[] queryFrequencies = documentFrequencies[query];
+            for (int i = 0; i < queryTerms.length; i++) {
+                int term = queryTerms[i];
+                int postings = postingSizes[term];
+                if (postings > maxPostings) {
+                    continue;
+                }
+                double idf = idf(term, documents);
+                float queryWeight = (float) (queryFrequencies[i] * idf * idf);
+                int[] slots = postingSlots[term];
+                float[] frequencies = postingFrequencies[term];
+                for (int p = 0; p < postings; p++) {
+                    int slot = slots[p];
+                    if (slot == query) {
+                        continue;
+                    }
+                    if (dots[slot] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = slot;
+                    }
+                    dots[slot] += queryWeight * frequencies[p];
+                }
+            }
+
+            PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, (left, right) -> Float.compare(left.score(), right.score()));
+            float queryNorm = norms[query];
+            for (int t = 0; t < touchedCount; t++) {
+                int slot = touched[t];
+                float score = dots[slot] / (queryNorm * norms[slot]);
+                if (best.size() < limit) {
+                    best.add(new Scored(slot, score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new Scored(slot, score));
+                }
+            }
+
+            List<Scored> ranked = new ArrayList<>(best);
+            ranked.sort((left, right) -> Float.compare(right.score(), left.score()));
+            List<Neighbor> neighbors = new ArrayList<>(ranked.size());
+            for (Scored scored : ranked) {
+                neighbors.add(new Neighbor(ids[scored.slot()], Math.min(1.0, scored.score()),
+                        sharedTerms(query, scored.slot(), documents)));
+            }
+            return neighbors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Terms of both documents with the largest combined weight
+    private List<String> sharedTerms(int left, int right, double documents) {
+        int[] leftTerms = documentTerms[left];
+        int[] rightTerms = documentTerms[right];
+        int[] shared = new int[Math.min(leftTerms.length, rightTerms.length)];
+        double[] weights = new double[shared.length];
+        int count = 0;
+        for (int i = 0, j = 0; i < leftTerms.length && j < rightTerms.length; ) {
+            if (leftTerms[i] < rightTerms[j]) {
+                i++;
+            } else if (leftTerms[i] > rightTerms[j]) {
+                j++;
+            } else {
+                double idf = idf(leftTerms[i], documents);
+                shared[count] = leftTerms[i];
+                weights[count++] = documentFrequencies[left][i] * documentFrequencies[right][j] * idf * idf;
+                i++;
+                j++;
+            }
+        }
+        List<String> result = new ArrayList<>(SHARED_TERMS);
+        while (result.size() < SHARED_TERMS && result.size() < count) {
+            int heaviest = -1;
+            for (int k = 0; k < count; k++) {
+                if (weights[k] >= 0 && (heaviest < 0 || weights[k] > weights[heaviest])) {
+                    heaviest = k;
+                }
+            }
+            result.add(terms[shared[heaviest]]);
+            weights[heaviest] = -1;
+        }
+        return result;
+    }
+
+    private boolean removeLocked(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        for (int term : documentTerms[slot]) {
+            removePosting(term, slot);
+        }
+        ids[slot] = null;
+        documentTerms[slot] = null;
+        documentFrequencies[slot] = null;
+        norms[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    private void renormalizeIfDrifted() {
+        int documents = slotsById.size();
+        if (Math.abs(documents - normalizedAt) > Math.max(10, normalizedAt / 10)) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (ids[slot] != null) {
+                    norms[slot] = norm(slot, documents);
+                }
+            }
+            normalizedAt = documents;
+        }
+    }
+
+    private float norm(int slot, double documents) {
+        int[] termsOfDocument = documentTerms[slot];
+        float[] frequencies = documentFrequencies[slot];
+        double squares = 0;
+        for (int i = 0; i < termsOfDocument.length; i++) {
+            double weight = frequencies[i] * idf(termsOfDocument[i], documents);
+            squares += weight * weight;
+        }
+        return (float) Math.sqrt(squares);
+    }
+
+    private double idf(int term, double documents) {
+        return Math.log((1 + documents) / (1 + postingSizes[term])) + 1;
+    }
+
+    private int nextSlot() {
+        if (slotCount == ids.length) {
+            int capacity = slotCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            documentTerms = Arrays.copyOf(documentTerms, capacity);
+            documentFrequencies = Arrays.copyOf(documentFrequencies, capacity);
+            norms = Arrays.copyOf(norms, capacity);
+        }
+        return slotCount++;
+    }
+
+    private int termIdFor(String token) {
+        Integer existing = termIds.get(token);
+        if (existing != null) {
+            return existing;
+        }
+        int term = termIds.size();
+        if (term == terms.length) {
+            int capacity = term * 2;
+            terms = Arrays.copyOf(terms, capacity);
+            postingSlots = Arrays.copyOf(postingSlots, capacity);
+            postingFrequencies = Arrays.copyOf(postingFrequencies, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+        }
+        terms[term] = token;
+        postingSlots[term] = new int[4];
+        postingFrequencies[term] = new float[4];
+        termIds.put(token, term);
+        return term;
+    }
+
+    private void addPosting(int term, int slot, float frequency) {
+        int size = postingSizes[term];
+        if (size == postingSlots[term].length) {
+            postingSlots[term] = Arrays.copyOf(postingSlots[term], size * 2);
+            postingFrequencies[term] = Arrays.copyOf(postingFrequencies[term], size * 2);
+        }
+        postingSlots[term][size] = slot;
+        postingFrequencies[term][size] = frequency;
+        postingSizes[term] = size + 1;
+    }
+
+    // Postings are unordered, so the last one fills the gap
+    private void removePosting(int term, int slot) {
+        int[] slots = postingSlots[term];
+        int last = postingSizes[term] - 1;
+        for (int p = 0; p <= last; p++) {
+            if (slots[p] == slot) {
+                slots[p] = slots[last];
+                postingFrequencies[term][p] = postingFrequencies[term][last];
+                postingSizes[term] = last;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lower-case words, keeping '+' and '#' ("c++", "c#"), without stop words or bare numbers
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TERM_LENGTH && token.length() <= MAX_TERM_LENGTH
+                    && !STOP_WORDS.contains(token) && !token.chars().allMatch(Character::isDigit)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,163 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.SimilarExperienceDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.exception.ResourceNotFoundException;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * "Similar experiences" from a {@link SimilarExperienceIndex} held in memory. InterviewExperienceService
+ * updates it on every create, update and delete; a periodic rebuild from MongoDB picks up writes made by
+ * other instances and refreshes the IDF weights. Writes that arrive during a rebuild are replayed onto the
+ * new index before it replaces the old one.
+ */
+@Service
+@Slf4j
+public class SimilarExperienceService {
+
+    private final InterviewExperienceRepository experienceRepository;
+    private final int maxResults;
+    private final Object rebuildLock = new Object();
+
+    private volatile SimilarExperienceIndex index;
+    // Changes made while a rebuild is loading; guarded by this
+    private List<Consumer<SimilarExperienceIndex>> changesDuringRebuild;
+
+    public SimilarExperienceService(InterviewExperienceRepository experienceRepository,
+                                    @Value("${experience.similar.max-results:20}") int maxResults) {
+        this.experienceRepository = experienceRepository;
+        this.maxResults = maxResults;
+    }
+
+    public List<SimilarExperienceDTO> findSimilar(String id, int limit) {
+        SimilarExperienceIndex current = currentIndex();
+        if (!current.contains(id)) {
+            // Written through another instance since the last rebuild
+            InterviewExperience experience = experienceRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Interview experience not found with id: " + id));
+            indexExperience(experience);
+        }
+        List<SimilarExperienceIndex.Neighbor> neighbors = current.nearest(id, Math.min(Math.max(limit, 1), maxResults));
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, InterviewExperience> experiences = new HashMap<>();
+        experienceRepository.findAllById(neighbors.stream().map(SimilarExperienceIndex.Neighbor::id).toList())
+                .forEach(experience -> experiences.put(experience.getId(), experience));
+        List<SimilarExperienceDTO> similar = new ArrayList<>(neighbors.size());
+        for (SimilarExperienceIndex.Neighbor neighbor : neighbors) {
+            InterviewExperience experience = experiences.get(neighbor.id());
+            if (experience != null) {
+                similar.add(convertToDTO(experience, neighbor));
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * Adds or replaces the experience; call after it has been saved
+     */
+    public void indexExperience(InterviewExperience experience) {
+        String text = SimilarExperienceIndex.textOf(experience);
+        apply(target -> target.put(experience.getId(), text));
+    }
+
+    public void removeExperience(String id) {
+        apply(target -> target.remove(id));
+    }
+
+    @Scheduled(fixedDelayString = "${experience.similar.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Similar experiences index rebuild failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds a fresh index from MongoDB and swaps it in; queries use the previous one meanwhile
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                SimilarExperienceIndex built = new SimilarExperienceIndex();
+                try (Stream<InterviewExperience> experiences = experienceRepository.streamInterviewText()) {
+                    experiences.forEach(experience -> built.put(experience.getId(), SimilarExperienceIndex.textOf(experience)));
+                }
+                synchronized (this) {
+                    changesDuringRebuild.forEach(change -> change.accept(built));
+                    index = built;
+                }
+                log.debug("Similar experiences index rebuilt: {} experiences, {} terms in {} ms",
+                        built.size(), built.vocabularySize(), (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public int getIndexSize() {
+        SimilarExperienceIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    public int getVocabularySize() {
+        SimilarExperienceIndex current = index;
+        return current == null ? 0 : current.vocabularySize();
+    }
+
+    private synchronized void apply(Consumer<SimilarExperienceIndex> change) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        if (index != null) {
+            change.accept(index);
+        }
+    }
+
+    // Built on first use when a request beats the first scheduled rebuild
+    private SimilarExperienceIndex currentIndex() {
+        SimilarExperienceIndex current = index;
+        if (current == null) {
+            synchronized (rebuildLock) {
+                if (index == null) {
+                    rebuild();
+                }
+            }
+            current = index;
+        }
+        return current;
+    }
+
+    private static SimilarExperienceDTO convertToDTO(InterviewExperience experience, SimilarExperienceIndex.Neighbor neighbor) {
+        SimilarExperienceDTO dto = new SimilarExperienceDTO();
+        dto.setId(experience.getId());
+        dto.setStudentName(experience.getStudentName());
+        dto.setCompanyName(experience.getCompanyName());
+        dto.setPosition(experience.getPosition());
+        dto.setYearOfPlacement(experience.getYearOfPlacement());
+        dto.setFinalResult(experience.getFinalResult());
+        dto.setScore(Math.round(neighbor.score() * 1000) / 1000.0);
+        dto.setSharedTerms(neighbor.sharedTerms());
+        return dto;
+    }
+}
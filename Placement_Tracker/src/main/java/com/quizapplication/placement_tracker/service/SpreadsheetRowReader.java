@@ -0,0 +1,22 @@
+package com.quizapplication.placement_tracker.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads a spreadsheet one row at a time, so an import never holds the whole file in memory
+ */
+interface SpreadsheetRowReader extends Closeable {
+
+    /**
+     * Cell values of the next row (empty cells as ""), or null after the last row.
+     * Malformed content fails with IllegalArgumentException.
+     */
+    List<String> next() throws IOException;
+
+    /**
+     * 1-based row number of the row last returned, as the user sees it in the file
+     */
+    int rowNumber();
+}
@@ -0,0 +1,229 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether an upload request may proceed before its body is read.
+ * Limits the number of concurrent uploads (with a short, bounded wait queue), optionally the number of
+ * uploads in flight per user, and refuses uploads that would push free disk space below the
+ * configured watermark. The per-user limit is off when max-per-user is 0.
+ */
+@Service
+public class UploadAdmissionService {
+
+    public enum RejectionReason {
+        CONCURRENCY_LIMIT, QUEUE_FULL, PER_USER_LIMIT, LOW_DISK_SPACE
+    }
+
+    private final Semaphore uploadSlots;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTimeoutMillis;
+    private final int maxPerUser;
+    private final long minFreeDiskBytes;
+    private final Path uploadPath;
+
+    private final Map<String, AtomicInteger> inFlightPerUser = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger peakQueued = new AtomicInteger();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder bytesUploaded = new LongAdder();
+    private final LongAdder uploadNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final Map<RejectionReason, LongAdder> rejected = new ConcurrentHashMap<>();
+
+    public UploadAdmissionService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                                  @Value("${file.upload.max-concurrent:8}") int maxConcurrent,
+                                  @Value("${file.upload.max-queued:32}") int maxQueued,
+                                  @Value("${file.upload.queue-timeout-ms:250}") long queueTimeoutMillis,
+                                  @Value("${file.upload.max-per-user:0}") int maxPerUser,
+                                  @Value("${file.upload.min-free-disk-mb:512}") long minFreeDiskMb) {
+        this.uploadPath = Paths.get(uploadDir);
+        this.maxConcurrent = maxConcurrent;
+        this.uploadSlots = new Semaphore(maxConcurrent, true);
+        this.maxQueued = maxQueued;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.maxPerUser = maxPerUser;
+        this.minFreeDiskBytes = minFreeDiskMb * 1024 * 1024;
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejected.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Try to admit an upload. Returns a ticket that must be closed when the upload finishes,
+     * or a rejection reason when the upload should be turned away.
+     */
+    public Admission admit(String userKey, long contentLength) throws InterruptedException {
+        RejectionReason diskCheck = checkDiskSpace(contentLength);
+        if (diskCheck != null) {
+            return reject(diskCheck);
+        }
+
+        AtomicInteger userCount = maxPerUser > 0
+                ? inFlightPerUser.computeIfAbsent(userKey, key -> new AtomicInteger())
+                : null;
+        if (userCount != null && userCount.incrementAndGet() > maxPerUser) {
+            releaseUser(userKey, userCount);
+            return reject(RejectionReason.PER_USER_LIMIT);
+        }
+
+        if (!uploadSlots.tryAcquire()) {
+            int waiting = queued.incrementAndGet();
+            peakQueued.accumulateAndGet(waiting, Math::max);
+            long waitStart = System.nanoTime();
+            boolean acquired = false;
+            try {
+                if (waiting > maxQueued) {
+                    releaseUser(userKey, userCount);
+                    return reject(RejectionReason.QUEUE_FULL);
+                }
+                acquired = uploadSlots.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                queued.decrementAndGet();
+                queueWaitNanos.add(System.nanoTime() - waitStart);
+                if (!acquired && waiting <= maxQueued) {
+                    releaseUser(userKey, userCount);
+                }
+            }
+            if (!acquired) {
+                return reject(RejectionReason.CONCURRENCY_LIMIT);
+            }
+        }
+
+        accepted.increment();
+        return new Admission(null, new Ticket(userKey, userCount, System.nanoTime()));
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long completedCount = completed.sum();
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(uploadNanos.sum());
+        metrics.put("maxConcurrent", maxConcurrent);
+        metrics.put("inFlight", getInFlight());
+        metrics.put("queued", queued.get());
+        metrics.put("peakQueued", peakQueued.get());
+        metrics.put("accepted", accepted.sum());
+        metrics.put("completed", completedCount);
+        metrics.put("failed", failed.sum());
+        metrics.put("bytesUploaded", bytesUploaded.sum());
+        metrics.put("averageUploadMillis", completedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(uploadNanos.sum()) / completedCount);
+        metrics.put("averageBytesPerSecond", seconds == 0 ? bytesUploaded.sum() : bytesUploaded.sum() / seconds);
+        metrics.put("totalQueueWaitMillis", TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.sum()));
+        Map<String, Long> rejectedCounts = new LinkedHashMap<>();
+        rejected.forEach((reason, count) -> rejectedCounts.put(reason.name(), count.sum()));
+        metrics.put("rejected", rejectedCounts);
+        metrics.put("freeDiskBytes", usableSpace());
+        return metrics;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - uploadSlots.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getBytesUploaded() {
+        return bytesUploaded.sum();
+    }
+
+    public long getRejectedCount(RejectionReason reason) {
+        return rejected.get(reason).sum();
+    }
+
+    private RejectionReason checkDiskSpace(long contentLength) {
+        long usable = usableSpace();
+        if (usable >= 0 && usable - Math.max(contentLength, 0) < minFreeDiskBytes) {
+            return RejectionReason.LOW_DISK_SPACE;
+        }
+        return null;
+    }
+
+    private long usableSpace() {
+        try {
+            Path existing = Files.exists(uploadPath) ? uploadPath : uploadPath.toAbsolutePath().getParent();
+            return existing != null ? Files.getFileStore(existing).getUsableSpace() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private Admission reject(RejectionReason reason) {
+        rejected.get(reason).increment();
+        return new Admission(reason, null);
+    }
+
+    private void releaseUser(String userKey, AtomicInteger userCount) {
+        if (userCount != null && userCount.decrementAndGet() <= 0) {
+            inFlightPerUser.remove(userKey, userCount);
+        }
+    }
+
+    public record Admission(RejectionReason rejection, Ticket ticket) {
+        public boolean isAdmitted() {
+            return ticket != null;
+        }
+    }
+
+    /**
+     * Held for the duration of an admitted upload
+     */
+    public final class Ticket {
+        private final String userKey;
+        private final AtomicInteger userCount;
+        private final long startNanos;
+        private boolean released;
+
+        private Ticket(String userKey, AtomicInteger userCount, long startNanos) {
+            this.userKey = userKey;
+            this.userCount = userCount;
+            this.startNanos = startNanos;
+        }
+
+        public void release(boolean success, long bytes) {
+            if (released) {
+                return;
+            }
+            released = true;
+            uploadSlots.release();
+            releaseUser(userKey, userCount);
+            if (success) {
+                completed.increment();
+                bytesUploaded.add(Math.max(bytes, 0));
+                uploadNanos.add(System.nanoTime() - startNanos);
+            } else {
+                failed.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.quizapplication.placement_tracker.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * First worksheet of an .xlsx workbook, read straight from the OOXML parts with StAX: only the shared
+ * strings table is held in memory, rows are parsed as they are requested. Cells come back as their stored
+ * text (numbers unformatted, booleans as TRUE/FALSE); formulas yield their cached value.
+ */
+class XlsxRowReader implements SpreadsheetRowReader {
+
+    private static final String RELATIONSHIP_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+    // Guards against decompression bombs hidden in the shared strings part
+    private static final long MAX_SHARED_STRING_CHARS = 64L * 1024 * 1024;
+    // Excel's limit (XFD)
+    private static final int MAX_COLUMNS = 16384;
+
+    private static final XMLInputFactory XML = XMLInputFactory.newFactory();
+
+    static {
+        XML.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final ZipFile zip;
+    private final List<String> sharedStrings;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheet;
+    private int rowNumber;
+
+    XlsxRowReader(Path file) throws IOException {
+        try {
+            this.zip = new ZipFile(file.toFile());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Not a valid XLSX workbook");
+        }
+        try {
+            ZipEntry sheetEntry = zip.getEntry(firstSheetPath());
+            if (sheetEntry == null) {
+                throw new IllegalArgumentException("Workbook has no worksheet");
+            }
+            this.sharedStrings = readSharedStrings();
+            this.sheetStream = zip.getInputStream(sheetEntry);
+            this.sheet = XML.createXMLStreamReader(sheetStream);
+        } catch (XMLStreamException e) {
+            zip.close();
+            throw new IllegalArgumentException("Not a valid XLSX workbook: " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            zip.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> next() {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    String r = sheet.getAttributeValue(null, "r");
+                    rowNumber = r != null ? Integer.parseInt(r) : rowNumber + 1;
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed worksheet after row " + rowNumber + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException e) {
+            // the zip is closed below either way
+        }
+        sheetStream.close();
+        zip.close();
+    }
+
+    private List<String> readRow() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                return cells;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+                String reference = sheet.getAttributeValue(null, "r");
+                int column = reference != null ? columnIndex(reference) : cells.size();
+                while (cells.size() < column) {
+                    cells.add("");
+                }
+                cells.add(readCell(sheet.getAttributeValue(null, "t")));
+            }
+        }
+        return cells;
+    }
+
+    private String readCell(String type) throws XMLStreamException {
+        String value = null;
+        StringBuilder inline = new StringBuilder();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("v".equals(sheet.getLocalName())) {
+                    value = sheet.getElementText();
+                } else if ("t".equals(sheet.getLocalName())) {
+                    inline.append(sheet.getElementText());
+                }
+            }
+        }
+        if (type == null || type.equals("n") || type.equals("str") || type.equals("e")) {
+            return value != null ? value : "";
+        }
+        return switch (type) {
+            case "s" -> {
+                int index = value != null ? Integer.parseInt(value.trim()) : -1;
+                if (index < 0 || index >= sharedStrings.size()) {
+                    throw new IllegalArgumentException("Row " + rowNumber + " refers to a missing shared string");
+                }
+                yield sharedStrings.get(index);
+            }
+            case "inlineStr" -> inline.toString();
+            case "b" -> "1".equals(value) ? "TRUE" : "FALSE";
+            default -> value != null ? value : "";
+        };
+    }
+
+    private String firstSheetPath() throws IOException, XMLStreamException {
+        String relationshipId = null;
+        ZipEntry workbook = zip.getEntry("xl/workbook.xml");
+        if (workbook == null) {
+            throw new IllegalArgumentException("Not a valid XLSX workbook: xl/workbook.xml is missing");
+        }
+        try (InputStream in = zip.getInputStream(workbook)) {
+            XMLStreamReader reader = XML.createXMLStreamReader(in);
+            while (reader.hasNext() && relationshipId == null) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(reader.getLocalName())) {
+                    relationshipId = reader.getAttributeValue(RELATIONSHIP_NS, "id");
+                }
+            }
+            reader.close();
+        }
+        ZipEntry relationships = zip.getEntry("xl/_rels/workbook.xml.rels");
+        if (relationshipId == null || relationships == null) {
+            return DEFAULT_SHEET;
+        }
+        Map<String, String> targets = new HashMap<>();
+        try (InputStream in = zip.getInputStream(relationships)) {
+            XMLStreamReader reader = XML.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(reader.getLocalName())) {
+                    targets.put(reader.getAttributeValue(null, "Id"), reader.getAttributeValue(null, "Target"));
+                }
+            }
+            reader.close();
+        }
+        String target = targets.get(relationshipId);
+        if (target == null) {
+            return DEFAULT_SHEET;
+        }
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    private List<String> readSharedStrings() throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+        if (entry == null) {
+            return strings;
+        }
+        long totalChars = 0;
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = XML.createXMLStreamReader(in);
+            StringBuilder current = null;
+            boolean phonetic = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "si" -> current = new StringBuilder();
+                        case "rPh" -> phonetic = true;
+                        case "t" -> {
+                            String text = reader.getElementText();
+                            if (current != null && !phonetic) {
+                                current.append(text);
+                            }
+                            totalChars += text.length();
+                            if (totalChars > MAX_SHARED_STRING_CHARS) {
+                                throw new IllegalArgumentException("Workbook text exceeds " + MAX_SHARED_STRING_CHARS + " characters");
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("rPh".equals(reader.getLocalName())) {
+                        phonetic = false;
+                    } else if ("si".equals(reader.getLocalName()) && current != null) {
+                        strings.add(current.toString());
+                        current = null;
+                    }
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    // "AB12" -> 27
+    private static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+            if (column > MAX_COLUMNS) {
+                throw new IllegalArgumentException("Cell reference out of range: " + reference);
+            }
+        }
+        return column - 1;
+    }
+}
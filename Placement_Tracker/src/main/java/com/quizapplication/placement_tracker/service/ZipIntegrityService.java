@@ -0,0 +1,231 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.AttachmentStatus;
+import com.quizapplication.placement_tracker.monitoring.RequestTrace;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Verifies uploaded ZIP archives off the request path.
+ * Each archive is streamed once: every entry is inflated (which makes ZipInputStream check its CRC)
+ * while entry count, total expanded size and expansion ratio are enforced, so zip bombs are stopped
+ * as soon as they cross a limit. The result is written to every experience that references the file.
+ */
+@Service
+@Slf4j
+public class ZipIntegrityService {
+
+    private static final long RESULT_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(24);
+    // End of central directory record, which is all an archive without entries contains
+    private static final byte[] EMPTY_ARCHIVE_SIGNATURE = {'P', 'K', 5, 6};
+
+    private final InterviewExperienceRepository interviewExperienceRepository;
+    private final PlacementExperienceRepository placementExperienceRepository;
+    private final ThreadPoolExecutor workers;
+
+    // Recent results, covering the gap between upload and the experience being submitted
+    private final Map<String, Result> results = new ConcurrentHashMap<>();
+    // Files that could not be queued because the worker queue was full; retried by the sweep
+    private final Set<String> overflow = ConcurrentHashMap.newKeySet();
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${file.verify.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${file.verify.max-expansion-ratio:100}")
+    private long maxExpansionRatio;
+
+    @Value("${file.verify.max-expanded-mb:1024}")
+    private long maxExpandedMb;
+
+    public ZipIntegrityService(InterviewExperienceRepository interviewExperienceRepository,
+                               PlacementExperienceRepository placementExperienceRepository,
+                               @Value("${file.verify.workers:2}") int workerCount,
+                               @Value("${file.verify.queue-capacity:100}") int queueCapacity) {
+        this.interviewExperienceRepository = interviewExperienceRepository;
+        this.placementExperienceRepository = placementExperienceRepository;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "zip-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queue a stored upload for verification; never blocks the caller
+     */
+    public void submit(String fileName) {
+        results.put(fileName, new Result(AttachmentStatus.PENDING, System.currentTimeMillis()));
+        try {
+            workers.execute(RequestTrace.propagate(() -> verifyAndRecord(fileName)));
+        } catch (RejectedExecutionException e) {
+            overflow.add(fileName);
+            log.warn("ZIP verification queue full, deferring {}", fileName);
+        }
+    }
+
+    /**
+     * Status to store on an experience that references the given attachment URL.
+     * Unknown files (e.g. uploaded before a restart) are queued for verification and reported as pending.
+     */
+    public AttachmentStatus statusFor(String attachmentUrl) {
+        String fileName = AttachmentReferenceSet.fileNameOf(attachmentUrl);
+        if (fileName == null) {
+            return null;
+        }
+        Result result = results.get(fileName);
+        if (result == null) {
+            if (!Files.isRegularFile(resolve(fileName))) {
+                return null;
+            }
+            submit(fileName);
+            return AttachmentStatus.PENDING;
+        }
+        return result.status();
+    }
+
+    /**
+     * Re-apply a result that may have been recorded while the experience was being saved
+     */
+    public void reconcile(String attachmentUrl, AttachmentStatus savedStatus) {
+        if (savedStatus != AttachmentStatus.PENDING) {
+            return;
+        }
+        AttachmentStatus current = statusFor(attachmentUrl);
+        if (current != null && current != AttachmentStatus.PENDING) {
+            applyStatus(AttachmentReferenceSet.fileNameOf(attachmentUrl), current);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.verify.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (String fileName : overflow) {
+            if (workers.getQueue().remainingCapacity() == 0) {
+                break;
+            }
+            overflow.remove(fileName);
+            submit(fileName);
+        }
+        long cutoff = System.currentTimeMillis() - RESULT_RETENTION_MILLIS;
+        results.entrySet().removeIf(entry -> entry.getValue().status() != AttachmentStatus.PENDING
+                && entry.getValue().recordedAt() < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void verifyAndRecord(String fileName) {
+        AttachmentStatus status;
+        try {
+            String problem = verify(resolve(fileName));
+            status = problem == null ? AttachmentStatus.OK : AttachmentStatus.REJECTED;
+            if (problem != null) {
+                log.warn("Rejected attachment {}: {}", fileName, problem);
+            }
+        } catch (IOException e) {
+            // The file vanished or could not be opened - keep it pending so a later reference retries it
+            log.error("Could not verify attachment {}: {}", fileName, e.getMessage());
+            results.remove(fileName);
+            return;
+        }
+        results.put(fileName, new Result(status, System.currentTimeMillis()));
+        applyStatus(fileName, status);
+    }
+
+    private void applyStatus(String fileName, AttachmentStatus status) {
+        String url = DownloadUrlSigner.ATTACHMENT_PATH_PREFIX + fileName;
+        try {
+            interviewExperienceRepository.updateAttachmentStatusByUrl(url, status);
+            placementExperienceRepository.updateAttachmentStatusByUrl(url, status);
+        } catch (Exception e) {
+            log.error("Failed to record attachment status for {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns null when the archive is valid, otherwise a description of the problem. An archive without
+     * entries is valid. Throws IOException only when the file itself cannot be opened (missing, unreadable);
+     * anything that goes wrong while reading its contents, including truncation, rejects the archive.
+     */
+    String verify(Path file) throws IOException {
+        long compressedSize = Math.max(Files.size(file), 1);
+        long maxExpandedBytes = maxExpandedMb * 1024 * 1024;
+        byte[] buffer = new byte[64 * 1024];
+        int entries = 0;
+        long expanded = 0;
+        byte[] signature;
+
+        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            in.mark(EMPTY_ARCHIVE_SIGNATURE.length);
+            signature = in.readNBytes(EMPTY_ARCHIVE_SIGNATURE.length);
+            in.reset();
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (++entries > maxEntries) {
+                    return "more than " + maxEntries + " entries";
+                }
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                int read;
+                while ((read = zip.read(buffer)) != -1) {
+                    expanded += read;
+                    if (expanded > maxExpandedBytes) {
+                        return "expands to more than " + maxExpandedMb + " MB";
+                    }
+                    if (expanded / compressedSize > maxExpansionRatio) {
+                        return "expansion ratio exceeds " + maxExpansionRatio + ":1";
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // ZipException for CRC and size mismatches, EOFException for a truncated entry
+            return "corrupt or truncated archive (" + e.getMessage() + ")";
+        }
+
+        // ZipInputStream also reports no entries for a file that is not a ZIP at all
+        if (entries == 0 && !Arrays.equals(signature, EMPTY_ARCHIVE_SIGNATURE)) {
+            return "not a ZIP archive";
+        }
+        return null;
+    }
+
+    private Path resolve(String fileName) {
+        return Paths.get(uploadDir).resolve(fileName).normalize();
+    }
+
+    private record Result(AttachmentStatus status, long recordedAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.DownloadUrlSigner;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedDownloadFilterTest {
+
+    private final DownloadUrlSigner signer = new DownloadUrlSigner("test-key", 1, 60);
+    private final SignedDownloadFilter filter = new SignedDownloadFilter(signer);
+
+    @Test
+    void passesValidSignedRequest() throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = run(signed("report.zip", "/api/files/signed/report.zip"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void storedAttachmentPathNeedsASignature() throws ServletException, IOException {
+        MockFilterChain unsignedChain = new MockFilterChain();
+        MockHttpServletResponse unsigned = run(
+                new MockHttpServletRequest("GET", "/api/files/download/report.zip"), unsignedChain);
+
+        assertThat(unsigned.getStatus()).isEqualTo(403);
+        assertThat(unsigned.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(unsignedChain.getRequest()).isNull();
+
+        MockFilterChain signedChain = new MockFilterChain();
+        run(signed("report.zip", "/api/files/download/report.zip"), signedChain);
+        assertThat(signedChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void checksTheDecodedFileName() throws ServletException, IOException {
+        // The controller's @PathVariable sees "my report.zip", so that is the name the link was signed for
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = run(signed("my report.zip", "/api/files/signed/my%20report.zip"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void rejectsTamperedSignature() throws ServletException, IOException {
+        MockHttpServletRequest request = signed("report.zip", "/api/files/signed/other.zip");
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThat(run(request, chain).getStatus()).isEqualTo(403);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void rejectsEncodedPathTraversal() throws ServletException, IOException {
+        MockHttpServletRequest request = signed("../secret.zip", "/api/files/signed/..%2Fsecret.zip");
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThat(run(request, chain).getStatus()).isEqualTo(400);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletRequest signed(String fileName, String requestUri) {
+        String url = signer.sign(fileName).url();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        for (String parameter : url.substring(url.indexOf('?') + 1).split("&")) {
+            String[] pair = parameter.split("=", 2);
+            request.addParameter(pair[0], pair[1]);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, MockFilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
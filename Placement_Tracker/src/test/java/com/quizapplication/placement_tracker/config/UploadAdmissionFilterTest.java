@@ -0,0 +1,119 @@
+package com.quizapplication.placement_tracker.config;
+
+import com.quizapplication.placement_tracker.service.UploadAdmissionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadAdmissionFilterTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadAdmissionService admissionService;
+    private UploadAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // One upload per client, no queueing, no free-space floor
+        admissionService = new UploadAdmissionService(uploadDir.toString(), 8, 0, 0, 1, 0);
+        filter = new UploadAdmissionFilter(admissionService, 7);
+    }
+
+    @Test
+    void limitsConcurrentUploadsPerClientAddress() throws ServletException, IOException {
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        MockHttpServletResponse outer = run(upload("203.0.113.7"), (request, response) -> {
+            nested.add(run(upload("203.0.113.7"), new MockFilterChain()));
+            nested.add(run(upload("198.51.100.2"), new MockFilterChain()));
+        });
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.get(0).getStatus()).isEqualTo(503);
+        assertThat(nested.get(0).getHeader("Retry-After")).isEqualTo("7");
+        assertThat(nested.get(0).getContentAsString()).contains("You already have an upload in progress");
+        assertThat(nested.get(1).getStatus()).isEqualTo(200);
+        assertThat(admissionService.getRejectedCount(UploadAdmissionService.RejectionReason.PER_USER_LIMIT)).isEqualTo(1);
+    }
+
+    @Test
+    void sharedAddressesAreNotCappedByDefault() throws ServletException, IOException {
+        // Off by default: behind a NAT or untrusted proxy every student arrives from the same address
+        admissionService = new UploadAdmissionService(uploadDir.toString(), 8, 0, 0, 0, 0);
+        filter = new UploadAdmissionFilter(admissionService, 7);
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        run(upload("203.0.113.7"), (request, response) -> {
+            nested.add(run(upload("203.0.113.7"), new MockFilterChain()));
+            nested.add(run(upload("203.0.113.7"), new MockFilterChain()));
+        });
+
+        assertThat(nested).extracting(MockHttpServletResponse::getStatus).containsExactly(200, 200);
+        assertThat(admissionService.getAcceptedCount()).isEqualTo(3);
+        assertThat(admissionService.getInFlight()).isZero();
+    }
+
+    @Test
+    void ignoresIdentityHeadersSetByTheClient() throws ServletException, IOException {
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        MockHttpServletRequest first = upload("203.0.113.7");
+        first.addHeader("X-User-Id", "alice");
+        run(first, (request, response) -> {
+            MockHttpServletRequest second = upload("203.0.113.7");
+            // Neither header changes the key; X-Forwarded-For is only applied by Tomcat for trusted proxies
+            second.addHeader("X-User-Id", "bob");
+            second.addHeader("X-Forwarded-For", "192.0.2.99");
+            nested.add(run(second, new MockFilterChain()));
+        });
+
+        assertThat(nested.get(0).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void releasesTheSlotWhenTheUploadEnds() throws ServletException, IOException {
+        run(upload("203.0.113.7"), new MockFilterChain());
+        MockHttpServletResponse failed = run(upload("203.0.113.7"),
+                (request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+
+        assertThat(failed.getStatus()).isEqualTo(500);
+        assertThat(run(upload("203.0.113.7"), new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(admissionService.getCompletedCount()).isEqualTo(2);
+        assertThat(admissionService.getFailedCount()).isEqualTo(1);
+        assertThat(admissionService.getInFlight()).isZero();
+    }
+
+    @Test
+    void letsOtherMethodsThrough() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/upload");
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThat(run(request, chain).getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(admissionService.getAcceptedCount()).isZero();
+    }
+
+    private static MockHttpServletRequest upload(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/upload");
+        request.setRemoteAddr(remoteAddr);
+        request.setContent(new byte[16]);
+        return request;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,109 @@
+package com.quizapplication.placement_tracker.repository;
+
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserQueryRepositoryImplTest {
+
+    private static final Document CASE_INSENSITIVE = new Document("locale", "en").append("strength", 2);
+
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+    private final UserQueryRepositoryImpl repository = new UserQueryRepositoryImpl(mongoOperations);
+
+    @Test
+    void combinesEveryFilterWithAPrefixRangeForTheSearch() {
+        when(mongoOperations.find(any(Query.class), eq(User.class))).thenReturn(List.of());
+
+        repository.findUsers(UserRole.MENTOR, "cse", true, false, "an", PageRequest.of(0, 20));
+
+        Query query = capturedFind();
+        assertThat(query.getQueryObject()).isEqualTo(new Document("$and", List.of(
+                new Document("role", UserRole.MENTOR),
+                new Document("departmentId", "cse"),
+                new Document("isApproved", true),
+                new Document("isActive", false),
+                new Document("$or", List.of(
+                        new Document("fullName", new Document("$gte", "an").append("$lt", "an\uffff")),
+                        new Document("email", new Document("$gte", "an").append("$lt", "an\uffff")))))));
+        assertThat(query.getCollation()).hasValueSatisfying(
+                collation -> assertThat(collation.toDocument()).containsAllEntriesOf(CASE_INSENSITIVE));
+    }
+
+    @Test
+    void appliesNoFilterWhenAllAreNull() {
+        when(mongoOperations.find(any(Query.class), eq(User.class))).thenReturn(List.of());
+
+        repository.findUsers(null, null, null, null, null, PageRequest.of(0, 20));
+
+        assertThat(capturedFind().getQueryObject()).isEmpty();
+    }
+
+    @Test
+    void loadsOnePageOfListingFieldsInTheRequestedOrder() {
+        when(mongoOperations.find(any(Query.class), eq(User.class))).thenReturn(List.of());
+
+        repository.findUsers(null, null, null, null, null,
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("id"))));
+
+        Query query = capturedFind();
+        assertThat(query.getSkip()).isEqualTo(40);
+        assertThat(query.getLimit()).isEqualTo(20);
+        assertThat(query.getSortObject()).isEqualTo(new Document("createdAt", -1).append("id", 1));
+        assertThat(query.getFieldsObject().keySet()).containsExactlyInAnyOrder("fullName", "email", "phoneNumber",
+                "role", "departmentId", "isActive", "isApproved", "createdAt");
+        assertThat(query.getCollation()).isPresent();
+    }
+
+    @Test
+    void countsWithTheSameFilterOnlyWhenThePageIsFull() {
+        List<User> fullPage = Collections.nCopies(2, new User());
+        when(mongoOperations.find(any(Query.class), eq(User.class))).thenReturn(fullPage);
+        when(mongoOperations.count(any(Query.class), eq(User.class))).thenReturn(7L);
+
+        Page<User> page = repository.findUsers(UserRole.STUDENT, null, null, null, null, PageRequest.of(0, 2));
+
+        ArgumentCaptor<Query> counted = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).count(counted.capture(), eq(User.class));
+        assertThat(counted.getValue().getQueryObject()).isEqualTo(capturedFind().getQueryObject());
+        assertThat(counted.getValue().getSkip()).isZero();
+        assertThat(counted.getValue().isLimited()).isFalse();
+        assertThat(counted.getValue().getCollation()).isPresent();
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    void skipsTheCountForAPartialFirstPage() {
+        when(mongoOperations.find(any(Query.class), eq(User.class))).thenReturn(List.of(new User()));
+
+        Page<User> page = repository.findUsers(null, null, null, null, null, PageRequest.of(0, 20));
+
+        verify(mongoOperations, never()).count(any(Query.class), eq(User.class));
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    private Query capturedFind() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).find(query.capture(), eq(User.class));
+        return query.getValue();
+    }
+}
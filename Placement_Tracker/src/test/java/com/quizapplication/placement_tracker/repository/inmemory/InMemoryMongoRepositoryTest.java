@@ -0,0 +1,237 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.entity.MentorSyncTask;
+import com.quizapplication.placement_tracker.entity.Question;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryMongoRepositoryTest {
+
+    private final MappingMongoConverter converter = InMemoryTestConverter.create();
+
+    @Test
+    void equalityTreatsMissingFieldsAsNullAndMatchesArrayElements() {
+        InMemoryMentorRepository mentors = new InMemoryMentorRepository(converter);
+        Mentor linked = mentor("a@gct.ac.in", "u1", List.of("cse", "it"));
+        Mentor legacy = mentor("b@gct.ac.in", null, List.of("ece"));
+        mentors.saveAll(List.of(linked, legacy));
+
+        // { userId: null } also matches documents that have no userId at all
+        assertThat(mentors.deleteByEmailInAndUserIdIsNull(List.of("a@gct.ac.in", "b@gct.ac.in"))).isEqualTo(1);
+        assertThat(mentors.findAll()).extracting(Mentor::getEmail).containsExactly("a@gct.ac.in");
+        assertThat(mentors.findAll(mentors.is("departmentIds", "it"))).hasSize(1);
+        assertThat(mentors.findAll(mentors.is("departmentIds", List.of("cse", "it")))).hasSize(1);
+        assertThat(mentors.findAll(mentors.is("departmentIds", "ece"))).isEmpty();
+    }
+
+    @Test
+    void equalityComparesNumbersByValueAndEnumsByName() {
+        InMemoryInterviewExperienceRepository experiences = new InMemoryInterviewExperienceRepository(converter);
+        experiences.save(experience("Zoho", 2024));
+        experiences.save(experience("TCS", 2023));
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        users.saveAll(List.of(user("a@gct.ac.in", UserRole.MENTOR, false), user("b@gct.ac.in", UserRole.STUDENT, false)));
+
+        assertThat(experiences.findByYearOfPlacement(2024)).extracting(InterviewExperience::getCompanyName).containsExactly("Zoho");
+        assertThat(experiences.findAll(experiences.is("yearOfPlacement", 2024L))).hasSize(1);
+        assertThat(experiences.findAll(experiences.is("yearOfPlacement", 2024.0))).hasSize(1);
+        assertThat(users.countByRoleAndIsApproved(UserRole.MENTOR, false)).isEqualTo(1);
+        assertThat(users.findAll(users.is("role", "MENTOR"))).extracting(User::getEmail).containsExactly("a@gct.ac.in");
+    }
+
+    @Test
+    void ignoreCaseOperatorsMatchTheArgumentLiterally() {
+        InMemoryCompanyRepository companies = new InMemoryCompanyRepository(converter);
+        companies.saveAll(List.of(company("Zoho", "IT Services"), company("Zoho Corp", "it services"),
+                company("C++ Labs", null), company("A.B Infotech", null)));
+
+        assertThat(companies.findByCompanyNameIgnoreCase("ZOHO")).map(Company::getCompanyName).contains("Zoho");
+        assertThat(companies.existsByCompanyNameIgnoreCase("zoh")).isFalse();
+        assertThat(companies.findByIndustryIgnoreCase("IT SERVICES")).hasSize(2);
+        assertThat(companies.findByCompanyNameContainingIgnoreCase("oho c")).extracting(Company::getCompanyName)
+                .containsExactly("Zoho Corp");
+        // Regex metacharacters in the argument are plain characters
+        assertThat(companies.findByCompanyNameContainingIgnoreCase("c++")).extracting(Company::getCompanyName)
+                .containsExactly("C++ Labs");
+        assertThat(companies.findByCompanyNameContainingIgnoreCase("a.b")).extracting(Company::getCompanyName)
+                .containsExactly("A.B Infotech");
+        assertThat(companies.findByCompanyNameContainingIgnoreCase(".")).extracting(Company::getCompanyName)
+                .containsExactly("A.B Infotech");
+        assertThat(companies.findByCompanyNameContainingIgnoreCase(null)).isEmpty();
+        assertThat(companies.findByIndustryIgnoreCase(null)).isEmpty();
+    }
+
+    @Test
+    void inAndNotNullSelectTheExpectedDocuments() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        users.saveAll(List.of(user("a@gct.ac.in", UserRole.STUDENT, true), user("b@gct.ac.in", UserRole.STUDENT, true),
+                user("c@gct.ac.in", UserRole.STUDENT, true)));
+        InMemoryInterviewExperienceRepository experiences = new InMemoryInterviewExperienceRepository(converter);
+        InterviewExperience withQuestions = experience("Zoho", 2024);
+        withQuestions.setQuestionsAsked("Reverse a linked list");
+        experiences.saveAll(List.of(withQuestions, experience("TCS", 2024)));
+
+        assertThat(users.findByEmailIn(List.of("c@gct.ac.in", "a@gct.ac.in", "x@gct.ac.in")))
+                .extracting(User::getEmail).containsExactly("a@gct.ac.in", "c@gct.ac.in");
+        assertThat(users.findByEmailIn(List.of())).isEmpty();
+        try (Stream<InterviewExperience> stream = experiences.streamQuestionsAsked()) {
+            assertThat(stream).extracting(InterviewExperience::getCompanyName).containsExactly("Zoho");
+        }
+    }
+
+    @Test
+    void rangeOperatorsOnlyCompareValuesOfTheSameType() {
+        InMemoryMentorSyncTaskRepository tasks = new InMemoryMentorSyncTaskRepository(converter);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        tasks.save(task("due", now.minusMinutes(2), now));
+        tasks.save(task("early", now.minusMinutes(5), now.minusMinutes(1)));
+        tasks.save(task("later", now.minusMinutes(9), now.plusSeconds(1)));
+        tasks.save(task("unscheduled", now.minusMinutes(7), null));
+        InMemoryQuestionRepository questions = new InMemoryQuestionRepository(converter);
+        questions.saveAll(List.of(question("old", "zoho", 1, now.minusDays(1)), question("current", "zoho", 2, now)));
+
+        // Due tasks in enqueue order; a missing nextAttemptAt is not "less than" anything
+        assertThat(tasks.findByNextAttemptAtLessThanEqualOrderByEnqueuedAtAsc(now, Limit.unlimited()))
+                .extracting(MentorSyncTask::getUserId).containsExactly("early", "due");
+        assertThat(tasks.findByNextAttemptAtLessThanEqualOrderByEnqueuedAtAsc(now, Limit.of(1)))
+                .extracting(MentorSyncTask::getUserId).containsExactly("early");
+        assertThat(tasks.findAll(tasks.lessThanEqual("nextAttemptAt", 0))).isEmpty();
+        assertThat(questions.deleteByBuiltAtBefore(now)).isEqualTo(1);
+        assertThat(questions.findAll()).extracting(Question::getText).containsExactly("current");
+    }
+
+    @Test
+    void sortsInMongoTypeOrderWithNullsFirst() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        User unnamed = user("d@gct.ac.in", UserRole.STUDENT, true);
+        unnamed.setFullName(null);
+        users.saveAll(List.of(named("a@gct.ac.in", "bala"), named("b@gct.ac.in", "Asha"), unnamed,
+                named("c@gct.ac.in", "Chitra")));
+
+        assertThat(users.findAll(Sort.by("fullName"))).extracting(User::getEmail)
+                .containsExactly("d@gct.ac.in", "b@gct.ac.in", "c@gct.ac.in", "a@gct.ac.in");
+        assertThat(users.findAll(document -> true, Sort.by(Sort.Order.desc("fullName").ignoreCase()), Limit.of(2)))
+                .extracting(User::getEmail).containsExactly("c@gct.ac.in", "a@gct.ac.in");
+        assertThat(users.findUsers(null, null, null, null, "a", PageRequest.of(0, 10, Sort.by("fullName"))))
+                .extracting(User::getEmail).containsExactly("b@gct.ac.in", "a@gct.ac.in");
+        assertThat(InMemoryMongoRepository.compareValues(10, "9", false)).isNegative();
+        assertThat(InMemoryMongoRepository.compareValues(2L, 10.5, false)).isNegative();
+    }
+
+    @Test
+    void findOneRejectsMoreThanOneMatch() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        users.saveAll(List.of(user("a@gct.ac.in", UserRole.MENTOR, false), user("b@gct.ac.in", UserRole.MENTOR, false)));
+
+        assertThat(users.findByEmail("a@gct.ac.in")).isPresent();
+        assertThatThrownBy(() -> users.findOne(users.is("role", UserRole.MENTOR)))
+                .isInstanceOf(IncorrectResultSizeDataAccessException.class);
+    }
+
+    @Test
+    void approvalTokenLookupKeepsTheStoredFieldSemantics() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        User mentor = user("a@gct.ac.in", UserRole.MENTOR, false);
+        mentor.setApprovalToken("token-1");
+        users.save(mentor);
+
+        // approvalToken is only an accessor over verificationCode, so the query runs against a field that is
+        // never stored and, as on MongoDB, finds nothing
+        assertThat(users.findByApprovalToken("token-1")).isEmpty();
+        assertThat(users.findByEmail("a@gct.ac.in")).map(User::getApprovalToken).contains("token-1");
+    }
+
+    @Test
+    void enforcesUniqueIndexesAndReturnsCopies() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+        User saved = users.save(user("a@gct.ac.in", UserRole.STUDENT, true));
+
+        assertThatThrownBy(() -> users.save(user("a@gct.ac.in", UserRole.MENTOR, false)))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("index: email");
+        saved.setFullName("Renamed");
+        users.save(saved);
+        User read = users.findById(saved.getId()).orElseThrow();
+        read.setFullName("Not saved");
+        assertThat(users.findById(saved.getId())).map(User::getFullName).contains("Renamed");
+        assertThat(users.count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownPropertiesFailLikeTheQueryCreator() {
+        InMemoryUserRepository users = new InMemoryUserRepository(converter);
+
+        assertThatThrownBy(() -> users.is("nickname", "x")).isInstanceOf(PropertyReferenceException.class);
+        assertThat(users.findAll(users.is("id", "missing"))).isEmpty();
+    }
+
+    private static User user(String email, UserRole role, boolean approved) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(email.substring(0, 1));
+        user.setRole(role);
+        user.setIsApproved(approved);
+        return user;
+    }
+
+    private static User named(String email, String fullName) {
+        User user = user(email, UserRole.STUDENT, true);
+        user.setFullName(fullName);
+        return user;
+    }
+
+    private static Mentor mentor(String email, String userId, List<String> departmentIds) {
+        Mentor mentor = new Mentor(email, email, "Zoho");
+        mentor.setUserId(userId);
+        mentor.setDepartmentIds(departmentIds);
+        return mentor;
+    }
+
+    private static InterviewExperience experience(String company, int year) {
+        InterviewExperience experience = new InterviewExperience();
+        experience.setCompanyName(company);
+        experience.setYearOfPlacement(year);
+        return experience;
+    }
+
+    private static Company company(String name, String industry) {
+        Company company = new Company();
+        company.setCompanyName(name);
+        company.setIndustry(industry);
+        return company;
+    }
+
+    private static MentorSyncTask task(String userId, LocalDateTime enqueuedAt, LocalDateTime nextAttemptAt) {
+        MentorSyncTask task = new MentorSyncTask(userId, enqueuedAt);
+        task.setNextAttemptAt(nextAttemptAt);
+        return task;
+    }
+
+    private static Question question(String text, String companyKey, int count, LocalDateTime builtAt) {
+        Question question = new Question();
+        question.setId(text);
+        question.setText(text);
+        question.setCompanyKey(companyKey);
+        question.setCount(count);
+        question.setBuiltAt(builtAt);
+        return question;
+    }
+}
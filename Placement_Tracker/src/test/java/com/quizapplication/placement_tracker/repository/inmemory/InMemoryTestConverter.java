@@ -0,0 +1,20 @@
+package com.quizapplication.placement_tracker.repository.inmemory;
+
+import com.quizapplication.placement_tracker.config.InMemoryRepositoryConfig;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+/**
+ * The converter the inmemory profile wires into the in-memory repositories, for tests that build them directly
+ */
+public final class InMemoryTestConverter {
+
+    private InMemoryTestConverter() {
+    }
+
+    public static MappingMongoConverter create() {
+        InMemoryRepositoryConfig config = new InMemoryRepositoryConfig();
+        MongoCustomConversions conversions = config.mongoCustomConversions();
+        return config.mappingMongoConverter(config.mongoMappingContext(conversions), conversions);
+    }
+}
@@ -0,0 +1,95 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.PageDTO;
+import com.quizapplication.placement_tracker.dto.UserDTO;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.AdminRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AdminUserSearchTest {
+
+    private AdminService adminService;
+
+    @BeforeEach
+    void setUp() {
+        MappingMongoConverter converter = InMemoryTestConverter.create();
+        DepartmentRepository departmentRepository = new InMemoryDepartmentRepository(converter);
+        departmentRepository.save(new Department("cse", "Computer Science", null));
+        UserRepository userRepository = new InMemoryUserRepository(converter);
+        userRepository.save(user("u1", "Anitha R", "anitha@gct.ac.in", UserRole.STUDENT, "cse", true));
+        userRepository.save(user("u2", "anand K", "anand@gct.ac.in", UserRole.MENTOR, "cse", false));
+        userRepository.save(user("u3", "Bala", "an.bala@gct.ac.in", UserRole.MENTOR, "ece", true));
+        userRepository.save(user("u4", "Ravi Shankar", "ravi@gct.ac.in", UserRole.STUDENT, "cse", true));
+        userRepository.save(user("u5", "Zara", "zara@gct.ac.in", UserRole.ADMIN, null, true));
+        adminService = new AdminService(mock(AdminRepository.class), mock(MentorRepository.class), departmentRepository,
+                userRepository, mock(PasswordEncoder.class), mock(DashboardStatsService.class),
+                mock(MentorSyncService.class), 3);
+    }
+
+    @Test
+    void searchIsACaseInsensitivePrefixOfNameOrEmail() {
+        PageDTO<UserDTO> page = adminService.searchUsers(null, null, null, null, "AN", null, null, 0, 10);
+
+        // "Ravi Shankar" contains "an" but does not start with it
+        assertThat(page.getContent()).extracting(UserDTO::getFullName).containsExactly("anand K", "Anitha R", "Bala");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void combinesFiltersAndIgnoresBlankOnes() {
+        PageDTO<UserDTO> mentors = adminService.searchUsers(UserRole.MENTOR, "  ", true, null, "", null, null, 0, 10);
+        PageDTO<UserDTO> inCse = adminService.searchUsers(null, "cse", null, true, null, null, null, 0, 10);
+
+        assertThat(mentors.getContent()).extracting(UserDTO::getId).containsExactly("u3");
+        assertThat(inCse.getContent()).extracting(UserDTO::getId).containsExactly("u2", "u1", "u4");
+        assertThat(inCse.getContent().get(0).getDepartmentName()).isEqualTo("Computer Science");
+    }
+
+    @Test
+    void pagesAreClampedToTheMaximumSize() {
+        PageDTO<UserDTO> first = adminService.searchUsers(null, null, null, null, null, null, null, -1, 50);
+        PageDTO<UserDTO> second = adminService.searchUsers(null, null, null, null, null, null, null, 1, 50);
+
+        assertThat(first.getPage()).isZero();
+        assertThat(first.getSize()).isEqualTo(3);
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(UserDTO::getFullName).containsExactly("anand K", "Anitha R", "Bala");
+        assertThat(second.getContent()).extracting(UserDTO::getFullName).containsExactly("Ravi Shankar", "Zara");
+    }
+
+    @Test
+    void sortsByAllowedPropertiesOnly() {
+        PageDTO<UserDTO> byEmailDesc = adminService.searchUsers(null, null, null, null, null, "email", "DESC", 0, 3);
+        PageDTO<UserDTO> unknownSort = adminService.searchUsers(null, null, null, null, null, "password", null, 0, 3);
+
+        assertThat(byEmailDesc.getContent()).extracting(UserDTO::getEmail)
+                .containsExactly("zara@gct.ac.in", "ravi@gct.ac.in", "anitha@gct.ac.in");
+        assertThat(unknownSort.getContent()).extracting(UserDTO::getFullName).containsExactly("anand K", "Anitha R", "Bala");
+    }
+
+    private static User user(String id, String name, String email, UserRole role, String departmentId, boolean approved) {
+        User user = new User();
+        user.setId(id);
+        user.setFullName(name);
+        user.setEmail(email);
+        user.setRole(role);
+        user.setDepartmentId(departmentId);
+        user.setIsApproved(approved);
+        return user;
+    }
+}
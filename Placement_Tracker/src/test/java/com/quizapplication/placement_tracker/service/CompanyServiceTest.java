@@ -0,0 +1,64 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.CompanyDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryCompanyRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CompanyServiceTest {
+
+    private InMemoryCompanyRepository companyRepository;
+    private CompanyService service;
+    // Run right after the service loads the company, as an experience create landing mid-edit would
+    private Runnable concurrentWrite = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        MappingMongoConverter converter = InMemoryTestConverter.create();
+        companyRepository = new InMemoryCompanyRepository(converter) {
+            @Override
+            public Optional<Company> findById(String id) {
+                Optional<Company> company = super.findById(id);
+                Runnable write = concurrentWrite;
+                concurrentWrite = () -> { };
+                write.run();
+                return company;
+            }
+        };
+        service = new CompanyService(companyRepository, new InMemoryUserRepository(converter),
+                new InMemoryInterviewExperienceRepository(converter), mock(DashboardStatsService.class));
+    }
+
+    @Test
+    void editDuringAnExperienceCreateKeepsTheCount() {
+        Company company = new Company();
+        company.setCompanyName("Zoho");
+        company.setIndustry("IT");
+        company.setExperienceCount(4);
+        String id = companyRepository.save(company).getId();
+        concurrentWrite = () -> companyRepository.incrementExperienceCount(id, 1);
+
+        CompanyDTO edit = new CompanyDTO();
+        edit.setCompanyName("Zoho Corp");
+        edit.setWebsite("https://zoho.com");
+        CompanyDTO updated = service.updateCompany(id, edit);
+
+        assertThat(updated.getExperienceCount()).isEqualTo(5);
+        Company stored = companyRepository.findById(id).orElseThrow();
+        assertThat(stored.getExperienceCount()).isEqualTo(5);
+        assertThat(stored.getCompanyName()).isEqualTo("Zoho Corp");
+        assertThat(stored.getWebsite()).isEqualTo("https://zoho.com");
+        // Fields left out of the edit keep their value
+        assertThat(stored.getIndustry()).isEqualTo("IT");
+    }
+}
@@ -0,0 +1,96 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowReaderTest {
+
+    @Test
+    void readsRowsWithAndWithoutATrailingNewline() throws IOException {
+        assertThat(rows("studentName,department\nAsha,CSE\n"))
+                .containsExactly(List.of("studentName", "department"), List.of("Asha", "CSE"));
+        assertThat(rows("studentName,department\nAsha,CSE"))
+                .containsExactly(List.of("studentName", "department"), List.of("Asha", "CSE"));
+        assertThat(rows("")).isEmpty();
+    }
+
+    @Test
+    void unquotesFieldsAndEscapedQuotes() throws IOException {
+        assertThat(rows("\"Zoho, Chennai\",\"She said \"\"hired\"\"\",\"\"\n"))
+                .containsExactly(List.of("Zoho, Chennai", "She said \"hired\"", ""));
+        // A quote inside an unquoted field is literal
+        assertThat(rows("5'11\" tall,a\"b\n")).containsExactly(List.of("5'11\" tall", "a\"b"));
+    }
+
+    @Test
+    void quotedFieldsSpanLinesAndRowNumbersFollowTheFile() throws IOException {
+        try (CsvRowReader reader = reader("name,tips\nAsha,\"Line one\nLine two\n\nLine four\"\nRavi,short\n")) {
+            reader.next();
+            assertThat(reader.rowNumber()).isEqualTo(1);
+            assertThat(reader.next()).containsExactly("Asha", "Line one\nLine two\n\nLine four");
+            assertThat(reader.rowNumber()).isEqualTo(2);
+            assertThat(reader.next()).containsExactly("Ravi", "short");
+            assertThat(reader.rowNumber()).isEqualTo(6);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void keepsEmptyCellsAndBlankLines() throws IOException {
+        assertThat(rows("a,,c\n,,\n\nd\n")).containsExactly(
+                List.of("a", "", "c"),
+                List.of("", "", ""),
+                List.of(""),
+                List.of("d"));
+    }
+
+    @Test
+    void acceptsCrlfAndAByteOrderMark() throws IOException {
+        assertThat(rows("\uFEFFname,year\r\nAsha,2024\r\n\"x\r\ny\",2023\r\n")).containsExactly(
+                List.of("name", "year"),
+                List.of("Asha", "2024"),
+                List.of("x\r\ny", "2023"));
+        // Only a mark at the start of the file is dropped
+        assertThat(rows("a\n\uFEFFb\n")).containsExactly(List.of("a"), List.of("\uFEFFb"));
+    }
+
+    @Test
+    void valuesAreNotInterpreted() throws IOException {
+        // Dates, numbers and booleans come back as written; PlacementImportService parses the fields it needs
+        assertThat(rows("2024-06-01,01/06/2024,2024.0,TRUE, padded \n"))
+                .containsExactly(List.of("2024-06-01", "01/06/2024", "2024.0", "TRUE", " padded "));
+    }
+
+    @Test
+    void rejectsUnterminatedQuotesAndOverlongFields() {
+        assertThatThrownBy(() -> rows("name\n\"Asha,CSE\nRavi,ECE\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field starting in row 2");
+        assertThatThrownBy(() -> rows("x".repeat((1 << 20) + 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Field longer than");
+    }
+
+    private static CsvRowReader reader(String csv) {
+        return new CsvRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<List<String>> rows(String csv) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvRowReader reader = reader(csv)) {
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,209 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.DashboardStatsDTO;
+import com.quizapplication.placement_tracker.dto.DepartmentStatsDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryCompanyRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDashboardCountersRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DashboardStatsServiceTest {
+
+    private UserRepository userRepository;
+    private InterviewExperienceRepository experienceRepository;
+    private CompanyRepository companyRepository;
+    private DepartmentRepository departmentRepository;
+    private DashboardStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        MappingMongoConverter converter = InMemoryTestConverter.create();
+        userRepository = new InMemoryUserRepository(converter);
+        experienceRepository = new InMemoryInterviewExperienceRepository(converter);
+        companyRepository = new InMemoryCompanyRepository(converter);
+        departmentRepository = new InMemoryDepartmentRepository(converter);
+        departmentRepository.saveAll(List.of(department("ece", "Electronics"), department("cse", "Computer Science")));
+        service = new DashboardStatsService(new InMemoryDashboardCountersRepository(converter), userRepository,
+                experienceRepository, companyRepository, departmentRepository);
+    }
+
+    @Test
+    void startsAtZero() {
+        DashboardStatsDTO stats = service.getStats();
+
+        assertThat(stats.getTotalUsers()).isZero();
+        assertThat(stats.getPendingMentors()).isZero();
+        assertThat(stats.getReconciledAt()).isNull();
+    }
+
+    @Test
+    void createdUsersAreCountedByRoleAndPendingApproval() {
+        service.userCreated(user(UserRole.STUDENT, false));
+        service.userCreated(user(UserRole.MENTOR, false));
+        service.userCreated(user(UserRole.MENTOR, true));
+        service.userCreated(user(UserRole.ADMIN, true));
+
+        DashboardStatsDTO stats = service.getStats();
+        assertThat(stats.getStudents()).isEqualTo(1);
+        assertThat(stats.getMentors()).isEqualTo(2);
+        assertThat(stats.getAdmins()).isEqualTo(1);
+        assertThat(stats.getTotalUsers()).isEqualTo(4);
+        // An unapproved student is not a pending mentor
+        assertThat(stats.getPendingMentors()).isEqualTo(1);
+    }
+
+    @Test
+    void changedUserMovesBetweenCounters() {
+        service.userCreated(user(UserRole.STUDENT, false));
+        service.userCreated(user(UserRole.MENTOR, false));
+
+        service.userChanged(UserRole.STUDENT, false, user(UserRole.MENTOR, false));
+        service.userChanged(UserRole.MENTOR, false, user(UserRole.MENTOR, true));
+
+        DashboardStatsDTO stats = service.getStats();
+        assertThat(stats.getStudents()).isZero();
+        assertThat(stats.getMentors()).isEqualTo(2);
+        assertThat(stats.getPendingMentors()).isEqualTo(1);
+    }
+
+    @Test
+    void approvalOnlyLowersPendingForMentorsThatWerePending() {
+        User pending = user(UserRole.MENTOR, false);
+        User alreadyApproved = user(UserRole.MENTOR, true);
+        service.userCreated(pending);
+        service.userCreated(alreadyApproved);
+
+        service.mentorsApproved(List.of(pending, alreadyApproved));
+
+        DashboardStatsDTO stats = service.getStats();
+        assertThat(stats.getMentors()).isEqualTo(2);
+        assertThat(stats.getPendingMentors()).isZero();
+    }
+
+    @Test
+    void deletedUsersExperiencesAndCompaniesAreSubtracted() {
+        User student = user(UserRole.STUDENT, false);
+        User mentor = user(UserRole.MENTOR, false);
+        service.userCreated(student);
+        service.userCreated(mentor);
+        service.experiencesChanged(3);
+        service.companiesChanged(2);
+
+        service.usersDeleted(List.of(student, mentor));
+        service.experiencesChanged(-1);
+        service.companiesChanged(-2);
+
+        DashboardStatsDTO stats = service.getStats();
+        assertThat(stats.getTotalUsers()).isZero();
+        assertThat(stats.getPendingMentors()).isZero();
+        assertThat(stats.getExperiences()).isEqualTo(2);
+        assertThat(stats.getCompanies()).isZero();
+    }
+
+    @Test
+    void reconcileRecountsAndReportsTheDrift() {
+        userRepository.saveAll(List.of(saved(UserRole.STUDENT, false, "cse"), saved(UserRole.MENTOR, false, "cse"),
+                saved(UserRole.MENTOR, true, "ece")));
+        experienceRepository.saveAll(List.of(experience("cse"), experience("cse")));
+        companyRepository.save(new Company());
+        // Counters that missed some writes
+        service.userCreated(user(UserRole.STUDENT, false));
+        service.experiencesChanged(5);
+
+        long drift = service.reconcile();
+
+        DashboardStatsDTO stats = service.getStats();
+        assertThat(stats.getStudents()).isEqualTo(1);
+        assertThat(stats.getMentors()).isEqualTo(2);
+        assertThat(stats.getPendingMentors()).isEqualTo(1);
+        assertThat(stats.getExperiences()).isEqualTo(2);
+        assertThat(stats.getCompanies()).isEqualTo(1);
+        assertThat(stats.getReconciledAt()).isNotNull();
+        // Mentors 2 + pending 1 + experiences 3 + companies 1, then cse 2 experiences + 2 users and ece 1 user
+        assertThat(drift).isEqualTo(12);
+        assertThat(service.reconcile()).isZero();
+        assertThat(service.getDriftedCount()).isEqualTo(12);
+    }
+
+    @Test
+    void reconcileRecountsCompanyExperienceCounts() {
+        Company zoho = new Company();
+        zoho.setCompanyName("Zoho");
+        zoho.setExperienceCount(5);
+        String zohoId = companyRepository.save(zoho).getId();
+        Company tcs = new Company();
+        tcs.setCompanyName("TCS");
+        String tcsId = companyRepository.save(tcs).getId();
+        InterviewExperience linked = experience(null);
+        linked.setCompanyId(tcsId);
+        experienceRepository.save(linked);
+        service.experiencesChanged(1);
+        service.companiesChanged(2);
+
+        // Zoho is 5 over, TCS is 1 under
+        assertThat(service.reconcile()).isEqualTo(6);
+        assertThat(companyRepository.findById(zohoId).orElseThrow().getExperienceCount()).isZero();
+        assertThat(companyRepository.findById(tcsId).orElseThrow().getExperienceCount()).isEqualTo(1);
+        assertThat(service.reconcile()).isZero();
+    }
+
+    @Test
+    void departmentsAreListedByNameWithTheirCounters() {
+        userRepository.save(saved(UserRole.STUDENT, false, "cse"));
+        experienceRepository.save(experience("ece"));
+        service.reconcile();
+
+        assertThat(service.getStats().getDepartments())
+                .extracting(DepartmentStatsDTO::getDepartmentId, DepartmentStatsDTO::getUsers, DepartmentStatsDTO::getExperiences)
+                .containsExactly(
+                        tuple("cse", 1L, 0L),
+                        tuple("ece", 0L, 1L));
+    }
+
+    private static Department department(String id, String name) {
+        Department department = new Department(id, name, null);
+        department.setDepartmentCode(id.toUpperCase());
+        return department;
+    }
+
+    private static User user(UserRole role, boolean approved) {
+        User user = new User();
+        user.setRole(role);
+        user.setIsApproved(approved);
+        return user;
+    }
+
+    private static User saved(UserRole role, boolean approved, String departmentId) {
+        User user = user(role, approved);
+        user.setEmail(UUID.randomUUID() + "@gct.ac.in");
+        user.setDepartmentId(departmentId);
+        return user;
+    }
+
+    private static InterviewExperience experience(String departmentId) {
+        InterviewExperience experience = new InterviewExperience();
+        experience.setDepartmentId(departmentId);
+        experience.setCompanyName("Zoho");
+        return experience;
+    }
+}
@@ -0,0 +1,59 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.DepartmentDTO;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.DepartmentGroup;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DepartmentServiceTest {
+
+    private InMemoryDepartmentRepository departmentRepository;
+    private DepartmentService service;
+    // Run right after the service loads the department, as an experience create or user signup landing mid-edit would
+    private Runnable concurrentWrite = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        departmentRepository = new InMemoryDepartmentRepository(InMemoryTestConverter.create()) {
+            @Override
+            public Optional<Department> findById(String id) {
+                Optional<Department> department = super.findById(id);
+                Runnable write = concurrentWrite;
+                concurrentWrite = () -> { };
+                write.run();
+                return department;
+            }
+        };
+        service = new DepartmentService(departmentRepository);
+    }
+
+    @Test
+    void editDuringCounterUpdatesKeepsTheCounts() {
+        Department department = new Department("cse", "Computer Science", null);
+        department.setDepartmentCode("CSE");
+        department.setExperienceCount(3);
+        department.setUserCount(10);
+        departmentRepository.save(department);
+        concurrentWrite = () -> {
+            departmentRepository.incrementExperienceCount("cse", 1);
+            departmentRepository.moveUserCount(null, "cse");
+        };
+
+        DepartmentDTO updated = service.updateDepartment("cse",
+                new DepartmentDTO(null, "Computer Science and Engineering", "CSE", "UG", DepartmentGroup.CS_IT));
+
+        assertThat(updated.getDepartmentName()).isEqualTo("Computer Science and Engineering");
+        Department stored = departmentRepository.findById("cse").orElseThrow();
+        assertThat(stored.getExperienceCount()).isEqualTo(4);
+        assertThat(stored.getUserCount()).isEqualTo(11);
+        assertThat(stored.getDepartmentName()).isEqualTo("Computer Science and Engineering");
+        assertThat(stored.getDepartmentGroup()).isEqualTo(DepartmentGroup.CS_IT);
+    }
+}
@@ -0,0 +1,66 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DownloadUrlSignerTest {
+
+    private static final String FILE = "3f1c2a9e-6b7d-4c1e-9a0b-1d2e3f4a5b6c.zip";
+
+    private final DownloadUrlSigner signer = new DownloadUrlSigner("test-key", 1, 60);
+
+    @Test
+    void signedUrlVerifiesForItsFileOnly() {
+        DownloadUrlSigner.SignedUrl signed = signer.sign(FILE);
+        long expires = signed.expiresAt().getEpochSecond();
+        String signature = signed.url().substring(signed.url().indexOf("&signature=") + "&signature=".length());
+
+        assertThat(signed.url()).startsWith(DownloadUrlSigner.SIGNED_PATH_PREFIX + FILE + "?expires=" + expires);
+        assertThat(signer.isValid(FILE, expires, signature)).isTrue();
+        assertThat(signer.isValid("other.zip", expires, signature)).isFalse();
+        assertThat(signer.isValid(FILE, expires + 3600, signature)).isFalse();
+        assertThat(signer.isValid(FILE, expires, null)).isFalse();
+    }
+
+    @Test
+    void expiredSignatureIsRejected() {
+        DownloadUrlSigner expired = new DownloadUrlSigner("test-key", -2, 1);
+        DownloadUrlSigner.SignedUrl signed = expired.sign(FILE);
+        String signature = signed.url().substring(signed.url().indexOf("&signature=") + "&signature=".length());
+
+        assertThat(signed.expiresAt()).isBefore(Instant.now());
+        assertThat(signer.isValid(FILE, signed.expiresAt().getEpochSecond(), signature)).isFalse();
+    }
+
+    @Test
+    void signaturesFromAnotherKeyAreRejected() {
+        DownloadUrlSigner.SignedUrl signed = new DownloadUrlSigner("other-key", 1, 60).sign(FILE);
+        String signature = signed.url().substring(signed.url().indexOf("&signature=") + "&signature=".length());
+
+        assertThat(signer.isValid(FILE, signed.expiresAt().getEpochSecond(), signature)).isFalse();
+    }
+
+    @Test
+    void ownerTokenIsBoundToTheFile() {
+        String token = signer.ownerToken(FILE);
+
+        assertThat(signer.isOwner(FILE, token)).isTrue();
+        assertThat(signer.isOwner("other.zip", token)).isFalse();
+        assertThat(signer.isOwner(FILE, null)).isFalse();
+        assertThat(signer.isOwner(FILE, "forged")).isFalse();
+    }
+
+    @Test
+    void storesTheSameReferenceForSignedAndStoredUrls() {
+        String stored = DownloadUrlSigner.ATTACHMENT_PATH_PREFIX + FILE;
+
+        assertThat(DownloadUrlSigner.attachmentReference(signer.sign(FILE).url())).isEqualTo(stored);
+        assertThat(DownloadUrlSigner.attachmentReference(stored)).isEqualTo(stored);
+        assertThat(DownloadUrlSigner.attachmentReference("https://example.com/notes.zip"))
+                .isEqualTo("https://example.com/notes.zip");
+        assertThat(DownloadUrlSigner.attachmentReference(null)).isNull();
+    }
+}
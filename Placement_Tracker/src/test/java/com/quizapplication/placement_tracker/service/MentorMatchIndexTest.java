@@ -0,0 +1,137 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.DepartmentGroup;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MentorMatchIndexTest {
+
+    private static final int CURRENT_YEAR = 2026;
+
+    private static final List<Department> DEPARTMENTS = List.of(
+            department("cse", DepartmentGroup.CS_IT),
+            department("it", DepartmentGroup.CS_IT),
+            department("ece", DepartmentGroup.ELECTRONICS));
+
+    private static final List<MentorDirectoryEntry> ENTRIES = List.of(
+            entry("a@gct.ac.in", "Zoho Corp", "cse", 2025),
+            entry("b@gct.ac.in", "zoho", "ece", 2020),
+            entry("c@gct.ac.in", "Infosys Ltd", "it", 2026),
+            entry("d@gct.ac.in", "TCS", "ece", 2024));
+
+    @Test
+    void companyKeyIgnoresCasePunctuationAndLegalSuffixes() {
+        assertThat(MentorMatchIndex.companyKey("Google Inc.")).isEqualTo("google");
+        assertThat(MentorMatchIndex.companyKey("  Zoho Corp. ")).isEqualTo("zoho");
+        assertThat(MentorMatchIndex.companyKey("Tata Consultancy Services Pvt. Ltd")).isEqualTo("tata consultancy services");
+        assertThat(MentorMatchIndex.companyKey("AT&T")).isEqualTo("at&t");
+        assertThat(MentorMatchIndex.companyKey("Inc.")).isNull();
+        assertThat(MentorMatchIndex.companyKey(null)).isNull();
+    }
+
+    @Test
+    void ranksCompanyAndDepartmentMatchesFirst() {
+        MentorMatchIndex index = MentorMatchIndex.build(ENTRIES, List.of(), DEPARTMENTS, CURRENT_YEAR);
+
+        List<MentorMatchIndex.Match> matches = index.topK("ZOHO", "cse", 10);
+
+        // d is neither at the company nor in the department group, so it is never scored
+        assertThat(matches).extracting(match -> match.entry().getEmail())
+                .containsExactly("a@gct.ac.in", "b@gct.ac.in", "c@gct.ac.in");
+        assertThat(matches.get(0).score()).isCloseTo(
+                MentorMatchIndex.COMPANY_WEIGHT + MentorMatchIndex.DEPARTMENT_WEIGHT
+                        + MentorMatchIndex.RECENCY_WEIGHT * Math.pow(0.5, 0.5), within(1e-9));
+        assertThat(matches.get(0).reasons()).containsExactly("Placed at Zoho Corp", "Same department", "Placed in 2025");
+        assertThat(matches.get(2).score()).isCloseTo(
+                MentorMatchIndex.DEPARTMENT_WEIGHT * 0.6 + MentorMatchIndex.RECENCY_WEIGHT, within(1e-9));
+        assertThat(matches.get(2).reasons()).contains("Same department group (CS_IT)");
+    }
+
+    @Test
+    void creditsExperiencesWrittenAboutTheCompany() {
+        List<InterviewExperience> experiences = List.of(
+                experience("B@gct.ac.in", "Zoho"),
+                experience("b@gct.ac.in", "Zoho Corporation"),
+                experience("d@gct.ac.in", "zoho"),
+                experience("nobody@gct.ac.in", "Zoho"));
+        MentorMatchIndex index = MentorMatchIndex.build(ENTRIES, experiences, DEPARTMENTS, CURRENT_YEAR);
+
+        List<MentorMatchIndex.Match> matches = index.topK("Zoho", null, 10);
+
+        MentorMatchIndex.Match b = find(matches, "b@gct.ac.in");
+        assertThat(b.score()).isCloseTo(MentorMatchIndex.COMPANY_WEIGHT + MentorMatchIndex.AUTHORED_AT_COMPANY_WEIGHT
+                + MentorMatchIndex.RECENCY_WEIGHT * Math.pow(0.5, 3) + MentorMatchIndex.AUTHORSHIP_WEIGHT * 2 / 3,
+                within(1e-9));
+        assertThat(b.reasons()).contains("Wrote 2 experiences on Zoho");
+        // Reached through the authorship postings although placed elsewhere
+        MentorMatchIndex.Match d = find(matches, "d@gct.ac.in");
+        assertThat(d.reasons()).containsExactly("Wrote 1 experience on Zoho", "Placed in 2024");
+        assertThat(matches).extracting(match -> match.entry().getEmail()).doesNotContain("c@gct.ac.in");
+    }
+
+    @Test
+    void ranksEveryoneOnRecencyWithoutCompanyOrDepartment() {
+        MentorMatchIndex index = MentorMatchIndex.build(ENTRIES, List.of(), DEPARTMENTS, CURRENT_YEAR);
+
+        assertThat(index.topK(null, null, 2)).extracting(match -> match.entry().getEmail())
+                .containsExactly("c@gct.ac.in", "a@gct.ac.in");
+        assertThat(index.topK(null, null, 10)).hasSize(4);
+    }
+
+    @Test
+    void unknownCompanyFallsBackToTheDepartmentGroup() {
+        MentorMatchIndex index = MentorMatchIndex.build(ENTRIES, List.of(), DEPARTMENTS, CURRENT_YEAR);
+
+        assertThat(index.topK("Unknown Startup", "ece", 10)).extracting(match -> match.entry().getEmail())
+                .containsExactly("d@gct.ac.in", "b@gct.ac.in");
+    }
+
+    @Test
+    void breaksTiesByPlacementYearThenEmail() {
+        List<MentorDirectoryEntry> tied = List.of(
+                entry("z@gct.ac.in", "Zoho", "cse", 2022),
+                entry("y@gct.ac.in", "Zoho", "cse", 2024),
+                entry("x@gct.ac.in", "Zoho", "cse", 2022));
+        // Recency is scored relative to the current year, so equal years tie exactly
+        MentorMatchIndex index = MentorMatchIndex.build(tied, List.of(), DEPARTMENTS, 2020);
+
+        assertThat(index.topK("Zoho", "cse", 3)).extracting(match -> match.entry().getEmail())
+                .containsExactly("y@gct.ac.in", "x@gct.ac.in", "z@gct.ac.in");
+        assertThat(index.topK("Zoho", "cse", 1)).extracting(match -> match.entry().getEmail())
+                .containsExactly("y@gct.ac.in");
+    }
+
+    private static MentorMatchIndex.Match find(List<MentorMatchIndex.Match> matches, String email) {
+        return matches.stream().filter(match -> match.entry().getEmail().equals(email)).findFirst().orElseThrow();
+    }
+
+    private static Department department(String id, DepartmentGroup group) {
+        Department department = new Department(id, id.toUpperCase(), null);
+        department.setDepartmentGroup(group);
+        return department;
+    }
+
+    private static MentorDirectoryEntry entry(String email, String company, String departmentId, int placementYear) {
+        MentorDirectoryEntry entry = new MentorDirectoryEntry();
+        entry.setEmail(email);
+        entry.setFullName(email.substring(0, 1).toUpperCase());
+        entry.setPlacedCompany(company);
+        entry.setPlacementYear(placementYear);
+        entry.setDepartmentIds(List.of(departmentId));
+        return entry;
+    }
+
+    private static InterviewExperience experience(String contactEmail, String company) {
+        InterviewExperience experience = new InterviewExperience();
+        experience.setContactEmail(contactEmail);
+        experience.setCompanyName(company);
+        return experience;
+    }
+}
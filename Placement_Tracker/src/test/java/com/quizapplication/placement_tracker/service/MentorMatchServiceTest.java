@@ -0,0 +1,101 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.dto.MentorMatchDTO;
+import com.quizapplication.placement_tracker.entity.InterviewExperience;
+import com.quizapplication.placement_tracker.entity.MentorDirectoryEntry;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.MentorDirectoryRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryInterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MentorMatchServiceTest {
+
+    private MentorDirectoryRepository directoryRepository;
+    private InMemoryInterviewExperienceRepository experienceRepository;
+    private MentorMatchService service;
+
+    @BeforeEach
+    void setUp() {
+        MentorDirectoryEntry entry = new MentorDirectoryEntry();
+        entry.setEmail("a@gct.ac.in");
+        entry.setFullName("A");
+        entry.setPlacedCompany("TCS");
+        entry.setDepartmentIds(List.of("cse"));
+        directoryRepository = mock(MentorDirectoryRepository.class);
+        when(directoryRepository.findDirectory(isNull(), isNull(), isNull(), any())).thenAnswer(invocation -> {
+            // A slow directory load keeps the cold-start window open
+            Thread.sleep(100);
+            return (Page<MentorDirectoryEntry>) new PageImpl<>(List.of(entry));
+        });
+        experienceRepository = new InMemoryInterviewExperienceRepository(InMemoryTestConverter.create());
+        DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+        when(departmentRepository.findAll()).thenReturn(List.of());
+        service = new MentorMatchService(directoryRepository, experienceRepository, departmentRepository, 50);
+    }
+
+    @Test
+    void concurrentFirstRequestsBuildTheIndexOnce() throws Exception {
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<List<MentorMatchDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return service.match("TCS", null, 5);
+                }));
+            }
+            start.countDown();
+            for (Future<List<MentorMatchDTO>> result : results) {
+                assertThat(result.get()).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(directoryRepository, times(1)).findDirectory(isNull(), isNull(), isNull(), any());
+    }
+
+    @Test
+    void creditsAuthorshipFromTheWillingToMentorExperiencesOnly() {
+        experienceRepository.saveAll(List.of(
+                experience("a@gct.ac.in", null, "Zoho", true),
+                experience(null, "a@gct.ac.in", "Zoho", true),
+                experience("a@gct.ac.in", null, "Zoho", false)));
+
+        List<MentorMatchDTO> matches = service.match("Zoho", null, 5);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).getReasons()).contains("Wrote 2 experiences on Zoho");
+    }
+
+    private static InterviewExperience experience(String contactEmail, String personalEmail, String company,
+                                                  boolean willingToMentor) {
+        InterviewExperience experience = new InterviewExperience();
+        experience.setContactEmail(contactEmail);
+        experience.setPersonalEmail(personalEmail);
+        experience.setCompanyName(company);
+        experience.setWillingToMentor(willingToMentor);
+        return experience;
+    }
+}
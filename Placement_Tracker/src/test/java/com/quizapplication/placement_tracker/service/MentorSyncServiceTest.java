@@ -0,0 +1,158 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.entity.Mentor;
+import com.quizapplication.placement_tracker.entity.User;
+import com.quizapplication.placement_tracker.entity.UserRole;
+import com.quizapplication.placement_tracker.repository.MentorRepository;
+import com.quizapplication.placement_tracker.repository.UserRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryDepartmentRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryMentorSyncTaskRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MentorSyncServiceTest {
+
+    private UserRepository userRepository;
+    private MentorRepository mentorRepository;
+    private MentorSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        MappingMongoConverter converter = InMemoryTestConverter.create();
+        userRepository = new InMemoryUserRepository(converter);
+        mentorRepository = new InMemoryMentorRepository(converter);
+        service = new MentorSyncService(new InMemoryMentorSyncTaskRepository(converter), userRepository,
+                mentorRepository, new InMemoryDepartmentRepository(converter), 100, 300);
+    }
+
+    @Test
+    void projectsApprovedMentor() {
+        User user = save(mentor("u1", "asha@gct.ac.in", true));
+
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        Mentor projection = mentorRepository.findByEmail("asha@gct.ac.in").orElseThrow();
+        assertThat(projection.getUserId()).isEqualTo("u1");
+        assertThat(projection.getPlacedCompany()).isEqualTo("Zoho");
+        assertThat(projection.getIsActive()).isTrue();
+        assertThat(service.getAppliedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void removesProjectionOfDeletedUser() {
+        User user = save(mentor("u1", "asha@gct.ac.in", true));
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        userRepository.delete(user);
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        assertThat(mentorRepository.findAll()).isEmpty();
+        assertThat(service.getRemovedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void removesProjectionOfDemotedOrUnapprovedUser() {
+        User demoted = save(mentor("u1", "asha@gct.ac.in", true));
+        User unapproved = save(mentor("u2", "ravi@gct.ac.in", true));
+        service.enqueueAll(List.of("u1", "u2"));
+        service.applyBatch();
+
+        demoted.setRole(UserRole.STUDENT);
+        unapproved.setIsApproved(false);
+        userRepository.saveAll(List.of(demoted, unapproved));
+        service.enqueueAll(List.of("u1", "u2"));
+        service.applyBatch();
+
+        assertThat(mentorRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void deactivatedMentorStaysProjectedAsInactive() {
+        User user = save(mentor("u1", "asha@gct.ac.in", true));
+        user.setIsActive(false);
+        userRepository.save(user);
+
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        assertThat(mentorRepository.findByEmail("asha@gct.ac.in").orElseThrow().getIsActive()).isFalse();
+    }
+
+    @Test
+    void changedEmailReplacesTheProjection() {
+        User user = save(mentor("u1", "asha@gct.ac.in", true));
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        user.setEmail("asha.k@gct.ac.in");
+        userRepository.save(user);
+        service.enqueue(user.getId());
+        service.applyBatch();
+
+        assertThat(mentorRepository.findAll()).extracting(Mentor::getEmail).containsExactly("asha.k@gct.ac.in");
+    }
+
+    @Test
+    void leavesMentorsAddedByAnAdminAlone() {
+        Mentor added = new Mentor("Direct Mentor", "direct@gct.ac.in", "TCS");
+        mentorRepository.save(added);
+        save(mentor("u1", "asha@gct.ac.in", true));
+
+        service.reconcile();
+        service.applyBatch();
+
+        assertThat(mentorRepository.findAll()).extracting(Mentor::getEmail)
+                .containsExactlyInAnyOrder("direct@gct.ac.in", "asha@gct.ac.in");
+    }
+
+    @Test
+    void reconcileSweepsOrphanedProjections() {
+        // Left behind by user writes that never reached the outbox
+        Mentor deletedUser = projection("gone", "gone@gct.ac.in");
+        Mentor legacyOfStudent = projection(null, "student@gct.ac.in");
+        mentorRepository.saveAll(List.of(deletedUser, legacyOfStudent));
+        User student = mentor("u2", "student@gct.ac.in", true);
+        student.setRole(UserRole.STUDENT);
+        save(student);
+        save(mentor("u1", "asha@gct.ac.in", true));
+
+        int enqueued = service.reconcile();
+        service.applyBatch();
+
+        assertThat(enqueued).isEqualTo(3);
+        assertThat(mentorRepository.findAll()).extracting(Mentor::getEmail).containsExactly("asha@gct.ac.in");
+        assertThat(service.reconcile()).isZero();
+    }
+
+    private User save(User user) {
+        return userRepository.save(user);
+    }
+
+    private static User mentor(String id, String email, boolean approved) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFullName("Mentor " + id);
+        user.setRole(UserRole.MENTOR);
+        user.setIsApproved(approved);
+        user.setPlacedCompany("Zoho");
+        return user;
+    }
+
+    private static Mentor projection(String userId, String email) {
+        Mentor mentor = new Mentor("Stale " + email, email, "Infosys");
+        mentor.setUserId(userId);
+        return mentor;
+    }
+}
@@ -0,0 +1,86 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.config.SignedDownloadFilter;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryPlacementExperienceRepository;
+import com.quizapplication.placement_tracker.repository.inmemory.InMemoryTestConverter;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PlacementExperienceServiceTest {
+
+    private final DownloadUrlSigner signer = new DownloadUrlSigner("test-key", 1, 60);
+    private InMemoryPlacementExperienceRepository repository;
+    private PlacementExperienceService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPlacementExperienceRepository(InMemoryTestConverter.create());
+        service = new PlacementExperienceService();
+        ReflectionTestUtils.setField(service, "repository", repository);
+        ReflectionTestUtils.setField(service, "zipIntegrityService", mock(ZipIntegrityService.class));
+        ReflectionTestUtils.setField(service, "downloadUrlSigner", signer);
+    }
+
+    @Test
+    void readersDownloadAttachmentsThroughTheSignedLink() throws ServletException, IOException {
+        PlacementExperience created = service.createExperience(experience("/api/files/signed/report.zip?expires=1&signature=x"));
+
+        // Only the reference is stored; every response carries a fresh signed link
+        assertThat(created.getAttachmentUrl()).isEqualTo("/api/files/download/report.zip");
+        assertThat(repository.findById(created.getId()).orElseThrow().getAttachmentDownloadUrl()).isNull();
+        String link = service.getExperienceById(created.getId()).orElseThrow().getAttachmentDownloadUrl();
+        assertThat(link).startsWith("/api/files/signed/report.zip?");
+        assertThat(service.getAllExperiences()).extracting(PlacementExperience::getAttachmentDownloadUrl)
+                .containsExactly(link);
+        assertThat(service.updateExperience(created.getId(), experience(created.getAttachmentUrl()))
+                .getAttachmentDownloadUrl()).isEqualTo(link);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = download(link, chain);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(download(created.getAttachmentUrl(), new MockFilterChain()).getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void experiencesWithoutAnAttachmentHaveNoLink() {
+        PlacementExperience created = service.createExperience(experience(null));
+
+        assertThat(created.getAttachmentDownloadUrl()).isNull();
+        assertThat(service.searchByCompany("zoho")).extracting(PlacementExperience::getAttachmentDownloadUrl)
+                .containsExactly((String) null);
+    }
+
+    private static PlacementExperience experience(String attachmentUrl) {
+        PlacementExperience experience = new PlacementExperience();
+        experience.setStudentName("Asha");
+        experience.setCompanyName("Zoho");
+        experience.setAttachmentUrl(attachmentUrl);
+        return experience;
+    }
+
+    private MockHttpServletResponse download(String url, MockFilterChain chain) throws ServletException, IOException {
+        int query = url.indexOf('?');
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", query < 0 ? url : url.substring(0, query));
+        if (query >= 0) {
+            for (String parameter : url.substring(query + 1).split("&")) {
+                String[] pair = parameter.split("=", 2);
+                request.addParameter(pair[0], pair[1]);
+            }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new SignedDownloadFilter(signer).doFilter(request, response, chain);
+        return response;
+    }
+}
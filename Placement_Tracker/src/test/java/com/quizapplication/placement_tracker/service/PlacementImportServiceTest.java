@@ -0,0 +1,107 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizapplication.placement_tracker.dto.ImportRowErrorDTO;
+import com.quizapplication.placement_tracker.dto.PlacementImportResultDTO;
+import com.quizapplication.placement_tracker.entity.Company;
+import com.quizapplication.placement_tracker.entity.Department;
+import com.quizapplication.placement_tracker.entity.PlacementExperience;
+import com.quizapplication.placement_tracker.exception.InvalidImportException;
+import com.quizapplication.placement_tracker.repository.CompanyRepository;
+import com.quizapplication.placement_tracker.repository.DepartmentRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlacementImportServiceTest {
+
+    private PlacementExperienceRepository repository;
+    private PlacementImportService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PlacementExperienceRepository.class);
+        DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+        Department cse = new Department("cse", "Computer Science", null);
+        cse.setDepartmentCode("CSE");
+        when(departmentRepository.findAll()).thenReturn(List.of(cse));
+        CompanyRepository companyRepository = mock(CompanyRepository.class);
+        Company zoho = new Company();
+        zoho.setCompanyName("Zoho");
+        when(companyRepository.findAll()).thenReturn(List.of(zoho));
+        service = new PlacementImportService(repository, departmentRepository, companyRepository, new ObjectMapper(),
+                500, 100, 10, 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importsValidRowsAndReportsTheRestByRow() throws IOException {
+        // The batch list is reused once flushed, so keep a copy of what was inserted
+        List<PlacementExperience> inserted = new ArrayList<>();
+        when(repository.insertUnordered(any())).thenAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0, List.class));
+            return List.of();
+        });
+
+        PlacementImportResultDTO result = service.importCsv(csv("""
+                Student Name,Department,Company Name,Placement Year,Notes
+                Asha,computer science,ZOHO,2024.0,first
+                Ravi,Mechanical,Zoho,2024,
+                ,CSE,Zoho,20x4,
+
+                Meena,CSE,zoho,2023,last
+                """));
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getIgnoredColumns()).containsExactly("Notes");
+        assertThat(result.getErrors())
+                .extracting(ImportRowErrorDTO::getRow, ImportRowErrorDTO::getColumn)
+                .containsExactly(tuple(3, "department"), tuple(4, "placementYear"), tuple(4, "studentName"));
+        verify(repository, times(1)).insertUnordered(any());
+        assertThat(inserted)
+                .extracting(PlacementExperience::getStudentName, PlacementExperience::getDepartment,
+                        PlacementExperience::getCompanyName, PlacementExperience::getPlacementYear)
+                .containsExactly(tuple("Asha", "CSE", "Zoho", 2024), tuple("Meena", "CSE", "Zoho", 2023));
+    }
+
+    @Test
+    void unreadableFilesFailAsInvalidImports() {
+        assertThatThrownBy(() -> service.importCsv(csv("")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("The file is empty");
+        assertThatThrownBy(() -> service.importCsv(csv("Student Name,Company Name\nAsha,Zoho\n")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("Missing required column(s): department");
+        assertThatThrownBy(() -> service.importCsv(csv("studentName,department,companyName\n\"Asha,CSE,Zoho\n")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("Unterminated quoted field starting in row 2");
+        assertThatThrownBy(() -> service.importXlsx(csv("studentName,department,companyName\n")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("Not a valid XLSX workbook");
+        assertThatThrownBy(() -> service.importXlsx(new ByteArrayInputStream(new byte[1024 * 1024 + 1])))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageStartingWith("Workbook exceeds 1 MB");
+    }
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
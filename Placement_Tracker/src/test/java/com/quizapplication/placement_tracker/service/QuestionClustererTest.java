@@ -0,0 +1,113 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionClustererTest {
+
+    @Test
+    void splitsFreeTextIntoQuestions() {
+        String text = "1. Reverse a linked list. 2. Explain OOPS?\nWhat is a deadlock;  Q3) Tell me   about yourself\n"
+                + "- Design a URL shortener.  Then scale it to millions of users";
+
+        assertThat(QuestionClusterer.questions(text)).containsExactly(
+                "Reverse a linked list",
+                "Explain OOPS?",
+                "What is a deadlock",
+                "Tell me about yourself",
+                "Design a URL shortener",
+                "Then scale it to millions of users");
+        assertThat(QuestionClusterer.questions(null)).isEmpty();
+        assertThat(QuestionClusterer.questions("x".repeat(301))).isEmpty();
+    }
+
+    @Test
+    void groupsRephrasingsAndNearDuplicates() {
+        QuestionClusterer clusterer = new QuestionClusterer();
+        clusterer.add("Zoho", 2024, "Reverse a linked list");
+        clusterer.add("Zoho", 2024, "How to reverse the linked list?");
+        clusterer.add("TCS", 2023, "Reverse linked lists");
+        clusterer.add("Infosys", 2023, "Reverse a singly linked list");
+        clusterer.add("Infosys", 2023, "Reverse a string");
+
+        List<QuestionClusterer.Cluster> clusters = clusterer.clusters();
+
+        assertThat(clusters).hasSize(2);
+        QuestionClusterer.Cluster linkedList = clusterContaining(clusters, "Reverse a linked list");
+        assertThat(linkedList.totalCount()).isEqualTo(4);
+        // All used once, so the shortest phrasing represents the cluster
+        assertThat(linkedList.text()).isEqualTo("Reverse linked lists");
+        assertThat(linkedList.variants()).containsExactly(
+                "Reverse a linked list", "Reverse a singly linked list", "How to reverse the linked list?");
+        assertThat(clusterContaining(clusters, "Reverse a string").totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void countsAQuestionOncePerExperience() {
+        QuestionClusterer clusterer = new QuestionClusterer();
+        clusterer.add("Zoho Corp", 2024, "Reverse a linked list\nReverse the linked list\nExplain deadlock conditions");
+        clusterer.add("zoho", 2025, "Reverse a linked list");
+        clusterer.add("Zoho Corp", 2025, "Reverse a linked list");
+        clusterer.add(null, null, "Reverse a linked list");
+
+        QuestionClusterer.Cluster linkedList = clusterContaining(clusterer.clusters(), "Reverse a linked list");
+
+        assertThat(clusterer.questionCount()).isEqualTo(6);
+        assertThat(linkedList.totalCount()).isEqualTo(4);
+        assertThat(linkedList.companies()).singleElement().satisfies(company -> {
+            assertThat(company.companyKey()).isEqualTo("zoho");
+            assertThat(company.companyName()).isEqualTo("Zoho Corp");
+            assertThat(company.count()).isEqualTo(3);
+            assertThat(company.countsByYear()).isEqualTo(Map.of(2024, 1, 2025, 2));
+        });
+    }
+
+    @Test
+    void representativeIsTheMostUsedPhrasingInItsMostUsedCasing() {
+        QuestionClusterer clusterer = new QuestionClusterer();
+        clusterer.add("Zoho", 2024, "reverse a linked list");
+        clusterer.add("Zoho", 2024, "Reverse a linked list");
+        clusterer.add("Zoho", 2024, "Reverse a linked list");
+        clusterer.add("Zoho", 2024, "Reverse the linked list");
+        clusterer.add("Zoho", 2024, "Reverse the linked list");
+
+        QuestionClusterer.Cluster cluster = clusterer.clusters().get(0);
+
+        assertThat(cluster.text()).isEqualTo("Reverse a linked list");
+        assertThat(cluster.variants()).containsExactly("Reverse the linked list");
+    }
+
+    @Test
+    void skipsQuestionsOfFewerThanTwoWords() {
+        QuestionClusterer clusterer = new QuestionClusterer();
+        clusterer.add("Zoho", 2024, "OOPS?\nJava\nWhy me?");
+
+        assertThat(clusterer.questionCount()).isEqualTo(0);
+        assertThat(clusterer.clusters()).isEmpty();
+    }
+
+    @Test
+    void clusterKeyIsStableAcrossRebuilds() {
+        QuestionClusterer first = new QuestionClusterer();
+        first.add("Zoho", 2024, "Reverse a linked list");
+        first.add("Zoho", 2024, "Explain deadlock conditions");
+        QuestionClusterer second = new QuestionClusterer();
+        second.add("TCS", 2023, "Explain the deadlock conditions?");
+        second.add("TCS", 2023, "Reverse the linked list");
+        second.add("TCS", 2023, "Reverse a singly linked list");
+
+        assertThat(second.clusters()).extracting(QuestionClusterer.Cluster::key)
+                .containsExactlyInAnyOrderElementsOf(first.clusters().stream().map(QuestionClusterer.Cluster::key).toList());
+    }
+
+    private static QuestionClusterer.Cluster clusterContaining(List<QuestionClusterer.Cluster> clusters, String phrasing) {
+        return clusters.stream()
+                .filter(cluster -> cluster.text().equals(phrasing) || cluster.variants().contains(phrasing))
+                .findFirst()
+                .orElseThrow();
+    }
+}
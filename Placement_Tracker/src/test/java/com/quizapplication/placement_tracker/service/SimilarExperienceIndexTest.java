@@ -0,0 +1,139 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimilarExperienceIndexTest {
+
+    // Eleven documents, enough for the index to renormalise once, after which its scores are exact cosines
+    private static final Map<String, String> CORPUS = new LinkedHashMap<>();
+
+    static {
+        CORPUS.put("graphs", "Dijkstra shortest path, BFS on a grid graph, topological sort of courses");
+        CORPUS.put("graphs-2", "Shortest path with Dijkstra, then BFS on a graph and union find");
+        CORPUS.put("dp", "Knapsack dynamic programming, longest common subsequence, coin change");
+        CORPUS.put("dp-2", "Coin change and knapsack with dynamic programming memoization");
+        CORPUS.put("os", "Paging, deadlock conditions, process scheduling and semaphores");
+        CORPUS.put("dbms", "Normalization, joins, indexing with B+ trees and transactions");
+        CORPUS.put("oop", "Polymorphism, inheritance, SOLID principles in Java");
+        CORPUS.put("web", "REST APIs, HTTP caching, cookies and sessions");
+        CORPUS.put("hr", "Tell me about yourself, strengths and weaknesses, relocation");
+        CORPUS.put("puzzles", "Weighing balls puzzle, burning ropes puzzle, river crossing");
+        CORPUS.put("cpp", "C++ templates, virtual destructors, smart pointers in C++");
+    }
+
+    @Test
+    void tokenizeKeepsLanguageNamesAndDropsStopWordsAndNumbers() {
+        assertThat(SimilarExperienceIndex.tokenize("I solved C++ and C# problems, 2 rounds in 2024!"))
+                .containsExactly("solved", "c++", "c#", "problems", "rounds");
+        assertThat(SimilarExperienceIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void nearestRanksByCosineOfTfIdfVectors() {
+        SimilarExperienceIndex index = corpusIndex();
+
+        List<SimilarExperienceIndex.Neighbor> neighbors = index.nearest("graphs", 3);
+
+        assertThat(neighbors).isNotEmpty();
+        assertThat(neighbors.get(0).id()).isEqualTo("graphs-2");
+        assertThat(neighbors).extracting(SimilarExperienceIndex.Neighbor::id).doesNotContain("graphs");
+        assertThat(neighbors.get(0).score()).isCloseTo(cosine(CORPUS.get("graphs"), CORPUS.get("graphs-2")), within(1e-4));
+        assertThat(neighbors.get(0).sharedTerms()).contains("dijkstra", "bfs", "shortest", "path", "graph");
+        assertThat(index.nearest("dp", 1)).extracting(SimilarExperienceIndex.Neighbor::id).containsExactly("dp-2");
+    }
+
+    @Test
+    void documentsWithNothingInCommonHaveNoNeighbours() {
+        SimilarExperienceIndex index = corpusIndex();
+
+        assertThat(index.nearest("hr", 5)).isEmpty();
+        assertThat(index.nearest("unknown", 5)).isEmpty();
+        index.put("stop-words", "it was what it was");
+        assertThat(index.nearest("stop-words", 5)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAnEarlierVersion() {
+        SimilarExperienceIndex index = corpusIndex();
+
+        index.put("os", "Dynamic programming on knapsack and coin change");
+
+        assertThat(index.size()).isEqualTo(CORPUS.size());
+        assertThat(index.nearest("os", 2)).extracting(SimilarExperienceIndex.Neighbor::id)
+                .containsExactlyInAnyOrder("dp", "dp-2");
+        assertThat(index.nearest("dp", 3)).extracting(SimilarExperienceIndex.Neighbor::id).contains("os");
+    }
+
+    @Test
+    void removedDocumentsDropOutAndTheirSlotIsReused() {
+        SimilarExperienceIndex index = corpusIndex();
+
+        assertThat(index.remove("graphs-2")).isTrue();
+        assertThat(index.remove("graphs-2")).isFalse();
+        assertThat(index.contains("graphs-2")).isFalse();
+        assertThat(index.nearest("graphs", 5)).extracting(SimilarExperienceIndex.Neighbor::id).doesNotContain("graphs-2");
+
+        index.put("graphs-3", "Topological sort and BFS on a directed graph");
+        assertThat(index.size()).isEqualTo(CORPUS.size());
+        assertThat(index.nearest("graphs", 1)).extracting(SimilarExperienceIndex.Neighbor::id).containsExactly("graphs-3");
+        assertThat(index.nearest("graphs-3", 1)).extracting(SimilarExperienceIndex.Neighbor::id).containsExactly("graphs");
+    }
+
+    @Test
+    void limitKeepsTheClosest() {
+        SimilarExperienceIndex index = corpusIndex();
+        index.put("graphs-all", CORPUS.get("graphs") + " " + CORPUS.get("graphs-2"));
+
+        List<SimilarExperienceIndex.Neighbor> all = index.nearest("graphs", 10);
+        List<SimilarExperienceIndex.Neighbor> top = index.nearest("graphs", 1);
+
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).id()).isEqualTo(all.get(0).id());
+        for (int i = 1; i < all.size(); i++) {
+            assertThat(all.get(i).score()).isLessThanOrEqualTo(all.get(i - 1).score());
+        }
+    }
+
+    private static SimilarExperienceIndex corpusIndex() {
+        SimilarExperienceIndex index = new SimilarExperienceIndex();
+        CORPUS.forEach(index::put);
+        return index;
+    }
+
+    // Reference cosine over the corpus: weight = (1 + ln tf) * (ln((1 + N) / (1 + df)) + 1)
+    private static double cosine(String left, String right) {
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (String text : CORPUS.values()) {
+            SimilarExperienceIndex.tokenize(text).stream().distinct()
+                    .forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+        Map<String, Double> leftVector = vector(left, documentFrequency);
+        Map<String, Double> rightVector = vector(right, documentFrequency);
+        double dot = 0;
+        for (Map.Entry<String, Double> weight : leftVector.entrySet()) {
+            dot += weight.getValue() * rightVector.getOrDefault(weight.getKey(), 0.0);
+        }
+        return dot / (norm(leftVector) * norm(rightVector));
+    }
+
+    private static Map<String, Double> vector(String text, Map<String, Integer> documentFrequency) {
+        Map<String, Integer> counts = new HashMap<>();
+        SimilarExperienceIndex.tokenize(text).forEach(term -> counts.merge(term, 1, Integer::sum));
+        Map<String, Double> vector = new HashMap<>();
+        counts.forEach((term, count) -> vector.put(term, (1 + Math.log(count))
+                * (Math.log((1.0 + CORPUS.size()) / (1 + documentFrequency.get(term))) + 1)));
+        return vector;
+    }
+
+    private static double norm(Map<String, Double> vector) {
+        return Math.sqrt(vector.values().stream().mapToDouble(weight -> weight * weight).sum());
+    }
+}
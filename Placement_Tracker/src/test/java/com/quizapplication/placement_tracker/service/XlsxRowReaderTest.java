@@ -0,0 +1,191 @@
+package com.quizapplication.placement_tracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class XlsxRowReaderTest {
+
+    private static final String WORKBOOK = """
+            <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"
+                      xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+              <sheets><sheet name="Placements" sheetId="1" r:id="rId1"/></sheets>
+            </workbook>""";
+
+    private static final String SHARED_STRINGS = """
+            <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+              <si><t>studentName</t></si>
+              <si><t>Asha</t></si>
+              <si><r><t>Zoho </t></r><r><rPr><b/></rPr><t>Corp</t></r></si>
+              <si><t>東京</t><rPh sb="0" eb="2"><t>トウキョウ</t></rPh></si>
+              <si><t xml:space="preserve">  spaced  </t></si>
+            </sst>""";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resolvesSharedInlineNumericAndBooleanCells() throws IOException {
+        Path file = workbook(sheet("""
+                <row r="1">
+                  <c r="A1" t="s"><v>0</v></c>
+                  <c r="B1" t="inlineStr"><is><t>department</t></is></c>
+                </row>
+                <row r="2">
+                  <c r="A2" t="s"><v>1</v></c>
+                  <c r="B2" t="s"><v>2</v></c>
+                  <c r="C2" t="s"><v>3</v></c>
+                  <c r="D2" t="s"><v>4</v></c>
+                  <c r="E2"><v>2024</v></c>
+                  <c r="F2" t="b"><v>1</v></c>
+                  <c r="G2" t="b"><v>0</v></c>
+                </row>"""));
+
+        assertThat(rows(file)).containsExactly(
+                List.of("studentName", "department"),
+                List.of("Asha", "Zoho Corp", "東京", "  spaced  ", "2024", "TRUE", "FALSE"));
+    }
+
+    @Test
+    void fillsSkippedCellsAndKeepsSheetRowNumbers() throws IOException {
+        Path file = workbook(sheet("""
+                <row r="1"><c r="A1" t="inlineStr"><is><t>a</t></is></c><c r="D1" t="inlineStr"><is><t>d</t></is></c></row>
+                <row r="4"><c r="B4"><v>2</v></c></row>
+                <row><c><v>1</v></c><c><v>2</v></c></row>
+                <row r="6"/>"""));
+
+        try (XlsxRowReader reader = new XlsxRowReader(file)) {
+            assertThat(reader.next()).containsExactly("a", "", "", "d");
+            assertThat(reader.rowNumber()).isEqualTo(1);
+            assertThat(reader.next()).containsExactly("", "2");
+            assertThat(reader.rowNumber()).isEqualTo(4);
+            // Rows and cells without a reference follow the previous ones
+            assertThat(reader.next()).containsExactly("1", "2");
+            assertThat(reader.rowNumber()).isEqualTo(5);
+            assertThat(reader.next()).isEmpty();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void datesAndFormulasComeBackAsStoredValues() throws IOException {
+        // A date is a serial number with a date style; formulas yield their cached value
+        Path file = workbook(sheet("""
+                <row r="1">
+                  <c r="A1" s="1"><v>45444</v></c>
+                  <c r="B1"><f>YEAR(A1)</f><v>2024</v></c>
+                  <c r="C1" t="str"><f>"Q"&amp;2</f><v>Q2</v></c>
+                  <c r="D1" t="e"><f>1/0</f><v>#DIV/0!</v></c>
+                  <c r="E1"><v>2024.0</v></c>
+                  <c r="F1"/>
+                </row>"""));
+
+        assertThat(rows(file)).containsExactly(List.of("45444", "2024", "Q2", "#DIV/0!", "2024.0", ""));
+    }
+
+    @Test
+    void followsTheWorkbookRelationshipToTheFirstSheet() throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("xl/workbook.xml", WORKBOOK);
+        parts.put("xl/_rels/workbook.xml.rels", """
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                  <Relationship Id="rId1" Target="/xl/worksheets/placements.xml"
+                      Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet"/>
+                </Relationships>""");
+        parts.put("xl/worksheets/sheet1.xml", sheet("<row r=\"1\"><c><v>1</v></c></row>"));
+        parts.put("xl/worksheets/placements.xml", sheet("<row r=\"1\"><c><v>2</v></c></row>"));
+
+        assertThat(rows(zip(parts))).containsExactly(List.of("2"));
+    }
+
+    @Test
+    void rejectsDoctypesSoExternalEntitiesAreNeverResolved() throws IOException {
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "s3cr3t");
+        String withEntity = """
+                <?xml version="1.0"?>
+                <!DOCTYPE sst [<!ENTITY xxe SYSTEM "%s">]>
+                <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><si><t>&xxe;</t></si></sst>"""
+                .formatted(secret.toUri());
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("xl/workbook.xml", WORKBOOK);
+        parts.put("xl/sharedStrings.xml", withEntity);
+        parts.put("xl/worksheets/sheet1.xml", sheet("<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c></row>"));
+        Path file = zip(parts);
+
+        assertThatThrownBy(() -> rows(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Not a valid XLSX workbook")
+                .hasMessageNotContaining("s3cr3t");
+    }
+
+    @Test
+    void rejectsBrokenWorkbooks() throws IOException {
+        Path notZip = Files.writeString(dir.resolve("text.xlsx"), "studentName,department");
+        assertThatThrownBy(() -> new XlsxRowReader(notZip)).hasMessage("Not a valid XLSX workbook");
+
+        Path noWorkbook = zip(Map.of("xl/worksheets/sheet1.xml", sheet("")));
+        assertThatThrownBy(() -> new XlsxRowReader(noWorkbook))
+                .hasMessage("Not a valid XLSX workbook: xl/workbook.xml is missing");
+
+        Path noSheet = zip(Map.of("xl/workbook.xml", WORKBOOK));
+        assertThatThrownBy(() -> new XlsxRowReader(noSheet)).hasMessage("Workbook has no worksheet");
+
+        Path missingString = workbook(sheet("<row r=\"3\"><c r=\"A3\" t=\"s\"><v>99</v></c></row>"));
+        assertThatThrownBy(() -> rows(missingString)).hasMessage("Row 3 refers to a missing shared string");
+
+        Path wideRow = workbook(sheet("<row r=\"1\"><c r=\"XFE1\"><v>1</v></c></row>"));
+        assertThatThrownBy(() -> rows(wideRow)).hasMessage("Cell reference out of range: XFE1");
+
+        Path truncated = workbook(sheet("<row r=\"1\"><c r=\"A1\"><v>1</v></c>").replace("</sheetData></worksheet>", ""));
+        assertThatThrownBy(() -> rows(truncated)).hasMessageStartingWith("Malformed worksheet after row 1");
+    }
+
+    private static String sheet(String rows) {
+        return "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>"
+                + rows + "</sheetData></worksheet>";
+    }
+
+    private Path workbook(String sheet) throws IOException {
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("xl/workbook.xml", WORKBOOK);
+        parts.put("xl/sharedStrings.xml", SHARED_STRINGS);
+        parts.put("xl/worksheets/sheet1.xml", sheet);
+        return zip(parts);
+    }
+
+    private Path zip(Map<String, String> parts) throws IOException {
+        Path file = Files.createTempFile(dir, "workbook", ".xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                zip.putNextEntry(new ZipEntry(part.getKey()));
+                zip.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static List<List<String>> rows(Path file) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (XlsxRowReader reader = new XlsxRowReader(file)) {
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
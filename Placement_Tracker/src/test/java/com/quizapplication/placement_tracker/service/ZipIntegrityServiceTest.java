@@ -0,0 +1,169 @@
+package com.quizapplication.placement_tracker.service;
+
+import com.quizapplication.placement_tracker.repository.InterviewExperienceRepository;
+import com.quizapplication.placement_tracker.repository.PlacementExperienceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ZipIntegrityServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ZipIntegrityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ZipIntegrityService(mock(InterviewExperienceRepository.class),
+                mock(PlacementExperienceRepository.class), 1, 1);
+        ReflectionTestUtils.setField(service, "maxEntries", 10);
+        ReflectionTestUtils.setField(service, "maxExpansionRatio", 100L);
+        ReflectionTestUtils.setField(service, "maxExpandedMb", 1024L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void acceptsValidArchive() throws IOException {
+        Path file = dir.resolve("valid.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("docs/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("docs/notes.txt"));
+            zip.write("Round 1: aptitude".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("resume.bin"));
+            zip.write(randomBytes(4096));
+            zip.closeEntry();
+        }
+
+        assertThat(service.verify(file)).isNull();
+    }
+
+    @Test
+    void acceptsEmptyArchive() throws IOException {
+        Path file = dir.resolve("empty.zip");
+        new ZipOutputStream(Files.newOutputStream(file)).close();
+
+        assertThat(service.verify(file)).isNull();
+    }
+
+    @Test
+    void rejectsFileThatIsNotAnArchive() throws IOException {
+        Path file = dir.resolve("notes.zip");
+        Files.writeString(file, "just some text");
+
+        assertThat(service.verify(file)).isEqualTo("not a ZIP archive");
+    }
+
+    @Test
+    void rejectsTruncatedArchive() throws IOException {
+        Path file = dir.resolve("truncated.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("data.bin"));
+            zip.write(randomBytes(200_000));
+            zip.closeEntry();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThat(service.verify(file)).startsWith("corrupt or truncated archive");
+    }
+
+    @Test
+    void rejectsEntryWithBadCrc() throws IOException {
+        Path file = dir.resolve("bad-crc.zip");
+        byte[] content = "stored content that will be altered".getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ZipEntry entry = new ZipEntry("a.txt");
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(entry);
+            zip.write(content);
+            zip.closeEntry();
+        }
+        // Stored data starts after the 30-byte local header and the entry name
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[30 + "a.txt".length()] ^= 0x7f;
+        Files.write(file, bytes);
+
+        assertThat(service.verify(file)).startsWith("corrupt or truncated archive").containsIgnoringCase("crc");
+    }
+
+    @Test
+    void rejectsTooManyEntries() throws IOException {
+        Path file = dir.resolve("many.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < 11; i++) {
+                zip.putNextEntry(new ZipEntry("file-" + i + ".txt"));
+                zip.write(("entry " + i).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+
+        assertThat(service.verify(file)).isEqualTo("more than 10 entries");
+    }
+
+    @Test
+    void rejectsHighExpansionRatio() throws IOException {
+        Path file = dir.resolve("bomb.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("zeros.bin"));
+            byte[] zeros = new byte[1024 * 1024];
+            for (int i = 0; i < 16; i++) {
+                zip.write(zeros);
+            }
+            zip.closeEntry();
+        }
+
+        assertThat(service.verify(file)).isEqualTo("expansion ratio exceeds 100:1");
+    }
+
+    @Test
+    void rejectsArchiveOverExpandedSizeLimit() throws IOException {
+        ReflectionTestUtils.setField(service, "maxExpandedMb", 1L);
+        Path file = dir.resolve("large.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("random.bin"));
+            zip.write(randomBytes(2 * 1024 * 1024));
+            zip.closeEntry();
+        }
+
+        assertThat(service.verify(file)).isEqualTo("expands to more than 1 MB");
+    }
+
+    @Test
+    void missingFileIsNotAVerdict() {
+        // Left pending by the caller, so a later reference retries it
+        assertThatThrownBy(() -> service.verify(dir.resolve("gone.zip"))).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
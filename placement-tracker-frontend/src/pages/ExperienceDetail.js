@@ -752,12 +752,12 @@ const ExperienceDetail = () => {
                 </div>
                 {experience.attachmentUrl ? (
                   <a
-                    href={`${getBaseUrl()}${experience.attachmentUrl}`}
+                    href={`${getBaseUrl()}${experience.attachmentDownloadUrl}`}
                     download={experience.attachmentFileName}
                     className="btn-download-attachment"
                     onClick={(e) => {
                       e.preventDefault();
-                      window.open(`${getBaseUrl()}${experience.attachmentUrl}`, "_blank");
+                      window.open(`${getBaseUrl()}${experience.attachmentDownloadUrl}`, "_blank");
                       toast.success("Downloading file...");
                     }}
                   >